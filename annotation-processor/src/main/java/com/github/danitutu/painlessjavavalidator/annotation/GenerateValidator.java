@@ -0,0 +1,28 @@
+package com.github.danitutu.painlessjavavalidator.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Generates a validator class for the annotated type at compile time. The generated class is named
+ * after the type followed by <code>Validator</code> (<code>User</code> gets <code>
+ * UserValidator</code>; nested types are joined by underscore: <code>Outer_InnerValidator</code>)
+ * and it is placed in the same package. It has the same validation modes as the <code>
+ * ValidationEngine</code>: <code>validateAll</code>, <code>validateFindFirst</code>, <code>
+ * validateAllAndStopIfViolations</code> and <code>validateFindFirstAndStopIfViolation</code>.
+ *
+ * <p>The rules are taken from the constraint annotations found on the fields and getters of the
+ * type, in declaration order. Each property is read once, through its getter (or directly if the
+ * field is accessible and has no getter), and passed to the matching <code>ValidationRule</code>.
+ * No reflection is used at runtime.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateValidator {
+
+  /**
+   * @return prefix added to the field of each violation, separated by a dot; example: <code>
+   * input</code> gives <code>input.firstName</code>
+   */
+  String prefix() default "";
+}
@@ -0,0 +1,29 @@
+package com.github.danitutu.painlessjavavalidator.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Checks that the length of the property is between the two limits. Applies to {@link CharSequence}
+ * properties. The generated validator calls <code>ValidationRule.lengthBetweenRule</code>.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface LengthBetween {
+
+  /**
+   * @return inferior limit
+   */
+  int min();
+
+  /**
+   * @return superior limit
+   */
+  int max();
+
+  /**
+   * @return path to field; defaults to the {@link GenerateValidator#prefix()} followed by the
+   * property name
+   */
+  String field() default "";
+}
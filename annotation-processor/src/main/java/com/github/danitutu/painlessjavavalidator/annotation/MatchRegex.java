@@ -0,0 +1,25 @@
+package com.github.danitutu.painlessjavavalidator.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Checks that the property matches the regex. Applies to {@link String} properties. The generated
+ * validator compiles the regex once and calls <code>ValidationRule.matchPatternRule</code>; an
+ * invalid regex is a compilation error.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface MatchRegex {
+
+  /**
+   * @return a valid regex pattern
+   */
+  String value();
+
+  /**
+   * @return path to field; defaults to the {@link GenerateValidator#prefix()} followed by the
+   * property name
+   */
+  String field() default "";
+}
@@ -0,0 +1,24 @@
+package com.github.danitutu.painlessjavavalidator.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Checks that the property is smaller than or equal to the limit. Applies to <code>int</code> and
+ * {@link Integer} properties. The generated validator calls <code>ValidationRule.maxRule</code>.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Max {
+
+  /**
+   * @return superior limit
+   */
+  int value();
+
+  /**
+   * @return path to field; defaults to the {@link GenerateValidator#prefix()} followed by the
+   * property name
+   */
+  String field() default "";
+}
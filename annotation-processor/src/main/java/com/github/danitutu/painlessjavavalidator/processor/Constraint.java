@@ -0,0 +1,170 @@
+package com.github.danitutu.painlessjavavalidator.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+/**
+ * Maps each constraint annotation to the <code>ValidationRule</code> method called by the
+ * generated validator, the property types accepted by that method and the annotation members
+ * passed as extra arguments, in order. The regex of a pattern constraint is passed last, compiled
+ * once into a constant of the generated validator.
+ */
+enum Constraint {
+  NOT_NULL("NotNull", "notNullRule", PropertyType.ANY, emptyList()),
+  NOT_EMPTY("NotEmpty", "notEmptyRule", PropertyType.CHAR_SEQUENCE, emptyList()),
+  NOT_BLANK("NotBlank", "notBlankRule", PropertyType.CHAR_SEQUENCE, emptyList()),
+  LENGTH_BETWEEN(
+          "LengthBetween", "lengthBetweenRule", PropertyType.CHAR_SEQUENCE, asList("min", "max")),
+  MATCH_REGEX("MatchRegex", "matchPatternRule", PropertyType.STRING, emptyList(), "value"),
+  IN_RANGE("InRange", "inRangeRule", PropertyType.INTEGER, asList("min", "max")),
+  MIN("Min", "minRule", PropertyType.INTEGER, asList("value")),
+  MAX("Max", "maxRule", PropertyType.INTEGER, asList("value")),
+  POSITIVE("Positive", "positiveRule", PropertyType.NUMBER, emptyList()),
+  POSITIVE_OR_ZERO("PositiveOrZero", "positiveOrZeroRule", PropertyType.NUMBER, emptyList()),
+  NEGATIVE("Negative", "negativeRule", PropertyType.NUMBER, emptyList()),
+  NEGATIVE_OR_ZERO("NegativeOrZero", "negativeOrZeroRule", PropertyType.NUMBER, emptyList());
+
+  static final String ANNOTATION_PACKAGE = "com.github.danitutu.painlessjavavalidator.annotation";
+
+  private final String annotationName;
+  private final String ruleMethod;
+  private final PropertyType propertyType;
+  private final List<String> arguments;
+  private final String patternArgument;
+
+  Constraint(
+          String annotationSimpleName,
+          String ruleMethod,
+          PropertyType propertyType,
+          List<String> arguments) {
+    this(annotationSimpleName, ruleMethod, propertyType, arguments, null);
+  }
+
+  Constraint(
+          String annotationSimpleName,
+          String ruleMethod,
+          PropertyType propertyType,
+          List<String> arguments,
+          String patternArgument) {
+    this.annotationName = ANNOTATION_PACKAGE + "." + annotationSimpleName;
+    this.ruleMethod = ruleMethod;
+    this.propertyType = propertyType;
+    this.arguments = arguments;
+    this.patternArgument = patternArgument;
+  }
+
+  /**
+   * @param annotationName qualified name of the annotation
+   * @return the constraint or null if the annotation is not a constraint
+   */
+  static Constraint of(String annotationName) {
+    for (Constraint constraint : values()) {
+      if (constraint.annotationName.equals(annotationName)) {
+        return constraint;
+      }
+    }
+    return null;
+  }
+
+  String getAnnotationName() {
+    return annotationName;
+  }
+
+  String getRuleMethod() {
+    return ruleMethod;
+  }
+
+  List<String> getArguments() {
+    return arguments;
+  }
+
+  /**
+   * @return annotation member holding the regex or null if the rule takes no pattern
+   */
+  String getPatternArgument() {
+    return patternArgument;
+  }
+
+  boolean accepts(TypeMirror type, ProcessingEnvironment env) {
+    return propertyType.accepts(type, env.getTypeUtils(), env.getElementUtils());
+  }
+
+  String getAcceptedTypes() {
+    return propertyType.description;
+  }
+
+  private enum PropertyType {
+    ANY("any type") {
+      @Override
+      boolean accepts(TypeMirror type, Types types, Elements elements) {
+        return true;
+      }
+    },
+    CHAR_SEQUENCE("CharSequence") {
+      @Override
+      boolean accepts(TypeMirror type, Types types, Elements elements) {
+        return types.isAssignable(type, declared(CharSequence.class, types, elements));
+      }
+    },
+    STRING("String") {
+      @Override
+      boolean accepts(TypeMirror type, Types types, Elements elements) {
+        return types.isSameType(type, declared(String.class, types, elements));
+      }
+    },
+    INTEGER("int, Integer") {
+      @Override
+      boolean accepts(TypeMirror type, Types types, Elements elements) {
+        return type.getKind() == TypeKind.INT
+                || types.isSameType(type, declared(Integer.class, types, elements));
+      }
+    },
+    NUMBER("int, long, float, double, Integer, Long, Float, Double, BigInteger, BigDecimal") {
+      @Override
+      boolean accepts(TypeMirror type, Types types, Elements elements) {
+        switch (type.getKind()) {
+          case INT:
+          case LONG:
+          case FLOAT:
+          case DOUBLE:
+            return true;
+          case DECLARED:
+            for (Class<?> numberType :
+                    asList(
+                            Integer.class,
+                            Long.class,
+                            Float.class,
+                            Double.class,
+                            java.math.BigInteger.class,
+                            java.math.BigDecimal.class)) {
+              if (types.isSameType(type, declared(numberType, types, elements))) {
+                return true;
+              }
+            }
+            return false;
+          default:
+            return false;
+        }
+      }
+    };
+
+    private final String description;
+
+    PropertyType(String description) {
+      this.description = description;
+    }
+
+    abstract boolean accepts(TypeMirror type, Types types, Elements elements);
+
+    private static TypeMirror declared(Class<?> type, Types types, Elements elements) {
+      return types.getDeclaredType(elements.getTypeElement(type.getName()));
+    }
+  }
+}
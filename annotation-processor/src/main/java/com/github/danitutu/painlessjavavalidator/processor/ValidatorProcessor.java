@@ -0,0 +1,301 @@
+package com.github.danitutu.painlessjavavalidator.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Generates a validator for each type annotated with {@link
+ * com.github.danitutu.painlessjavavalidator.annotation.GenerateValidator}. See the annotation for
+ * the shape of the generated class. Problems (unsupported property types, missing getters) are
+ * reported as compilation errors on the offending element.
+ */
+@SupportedAnnotationTypes(ValidatorProcessor.GENERATE_VALIDATOR)
+public class ValidatorProcessor extends AbstractProcessor {
+
+  static final String GENERATE_VALIDATOR = Constraint.ANNOTATION_PACKAGE + ".GenerateValidator";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement generateValidator =
+            processingEnv.getElementUtils().getTypeElement(GENERATE_VALIDATOR);
+    if (generateValidator == null) {
+      return false;
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(generateValidator)) {
+      if (element.getKind() != ElementKind.CLASS) {
+        error(element, "@GenerateValidator can only be used on classes");
+        continue;
+      }
+      TypeElement type = (TypeElement) element;
+      if (!type.getTypeParameters().isEmpty()) {
+        error(element, "@GenerateValidator cannot be used on generic classes");
+        continue;
+      }
+      List<ValidatorWriter.Property> properties = properties(type, prefix(type, generateValidator));
+      if (properties != null) {
+        write(type, properties);
+      }
+    }
+    return true;
+  }
+
+  private String prefix(TypeElement type, TypeElement generateValidator) {
+    for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+      if (annotation.getAnnotationType().asElement().equals(generateValidator)) {
+        Object prefix = value(annotation, "prefix");
+        return prefix == null ? "" : prefix.toString();
+      }
+    }
+    return "";
+  }
+
+  /**
+   * @return the properties having constraints, super classes first, in declaration order; null if
+   * errors were reported
+   */
+  private List<ValidatorWriter.Property> properties(TypeElement type, String prefix) {
+    Deque<TypeElement> hierarchy = new ArrayDeque<>();
+    for (TypeElement current = type; current != null; current = superclass(current)) {
+      hierarchy.push(current);
+    }
+    List<ValidatorWriter.Property> properties = new ArrayList<>();
+    boolean valid = true;
+    for (TypeElement current : hierarchy) {
+      for (Element member : current.getEnclosedElements()) {
+        List<AnnotationMirror> constraints = constraints(member);
+        if (constraints.isEmpty()) {
+          continue;
+        }
+        ValidatorWriter.Property property = property(type, member, prefix, constraints);
+        if (property == null) {
+          valid = false;
+        } else {
+          properties.add(property);
+        }
+      }
+    }
+    return valid ? properties : null;
+  }
+
+  private static TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+    return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+  }
+
+  private static List<AnnotationMirror> constraints(Element member) {
+    List<AnnotationMirror> constraints = new ArrayList<>();
+    for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+      if (Constraint.of(qualifiedName(annotation)) != null) {
+        constraints.add(annotation);
+      }
+    }
+    return constraints;
+  }
+
+  private ValidatorWriter.Property property(
+          TypeElement type, Element member, String prefix, List<AnnotationMirror> constraints) {
+    String name;
+    String accessor;
+    TypeMirror propertyType;
+    if (member.getKind() == ElementKind.FIELD) {
+      name = member.getSimpleName().toString();
+      propertyType = memberType(type, member);
+      ExecutableElement getter = getter(type, name, propertyType);
+      if (getter != null) {
+        accessor = getter.getSimpleName() + "()";
+      } else if (isAccessible(type, member)) {
+        accessor = name;
+      } else {
+        error(member, "No accessible getter found for field " + name);
+        return null;
+      }
+    } else if (member.getKind() == ElementKind.METHOD) {
+      ExecutableElement method = (ExecutableElement) member;
+      if (!method.getParameters().isEmpty()
+              || method.getReturnType().getKind() == TypeKind.VOID
+              || !isAccessible(type, method)) {
+        error(member, "Constraints can only be used on accessible getters");
+        return null;
+      }
+      name = propertyName(method.getSimpleName().toString());
+      propertyType = ((ExecutableType) memberType(type, method)).getReturnType();
+      accessor = method.getSimpleName() + "()";
+    } else {
+      return null;
+    }
+
+    List<ValidatorWriter.RuleCall> rules = new ArrayList<>();
+    boolean valid = true;
+    for (AnnotationMirror annotation : constraints) {
+      Constraint constraint = Constraint.of(qualifiedName(annotation));
+      if (!constraint.accepts(propertyType, processingEnv)) {
+        error(
+                member,
+                "@"
+                        + annotation.getAnnotationType().asElement().getSimpleName()
+                        + " cannot be used on "
+                        + propertyType
+                        + "; supported types: "
+                        + constraint.getAcceptedTypes());
+        valid = false;
+        continue;
+      }
+      ValidatorWriter.RuleCall rule = ruleCall(member, constraint, annotation, prefix, name);
+      if (rule == null) {
+        valid = false;
+        continue;
+      }
+      rules.add(rule);
+    }
+    return valid
+            ? new ValidatorWriter.Property(name, propertyType.toString(), accessor, rules)
+            : null;
+  }
+
+  /**
+   * @return type of the member as seen from the type, so the type variables of a generic super
+   *     class are replaced by the type arguments given by the type
+   */
+  private TypeMirror memberType(TypeElement type, Element member) {
+    return processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), member);
+  }
+
+  /**
+   * @return rule call or null if the error of an invalid regex was reported
+   */
+  private ValidatorWriter.RuleCall ruleCall(
+          Element member,
+          Constraint constraint,
+          AnnotationMirror annotation,
+          String prefix,
+          String name) {
+    Object field = value(annotation, "field");
+    String path =
+            field != null && !field.toString().isEmpty()
+                    ? field.toString()
+                    : prefix.isEmpty() ? name : prefix + "." + name;
+    List<String> arguments = new ArrayList<>();
+    for (String argument : constraint.getArguments()) {
+      arguments.add(
+              processingEnv.getElementUtils().getConstantExpression(value(annotation, argument)));
+    }
+    String regex = null;
+    if (constraint.getPatternArgument() != null) {
+      regex = value(annotation, constraint.getPatternArgument()).toString();
+      try {
+        Pattern.compile(regex);
+      } catch (PatternSyntaxException e) {
+        error(member, "Invalid regex " + regex + ": " + e.getDescription());
+        return null;
+      }
+    }
+    return new ValidatorWriter.RuleCall(
+            constraint.getRuleMethod(),
+            processingEnv.getElementUtils().getConstantExpression(path),
+            arguments,
+            regex == null ? null : processingEnv.getElementUtils().getConstantExpression(regex));
+  }
+
+  private ExecutableElement getter(TypeElement type, String name, TypeMirror propertyType) {
+    String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    Set<String> candidates = new HashSet<>();
+    candidates.add("get" + suffix);
+    if (propertyType.getKind() == TypeKind.BOOLEAN) {
+      candidates.add("is" + suffix);
+    }
+    for (ExecutableElement method :
+            ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+      if (candidates.contains(method.getSimpleName().toString())
+              && method.getParameters().isEmpty()
+              && isAccessible(type, method)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return true if the instance member can be used by the validator generated, in the package of
+   *     the type; members which are neither public nor private are accessible only from the package
+   *     declaring them, even when inherited
+   */
+  private boolean isAccessible(TypeElement type, Element element) {
+    Set<Modifier> modifiers = element.getModifiers();
+    if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+      return false;
+    }
+    if (modifiers.contains(Modifier.PUBLIC)) {
+      return true;
+    }
+    Elements elements = processingEnv.getElementUtils();
+    return elements.getPackageOf(element).equals(elements.getPackageOf(type));
+  }
+
+  static String propertyName(String getter) {
+    String name = getter;
+    if (getter.startsWith("get") && getter.length() > 3) {
+      name = getter.substring(3);
+    } else if (getter.startsWith("is") && getter.length() > 2) {
+      name = getter.substring(2);
+    }
+    if (name.length() > 1 && Character.isUpperCase(name.charAt(1))) {
+      return name;
+    }
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static String qualifiedName(AnnotationMirror annotation) {
+    return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+  }
+
+  private Object value(AnnotationMirror annotation, String member) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+            processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(member)) {
+        return entry.getValue().getValue();
+      }
+    }
+    return null;
+  }
+
+  private void write(TypeElement type, List<ValidatorWriter.Property> properties) {
+    ValidatorWriter writer = new ValidatorWriter(processingEnv.getElementUtils(), type, properties);
+    try (Writer out =
+                 processingEnv
+                         .getFiler()
+                         .createSourceFile(writer.getQualifiedName(), type)
+                         .openWriter()) {
+      writer.write(out);
+    } catch (IOException e) {
+      error(type, "Cannot write " + writer.getQualifiedName() + ": " + e.getMessage());
+    }
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
@@ -0,0 +1,238 @@
+package com.github.danitutu.painlessjavavalidator.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the source of a generated validator. Every library type is referenced by its qualified
+ * name so the generated code cannot clash with the names used by the validated type.
+ */
+class ValidatorWriter {
+
+  private static final String LIBRARY_PACKAGE = "com.github.danitutu.painlessjavavalidator";
+  static final String VALIDATION_RULE = LIBRARY_PACKAGE + ".ValidationRule";
+  private static final String VALIDATION_EXCEPTION = LIBRARY_PACKAGE + ".ValidationException";
+  private static final String VIOLATION = LIBRARY_PACKAGE + ".Violation";
+  private static final String VIOLATIONS = "java.util.List<" + VIOLATION + ">";
+  private static final String OPTIONAL_VIOLATION = "java.util.Optional<" + VIOLATION + ">";
+
+  private final String packageName;
+  private final String simpleName;
+  private final String typeName;
+  private final List<Property> properties;
+
+  ValidatorWriter(Elements elements, TypeElement type, List<Property> properties) {
+    PackageElement packageElement = elements.getPackageOf(type);
+    this.packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    this.simpleName = nestedName(type) + "Validator";
+    this.typeName = type.getQualifiedName().toString();
+    this.properties = properties;
+    // a name can have several properties, e.g. a field and its getter or a shadowed field
+    Set<String> locals = new HashSet<>();
+    int patterns = 0;
+    for (Property property : properties) {
+      String local = property.name + "Value";
+      for (int i = 2; !locals.add(local); i++) {
+        local = property.name + "Value" + i;
+      }
+      property.local = local;
+      for (RuleCall rule : property.rules) {
+        if (rule.patternLiteral != null) {
+          rule.patternConstant = "PATTERN_" + patterns++;
+        }
+      }
+    }
+  }
+
+  private static String nestedName(TypeElement type) {
+    String name = type.getSimpleName().toString();
+    Element enclosing = type.getEnclosingElement();
+    while (enclosing instanceof TypeElement) {
+      name = enclosing.getSimpleName() + "_" + name;
+      enclosing = enclosing.getEnclosingElement();
+    }
+    return name;
+  }
+
+  String getQualifiedName() {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  void write(Writer out) throws IOException {
+    StringBuilder s = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      s.append("package ").append(packageName).append(";\n\n");
+    }
+    s.append("/**\n")
+            .append(" * Validator for {@link ").append(typeName).append("}.\n")
+            .append(" * Generated by painless-java-validator-processor. Do not edit.\n")
+            .append(" */\n")
+            .append("public final class ").append(simpleName).append(" {\n\n");
+    writePatterns(s);
+    s.append("  private ").append(simpleName).append("() {\n  }\n\n");
+
+    writeValidateAll(s);
+    writeValidateFindFirst(s);
+
+    s.append("  public static void validateAllAndStopIfViolations(")
+            .append(typeName).append(" input) {\n")
+            .append("    ").append(VALIDATION_EXCEPTION)
+            .append(".stopIfViolations(validateAll(input));\n")
+            .append("  }\n\n");
+    s.append("  public static void validateFindFirstAndStopIfViolation(")
+            .append(typeName).append(" input) {\n")
+            .append("    ").append(VALIDATION_EXCEPTION)
+            .append(".stopIfViolations(validateFindFirst(input));\n")
+            .append("  }\n\n");
+
+    s.append("  private static ").append(VIOLATIONS).append(" add(")
+            .append(VIOLATIONS).append(" violations, ").append(VIOLATION).append(" violation) {\n")
+            .append("    ").append(VIOLATIONS)
+            .append(" result = violations == null ? new java.util.ArrayList<>() : violations;\n")
+            .append("    result.add(violation);\n")
+            .append("    return result;\n")
+            .append("  }\n\n");
+
+    s.append("  private static void requireInput(Object input) {\n")
+            .append("    if (input == null) {\n")
+            .append("      throw new IllegalArgumentException(\"input is required\");\n")
+            .append("    }\n")
+            .append("  }\n")
+            .append("}\n");
+    out.write(s.toString());
+  }
+
+  /**
+   * Each regex is compiled once, when the validator is loaded.
+   */
+  private void writePatterns(StringBuilder s) {
+    boolean any = false;
+    for (Property property : properties) {
+      for (RuleCall rule : property.rules) {
+        if (rule.patternConstant != null) {
+          s.append("  private static final java.util.regex.Pattern ")
+                  .append(rule.patternConstant)
+                  .append(" = java.util.regex.Pattern.compile(")
+                  .append(rule.patternLiteral).append(");\n");
+          any = true;
+        }
+      }
+    }
+    if (any) {
+      s.append('\n');
+    }
+  }
+
+  private void writeValidateAll(StringBuilder s) {
+    s.append("  public static ").append(VIOLATIONS).append(" validateAll(")
+            .append(typeName).append(" input) {\n")
+            .append("    requireInput(input);\n")
+            .append("    ").append(VIOLATIONS).append(" violations = null;\n")
+            .append("    ").append(OPTIONAL_VIOLATION).append(" violation;\n");
+    for (Property property : properties) {
+      property.writeRead(s);
+      for (RuleCall rule : property.rules) {
+        s.append("    violation = ").append(rule.toSource(property.local())).append(";\n")
+                .append("    if (violation.isPresent()) {\n")
+                .append("      violations = add(violations, violation.get());\n")
+                .append("    }\n");
+      }
+    }
+    s.append("    return violations == null ? java.util.Collections.emptyList() : violations;\n")
+            .append("  }\n\n");
+  }
+
+  private void writeValidateFindFirst(StringBuilder s) {
+    s.append("  public static ").append(VIOLATIONS).append(" validateFindFirst(")
+            .append(typeName).append(" input) {\n")
+            .append("    requireInput(input);\n")
+            .append("    ").append(OPTIONAL_VIOLATION).append(" violation;\n");
+    for (Property property : properties) {
+      property.writeRead(s);
+      for (RuleCall rule : property.rules) {
+        s.append("    violation = ").append(rule.toSource(property.local())).append(";\n")
+                .append("    if (violation.isPresent()) {\n")
+                .append("      return java.util.Collections.singletonList(violation.get());\n")
+                .append("    }\n");
+      }
+    }
+    s.append("    return java.util.Collections.emptyList();\n")
+            .append("  }\n\n");
+  }
+
+  static class Property {
+    private final String name;
+    private final String type;
+    private final String accessor;
+    private final List<RuleCall> rules;
+    private String local;
+
+    /**
+     * @param name     property name
+     * @param type     property type, as source
+     * @param accessor getter call or field name, as source
+     * @param rules    rules applied to the property
+     */
+    Property(String name, String type, String accessor, List<RuleCall> rules) {
+      this.name = name;
+      this.type = type;
+      this.accessor = accessor;
+      this.rules = rules;
+    }
+
+    private String local() {
+      return local;
+    }
+
+    private void writeRead(StringBuilder s) {
+      s.append("    ").append(type).append(' ').append(local())
+              .append(" = input.").append(accessor).append(";\n");
+    }
+  }
+
+  static class RuleCall {
+    private final String method;
+    private final String fieldLiteral;
+    private final List<String> argumentLiterals;
+    private final String patternLiteral;
+    private String patternConstant;
+
+    /**
+     * @param method           <code>ValidationRule</code> method
+     * @param fieldLiteral     path to field, as Java literal
+     * @param argumentLiterals extra arguments, as Java literals
+     * @param patternLiteral   regex passed last as a compiled pattern, as Java literal, or null
+     */
+    RuleCall(
+            String method,
+            String fieldLiteral,
+            List<String> argumentLiterals,
+            String patternLiteral) {
+      this.method = method;
+      this.fieldLiteral = fieldLiteral;
+      this.argumentLiterals = argumentLiterals;
+      this.patternLiteral = patternLiteral;
+    }
+
+    private String toSource(String value) {
+      StringBuilder call = new StringBuilder(VALIDATION_RULE)
+              .append('.').append(method)
+              .append('(').append(fieldLiteral)
+              .append(", ").append(value);
+      for (String argument : argumentLiterals) {
+        call.append(", ").append(argument);
+      }
+      if (patternConstant != null) {
+        call.append(", ").append(patternConstant);
+      }
+      return call.append(')').toString();
+    }
+  }
+}
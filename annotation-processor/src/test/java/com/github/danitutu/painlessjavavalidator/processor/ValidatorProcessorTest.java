@@ -0,0 +1,363 @@
+package com.github.danitutu.painlessjavavalidator.processor;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorProcessorTest {
+
+  private static final String USER =
+          "package demo;\n"
+                  + "import com.github.danitutu.painlessjavavalidator.annotation.*;\n"
+                  + "@GenerateValidator(prefix = \"input\")\n"
+                  + "public class User {\n"
+                  + "  @NotBlank @LengthBetween(min = 2, max = 50)\n"
+                  + "  private String firstName;\n"
+                  + "  @NotBlank @LengthBetween(min = 2, max = 50)\n"
+                  + "  private String lastName;\n"
+                  + "  @InRange(min = 18, max = 120)\n"
+                  + "  private int age;\n"
+                  + "  @MatchRegex(value = \"[A-Z]{2}\", field = \"input.address.country\")\n"
+                  + "  String country;\n"
+                  + "  public User(String firstName, String lastName, int age, String country) {\n"
+                  + "    this.firstName = firstName;\n"
+                  + "    this.lastName = lastName;\n"
+                  + "    this.age = age;\n"
+                  + "    this.country = country;\n"
+                  + "  }\n"
+                  + "  public String getFirstName() { return firstName; }\n"
+                  + "  public String getLastName() { return lastName; }\n"
+                  + "  public int getAge() { return age; }\n"
+                  + "  @PositiveOrZero\n"
+                  + "  public java.math.BigDecimal getBalance() { return java.math.BigDecimal.ONE; }\n"
+                  + "}\n";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("WHEN all properties are valid THEN expect no violations")
+  void generate1() throws Exception {
+    Class<?> validator = compileAndLoad("demo.User", USER);
+    Object user = newUser("John", "Doe", 30, "RO");
+
+    assertEquals(0, invoke(validator, "validateAll", user).size());
+    assertEquals(0, invoke(validator, "validateFindFirst", user).size());
+  }
+
+  @Test
+  @DisplayName("WHEN properties are invalid THEN expect the same violations as the rules")
+  void generate2() throws Exception {
+    Class<?> validator = compileAndLoad("demo.User", USER);
+    Object user = newUser(" ", "D", 10, "ro");
+
+    List<Violation> violations = invoke(validator, "validateAll", user);
+
+    assertEquals(5, violations.size());
+    assertEquals("input.firstName", violations.get(0).getField());
+    assertEquals("validation.error.value.is.required", violations.get(0).getMessage());
+    assertEquals("input.firstName", violations.get(1).getField());
+    assertEquals("validation.error.string.value.not.between", violations.get(1).getMessage());
+    assertEquals("input.lastName", violations.get(2).getField());
+    assertEquals("validation.error.string.value.not.between", violations.get(2).getMessage());
+    assertEquals("input.age", violations.get(3).getField());
+    assertEquals("validation.error.integer.value.not.in.range", violations.get(3).getMessage());
+    assertEquals("input.address.country", violations.get(4).getField());
+    assertEquals("validation.error.string.value.regex.no.match", violations.get(4).getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN find first and properties are invalid THEN expect first violation")
+  void generate3() throws Exception {
+    Class<?> validator = compileAndLoad("demo.User", USER);
+    Object user = newUser("John", "D", 10, "ro");
+
+    List<Violation> violations = invoke(validator, "validateFindFirst", user);
+
+    assertEquals(1, violations.size());
+    assertEquals("input.lastName", violations.get(0).getField());
+  }
+
+  @Test
+  @DisplayName("WHEN stop if violations and properties are invalid THEN expect exception")
+  void generate4() throws Exception {
+    Class<?> validator = compileAndLoad("demo.User", USER);
+    Object user = newUser("John", "D", 10, "ro");
+    Method method = validator.getMethod("validateAllAndStopIfViolations", user.getClass());
+
+    InvocationTargetException ex =
+            assertThrows(InvocationTargetException.class, () -> method.invoke(null, user));
+
+    assertTrue(ex.getCause() instanceof ValidationException);
+    assertEquals(3, ((ValidationException) ex.getCause()).getViolations().size());
+  }
+
+  @Test
+  @DisplayName("WHEN input is null THEN exception")
+  void generate5() throws Exception {
+    Class<?> validator = compileAndLoad("demo.User", USER);
+    Method method = validator.getMethod("validateAll", validator.getClassLoader().loadClass("demo.User"));
+
+    InvocationTargetException ex =
+            assertThrows(InvocationTargetException.class, () -> method.invoke(null, (Object) null));
+
+    assertEquals("input is required", ex.getCause().getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN constraint is used on unsupported type THEN expect compilation error")
+  void generate6() throws Exception {
+    String source =
+            "package demo;\n"
+                    + "import com.github.danitutu.painlessjavavalidator.annotation.*;\n"
+                    + "@GenerateValidator\n"
+                    + "public class Wrong {\n"
+                    + "  @NotBlank public int count;\n"
+                    + "}\n";
+
+    List<Diagnostic<? extends JavaFileObject>> errors = compile("demo.Wrong", source);
+
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0).getMessage(Locale.ENGLISH).startsWith("@NotBlank cannot be used on int"));
+  }
+
+  @Test
+  @DisplayName("WHEN private field has no getter THEN expect compilation error")
+  void generate7() throws Exception {
+    String source =
+            "package demo;\n"
+                    + "import com.github.danitutu.painlessjavavalidator.annotation.*;\n"
+                    + "@GenerateValidator\n"
+                    + "public class Hidden {\n"
+                    + "  @NotNull private String name;\n"
+                    + "}\n";
+
+    List<Diagnostic<? extends JavaFileObject>> errors = compile("demo.Hidden", source);
+
+    assertEquals(1, errors.size());
+    assertEquals("No accessible getter found for field name", errors.get(0).getMessage(Locale.ENGLISH));
+  }
+
+  @Test
+  @DisplayName("WHEN a name has constraints on a field and its getter or a shadowed field THEN"
+          + " expect the validator to compile")
+  void generate8() throws Exception {
+    String source =
+            "package demo;\n"
+                    + "import com.github.danitutu.painlessjavavalidator.annotation.*;\n"
+                    + "class Base {\n"
+                    + "  @NotNull public String code;\n"
+                    + "}\n"
+                    + "@GenerateValidator\n"
+                    + "public class Twice extends Base {\n"
+                    + "  @NotNull private String name;\n"
+                    + "  @NotBlank public String code;\n"
+                    + "  public Twice(String name) { this.name = name; this.code = \"c\"; }\n"
+                    + "  @NotBlank public String getName() { return name; }\n"
+                    + "}\n";
+
+    Class<?> validator = compileAndLoad("demo.Twice", source);
+    Object twice = loader().loadClass("demo.Twice").getConstructor(String.class).newInstance(" ");
+
+    List<Violation> violations = invoke(validator, "validateAll", twice);
+    assertEquals(1, violations.size());
+    assertEquals("name", violations.get(0).getField());
+  }
+
+  @Test
+  @DisplayName("WHEN package-private members are inherited from another package THEN expect"
+          + " compilation errors")
+  void generate9() throws Exception {
+    String base =
+            "package base;\n"
+                    + "import com.github.danitutu.painlessjavavalidator.annotation.*;\n"
+                    + "public class Base {\n"
+                    + "  @NotNull String code;\n"
+                    + "  @NotNull String name;\n"
+                    + "  String getName() { return name; }\n"
+                    + "  @NotNull protected String getLabel() { return name; }\n"
+                    + "}\n";
+    String source =
+            "package demo;\n"
+                    + "import com.github.danitutu.painlessjavavalidator.annotation.*;\n"
+                    + "@GenerateValidator\n"
+                    + "public class Derived extends base.Base {\n"
+                    + "}\n";
+
+    List<String> errors =
+            compile("base.Base", base, "demo.Derived", source).stream()
+                    .map(error -> error.getMessage(Locale.ENGLISH))
+                    .collect(Collectors.toList());
+
+    assertEquals(
+            asList(
+                    "No accessible getter found for field code",
+                    "No accessible getter found for field name",
+                    "Constraints can only be used on accessible getters"),
+            errors);
+  }
+
+  @Test
+  @DisplayName("WHEN members are inherited from a generic super class THEN expect the type"
+          + " arguments to be used")
+  void generate10() throws Exception {
+    String source =
+            "package demo;\n"
+                    + "import com.github.danitutu.painlessjavavalidator.annotation.*;\n"
+                    + "class Base<T> {\n"
+                    + "  @NotBlank private T value;\n"
+                    + "  Base(T value) { this.value = value; }\n"
+                    + "  public T getValue() { return value; }\n"
+                    + "  @NotBlank public T getLabel() { return value; }\n"
+                    + "}\n"
+                    + "@GenerateValidator\n"
+                    + "public class Child extends Base<String> {\n"
+                    + "  public Child(String value) { super(value); }\n"
+                    + "}\n";
+
+    Class<?> validator = compileAndLoad("demo.Child", source);
+    Object child = loader().loadClass("demo.Child").getConstructor(String.class).newInstance(" ");
+
+    List<Violation> violations = invoke(validator, "validateAll", child);
+    assertEquals(2, violations.size());
+    assertEquals("value", violations.get(0).getField());
+    assertEquals("label", violations.get(1).getField());
+  }
+
+  @Test
+  @DisplayName("WHEN a regex is used THEN expect it compiled once into a constant")
+  void generate11() throws Exception {
+    compileAndLoad("demo.User", USER);
+    String generated =
+            new String(
+                    Files.readAllBytes(tempDir.resolve("generated/demo/UserValidator.java")),
+                    StandardCharsets.UTF_8);
+
+    assertTrue(
+            generated.contains(
+                    "private static final java.util.regex.Pattern PATTERN_0"
+                            + " = java.util.regex.Pattern.compile(\"[A-Z]{2}\");"),
+            generated);
+    assertTrue(generated.contains(".matchPatternRule(\"input.address.country\", countryValue,"
+            + " PATTERN_0)"), generated);
+    assertFalse(generated.contains("matchRegexRule"), generated);
+  }
+
+  @Test
+  @DisplayName("WHEN a regex is invalid THEN expect compilation error")
+  void generate12() throws Exception {
+    String source =
+            "package demo;\n"
+                    + "import com.github.danitutu.painlessjavavalidator.annotation.*;\n"
+                    + "@GenerateValidator\n"
+                    + "public class Code {\n"
+                    + "  @MatchRegex(\"[A-Z\") public String code;\n"
+                    + "}\n";
+
+    List<Diagnostic<? extends JavaFileObject>> errors = compile("demo.Code", source);
+
+    assertEquals(1, errors.size());
+    assertTrue(
+            errors.get(0).getMessage(Locale.ENGLISH).startsWith("Invalid regex [A-Z: "),
+            errors::toString);
+  }
+
+  @Test
+  @DisplayName("WHEN getter name is converted THEN expect bean property name")
+  void propertyName1() {
+    assertEquals("firstName", ValidatorProcessor.propertyName("getFirstName"));
+    assertEquals("active", ValidatorProcessor.propertyName("isActive"));
+    assertEquals("URL", ValidatorProcessor.propertyName("getURL"));
+    assertEquals("name", ValidatorProcessor.propertyName("name"));
+  }
+
+  private Object newUser(String firstName, String lastName, int age, String country)
+          throws Exception {
+    Class<?> user = loader().loadClass("demo.User");
+    return user.getConstructor(String.class, String.class, int.class, String.class)
+            .newInstance(firstName, lastName, age, country);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Violation> invoke(Class<?> validator, String method, Object input)
+          throws Exception {
+    return (List<Violation>) validator.getMethod(method, input.getClass()).invoke(null, input);
+  }
+
+  private Class<?> compileAndLoad(String className, String source) throws Exception {
+    List<Diagnostic<? extends JavaFileObject>> errors = compile(className, source);
+    assertTrue(errors.isEmpty(), errors::toString);
+    return loader().loadClass(className + "Validator");
+  }
+
+  private URLClassLoader loader;
+
+  private URLClassLoader loader() throws Exception {
+    if (loader == null) {
+      loader =
+              new URLClassLoader(
+                      new URL[]{tempDir.resolve("classes").toUri().toURL()},
+                      getClass().getClassLoader());
+    }
+    return loader;
+  }
+
+  /**
+   * @param namesAndSources class names, each followed by its source
+   */
+  private List<Diagnostic<? extends JavaFileObject>> compile(String... namesAndSources)
+          throws Exception {
+    List<File> sourceFiles = new ArrayList<>();
+    for (int i = 0; i < namesAndSources.length; i += 2) {
+      Path sourceFile =
+              tempDir.resolve("src").resolve(namesAndSources[i].replace('.', '/') + ".java");
+      Files.createDirectories(sourceFile.getParent());
+      Files.write(sourceFile, namesAndSources[i + 1].getBytes(StandardCharsets.UTF_8));
+      sourceFiles.add(sourceFile.toFile());
+    }
+    Path classes = Files.createDirectories(tempDir.resolve("classes"));
+    Path generated = Files.createDirectories(tempDir.resolve("generated"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager files =
+                 compiler.getStandardFileManager(diagnostics, Locale.ENGLISH, StandardCharsets.UTF_8)) {
+      List<String> options =
+              asList(
+                      "-classpath", System.getProperty("java.class.path"),
+                      "-d", classes.toString(),
+                      "-s", generated.toString(),
+                      "-processor", ValidatorProcessor.class.getName());
+      compiler.getTask(
+              null,
+              files,
+              diagnostics,
+              options,
+              null,
+              files.getJavaFileObjectsFromFiles(sourceFiles))
+              .call();
+    }
+    return diagnostics.getDiagnostics().stream()
+            .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+            .collect(Collectors.toList());
+  }
+}
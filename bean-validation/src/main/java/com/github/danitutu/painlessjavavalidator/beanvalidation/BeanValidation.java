@@ -0,0 +1,114 @@
+package com.github.danitutu.painlessjavavalidator.beanvalidation;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.compiler.CompiledRuleSet;
+import com.github.danitutu.painlessjavavalidator.compiler.RuleSetCompiler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates objects annotated with Bean Validation (JSR-380) constraints using the painless rules.
+ * The annotations of a class are read once and compiled into a {@link CompiledRuleSet} which is
+ * cached per class (and prefix), so validating an object doesn't traverse any metadata.
+ *
+ * <p>Supported constraints: <code>@NotNull</code>, <code>@NotBlank</code>, <code>@NotEmpty</code>,
+ * <code>@Size</code> and <code>@Pattern</code> on <code>CharSequence</code> properties,
+ * <code>@Size</code> on <code>Collection</code> properties and <code>@Min</code>,
+ * <code>@Max</code> on <code>long</code>, <code>int</code>, <code>short</code>, <code>byte</code>
+ * properties and their wrappers. Other annotations are ignored; groups, payloads, messages and
+ * cascaded (<code>@Valid</code>) validation are not supported. The violations use the library
+ * format, with the path to field being <code>prefix.property</code>.
+ *
+ * <pre>
+ * BeanValidation.rules(UserDto.class, "input").validateAllAndStopIfViolations(user);
+ * </pre>
+ */
+public final class BeanValidation {
+
+  private static final ClassValue<Map<String, CompiledRuleSet<?>>> RULES =
+          new ClassValue<Map<String, CompiledRuleSet<?>>>() {
+            @Override
+            protected Map<String, CompiledRuleSet<?>> computeValue(Class<?> type) {
+              return new ConcurrentHashMap<>();
+            }
+          };
+
+  private BeanValidation() {
+  }
+
+  /**
+   * See {@link #rules(Class, String)}. The property name is used as path to field.
+   */
+  public static <T> CompiledRuleSet<T> rules(Class<T> type) {
+    return rules(type, "");
+  }
+
+  /**
+   * Returns the compiled rules of the class. The first call for a class reads its annotations.
+   *
+   * @param type   annotated class
+   * @param prefix prefix of the path to field, for example <code>input</code>
+   * @param <T>    validated object type
+   * @return compiled rules
+   * @throws IllegalArgumentException if type or prefix is null or if a constraint is used on an
+   *                                  unsupported property type
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> CompiledRuleSet<T> rules(Class<T> type, String prefix) {
+    if (type == null) {
+      throw new IllegalArgumentException("type is required");
+    }
+    if (prefix == null) {
+      throw new IllegalArgumentException("prefix is required");
+    }
+    return (CompiledRuleSet<T>)
+            RULES.get(type)
+                    .computeIfAbsent(
+                            prefix,
+                            p -> RuleSetCompiler.compile(BeanValidationPlanner.plan(type, p)));
+  }
+
+  /**
+   * Validates all the constraints of the object.
+   *
+   * @param value object to be validated
+   * @return violations
+   * @throws IllegalArgumentException if value is null
+   */
+  public static List<Violation> validateAll(Object value) {
+    return rulesOf(value).validateAll(value);
+  }
+
+  /**
+   * Validates the constraints of the object and stops when the first violation is encountered.
+   *
+   * @param value object to be validated
+   * @return single violation inside a list
+   * @throws IllegalArgumentException if value is null
+   */
+  public static List<Violation> validateFindFirst(Object value) {
+    return rulesOf(value).validateFindFirst(value);
+  }
+
+  /**
+   * Validates all the constraints of the object and throws {@link ValidationException} if there
+   * are any violations.
+   *
+   * @param value object to be validated
+   * @throws ValidationException thrown in case violations are found
+   */
+  public static void validateAllAndStopIfViolations(Object value) {
+    rulesOf(value).validateAllAndStopIfViolations(value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CompiledRuleSet<Object> rulesOf(Object value) {
+    if (value == null) {
+      throw new IllegalArgumentException("value is required");
+    }
+    return rules((Class<Object>) value.getClass());
+  }
+}
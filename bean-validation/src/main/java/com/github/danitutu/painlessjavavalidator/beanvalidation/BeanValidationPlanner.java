@@ -0,0 +1,156 @@
+package com.github.danitutu.painlessjavavalidator.beanvalidation;
+
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.compiler.RuleSet;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads the constraint annotations of a class into a {@link RuleSet}. Annotated fields are read
+ * directly and annotated getters are called, both through method handles. Super classes are
+ * processed first.
+ *
+ * <p>A property is validated once, with the constraints of a single member: a property declared
+ * again by a subclass uses the member of the subclass, and a field and its getter both having
+ * constraints use the field.
+ */
+final class BeanValidationPlanner {
+
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private BeanValidationPlanner() {
+  }
+
+  static <T> RuleSet<T> plan(Class<T> type, String prefix) {
+    // in the order of the first declaration of each property
+    Map<String, Planned> planned = new LinkedHashMap<>();
+    for (Class<?> current : hierarchy(type)) {
+      Set<String> declared = new HashSet<>();
+      for (Field field : current.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+          add(planned, declared, field.getName(), field.getType(), field);
+        }
+      }
+      for (Method method : current.getDeclaredMethods()) {
+        String property = propertyName(method);
+        if (property != null) {
+          add(planned, declared, property, method.getReturnType(), method);
+        }
+      }
+    }
+    RuleSet.Builder<T> builder = RuleSet.builder();
+    for (Map.Entry<String, Planned> entry : planned.entrySet()) {
+      String property = entry.getKey();
+      String field = prefix.isEmpty() ? property : prefix + "." + property;
+      builder.field(field, getter(entry.getValue().member, property), entry.getValue().rules);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Keeps the constraints of the member unless a member of the same class already has constraints
+   * for the property.
+   */
+  private static void add(
+          Map<String, Planned> planned,
+          Set<String> declared,
+          String property,
+          Class<?> propertyType,
+          AccessibleObject member) {
+    List<FieldRule<Object>> rules = new ArrayList<>();
+    for (Annotation annotation : member.getDeclaredAnnotations()) {
+      Optional<FieldRule<Object>> rule = ConstraintRules.of(annotation, propertyType, property);
+      rule.ifPresent(rules::add);
+    }
+    if (rules.isEmpty() || !declared.add(property)) {
+      return;
+    }
+    @SuppressWarnings("unchecked")
+    FieldRule<Object>[] array = rules.toArray(new FieldRule[0]);
+    planned.put(property, new Planned(member, array));
+  }
+
+  private static <T> Function<T, Object> getter(AccessibleObject member, String property) {
+    MethodHandle handle;
+    try {
+      member.setAccessible(true);
+      handle =
+              member instanceof Field
+                      ? MethodHandles.lookup().unreflectGetter((Field) member)
+                      : MethodHandles.lookup().unreflect((Method) member);
+    } catch (IllegalAccessException | RuntimeException e) {
+      throw new IllegalArgumentException("property '" + property + "' is not accessible", e);
+    }
+    MethodHandle accessor = handle.asType(ACCESSOR_TYPE);
+    return bean -> {
+      try {
+        return (Object) accessor.invokeExact((Object) bean);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    };
+  }
+
+  private static Deque<Class<?>> hierarchy(Class<?> type) {
+    Deque<Class<?>> hierarchy = new ArrayDeque<>();
+    for (Class<?> current = type;
+         current != null && current != Object.class;
+         current = current.getSuperclass()) {
+      hierarchy.addFirst(current);
+    }
+    return hierarchy;
+  }
+
+  private static String propertyName(Method method) {
+    if (Modifier.isStatic(method.getModifiers())
+            || method.isSynthetic()
+            || method.isBridge()
+            || method.getParameterCount() != 0
+            || method.getReturnType() == void.class) {
+      return null;
+    }
+    String name = method.getName();
+    if (name.startsWith("get") && name.length() > 3) {
+      return decapitalize(name.substring(3));
+    }
+    if (name.startsWith("is")
+            && name.length() > 2
+            && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+      return decapitalize(name.substring(2));
+    }
+    return null;
+  }
+
+  private static String decapitalize(String name) {
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static final class Planned {
+    private final AccessibleObject member;
+    private final FieldRule<Object>[] rules;
+
+    private Planned(AccessibleObject member, FieldRule<Object>[] rules) {
+      this.member = member;
+      this.rules = rules;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.github.danitutu.painlessjavavalidator.beanvalidation;
+
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Maps the supported Bean Validation constraints to {@link ValidationRule} functions. All the
+ * constraint attributes (limits, compiled patterns) are computed here, once per property.
+ * <code>@Size</code> applies to strings and collections, <code>@Min</code> and <code>@Max</code>
+ * to the integer types up to <code>long</code>.
+ */
+final class ConstraintRules {
+
+  private ConstraintRules() {
+  }
+
+  /**
+   * Returns the rule of the annotation or empty if the annotation is not a supported constraint.
+   *
+   * @throws IllegalArgumentException if the constraint cannot be applied on the property type
+   */
+  static Optional<FieldRule<Object>> of(Annotation annotation, Class<?> type, String property) {
+    if (annotation instanceof NotNull) {
+      return Optional.of(ValidationRule::notNullRule);
+    }
+    if (annotation instanceof NotBlank) {
+      requireCharSequence(annotation, type, property);
+      return Optional.of((field, value) -> ValidationRule.notBlankRule(field, (CharSequence) value));
+    }
+    if (annotation instanceof NotEmpty) {
+      requireCharSequence(annotation, type, property);
+      return Optional.of((field, value) -> ValidationRule.notEmptyRule(field, (CharSequence) value));
+    }
+    if (annotation instanceof Size) {
+      Size size = (Size) annotation;
+      int min = size.min();
+      int max = size.max();
+      if (min > max) {
+        throw new IllegalArgumentException(
+                "@Size of property '" + property + "' has min greater than max");
+      }
+      if (Collection.class.isAssignableFrom(type)) {
+        return Optional.of(
+                (field, value) ->
+                        ValidationRule.sizeBetweenRule(field, (Collection<?>) value, min, max));
+      }
+      requireCharSequence(annotation, type, property);
+      return Optional.of(
+              (field, value) -> ValidationRule.lengthBetweenRule(field, (CharSequence) value, min, max));
+    }
+    if (annotation instanceof Min) {
+      long min = ((Min) annotation).value();
+      if (isLong(type)) {
+        return Optional.of((field, value) -> ValidationRule.minLongRule(field, (Long) value, min));
+      }
+      requireInteger(annotation, type, property);
+      int intMin = toInt(min, annotation, property);
+      return Optional.of((field, value) -> ValidationRule.minRule(field, toInteger(value), intMin));
+    }
+    if (annotation instanceof Max) {
+      long max = ((Max) annotation).value();
+      if (isLong(type)) {
+        return Optional.of((field, value) -> ValidationRule.maxLongRule(field, (Long) value, max));
+      }
+      requireInteger(annotation, type, property);
+      int intMax = toInt(max, annotation, property);
+      return Optional.of((field, value) -> ValidationRule.maxRule(field, toInteger(value), intMax));
+    }
+    if (annotation instanceof Pattern) {
+      requireCharSequence(annotation, type, property);
+      java.util.regex.Pattern pattern = compile((Pattern) annotation);
+      return Optional.of(
+              (field, value) ->
+                      ValidationRule.matchPatternRule(
+                              field, value == null ? null : value.toString(), pattern));
+    }
+    return Optional.empty();
+  }
+
+  private static java.util.regex.Pattern compile(Pattern annotation) {
+    int flags = 0;
+    for (Pattern.Flag flag : annotation.flags()) {
+      flags |= flag.getValue();
+    }
+    return java.util.regex.Pattern.compile(annotation.regexp(), flags);
+  }
+
+  private static Integer toInteger(Object value) {
+    return value == null ? null : ((Number) value).intValue();
+  }
+
+  private static int toInt(long limit, Annotation annotation, String property) {
+    if (limit < Integer.MIN_VALUE || limit > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+              name(annotation) + " of property '" + property + "' is out of the int range");
+    }
+    return (int) limit;
+  }
+
+  private static boolean isLong(Class<?> type) {
+    return type == long.class || type == Long.class;
+  }
+
+  private static void requireCharSequence(Annotation annotation, Class<?> type, String property) {
+    if (!CharSequence.class.isAssignableFrom(type)) {
+      throw unsupported(annotation, type, property);
+    }
+  }
+
+  private static void requireInteger(Annotation annotation, Class<?> type, String property) {
+    if (type != int.class
+            && type != Integer.class
+            && type != short.class
+            && type != Short.class
+            && type != byte.class
+            && type != Byte.class) {
+      throw unsupported(annotation, type, property);
+    }
+  }
+
+  private static IllegalArgumentException unsupported(
+          Annotation annotation, Class<?> type, String property) {
+    return new IllegalArgumentException(
+            name(annotation)
+                    + " is not supported on property '"
+                    + property
+                    + "' of type "
+                    + type.getName());
+  }
+
+  private static String name(Annotation annotation) {
+    return "@" + annotation.annotationType().getSimpleName();
+  }
+}
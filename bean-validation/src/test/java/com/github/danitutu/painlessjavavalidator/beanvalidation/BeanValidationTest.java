@@ -0,0 +1,219 @@
+package com.github.danitutu.painlessjavavalidator.beanvalidation;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanValidationTest {
+
+  private static List<String> messages(List<Violation> violations) {
+    return violations.stream().map(v -> v.getField() + ":" + v.getMessage()).collect(toList());
+  }
+
+  @Test
+  @DisplayName("WHEN all constraints are satisfied THEN expect no violations")
+  void beanValidation1() {
+    assertTrue(BeanValidation.validateAll(new UserDto("Ana", "ana", 30, "RO")).isEmpty());
+    BeanValidation.validateAllAndStopIfViolations(new UserDto("Ana", "ana", 30, "RO"));
+  }
+
+  @Test
+  @DisplayName("WHEN constraints are violated THEN expect violations in the library format")
+  void beanValidation2() {
+    List<Violation> violations =
+            BeanValidation.rules(UserDto.class, "input")
+                    .validateAll(new UserDto(" ", "", 10, "ro"));
+
+    assertEquals(
+            Arrays.asList(
+                    "input.firstName:validation.error.value.is.required",
+                    "input.firstName:validation.error.string.value.not.between",
+                    "input.username:validation.error.value.is.not.empty",
+                    "input.age:validation.error.integer.value.smaller.than.min",
+                    "input.country:validation.error.string.value.regex.no.match"),
+            messages(violations));
+    assertEquals("[A-Z]{2}", violations.get(4).getAttributes().get("regexPattern"));
+  }
+
+  @Test
+  @DisplayName("WHEN pattern has flags THEN expect flags to be applied")
+  void beanValidation3() {
+    UserDto user = new UserDto("Ana", "ana", 30, "RO");
+    user.code = "abc";
+    assertTrue(BeanValidation.validateAll(user).isEmpty());
+    user.code = "ab1";
+    assertEquals(1, BeanValidation.validateAll(user).size());
+  }
+
+  @Test
+  @DisplayName("WHEN first violation is requested THEN expect only the first violation")
+  void beanValidation4() {
+    List<Violation> violations = BeanValidation.validateFindFirst(new UserDto(null, "", 200, "ro"));
+
+    assertEquals(1, violations.size());
+    assertEquals("id", violations.get(0).getField());
+    assertThrows(
+            ValidationException.class,
+            () -> BeanValidation.validateAllAndStopIfViolations(new UserDto(null, "", 200, "ro")));
+  }
+
+  @Test
+  @DisplayName("WHEN rules are requested twice THEN expect the cached instance")
+  void beanValidation5() {
+    assertSame(
+            BeanValidation.rules(UserDto.class, "input"), BeanValidation.rules(UserDto.class, "input"));
+    assertNotSame(BeanValidation.rules(UserDto.class), BeanValidation.rules(UserDto.class, "input"));
+  }
+
+  @Test
+  @DisplayName("WHEN arguments are null THEN throw exception")
+  void beanValidation6() {
+    assertEquals(
+            "type is required",
+            assertThrows(IllegalArgumentException.class, () -> BeanValidation.rules(null))
+                    .getMessage());
+    assertEquals(
+            "prefix is required",
+            assertThrows(
+                    IllegalArgumentException.class, () -> BeanValidation.rules(UserDto.class, null))
+                    .getMessage());
+    assertEquals(
+            "value is required",
+            assertThrows(IllegalArgumentException.class, () -> BeanValidation.validateAll(null))
+                    .getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN constraint is used on an unsupported type THEN throw exception")
+  void beanValidation7() {
+    IllegalArgumentException e =
+            assertThrows(IllegalArgumentException.class, () -> BeanValidation.rules(Invalid.class));
+    assertEquals(
+            "@Size is not supported on property 'tags' of type java.util.Map", e.getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN a property has constraints on several members THEN expect them applied once")
+  void beanValidation8() {
+    assertEquals(
+            Arrays.asList(
+                    "code:validation.error.value.is.not.empty",
+                    "name:validation.error.value.is.required"),
+            messages(BeanValidation.validateAll(new Twice(" ", ""))));
+  }
+
+  @Test
+  @DisplayName("WHEN limits are on long properties and sizes on collections THEN expect them"
+          + " applied")
+  void beanValidation9() {
+    assertTrue(
+            BeanValidation.validateAll(new Order(5_000_000_000L, null, Arrays.asList("a")))
+                    .isEmpty());
+
+    List<Violation> violations =
+            BeanValidation.validateAll(
+                    new Order(5_000_000_001L, -5_000_000_001L, Arrays.asList("a", "b", "c")));
+
+    assertEquals(
+            Arrays.asList(
+                    "amount:validation.error.integer.value.greater.than.max",
+                    "balance:validation.error.integer.value.smaller.than.min",
+                    "items:validation.error.collection.size.not.between"),
+            messages(violations));
+    assertEquals(5_000_000_000L, violations.get(0).getAttributes().get("max"));
+  }
+
+  static class BaseDto {
+    @NotNull
+    private Long id;
+
+    BaseDto(Long id) {
+      this.id = id;
+    }
+  }
+
+  static class UserDto extends BaseDto {
+    @NotBlank
+    @Size(min = 2, max = 10)
+    private final String firstName;
+    @NotEmpty
+    private final String username;
+    @Min(18)
+    @Max(120)
+    private final int age;
+    private final String country;
+    @Pattern(regexp = "[A-Z]+", flags = Pattern.Flag.CASE_INSENSITIVE)
+    String code;
+
+    UserDto(String firstName, String username, int age, String country) {
+      super(firstName == null ? null : 1L);
+      this.firstName = firstName;
+      this.username = username;
+      this.age = age;
+      this.country = country;
+    }
+
+    @Pattern(regexp = "[A-Z]{2}")
+    public String getCountry() {
+      return country;
+    }
+  }
+
+  static class Order {
+    @Min(1)
+    @Max(5_000_000_000L)
+    private final long amount;
+    @Min(-5_000_000_000L)
+    private final Long balance;
+    @Size(min = 1, max = 2)
+    private final List<String> items;
+
+    Order(long amount, Long balance, List<String> items) {
+      this.amount = amount;
+      this.balance = balance;
+      this.items = items;
+    }
+  }
+
+  static class TwiceBase {
+    @NotNull
+    String code;
+  }
+
+  static class Twice extends TwiceBase {
+    @NotBlank
+    private final String name;
+    @NotEmpty
+    String code;
+
+    Twice(String name, String code) {
+      this.name = name;
+      this.code = code;
+    }
+
+    @NotBlank
+    public String getName() {
+      return name;
+    }
+  }
+
+  static class Invalid {
+    @Size(max = 2)
+    private Map<String, String> tags;
+  }
+}
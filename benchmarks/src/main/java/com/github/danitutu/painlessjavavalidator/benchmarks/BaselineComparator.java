@@ -0,0 +1,119 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares benchmark results against a baseline. A benchmark regresses when its score gets worse
+ * than the baseline by more than the score tolerance or when it allocates more than the baseline
+ * by more than the allocation tolerance. Benchmarks that are missing from the baseline are not
+ * considered regressions, but benchmarks of the baseline missing from the current results are,
+ * so a renamed or removed benchmark does not pass unnoticed.
+ */
+public class BaselineComparator {
+
+  /**
+   * Allocation differences smaller than this are ignored. JMH reports tiny fractional values (e.g.
+   * <code>0.1 B/op</code>) for allocation free code and a relative tolerance alone would flag them.
+   */
+  static final double DEFAULT_ALLOCATION_SLACK_BYTES = 8;
+
+  private final double scoreTolerance;
+  private final double allocationTolerance;
+  private final double allocationSlackBytes;
+
+  /**
+   * @param scoreTolerance      accepted score degradation as a ratio; <code>0.1</code> means 10%
+   * @param allocationTolerance accepted allocation increase as a ratio; <code>0.1</code> means 10%
+   * @param allocationSlackBytes accepted allocation increase in bytes per operation, on top of the
+   *                            relative tolerance
+   * @throws IllegalArgumentException if any value is negative
+   */
+  public BaselineComparator(
+          double scoreTolerance, double allocationTolerance, double allocationSlackBytes) {
+    if (scoreTolerance < 0 || allocationTolerance < 0 || allocationSlackBytes < 0) {
+      throw new IllegalArgumentException("tolerance cannot be negative");
+    }
+    this.scoreTolerance = scoreTolerance;
+    this.allocationTolerance = allocationTolerance;
+    this.allocationSlackBytes = allocationSlackBytes;
+  }
+
+  /**
+   * @param baseline baseline results indexed by key
+   * @param current  current results indexed by key
+   * @return a human readable description of every regression; empty if there are none
+   */
+  public List<String> compare(
+          Map<String, BenchmarkResult> baseline, Map<String, BenchmarkResult> current) {
+    List<String> regressions = new ArrayList<>();
+    for (BenchmarkResult result : current.values()) {
+      BenchmarkResult base = baseline.get(result.getKey());
+      if (base == null) {
+        continue;
+      }
+      if (!base.getMode().equals(result.getMode())
+              || !base.getScoreUnit().equals(result.getScoreUnit())) {
+        regressions.add(
+                String.format(
+                        "%s: mode/unit changed from %s %s to %s %s, update the baseline",
+                        result.getKey(),
+                        base.getMode(),
+                        base.getScoreUnit(),
+                        result.getMode(),
+                        result.getScoreUnit()));
+        continue;
+      }
+      if (isScoreRegression(base, result)) {
+        regressions.add(
+                String.format(
+                        "%s: score %.3f %s, baseline %.3f %s (%+.1f%%)",
+                        result.getKey(),
+                        result.getScore(),
+                        result.getScoreUnit(),
+                        base.getScore(),
+                        base.getScoreUnit(),
+                        change(base.getScore(), result.getScore())));
+      }
+      if (isAllocationRegression(base, result)) {
+        regressions.add(
+                String.format(
+                        "%s: allocation %.1f B/op, baseline %.1f B/op (%+.1f%%)",
+                        result.getKey(),
+                        result.getAllocationPerOp(),
+                        base.getAllocationPerOp(),
+                        change(base.getAllocationPerOp(), result.getAllocationPerOp())));
+      }
+    }
+    for (String key : baseline.keySet()) {
+      if (!current.containsKey(key)) {
+        regressions.add(
+                String.format(
+                        "%s: missing from the results, update the baseline if it was renamed or"
+                                + " removed",
+                        key));
+      }
+    }
+    return regressions;
+  }
+
+  private boolean isScoreRegression(BenchmarkResult base, BenchmarkResult result) {
+    if (result.isHigherBetter()) {
+      return result.getScore() < base.getScore() * (1 - scoreTolerance);
+    }
+    return result.getScore() > base.getScore() * (1 + scoreTolerance);
+  }
+
+  private boolean isAllocationRegression(BenchmarkResult base, BenchmarkResult result) {
+    if (base.getAllocationPerOp() == null || result.getAllocationPerOp() == null) {
+      return false;
+    }
+    double limit = base.getAllocationPerOp() * (1 + allocationTolerance) + allocationSlackBytes;
+    return result.getAllocationPerOp() > limit;
+  }
+
+  private static double change(double base, double current) {
+    return base == 0 ? 0 : (current - base) * 100 / base;
+  }
+}
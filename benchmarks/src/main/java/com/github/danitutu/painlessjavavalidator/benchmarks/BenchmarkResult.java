@@ -0,0 +1,112 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A single benchmark score as found in the JSON result file written by JMH (<code>-rf json</code>).
+ * Only the data needed by the regression gate is kept: the primary score and the normalized
+ * allocation rate reported by the GC profiler.
+ */
+public class BenchmarkResult {
+
+  static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+  static final String THROUGHPUT_MODE = "thrpt";
+
+  /**
+   * Benchmark name followed by the sorted parameters. Example: <code>
+   * com.example.FooBenchmark.bar{count=10, valid=true}</code>
+   */
+  private final String key;
+  private final String mode;
+  private final double score;
+  private final String scoreUnit;
+  /**
+   * Bytes allocated per operation or null when the benchmark was run without the GC profiler.
+   */
+  private final Double allocationPerOp;
+
+  BenchmarkResult(
+          String key, String mode, double score, String scoreUnit, Double allocationPerOp) {
+    this.key = key;
+    this.mode = mode;
+    this.score = score;
+    this.scoreUnit = scoreUnit;
+    this.allocationPerOp = allocationPerOp;
+  }
+
+  /**
+   * Reads a JMH JSON result file.
+   *
+   * @param file JMH JSON result file
+   * @return results indexed by their key, in file order
+   * @throws IOException in case the file cannot be read or parsed
+   */
+  public static Map<String, BenchmarkResult> read(Path file) throws IOException {
+    JsonNode root = new ObjectMapper().readTree(file.toFile());
+    if (root == null || !root.isArray()) {
+      throw new IOException("Not a JMH JSON result file: " + file);
+    }
+    Map<String, BenchmarkResult> results = new LinkedHashMap<>();
+    for (JsonNode node : root) {
+      BenchmarkResult result = from(node);
+      results.put(result.getKey(), result);
+    }
+    return results;
+  }
+
+  private static BenchmarkResult from(JsonNode node) {
+    JsonNode primaryMetric = node.path("primaryMetric");
+    JsonNode allocation = node.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score");
+    return new BenchmarkResult(
+            key(node.path("benchmark").asText(), node.path("params")),
+            node.path("mode").asText(),
+            primaryMetric.path("score").asDouble(),
+            primaryMetric.path("scoreUnit").asText(),
+            allocation.isNumber() ? allocation.asDouble() : null);
+  }
+
+  private static String key(String benchmark, JsonNode params) {
+    Map<String, String> sorted = new TreeMap<>();
+    for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+      Map.Entry<String, JsonNode> param = it.next();
+      sorted.put(param.getKey(), param.getValue().asText());
+    }
+    return sorted.isEmpty() ? benchmark : benchmark + sorted;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public String getMode() {
+    return mode;
+  }
+
+  public double getScore() {
+    return score;
+  }
+
+  public String getScoreUnit() {
+    return scoreUnit;
+  }
+
+  public Double getAllocationPerOp() {
+    return allocationPerOp;
+  }
+
+  /**
+   * @return true if a bigger score is better (throughput), false if a smaller score is better
+   * (average time, sample time, single shot)
+   */
+  public boolean isHigherBetter() {
+    return THROUGHPUT_MODE.equals(mode);
+  }
+}
@@ -0,0 +1,104 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationEngine;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.ViolationProviderUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the collection rules with the usual hand written checks: {@link
+ * ViolationProviderUtils#from} building the indexed path of every element, and a {@link HashSet}
+ * of boxed keys for uniqueness. The <code>valid</code> parameter switches between the success
+ * path and the violation path, which has a blank name and a repeated id at the end.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CollectionRuleBenchmark {
+
+  private static final String FIELD = "input.items";
+  private static final int SIZE = 100;
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private List<String> names;
+  private List<Integer> ids;
+  private int[] idArray;
+
+  @Setup
+  public void setUp() {
+    names = new ArrayList<>();
+    ids = new ArrayList<>();
+    idArray = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      names.add("name" + i);
+      ids.add(i * 1000);
+      idArray[i] = i * 1000;
+    }
+    if (!valid) {
+      names.set(SIZE - 1, " ");
+      ids.set(SIZE - 1, 0);
+      idArray[SIZE - 1] = 0;
+    }
+  }
+
+  @Benchmark
+  public List<Violation> each() {
+    return ValidationEngine.validateAll(
+            ValidationRule.each(FIELD, names, true, ValidationRule::notBlankRule));
+  }
+
+  @Benchmark
+  public List<Violation> eachRule() {
+    return ValidationRule.eachRule(FIELD, names, true, ValidationRule::notBlankRule);
+  }
+
+  @Benchmark
+  public List<Violation> from() {
+    return ValidationEngine.validateAll(
+            ViolationProviderUtils.from(
+                    names, (i, name) -> ValidationRule.notBlank(FIELD + "[" + i + "]", name)));
+  }
+
+  @Benchmark
+  public Optional<Violation> distinctByInt() {
+    return ValidationRule.distinctByInt(FIELD, ids, Integer::intValue).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> uniqueElementsArray() {
+    return ValidationRule.uniqueElements(FIELD, idArray).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> uniqueElementsBoxed() {
+    return ValidationRule.uniqueElements(FIELD, ids).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> hashSet() {
+    Set<Integer> seen = new HashSet<>();
+    for (int i = 0; i < ids.size(); i++) {
+      if (!seen.add(ids.get(i))) {
+        return Optional.of(
+                Violation.of(
+                        FIELD + "[" + i + "]",
+                        "validation.error.collection.element.is.duplicate",
+                        "The element is equal to a previous element."));
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,156 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationEngine;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.compiler.CompiledRuleSet;
+import com.github.danitutu.painlessjavavalidator.compiler.RuleSet;
+import com.github.danitutu.painlessjavavalidator.compiler.RuleSetCompiler;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares cross-field rules of a compiled rule set, reading each getter once, with the same
+ * constraints written as {@link ValidationRule#isTrue} providers re-reading the getters. The
+ * <code>valid</code> parameter switches between the success path and the violation path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CrossFieldBenchmark {
+
+  private static final Violation END_BEFORE_START =
+          Violation.of(
+                  "input.endDate",
+                  "validation.error.end.before.start",
+                  "The end date must be after the start date.");
+  private static final Violation ONE_PAYMENT =
+          Violation.of(
+                  "general",
+                  "validation.error.one.payment.required",
+                  "Exactly one of card or voucher is required.");
+  private static final Violation TOTAL_NOT_SUM =
+          Violation.of(
+                  "input.total",
+                  "validation.error.total.not.sum",
+                  "The total is not the sum of its parts.");
+
+  private static final CompiledRuleSet<Booking> COMPILED =
+          RuleSetCompiler.compile(
+                  RuleSet.<Booking>builder()
+                          .field("input.startDate", Booking::getStartDate)
+                          .field("input.endDate", Booking::getEndDate)
+                          .crossField(
+                                  "input.startDate",
+                                  "input.endDate",
+                                  (LocalDate start, LocalDate end) -> end.isAfter(start),
+                                  () -> END_BEFORE_START)
+                          .field("input.card", Booking::getCard)
+                          .field("input.voucher", Booking::getVoucher)
+                          .crossField(
+                                  "input.card",
+                                  "input.voucher",
+                                  (String card, String voucher) ->
+                                          (card == null) != (voucher == null),
+                                  () -> ONE_PAYMENT)
+                          .field("input.room", Booking::getRoom)
+                          .field("input.fees", Booking::getFees)
+                          .field("input.total", Booking::getTotal)
+                          .crossField(
+                                  Arrays.asList("input.room", "input.fees", "input.total"),
+                                  values -> (long) values[0] + (long) values[1] == (long) values[2],
+                                  () -> TOTAL_NOT_SUM)
+                          .build());
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private Booking booking;
+
+  @Setup
+  public void setUp() {
+    LocalDate start = LocalDate.of(2020, 3, 1);
+    booking =
+            valid
+                    ? new Booking(start, start.plusDays(2), "4111", null, 100L, 20L, 120L)
+                    : new Booking(start, start, "4111", "SPRING", 100L, 20L, 100L);
+  }
+
+  @Benchmark
+  public List<Violation> compiled() {
+    return COMPILED.validateAll(booking);
+  }
+
+  @Benchmark
+  public List<Violation> providers() {
+    Booking b = booking;
+    return ValidationEngine.validateAll(
+            ValidationRule.isTrue(() -> b.getEndDate().isAfter(b.getStartDate()), END_BEFORE_START),
+            ValidationRule.isTrue(
+                    () -> (b.getCard() == null) != (b.getVoucher() == null), ONE_PAYMENT),
+            ValidationRule.isTrue(
+                    () -> b.getRoom() + b.getFees() == b.getTotal(), TOTAL_NOT_SUM));
+  }
+
+  static final class Booking {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String card;
+    private final String voucher;
+    private final Long room;
+    private final Long fees;
+    private final Long total;
+
+    Booking(
+            LocalDate startDate,
+            LocalDate endDate,
+            String card,
+            String voucher,
+            Long room,
+            Long fees,
+            Long total) {
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.card = card;
+      this.voucher = voucher;
+      this.room = room;
+      this.fees = fees;
+      this.total = total;
+    }
+
+    LocalDate getStartDate() {
+      return startDate;
+    }
+
+    LocalDate getEndDate() {
+      return endDate;
+    }
+
+    String getCard() {
+      return card;
+    }
+
+    String getVoucher() {
+      return voucher;
+    }
+
+    Long getRoom() {
+      return room;
+    }
+
+    Long getFees() {
+      return fees;
+    }
+
+    Long getTotal() {
+      return total;
+    }
+  }
+}
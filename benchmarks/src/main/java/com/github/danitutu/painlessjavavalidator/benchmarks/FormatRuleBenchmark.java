@@ -0,0 +1,120 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the scanner based <code>email</code>, <code>uuid</code>, <code>isoDate</code> and
+ * <code>isoDateTime</code> factories with <code>matchRegex</code> and <code>matchPattern</code>
+ * using the equivalent regular expressions. The <code>valid</code> parameter switches between the
+ * success path and the violation path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FormatRuleBenchmark {
+
+  private static final String FIELD = "input.field";
+  private static final String EMAIL_REGEX =
+          "[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+(\\.[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+)*"
+                  + "@[A-Za-z0-9]([A-Za-z0-9-]*[A-Za-z0-9])?"
+                  + "(\\.[A-Za-z0-9]([A-Za-z0-9-]*[A-Za-z0-9])?)+";
+  private static final String UUID_REGEX =
+          "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
+  private static final String ISO_DATE_REGEX = "\\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01])";
+  private static final String ISO_DATE_TIME_REGEX =
+          ISO_DATE_REGEX
+                  + "T([01]\\d|2[0-3]):[0-5]\\d:[0-5]\\d(\\.\\d{1,9})?"
+                  + "(Z|[+-]([01]\\d|2[0-3]):[0-5]\\d)";
+  private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+  private static final Pattern UUID_PATTERN = Pattern.compile(UUID_REGEX);
+  private static final Pattern ISO_DATE_PATTERN = Pattern.compile(ISO_DATE_REGEX);
+  private static final Pattern ISO_DATE_TIME_PATTERN = Pattern.compile(ISO_DATE_TIME_REGEX);
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private String email;
+  private String uuid;
+  private String isoDate;
+  private String isoDateTime;
+
+  @Setup
+  public void setUp() {
+    email = valid ? "john.doe@mail.example.com" : "john.doe@mail.example.com.";
+    uuid =
+            valid
+                    ? "123e4567-e89b-12d3-a456-426614174000"
+                    : "123e4567-e89b-12d3-a456-42661417400g";
+    isoDate = valid ? "2020-02-29" : "2020-02-2x";
+    isoDateTime = valid ? "2020-02-29T10:15:30.123+02:00" : "2020-02-29T10:15:30.123+02:0x";
+  }
+
+  @Benchmark
+  public Optional<Violation> email() {
+    return ValidationRule.email(FIELD, email).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> emailMatchRegex() {
+    return ValidationRule.matchRegex(FIELD, email, EMAIL_REGEX).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> emailMatchPattern() {
+    return ValidationRule.matchPattern(FIELD, email, EMAIL_PATTERN).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> uuid() {
+    return ValidationRule.uuid(FIELD, uuid).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> uuidMatchRegex() {
+    return ValidationRule.matchRegex(FIELD, uuid, UUID_REGEX).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> uuidMatchPattern() {
+    return ValidationRule.matchPattern(FIELD, uuid, UUID_PATTERN).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> isoDate() {
+    return ValidationRule.isoDate(FIELD, isoDate).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> isoDateMatchRegex() {
+    return ValidationRule.matchRegex(FIELD, isoDate, ISO_DATE_REGEX).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> isoDateMatchPattern() {
+    return ValidationRule.matchPattern(FIELD, isoDate, ISO_DATE_PATTERN).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> isoDateTime() {
+    return ValidationRule.isoDateTime(FIELD, isoDateTime).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> isoDateTimeMatchRegex() {
+    return ValidationRule.matchRegex(FIELD, isoDateTime, ISO_DATE_TIME_REGEX).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> isoDateTimeMatchPattern() {
+    return ValidationRule.matchPattern(FIELD, isoDateTime, ISO_DATE_TIME_PATTERN).get();
+  }
+}
@@ -0,0 +1,66 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.message.MessageRenderer;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.MessageFormat;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MessageRenderer}, which compiles the templates once per locale, with creating a
+ * {@link MessageFormat} from the bundle template for each violation, as done by hand.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MessageRendererBenchmark {
+
+  private static final ResourceBundle BUNDLE =
+          new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+              return new Object[][] {
+                {
+                  "validation.error.string.value.not.between",
+                  "Length must be between {min} and {max}."
+                }
+              };
+            }
+          };
+  // the same template with the indexes MessageFormat needs
+  private static final String INDEXED_TEMPLATE = "Length must be between {0} and {1}.";
+
+  private final MessageRenderer renderer = MessageRenderer.of(locale -> BUNDLE);
+  private final Violation violation =
+          ValidationRule.lengthBetweenRule("input.name", "a", 2, 50).get();
+  private final StringBuilder builder = new StringBuilder();
+
+  @Benchmark
+  public String renderer() {
+    return renderer.render(violation, Locale.ENGLISH);
+  }
+
+  @Benchmark
+  public StringBuilder rendererReusedBuilder() {
+    builder.setLength(0);
+    return renderer.render(violation, Locale.ENGLISH, builder);
+  }
+
+  @Benchmark
+  public String messageFormat() {
+    BUNDLE.getString(violation.getMessage());
+    return new MessageFormat(INDEXED_TEMPLATE, Locale.ENGLISH)
+            .format(
+                    new Object[] {
+                      violation.getAttributes().get("min"), violation.getAttributes().get("max")
+                    });
+  }
+}
@@ -0,0 +1,181 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the <code>positive</code>, <code>positiveOrZero</code>, <code>negative</code> and
+ * <code>negativeOrZero</code> factories for every supported number type. The <code>valid</code>
+ * parameter switches between the success path and the violation path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NumberSignRuleBenchmark {
+
+  private static final String FIELD = "input.amount";
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private BigDecimal positiveBigDecimal;
+  private BigInteger positiveBigInteger;
+  private Double positiveDouble;
+  private Float positiveFloat;
+  private Long positiveLong;
+  private Integer positiveInteger;
+
+  private BigDecimal negativeBigDecimal;
+  private BigInteger negativeBigInteger;
+  private Double negativeDouble;
+  private Float negativeFloat;
+  private Long negativeLong;
+  private Integer negativeInteger;
+
+  @Setup
+  public void setUp() {
+    int sign = valid ? 1 : -1;
+    positiveBigDecimal = new BigDecimal("1234.56").multiply(BigDecimal.valueOf(sign));
+    positiveBigInteger = BigInteger.valueOf(123456L * sign);
+    positiveDouble = 1234.56 * sign;
+    positiveFloat = 1234.56f * sign;
+    positiveLong = 123456L * sign;
+    positiveInteger = 123456 * sign;
+
+    negativeBigDecimal = positiveBigDecimal.negate();
+    negativeBigInteger = positiveBigInteger.negate();
+    negativeDouble = -positiveDouble;
+    negativeFloat = -positiveFloat;
+    negativeLong = -positiveLong;
+    negativeInteger = -positiveInteger;
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveBigDecimal() {
+    return ValidationRule.positive(FIELD, positiveBigDecimal).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveBigInteger() {
+    return ValidationRule.positive(FIELD, positiveBigInteger).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveDouble() {
+    return ValidationRule.positive(FIELD, positiveDouble).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveFloat() {
+    return ValidationRule.positive(FIELD, positiveFloat).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveLong() {
+    return ValidationRule.positive(FIELD, positiveLong).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveInteger() {
+    return ValidationRule.positive(FIELD, positiveInteger).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveOrZeroBigDecimal() {
+    return ValidationRule.positiveOrZero(FIELD, positiveBigDecimal).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveOrZeroBigInteger() {
+    return ValidationRule.positiveOrZero(FIELD, positiveBigInteger).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveOrZeroDouble() {
+    return ValidationRule.positiveOrZero(FIELD, positiveDouble).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveOrZeroFloat() {
+    return ValidationRule.positiveOrZero(FIELD, positiveFloat).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveOrZeroLong() {
+    return ValidationRule.positiveOrZero(FIELD, positiveLong).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> positiveOrZeroInteger() {
+    return ValidationRule.positiveOrZero(FIELD, positiveInteger).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeBigDecimal() {
+    return ValidationRule.negative(FIELD, negativeBigDecimal).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeBigInteger() {
+    return ValidationRule.negative(FIELD, negativeBigInteger).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeDouble() {
+    return ValidationRule.negative(FIELD, negativeDouble).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeFloat() {
+    return ValidationRule.negative(FIELD, negativeFloat).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeLong() {
+    return ValidationRule.negative(FIELD, negativeLong).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeInteger() {
+    return ValidationRule.negative(FIELD, negativeInteger).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeOrZeroBigDecimal() {
+    return ValidationRule.negativeOrZero(FIELD, negativeBigDecimal).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeOrZeroBigInteger() {
+    return ValidationRule.negativeOrZero(FIELD, negativeBigInteger).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeOrZeroDouble() {
+    return ValidationRule.negativeOrZero(FIELD, negativeDouble).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeOrZeroFloat() {
+    return ValidationRule.negativeOrZero(FIELD, negativeFloat).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeOrZeroLong() {
+    return ValidationRule.negativeOrZero(FIELD, negativeLong).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> negativeOrZeroInteger() {
+    return ValidationRule.negativeOrZero(FIELD, negativeInteger).get();
+  }
+}
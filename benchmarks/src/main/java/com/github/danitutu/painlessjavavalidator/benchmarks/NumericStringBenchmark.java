@@ -0,0 +1,71 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.NumericString;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the <code>numericString</code> and <code>integerString</code> factories with parsing
+ * the value into a {@link BigDecimal} or a long and checking the range of the result. The <code>
+ * valid</code> parameter switches between the success path and the violation path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NumericStringBenchmark {
+
+  private static final String FIELD = "input.field";
+  private static final BigDecimal MIN = BigDecimal.ZERO;
+  private static final BigDecimal MAX = new BigDecimal("99999.99");
+  private static final NumericString AMOUNT =
+          NumericString.decimal().min("0").max("99999.99").maxScale(2).build();
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private String decimal;
+  private String integer;
+
+  @Setup
+  public void setUp() {
+    decimal = valid ? "12345.67" : "123456.78";
+    integer = valid ? "4096" : "40960";
+  }
+
+  @Benchmark
+  public Optional<Violation> numericString() {
+    return ValidationRule.numericString(FIELD, decimal, AMOUNT).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> bigDecimalRange() {
+    return ValidationRule.isTrue(
+                    () -> {
+                      BigDecimal value = new BigDecimal(decimal);
+                      return value.scale() <= 2
+                              && value.compareTo(MIN) >= 0
+                              && value.compareTo(MAX) <= 0;
+                    },
+                    Violation.of(FIELD, "validation.error.number.value.not.in.range", "Value"))
+            .get();
+  }
+
+  @Benchmark
+  public Optional<Violation> integerString() {
+    return ValidationRule.integerString(FIELD, integer, 1, 9999).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> parseLongInRange() {
+    long value = Long.parseLong(integer);
+    return ValidationRule.inRange(FIELD, (int) value, 1, 9999).get();
+  }
+}
@@ -0,0 +1,71 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.RegexSet;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares <code>matchAnyRegex</code> and <code>matchNoRegex</code>, which match all patterns of a
+ * {@link RegexSet} together, with calling <code>matchPattern</code> once per pattern. The
+ * <code>valid</code> parameter switches between a value matching the last pattern and a value
+ * matching none of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RegexSetBenchmark {
+
+  private static final String FIELD = "input.code";
+
+  @Param({"10", "50"})
+  private int patternCount;
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private Pattern[] patterns;
+  private RegexSet regexSet;
+  private String value;
+
+  @Setup
+  public void setUp() {
+    List<String> regexes = new ArrayList<>();
+    for (int i = 0; i < patternCount; i++) {
+      regexes.add("[A-Z]{2}" + i + "-\\d{" + (4 + i % 4) + "}(-[a-z]+)?");
+    }
+    patterns = regexes.stream().map(Pattern::compile).toArray(Pattern[]::new);
+    regexSet = RegexSet.compile(regexes);
+    int last = patternCount - 1;
+    value = valid ? "AB" + last + "-" + "1234567".substring(0, 4 + last % 4) + "-x" : "AB-12345";
+  }
+
+  @Benchmark
+  public Optional<Violation> matchAnyRegex() {
+    return ValidationRule.matchAnyRegex(FIELD, value, regexSet).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> matchPatternEach() {
+    for (Pattern pattern : patterns) {
+      if (!ValidationRule.matchPattern(FIELD, value, pattern).get().isPresent()) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(Violation.of(FIELD, "validation.error.string.value.regex.no.match", ""));
+  }
+
+  @Benchmark
+  public Optional<Violation> matchNoRegex() {
+    return ValidationRule.matchNoRegex(FIELD, value, regexSet).get();
+  }
+}
@@ -0,0 +1,97 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the benchmarks and fails (exit code 1) when the results regress compared to the stored
+ * baseline. The regular JMH command line options are accepted, so the gate can be restricted to a
+ * subset of the benchmarks, together with <code>benchmark.allow.missing</code>. The gate itself is
+ * configured using system properties:
+ *
+ * <ul>
+ *   <li><code>benchmark.baseline</code> - baseline file; default <code>
+ *       benchmarks/baselines/baseline.json</code>
+ *   <li><code>benchmark.tolerance</code> - accepted score degradation; default <code>0.10</code>
+ *   <li><code>benchmark.allocation.tolerance</code> - accepted allocation increase; default <code>
+ *       0.10</code>
+ *   <li><code>benchmark.update.baseline</code> - store the results as the new baseline instead of
+ *       comparing; default <code>false</code>
+ *   <li><code>benchmark.results</code> - compare an existing JMH JSON result file instead of
+ *       running the benchmarks
+ *   <li><code>benchmark.allow.missing</code> - compare only the benchmarks that were run, instead
+ *       of reporting the benchmarks of the baseline missing from the results; default <code>
+ *       false</code>
+ * </ul>
+ *
+ * <p>When the baseline file does not exist the results are stored as the baseline.
+ */
+public class RegressionGate {
+
+  private RegressionGate() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Path baselineFile =
+            Paths.get(System.getProperty("benchmark.baseline", "benchmarks/baselines/baseline.json"));
+    double scoreTolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.10"));
+    double allocationTolerance =
+            Double.parseDouble(System.getProperty("benchmark.allocation.tolerance", "0.10"));
+    boolean updateBaseline = Boolean.getBoolean("benchmark.update.baseline");
+    boolean allowMissing = Boolean.getBoolean("benchmark.allow.missing");
+
+    String existingResults = System.getProperty("benchmark.results");
+    Path resultsFile = existingResults != null ? Paths.get(existingResults) : run(args);
+
+    if (updateBaseline || !Files.exists(baselineFile)) {
+      if (baselineFile.toAbsolutePath().getParent() != null) {
+        Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+      }
+      Files.copy(resultsFile, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+      System.out.println("Baseline stored in " + baselineFile);
+      return;
+    }
+
+    Map<String, BenchmarkResult> baseline = BenchmarkResult.read(baselineFile);
+    Map<String, BenchmarkResult> current = BenchmarkResult.read(resultsFile);
+    if (allowMissing) {
+      baseline.keySet().retainAll(current.keySet());
+    }
+    List<String> regressions =
+            new BaselineComparator(
+                    scoreTolerance,
+                    allocationTolerance,
+                    BaselineComparator.DEFAULT_ALLOCATION_SLACK_BYTES)
+                    .compare(baseline, current);
+
+    if (regressions.isEmpty()) {
+      System.out.println(
+              "No regressions found for " + current.size() + " benchmark(s) against " + baselineFile);
+      return;
+    }
+    System.out.println("Regressions found against " + baselineFile + ":");
+    regressions.forEach(regression -> System.out.println("  " + regression));
+    System.exit(1);
+  }
+
+  private static Path run(String[] args) throws Exception {
+    Path resultsFile = Files.createTempFile("painless-java-validator-benchmarks", ".json");
+    Options options =
+            new OptionsBuilder()
+                    .parent(BenchmarkRunner.options(args))
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultsFile.toString())
+                    .build();
+    new Runner(options).run();
+    return resultsFile;
+  }
+}
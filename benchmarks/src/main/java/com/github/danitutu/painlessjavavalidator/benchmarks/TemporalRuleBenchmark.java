@@ -0,0 +1,79 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.ValidationTime;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the <code>afterEpoch</code> and <code>notInFuture</code> factories with <code>after
+ * </code>, which compares through {@link Comparable}, and with reading the system clock in each
+ * rule. The <code>valid</code> parameter switches between the success path and the violation
+ * path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TemporalRuleBenchmark {
+
+  private static final String FIELD = "input.field";
+  private static final Clock CLOCK = Clock.systemUTC();
+  private static final Instant OTHER = Instant.parse("2020-03-01T10:00:00Z");
+  private static final LocalDate OTHER_DATE = LocalDate.parse("2020-03-01");
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private Instant instant;
+  private LocalDate date;
+  private Instant past;
+  private ValidationTime time;
+
+  @Setup
+  public void setUp() {
+    instant = valid ? OTHER.minusSeconds(60) : OTHER.plusSeconds(60);
+    date = valid ? OTHER_DATE.minusDays(1) : OTHER_DATE.plusDays(1);
+    // an hour before or after the time of the run
+    past = valid ? CLOCK.instant().minusSeconds(3600) : CLOCK.instant().plusSeconds(3600);
+    time = ValidationTime.of(CLOCK);
+  }
+
+  @Benchmark
+  public Optional<Violation> afterEpochInstant() {
+    return ValidationRule.afterEpoch(FIELD, OTHER, instant).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> afterComparableInstant() {
+    return ValidationRule.after(FIELD, OTHER, instant).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> afterEpochDate() {
+    return ValidationRule.afterEpoch(FIELD, OTHER_DATE, date).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> afterComparableDate() {
+    return ValidationRule.after(FIELD, OTHER_DATE, date).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> notInFuture() {
+    return ValidationRule.notInFuture(FIELD, past, time).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> beforeOrEqualsToClock() {
+    return ValidationRule.beforeOrEqualsTo(FIELD, past, CLOCK.instant()).get();
+  }
+}
@@ -0,0 +1,73 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the byte level <code>utf8NotBlank</code> and <code>utf8LengthBetween</code> factories
+ * with decoding the bytes into a string and calling <code>notBlank</code> and <code>lengthBetween
+ * </code>. The <code>valid</code> parameter switches between the success path and the violation
+ * path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class Utf8RuleBenchmark {
+
+  private static final String FIELD = "input.field";
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private byte[] bytes;
+  private ByteBuffer direct;
+
+  @Setup
+  public void setUp() {
+    String text = valid ? "Café order #42 € 10, delivered" : "     \t ";
+    bytes = text.getBytes(StandardCharsets.UTF_8);
+    direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    direct.flip();
+  }
+
+  @Benchmark
+  public Optional<Violation> utf8NotBlank() {
+    return ValidationRule.utf8NotBlank(FIELD, bytes).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> utf8NotBlankDirect() {
+    return ValidationRule.utf8NotBlank(FIELD, direct).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> decodeNotBlank() {
+    return ValidationRule.notBlank(FIELD, new String(bytes, StandardCharsets.UTF_8)).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> utf8LengthBetween() {
+    return ValidationRule.utf8LengthBetween(FIELD, bytes, 10, 40).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> utf8LengthBetweenDirect() {
+    return ValidationRule.utf8LengthBetween(FIELD, direct, 10, 40).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> decodeLengthBetween() {
+    return ValidationRule.lengthBetween(FIELD, new String(bytes, StandardCharsets.UTF_8), 10, 40)
+            .get();
+  }
+}
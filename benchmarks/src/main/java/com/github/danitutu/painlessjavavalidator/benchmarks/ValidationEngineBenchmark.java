@@ -0,0 +1,115 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationEngine;
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.ViolationProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.*;
+
+/**
+ * Measures every {@link ValidationEngine} mode against rule sets of different sizes and failure
+ * ratios. Failing rules are spread evenly across the rule set so that the "find first" modes do
+ * not always stop on the first rule.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidationEngineBenchmark {
+
+  @Param({"1", "10", "100", "10000"})
+  private int ruleCount;
+
+  @Param({"0", "0.1", "1"})
+  private double failureRatio;
+
+  private ViolationProvider[] rulesArray;
+  private List<ViolationProvider> rulesList;
+
+  @Setup
+  public void setUp() {
+    rulesArray = new ViolationProvider[ruleCount];
+    for (int i = 0; i < ruleCount; i++) {
+      rulesArray[i] = rule(i, isFailing(i, failureRatio));
+    }
+    rulesList = Arrays.asList(rulesArray);
+  }
+
+  /**
+   * Rule <code>i</code> fails when it crosses the next multiple of the failure ratio, which gives
+   * exactly <code>floor(ruleCount * failureRatio)</code> evenly spaced failures.
+   */
+  static boolean isFailing(int i, double failureRatio) {
+    return Math.floor((i + 1) * failureRatio) > Math.floor(i * failureRatio);
+  }
+
+  /**
+   * Rotates through the cheap, commonly used rules so that the engine overhead is not hidden by a
+   * single expensive rule.
+   */
+  static ViolationProvider rule(int i, boolean failing) {
+    String field = "field" + i;
+    switch (i % 6) {
+      case 0:
+        return notNull(field, failing ? null : "value");
+      case 1:
+        return notBlank(field, failing ? "   " : "value");
+      case 2:
+        return lengthBetween(field, failing ? "v" : "value", 2, 50);
+      case 3:
+        return inRange(field, failing ? 200 : 20, 18, 120);
+      case 4:
+        return min(field, failing ? 1 : 20, 18);
+      default:
+        return max(field, failing ? 200 : 20, 120);
+    }
+  }
+
+  @Benchmark
+  public List<Violation> validateAllArray() {
+    return ValidationEngine.validateAll(rulesArray);
+  }
+
+  @Benchmark
+  public List<Violation> validateAllCollection() {
+    return ValidationEngine.validateAll(rulesList);
+  }
+
+  @Benchmark
+  public List<Violation> validateFindFirstArray() {
+    return ValidationEngine.validateFindFirst(rulesArray);
+  }
+
+  @Benchmark
+  public List<Violation> validateFindFirstCollection() {
+    return ValidationEngine.validateFindFirst(rulesList);
+  }
+
+  @Benchmark
+  public Object validateAllAndStopIfViolations() {
+    try {
+      ValidationEngine.validateAllAndStopIfViolations(rulesArray);
+      return null;
+    } catch (ValidationException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object validateFindFirstAndStopIfViolation() {
+    try {
+      ValidationEngine.validateFindFirstAndStopIfViolation(rulesArray);
+      return null;
+    } catch (ValidationException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the general purpose {@link ValidationRule} factories. Each benchmark creates the
+ * provider and evaluates it, which is how the rules are used together with the engine. The
+ * <code>valid</code> parameter switches between the success path and the violation path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidationRuleBenchmark {
+
+  private static final String FIELD = "input.field";
+  private static final String REGEX = "[A-Z0-9]+";
+  private static final Violation VIOLATION = Violation.of(FIELD, "message", "details");
+
+  @Param({"true", "false"})
+  private boolean valid;
+
+  private Object object;
+  private Object nullableObject;
+  private String text;
+  private String emptyText;
+  private String blankText;
+  private String notEmptyText;
+  private String notBlankText;
+  private String otherText;
+  private String regexText;
+  private Integer number;
+  private boolean condition;
+  private LocalDate date;
+  private LocalDate otherDate;
+  private LocalDate equalDate;
+
+  @Setup
+  public void setUp() {
+    object = valid ? "value" : null;
+    nullableObject = valid ? null : "value";
+    text = valid ? "value" : "v";
+    emptyText = valid ? "" : "value";
+    blankText = valid ? "   " : "value";
+    notEmptyText = valid ? "value" : "";
+    notBlankText = valid ? "value" : "   ";
+    otherText = valid ? "value" : "other";
+    regexText = valid ? "TEST1234" : "test1234";
+    number = valid ? 20 : 200;
+    condition = valid;
+    date = LocalDate.of(2020, 1, 10);
+    otherDate = valid ? LocalDate.of(2020, 1, 1) : LocalDate.of(2020, 1, 20);
+    equalDate = valid ? date : otherDate;
+  }
+
+  @Benchmark
+  public Optional<Violation> isNull() {
+    return ValidationRule.isNull(FIELD, nullableObject).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> notNull() {
+    return ValidationRule.notNull(FIELD, object).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> empty() {
+    return ValidationRule.empty(FIELD, emptyText).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> notEmpty() {
+    return ValidationRule.notEmpty(FIELD, notEmptyText).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> blank() {
+    return ValidationRule.blank(FIELD, blankText).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> notBlank() {
+    return ValidationRule.notBlank(FIELD, notBlankText).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> isTrue() {
+    boolean c = condition;
+    return ValidationRule.isTrue(() -> c, VIOLATION).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> isFalse() {
+    boolean c = condition;
+    return ValidationRule.isFalse(() -> !c, VIOLATION).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> lengthBetween() {
+    return ValidationRule.lengthBetween(FIELD, text, 2, 50).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> matchRegex() {
+    return ValidationRule.matchRegex(FIELD, regexText, REGEX).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> inRange() {
+    return ValidationRule.inRange(FIELD, number, 18, 120).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> min() {
+    return ValidationRule.min(FIELD, number, 18).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> max() {
+    return ValidationRule.max(FIELD, number, 120).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> after() {
+    return ValidationRule.after(FIELD, date, otherDate).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> afterOrEqualsTo() {
+    return ValidationRule.afterOrEqualsTo(FIELD, date, otherDate).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> before() {
+    return ValidationRule.before(FIELD, otherDate, date).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> beforeOrEqualsTo() {
+    return ValidationRule.beforeOrEqualsTo(FIELD, otherDate, date).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> equalsToComparable() {
+    return ValidationRule.equalsTo(FIELD, date, equalDate).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> equalsToString() {
+    return ValidationRule.equalsTo(FIELD, "value", otherText).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> notEqualsTo() {
+    return ValidationRule.notEqualsTo(FIELD, "other", otherText).get();
+  }
+
+  @Benchmark
+  public Optional<Violation> compareStrings() {
+    return ValidationRule.compareStrings(
+            "value", otherText, (s, s2) -> !s.equals(s2), () -> VIOLATION)
+            .get();
+  }
+
+  @Benchmark
+  public Optional<Violation> compareComparable() {
+    return ValidationRule.compareComparable(
+            date, equalDate, (d, d2) -> d.compareTo(d2) != 0, () -> VIOLATION)
+            .get();
+  }
+}
@@ -0,0 +1,124 @@
+package com.github.danitutu.painlessjavavalidator.benchmarks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaselineComparatorTest {
+
+  private static final String KEY = "Benchmark.method{valid=true}";
+
+  private final BaselineComparator comparator = new BaselineComparator(0.1, 0.1, 8);
+
+  private static Map<String, BenchmarkResult> result(
+          String mode, double score, Double allocationPerOp) {
+    return singletonMap(KEY, new BenchmarkResult(KEY, mode, score, "ops/us", allocationPerOp));
+  }
+
+  @Test
+  @DisplayName("WHEN throughput drops within tolerance THEN expect no regression")
+  void compare1() {
+    List<String> regressions =
+            comparator.compare(result("thrpt", 100, 0.0), result("thrpt", 91, 0.0));
+
+    assertTrue(regressions.isEmpty());
+  }
+
+  @Test
+  @DisplayName("WHEN throughput drops beyond tolerance THEN expect regression")
+  void compare2() {
+    List<String> regressions =
+            comparator.compare(result("thrpt", 100, 0.0), result("thrpt", 89, 0.0));
+
+    assertEquals(1, regressions.size());
+    assertTrue(regressions.get(0).startsWith(KEY + ": score"));
+  }
+
+  @Test
+  @DisplayName("WHEN average time grows beyond tolerance THEN expect regression")
+  void compare3() {
+    List<String> regressions =
+            comparator.compare(result("avgt", 100, 0.0), result("avgt", 111, 0.0));
+
+    assertEquals(1, regressions.size());
+  }
+
+  @Test
+  @DisplayName("WHEN average time drops THEN expect no regression")
+  void compare4() {
+    List<String> regressions =
+            comparator.compare(result("avgt", 100, 0.0), result("avgt", 50, 0.0));
+
+    assertTrue(regressions.isEmpty());
+  }
+
+  @Test
+  @DisplayName("WHEN allocation grows beyond tolerance and slack THEN expect regression")
+  void compare5() {
+    List<String> regressions =
+            comparator.compare(result("thrpt", 100, 100.0), result("thrpt", 100, 119.0));
+
+    assertEquals(1, regressions.size());
+    assertTrue(regressions.get(0).startsWith(KEY + ": allocation"));
+  }
+
+  @Test
+  @DisplayName("WHEN allocation grows within slack THEN expect no regression")
+  void compare6() {
+    List<String> regressions =
+            comparator.compare(result("thrpt", 100, 0.1), result("thrpt", 100, 8.0));
+
+    assertTrue(regressions.isEmpty());
+  }
+
+  @Test
+  @DisplayName("WHEN benchmark is missing from baseline THEN expect no regression")
+  void compare7() {
+    List<String> regressions =
+            comparator.compare(emptyMap(), result("thrpt", 1, 1000.0));
+
+    assertTrue(regressions.isEmpty());
+  }
+
+  @Test
+  @DisplayName("WHEN benchmark of the baseline is missing from the results THEN expect regression")
+  void compare11() {
+    List<String> regressions = comparator.compare(result("thrpt", 100, 0.0), emptyMap());
+
+    assertEquals(1, regressions.size());
+    assertTrue(regressions.get(0).startsWith(KEY + ": missing"));
+  }
+
+  @Test
+  @DisplayName("WHEN allocation was not measured THEN expect only score to be compared")
+  void compare8() {
+    List<String> regressions =
+            comparator.compare(result("thrpt", 100, null), result("thrpt", 100, 1000.0));
+
+    assertTrue(regressions.isEmpty());
+  }
+
+  @Test
+  @DisplayName("WHEN mode changed THEN expect regression")
+  void compare9() {
+    List<String> regressions =
+            comparator.compare(result("thrpt", 100, 0.0), result("avgt", 100, 0.0));
+
+    assertEquals(1, regressions.size());
+  }
+
+  @Test
+  @DisplayName("WHEN tolerance is negative THEN exception")
+  void compare10() {
+    IllegalArgumentException ex =
+            assertThrows(IllegalArgumentException.class, () -> new BaselineComparator(-1, 0, 0));
+
+    assertEquals("tolerance cannot be negative", ex.getMessage());
+  }
+}
@@ -0,0 +1,245 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Boots the demo application on a random localhost port and drives <code>POST /</code> with a
+ * mix of valid and invalid payloads, once with the validation switched on and once with it
+ * switched off. The difference between the two runs is the share of the request cost that
+ * belongs to the validation.
+ * <p>
+ * Run with <code>mvn -P loadtest test-compile exec:exec</code>. Configuration (system properties
+ * or Maven properties of the <code>loadtest</code> profile):
+ * <ul>
+ * <li><code>loadtest.requests</code> - measured requests per run</li>
+ * <li><code>loadtest.warmupRequests</code> - requests sent before measuring</li>
+ * <li><code>loadtest.concurrency</code> - concurrent clients</li>
+ * <li><code>loadtest.invalidRatio</code> - ratio of invalid payloads, between 0 and 1</li>
+ * <li><code>loadtest.validation</code> - runs to execute: <code>on</code>, <code>off</code> or
+ * <code>on,off</code></li>
+ * </ul>
+ * The allocation is measured only for the Tomcat request threads, so the load generator running
+ * in the same JVM doesn't distort it. The GC numbers are for the whole JVM.
+ */
+public class LoadTest {
+
+    private static final String VALID_PAYLOAD =
+            "{\"id\":\"1b4e28ba-2fa1-11d2-883f-0016d3cca427\",\"firstName\":\"John\",\"lastName\":\"Doe\",\"age\":30}";
+    private static final String INVALID_PAYLOAD =
+            "{\"id\":\"1b4e28ba-2fa1-11d2-883f-0016d3cca427\",\"firstName\":\" \",\"lastName\":\"D\",\"age\":30}";
+    private static final String SERVER_THREAD_NAME = "http-nio";
+
+    public static void main(String[] args) throws Exception {
+        int requests = Integer.getInteger("loadtest.requests", 20000);
+        int warmupRequests = Integer.getInteger("loadtest.warmupRequests", 5000);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 8);
+        double invalidRatio = Double.parseDouble(System.getProperty("loadtest.invalidRatio", "0.1"));
+        String[] runs = System.getProperty("loadtest.validation", "on,off").split(",");
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String run : runs) {
+            boolean validation = "on".equals(run.trim());
+            Result result = run(validation, requests, warmupRequests, concurrency, invalidRatio);
+            results.put(validation ? "validation on" : "validation off", result);
+        }
+
+        System.out.printf(
+                "%nPOST / - %d requests, %d clients, %.0f%% invalid payloads%n",
+                requests, concurrency, invalidRatio * 100);
+        results.forEach((name, result) -> result.print(name));
+
+        Result on = results.get("validation on");
+        Result off = results.get("validation off");
+        if (on != null && off != null) {
+            System.out.printf(
+                    "%nvalidation share: %.1f%% of mean latency, %.0f B/request allocated%n",
+                    (on.meanMillis() - off.meanMillis()) * 100 / on.meanMillis(),
+                    on.allocatedBytesPerRequest() - off.allocatedBytesPerRequest());
+        }
+    }
+
+    private static Result run(
+            boolean validation, int requests, int warmupRequests, int concurrency, double invalidRatio)
+            throws Exception {
+        ConfigurableApplicationContext context =
+                new SpringApplicationBuilder(DemoApplication.class)
+                        .properties(
+                                "server.port=0",
+                                "demo.validation.enabled=" + validation,
+                                "logging.level.root=WARN",
+                                "spring.main.banner-mode=off")
+                        .run();
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/");
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            drive(client, uri, warmupRequests, concurrency, invalidRatio);
+
+            long gcCount = gcCount();
+            long gcMillis = gcMillis();
+            Map<Long, Long> allocated = serverThreadsAllocatedBytes();
+            long start = System.nanoTime();
+
+            Result result = drive(client, uri, requests, concurrency, invalidRatio);
+
+            result.durationNanos = System.nanoTime() - start;
+            result.allocatedBytes = allocatedSince(allocated);
+            result.gcCount = gcCount() - gcCount;
+            result.gcMillis = gcMillis() - gcMillis;
+            return result;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result drive(
+            HttpClient client, URI uri, int requests, int concurrency, double invalidRatio)
+            throws InterruptedException {
+        Result result = new Result(requests);
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int c = 0; c < concurrency; c++) {
+            executor.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    String payload = isInvalid(i, invalidRatio) ? INVALID_PAYLOAD : VALID_PAYLOAD;
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(payload, StandardCharsets.UTF_8))
+                            .build();
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    result.latencies[i] = System.nanoTime() - start;
+                    result.count(status);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        return result;
+    }
+
+    /**
+     * Spreads the invalid payloads evenly: request <code>i</code> is invalid when it crosses the
+     * next multiple of the ratio.
+     */
+    private static boolean isInvalid(int i, double invalidRatio) {
+        return Math.floor((i + 1) * invalidRatio) > Math.floor(i * invalidRatio);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    private static Map<Long, Long> serverThreadsAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> allocated = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(SERVER_THREAD_NAME)) {
+                allocated.put(thread.getId(), threads.getThreadAllocatedBytes(thread.getId()));
+            }
+        }
+        return allocated;
+    }
+
+    private static long allocatedSince(Map<Long, Long> before) {
+        long total = 0;
+        for (Map.Entry<Long, Long> thread : serverThreadsAllocatedBytes().entrySet()) {
+            total += thread.getValue() - before.getOrDefault(thread.getKey(), 0L);
+        }
+        return total;
+    }
+
+    private static class Result {
+        private final long[] latencies;
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder badRequest = new LongAdder();
+        private final LongAdder other = new LongAdder();
+        private long durationNanos;
+        private long allocatedBytes;
+        private long gcCount;
+        private long gcMillis;
+
+        private Result(int requests) {
+            latencies = new long[requests];
+        }
+
+        private void count(int status) {
+            if (status == 200) {
+                ok.increment();
+            } else if (status == 400) {
+                badRequest.increment();
+            } else {
+                other.increment();
+            }
+        }
+
+        private double meanMillis() {
+            return Arrays.stream(latencies).average().orElse(0) / 1_000_000;
+        }
+
+        private double allocatedBytesPerRequest() {
+            return (double) allocatedBytes / latencies.length;
+        }
+
+        private void print(String name) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            double seconds = durationNanos / 1_000_000_000.0;
+            System.out.printf("%n%s%n", name);
+            System.out.printf(
+                    "  responses   200: %d, 400: %d, other: %d%n",
+                    ok.sum(), badRequest.sum(), other.sum());
+            System.out.printf("  throughput  %.0f requests/s%n", latencies.length / seconds);
+            System.out.printf(
+                    "  latency ms  mean: %.3f, p50: %.3f, p90: %.3f, p99: %.3f, p99.9: %.3f, max: %.3f%n",
+                    meanMillis(),
+                    percentile(sorted, 0.5),
+                    percentile(sorted, 0.9),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 0.999),
+                    sorted[sorted.length - 1] / 1_000_000.0);
+            System.out.printf(
+                    "  allocation  %.0f B/request, %.1f MB/s (request threads)%n",
+                    allocatedBytesPerRequest(), allocatedBytes / seconds / (1024 * 1024));
+            System.out.printf("  gc          %d collections, %d ms%n", gcCount, gcMillis);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
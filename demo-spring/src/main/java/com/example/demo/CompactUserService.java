@@ -6,7 +6,6 @@ import com.github.danitutu.painlessjavavalidator.ViolationProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import static com.github.danitutu.painlessjavavalidator.ValidationEngine.validateAllAndStopIfViolations;
 import static com.github.danitutu.painlessjavavalidator.ValidationEngine.validateFindFirstAndStopIfViolation;
 import static com.github.danitutu.painlessjavavalidator.ValidationRule.*;
 
@@ -17,14 +16,7 @@ public class CompactUserService {
     private UserRepository userRepository;
 
     public User updateUser(User input) {
-        // we are interested in returning all error at once
-        validateAllAndStopIfViolations(
-                notBlank("input.firstName", input.getFirstName()),
-                notBlank("input.lastName", input.getLastName()),
-                lengthBetween("input.firstName", input.getFirstName(), 2, 50),
-                lengthBetween("input.lastName", input.getLastName(), 2, 50)
-        );
-
+        // the names are validated while the request body is read, see StreamingValidationConfig
         User user = userRepository.findById(input.getId())
                 .orElseThrow(() -> new ValidationException(
                         Violation.of(
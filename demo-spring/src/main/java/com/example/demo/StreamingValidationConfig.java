@@ -0,0 +1,78 @@
+package com.example.demo;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.danitutu.painlessjavavalidator.json.StreamingValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.*;
+
+/**
+ * Validates the request body of {@link Ctrl#save(User)} while it is parsed, so invalid payloads are
+ * rejected before the rest of the body is read and bound. The rules are the ones the input names
+ * always had, all the violations being returned at once.
+ */
+@Configuration
+public class StreamingValidationConfig implements WebMvcConfigurer {
+
+    private static final StreamingValidator USER_VALIDATOR = StreamingValidator.builder()
+            .prefix("input")
+            .maxViolations(10)
+            .field("firstName", String.class,
+                    (field, value) -> notBlankRule(field, value),
+                    (field, value) -> lengthBetweenRule(field, value, 2, 50))
+            .field("lastName", String.class,
+                    (field, value) -> notBlankRule(field, value),
+                    (field, value) -> lengthBetweenRule(field, value, 2, 50))
+            .build();
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${demo.validation.enabled:true}")
+    private boolean validationEnabled = true;
+
+    public StreamingValidationConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (validationEnabled) {
+            converters.add(0, new UserMessageConverter(objectMapper));
+        }
+    }
+
+    private static class UserMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        UserMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+            return type == User.class && canRead(mediaType);
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+            try (JsonParser parser = getObjectMapper().getFactory().createParser(inputMessage.getBody())) {
+                return USER_VALIDATOR.read(getObjectMapper(), parser, getJavaType(type, contextClass));
+            }
+        }
+    }
+}
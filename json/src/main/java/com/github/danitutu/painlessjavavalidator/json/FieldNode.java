@@ -0,0 +1,147 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A property of the validated JSON value: either a scalar having rules or an object having nested
+ * properties. The field of the violations is computed once, when the node is created.
+ */
+final class FieldNode {
+
+  private static final Object INVALID = new Object();
+
+  private final String field;
+  private final int index;
+  private final Map<String, FieldNode> children = new LinkedHashMap<>();
+  private final List<FieldNode> childList = new ArrayList<>();
+  private Class<?> type;
+  private FieldRule<Object>[] rules;
+  private boolean fatal;
+
+  FieldNode(String field, int index) {
+    this.field = field;
+    this.index = index;
+  }
+
+  FieldNode child(String name) {
+    return children.get(name);
+  }
+
+  FieldNode addChild(String name, String field) {
+    if (rules != null) {
+      throw new IllegalArgumentException(
+              "field '" + this.field + "' has rules and cannot have nested fields");
+    }
+    return children.computeIfAbsent(
+            name,
+            key -> {
+              FieldNode child = new FieldNode(field, childList.size());
+              childList.add(child);
+              return child;
+            });
+  }
+
+  void setRules(Class<?> type, FieldRule<Object>[] rules, boolean fatal) {
+    if (!children.isEmpty()) {
+      throw new IllegalArgumentException(
+              "field '" + field + "' has nested fields and cannot have rules");
+    }
+    if (this.rules != null) {
+      throw new IllegalArgumentException("field '" + field + "' is already defined");
+    }
+    this.type = type;
+    this.rules = rules;
+    this.fatal = fatal;
+  }
+
+  String getField() {
+    return field;
+  }
+
+  int getIndex() {
+    return index;
+  }
+
+  List<FieldNode> getChildren() {
+    return childList;
+  }
+
+  boolean isObject() {
+    return rules == null;
+  }
+
+  FieldRule<Object>[] getRules() {
+    return rules;
+  }
+
+  boolean isFatal() {
+    return fatal;
+  }
+
+  static boolean isSupported(Class<?> type) {
+    return type == String.class
+            || type == Integer.class
+            || type == Long.class
+            || type == BigDecimal.class
+            || type == Boolean.class;
+  }
+
+  String expectedType() {
+    if (isObject()) {
+      return "object";
+    }
+    if (type == String.class) {
+      return "string";
+    }
+    if (type == Boolean.class) {
+      return "boolean";
+    }
+    return type == BigDecimal.class ? "number" : "integer";
+  }
+
+  /**
+   * Reads the current scalar token as the type of the rules.
+   *
+   * @return value, null for a JSON null or {@link #isInvalid(Object) invalid} if the token doesn't
+   *     have the expected type
+   */
+  Object read(JsonToken token, JsonParser parser) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (type == String.class) {
+      return token == JsonToken.VALUE_STRING ? parser.getText() : INVALID;
+    }
+    if (type == Boolean.class) {
+      return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE
+              ? token == JsonToken.VALUE_TRUE
+              : INVALID;
+    }
+    if (type == BigDecimal.class) {
+      return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+              ? parser.getDecimalValue()
+              : INVALID;
+    }
+    if (token != JsonToken.VALUE_NUMBER_INT) {
+      return INVALID;
+    }
+    JsonParser.NumberType numberType = parser.getNumberType();
+    if (type == Integer.class) {
+      return numberType == JsonParser.NumberType.INT ? parser.getIntValue() : INVALID;
+    }
+    return numberType == JsonParser.NumberType.BIG_INTEGER ? INVALID : parser.getLongValue();
+  }
+
+  static boolean isInvalid(Object value) {
+    return value == INVALID;
+  }
+}
@@ -0,0 +1,63 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import java.util.Arrays;
+
+/**
+ * Path of the current JSON value, kept as a stack of property names and array indexes. The path
+ * text, for example <code>input.addresses[1].street</code>, is only built when a violation needs
+ * it.
+ */
+final class FieldPath {
+
+  private final String prefix;
+  private String[] names = new String[16];
+  private int[] indexes = new int[16];
+  private int length;
+
+  FieldPath(String prefix) {
+    this.prefix = prefix;
+  }
+
+  /**
+   * Sets the last level to a property name. Levels start from 1; level 0 is the root value.
+   */
+  void setName(int level, String name) {
+    ensureCapacity(level);
+    names[level] = name;
+    length = level;
+  }
+
+  void setIndex(int level, int index) {
+    ensureCapacity(level);
+    names[level] = null;
+    indexes[level] = index;
+    length = level;
+  }
+
+  void setLength(int length) {
+    this.length = length;
+  }
+
+  private void ensureCapacity(int level) {
+    if (level >= names.length) {
+      names = Arrays.copyOf(names, names.length * 2);
+      indexes = Arrays.copyOf(indexes, indexes.length * 2);
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder path = new StringBuilder(prefix);
+    for (int level = 1; level <= length; level++) {
+      if (names[level] == null) {
+        path.append('[').append(indexes[level]).append(']');
+      } else {
+        if (path.length() > 0) {
+          path.append('.');
+        }
+        path.append(names[level]);
+      }
+    }
+    return path.toString();
+  }
+}
@@ -0,0 +1,187 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Applies the field rules of a {@link StreamingValidator} as the tokens are pushed. The rules of a
+ * property are applied when its value is read and, with a null value, when the object containing it
+ * ends without it. Values inside arrays are not validated.
+ */
+final class FieldRulesValidator implements TokenValidator {
+
+  private final FieldNode root;
+  private final int maxViolations;
+
+  /**
+   * Node of each open container; null if the container is not validated.
+   */
+  private FieldNode[] nodes = new FieldNode[16];
+  private boolean[][] seen = new boolean[16][];
+  private int depth;
+  private FieldNode pending;
+  private boolean started;
+  private boolean complete;
+  private boolean fatal;
+  private List<Violation> violations;
+
+  FieldRulesValidator(FieldNode root, int maxViolations) {
+    this.root = root;
+    this.maxViolations = maxViolations;
+  }
+
+  @Override
+  public void onToken(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == null || complete || isAborted()) {
+      return;
+    }
+    switch (token) {
+      case FIELD_NAME:
+        FieldNode parent = nodes[depth - 1];
+        pending = parent == null ? null : parent.child(parser.getCurrentName());
+        if (pending != null) {
+          seen[depth - 1][pending.getIndex()] = true;
+        }
+        return;
+      case END_OBJECT:
+        FieldNode node = nodes[depth - 1];
+        if (node != null) {
+          for (FieldNode child : node.getChildren()) {
+            if (!seen[depth - 1][child.getIndex()]) {
+              applyMissing(child);
+            }
+          }
+        }
+        close();
+        return;
+      case END_ARRAY:
+        close();
+        return;
+      default:
+        onValue(token, parser);
+    }
+  }
+
+  private void onValue(JsonToken token, JsonParser parser) throws IOException {
+    FieldNode node;
+    if (!started) {
+      started = true;
+      node = root;
+    } else {
+      // values inside arrays are not validated
+      node = nodes[depth - 1] != null && pending != null ? pending : null;
+      pending = null;
+    }
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      if (node != null && (token == JsonToken.START_ARRAY || !node.isObject())) {
+        add(SchemaNode.invalidType(node.getField(), node.expectedType()), node.isFatal());
+        node = null;
+      }
+      open(node);
+      return;
+    }
+    if (node != null) {
+      if (node.isObject()) {
+        if (token == JsonToken.VALUE_NULL) {
+          applyMissing(node);
+        } else {
+          add(SchemaNode.invalidType(node.getField(), node.expectedType()), false);
+        }
+      } else {
+        Object value = node.read(token, parser);
+        if (FieldNode.isInvalid(value)) {
+          add(SchemaNode.invalidType(node.getField(), node.expectedType()), node.isFatal());
+        } else {
+          apply(node, value);
+        }
+      }
+    }
+    if (depth == 0) {
+      complete = true;
+    }
+  }
+
+  private void applyMissing(FieldNode node) {
+    if (node.isObject()) {
+      for (FieldNode child : node.getChildren()) {
+        applyMissing(child);
+      }
+    } else {
+      apply(node, null);
+    }
+  }
+
+  private void apply(FieldNode node, Object value) {
+    for (FieldRule<Object> rule : node.getRules()) {
+      if (isAborted()) {
+        return;
+      }
+      Optional<Violation> violation = rule.apply(node.getField(), value);
+      if (violation.isPresent()) {
+        add(violation.get(), node.isFatal());
+      }
+    }
+  }
+
+  private void open(FieldNode node) {
+    if (depth == nodes.length) {
+      nodes = Arrays.copyOf(nodes, depth * 2);
+      seen = Arrays.copyOf(seen, depth * 2);
+    }
+    nodes[depth] = node;
+    if (node != null) {
+      int size = node.getChildren().size();
+      if (seen[depth] == null || seen[depth].length < size) {
+        seen[depth] = new boolean[size];
+      } else {
+        Arrays.fill(seen[depth], false);
+      }
+    }
+    depth++;
+  }
+
+  private void close() {
+    depth--;
+    nodes[depth] = null;
+    if (depth == 0) {
+      complete = true;
+    }
+  }
+
+  private void add(Violation violation, boolean fatal) {
+    if (violations == null) {
+      violations = new ArrayList<>();
+    }
+    violations.add(violation);
+    this.fatal |= fatal;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * @return whether a violation of a fatal field was found or the violations cap was reached
+   */
+  @Override
+  public boolean isAborted() {
+    return fatal || (violations != null && violations.size() >= maxViolations);
+  }
+
+  @Override
+  public List<Violation> getViolations() {
+    return violations == null ? emptyList() : violations;
+  }
+}
@@ -0,0 +1,140 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Compiled JSON Schema, created by a {@link JsonSchemaCompiler}. The same compiled schema validates
+ * a parsed {@link JsonNode} tree or the tokens of a {@link JsonParser}, without building a tree.
+ *
+ * <p>The violations are those of the {@link com.github.danitutu.painlessjavavalidator.ValidationRule}
+ * matching each keyword, having as field the path of the value, for example <code>
+ * addresses[1].street</code>:
+ *
+ * <ul>
+ *   <li><code>required</code> - {@link
+ *       com.github.danitutu.painlessjavavalidator.ValidationRule#notNull(String, Object)}
+ *   <li><code>minLength</code>, <code>maxLength</code> - {@link
+ *       com.github.danitutu.painlessjavavalidator.ValidationRule#lengthBetween(String, String,
+ *       int, int)}
+ *   <li><code>minimum</code>, <code>maximum</code> - <code>min</code> and <code>max</code> for
+ *       int values and limits, the comparable rules otherwise
+ *   <li><code>pattern</code> - {@link
+ *       com.github.danitutu.painlessjavavalidator.ValidationRule#matchPattern(String, String,
+ *       java.util.regex.Pattern)}
+ *   <li><code>type</code> - <code>validation.error.json.invalid.type</code> with the <code>
+ *       expected</code> types attribute
+ *   <li><code>enum</code> - <code>validation.error.value.not.one.of</code> with the <code>values
+ *       </code> attribute
+ * </ul>
+ *
+ * <p>Like the JSON Schema <code>pattern</code>, the pattern only needs to be found in the value,
+ * and the lengths are counted in UTF-16 chars. A value having an invalid type is not validated any
+ * further. Instances are immutable and can be shared between threads.
+ */
+public final class JsonSchema {
+
+  private final SchemaNode root;
+  private final String prefix;
+
+  JsonSchema(SchemaNode root, String prefix) {
+    this.root = root;
+    this.prefix = prefix;
+  }
+
+  /**
+   * Returns the same schema creating violations having the prefix in front of their field, for
+   * example <code>input</code> to have fields such as <code>input.addresses[1].street</code>.
+   *
+   * @param prefix field prefix
+   * @return schema using the prefix
+   */
+  public JsonSchema withPrefix(String prefix) {
+    if (prefix == null) {
+      throw new IllegalArgumentException("prefix is required");
+    }
+    return new JsonSchema(root, prefix);
+  }
+
+  /**
+   * Validates the tree and returns all the violations.
+   *
+   * @param value JSON value to be validated
+   * @return violations
+   */
+  public List<Violation> validateAll(JsonNode value) {
+    return validate(value, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Validates the tree and stops when the first violation is encountered.
+   *
+   * @param value JSON value to be validated
+   * @return single violation inside a list
+   */
+  public List<Violation> validateFindFirst(JsonNode value) {
+    return validate(value, 1);
+  }
+
+  /**
+   * Validates the tree and throws {@link ValidationException} if there are any violations.
+   *
+   * @param value JSON value to be validated
+   * @throws ValidationException thrown in case violations are found
+   */
+  public void validateAllAndStopIfViolations(JsonNode value) {
+    ValidationException.stopIfViolations(validateAll(value));
+  }
+
+  /**
+   * Validates the next value read by the parser, stopping as soon as the number of violations
+   * reaches the maximum. In that case the parser is left inside the value and the rest of the input
+   * is not read.
+   *
+   * @param parser parser positioned before or at the first token of the value
+   * @param maxViolations maximum number of violations
+   * @return violations
+   * @throws IOException if the input cannot be read or is not valid JSON
+   */
+  public List<Violation> validate(JsonParser parser, int maxViolations) throws IOException {
+    if (parser == null) {
+      throw new IllegalArgumentException("parser is required");
+    }
+    if (maxViolations <= 0) {
+      throw new IllegalArgumentException("maxViolations must be positive");
+    }
+    SchemaValidator validator = newValidator(maxViolations);
+    JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+    while (token != null) {
+      validator.onToken(parser);
+      if (validator.isComplete() || validator.isAborted()) {
+        break;
+      }
+      token = parser.nextToken();
+    }
+    return validator.getViolations();
+  }
+
+  SchemaValidator newValidator(int maxViolations) {
+    return new SchemaValidator(root, prefix, maxViolations);
+  }
+
+  private List<Violation> validate(JsonNode value, int maxViolations) {
+    if (value == null) {
+      throw new IllegalArgumentException("value is required");
+    }
+    try (JsonParser parser = value.traverse()) {
+      return validate(parser, maxViolations);
+    } catch (IOException e) {
+      // a tree is read from memory
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compiles JSON Schema documents into {@link JsonSchema}s. The supported keywords are <code>type
+ * </code>, <code>properties</code>, <code>required</code>, <code>items</code> (a single schema),
+ * <code>minLength</code>, <code>maxLength</code>, <code>minimum</code>, <code>maximum</code>,
+ * <code>exclusiveMinimum</code>, <code>exclusiveMaximum</code> (both as boolean and as number),
+ * <code>pattern</code> and <code>enum</code> (of scalar values). Annotations such as <code>title
+ * </code>, <code>description</code> or <code>format</code> are ignored and any other keyword is
+ * rejected, so that a schema is never silently validated only in part.
+ *
+ * <p>The compiled schemas are cached by the SHA-256 hash of their content. When the cache is full
+ * the least recently used schema is evicted. It is thread safe.
+ */
+public final class JsonSchemaCompiler {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final Map<String, JsonSchema> schemas;
+
+  /**
+   * @param maximumSize maximum number of cached schemas
+   * @throws IllegalArgumentException if maximumSize is not positive
+   */
+  public JsonSchemaCompiler(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive");
+    }
+    this.schemas =
+            new LinkedHashMap<String, JsonSchema>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, JsonSchema> eldest) {
+                return size() > maximumSize;
+              }
+            };
+  }
+
+  /**
+   * Returns the cached schema or compiles and caches it.
+   *
+   * @param schema JSON Schema document
+   * @return compiled schema
+   * @throws IllegalArgumentException if the schema is null, not valid JSON or not supported
+   */
+  public JsonSchema compile(String schema) {
+    if (schema == null) {
+      throw new IllegalArgumentException("schema is required");
+    }
+    return compile(hash(schema), schema, null);
+  }
+
+  /**
+   * Returns the cached schema or compiles and caches it.
+   *
+   * @param schema JSON Schema document
+   * @return compiled schema
+   * @throws IllegalArgumentException if the schema is null or not supported
+   */
+  public JsonSchema compile(JsonNode schema) {
+    if (schema == null) {
+      throw new IllegalArgumentException("schema is required");
+    }
+    return compile(hash(schema.toString()), null, schema);
+  }
+
+  private JsonSchema compile(String key, String text, JsonNode tree) {
+    synchronized (schemas) {
+      JsonSchema cached = schemas.get(key);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    JsonSchema compiled = new JsonSchema(SchemaParser.parse(tree == null ? read(text) : tree), "");
+    synchronized (schemas) {
+      JsonSchema cached = schemas.putIfAbsent(key, compiled);
+      return cached == null ? compiled : cached;
+    }
+  }
+
+  public int size() {
+    synchronized (schemas) {
+      return schemas.size();
+    }
+  }
+
+  public void clear() {
+    synchronized (schemas) {
+      schemas.clear();
+    }
+  }
+
+  private static JsonNode read(String schema) {
+    try {
+      return MAPPER.readTree(schema);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("schema is not valid JSON: " + e.getOriginalMessage(), e);
+    }
+  }
+
+  private static String hash(String content) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+    byte[] bytes = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+    char[] hex = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      hex[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+      hex[i * 2 + 1] = HEX[bytes[i] & 0xf];
+    }
+    return new String(hex);
+  }
+}
@@ -0,0 +1,248 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.singletonMap;
+
+/**
+ * Compiled schema of a JSON value. All the keyword values are converted once, at compile time, and
+ * the checks create violations, through {@link ValidationRule} where there is a matching rule,
+ * only when they fail.
+ */
+final class SchemaNode {
+
+  static final String INVALID_TYPE_MESSAGE = "validation.error.json.invalid.type";
+  static final String NOT_ONE_OF_MESSAGE = "validation.error.value.not.one.of";
+
+  static final int STRING = 1;
+  static final int INTEGER = 1 << 1;
+  static final int NUMBER = 1 << 2;
+  static final int BOOLEAN = 1 << 3;
+  static final int OBJECT = 1 << 4;
+  static final int ARRAY = 1 << 5;
+  static final int NULL = 1 << 6;
+  static final int ANY = (1 << 7) - 1;
+
+  private static final String[] TYPE_NAMES = {
+          "string", "integer", "number", "boolean", "object", "array", "null"
+  };
+
+  private final int types;
+  private final Map<String, SchemaNode> properties;
+  private final String[] required;
+  private final SchemaNode items;
+  private final int minLength;
+  private final int maxLength;
+  private final BigDecimal minimum;
+  private final boolean exclusiveMinimum;
+  private final BigDecimal maximum;
+  private final boolean exclusiveMaximum;
+  /**
+   * Limits as longs, null if they are not integers in the long range.
+   */
+  private final Long minimumLong;
+  private final Long maximumLong;
+  private final Pattern pattern;
+  private final ThreadLocal<Matcher> matcher;
+  /**
+   * Normalized values: String, BigDecimal without trailing zeros, Boolean or {@link #NULL_VALUE}.
+   */
+  private final Set<Object> enumValues;
+  private final List<Object> enumAttribute;
+
+  static final Object NULL_VALUE = new Object() {
+    @Override
+    public String toString() {
+      return "null";
+    }
+  };
+
+  SchemaNode(
+          int types,
+          Map<String, SchemaNode> properties,
+          String[] required,
+          SchemaNode items,
+          int minLength,
+          int maxLength,
+          BigDecimal minimum,
+          boolean exclusiveMinimum,
+          BigDecimal maximum,
+          boolean exclusiveMaximum,
+          Pattern pattern,
+          Set<Object> enumValues,
+          List<Object> enumAttribute) {
+    this.types = types;
+    this.properties = properties;
+    this.required = required;
+    this.items = items;
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+    this.minimum = minimum;
+    this.exclusiveMinimum = exclusiveMinimum;
+    this.maximum = maximum;
+    this.exclusiveMaximum = exclusiveMaximum;
+    this.minimumLong = toLong(minimum);
+    this.maximumLong = toLong(maximum);
+    this.pattern = pattern;
+    this.matcher = pattern == null ? null : ThreadLocal.withInitial(() -> pattern.matcher(""));
+    this.enumValues = enumValues;
+    this.enumAttribute = enumAttribute;
+  }
+
+  SchemaNode property(String name) {
+    return properties.get(name);
+  }
+
+  String[] getRequired() {
+    return required;
+  }
+
+  SchemaNode getItems() {
+    return items;
+  }
+
+  boolean accepts(int type) {
+    return (types & type) != 0;
+  }
+
+  Violation invalidType(String field) {
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < TYPE_NAMES.length; i++) {
+      if ((types & (1 << i)) != 0) {
+        expected.append(expected.length() == 0 ? "" : ", ").append(TYPE_NAMES[i]);
+      }
+    }
+    return invalidType(field, expected.toString());
+  }
+
+  static Violation invalidType(String field, String expected) {
+    return Violation.of(
+            field,
+            INVALID_TYPE_MESSAGE,
+            "The value has an invalid type.",
+            singletonMap("expected", expected));
+  }
+
+  Optional<Violation> checkString(FieldPath path, String value) {
+    if ((minLength > 0 || maxLength < Integer.MAX_VALUE)
+            && (value.length() < minLength || value.length() > maxLength)) {
+      return ValidationRule.lengthBetweenRule(path.toString(), value, minLength, maxLength);
+    }
+    if (pattern != null && !find(value)) {
+      // a value in which the pattern is not found cannot match it entirely either
+      return ValidationRule.matchPatternRule(path.toString(), value, pattern);
+    }
+    return checkEnum(path, value);
+  }
+
+  Optional<Violation> checkLong(FieldPath path, long value) {
+    if (minimum != null || maximum != null) {
+      int comparedToMinimum = minimum == null ? 1 : compare(value, minimum, minimumLong);
+      int comparedToMaximum = maximum == null ? -1 : compare(value, maximum, maximumLong);
+      if (failsLimits(comparedToMinimum, comparedToMaximum)) {
+        return limitViolation(path, BigDecimal.valueOf(value), comparedToMinimum);
+      }
+    }
+    return enumValues == null
+            ? Optional.empty()
+            : checkEnum(path, normalize(BigDecimal.valueOf(value)));
+  }
+
+  private static int compare(long value, BigDecimal limit, Long limitLong) {
+    return limitLong != null
+            ? Long.compare(value, limitLong)
+            : BigDecimal.valueOf(value).compareTo(limit);
+  }
+
+  Optional<Violation> checkDecimal(FieldPath path, BigDecimal value) {
+    int comparedToMinimum = minimum == null ? 1 : value.compareTo(minimum);
+    int comparedToMaximum = maximum == null ? -1 : value.compareTo(maximum);
+    if (failsLimits(comparedToMinimum, comparedToMaximum)) {
+      return limitViolation(path, value, comparedToMinimum);
+    }
+    return enumValues == null ? Optional.empty() : checkEnum(path, normalize(value));
+  }
+
+  Optional<Violation> checkLiteral(FieldPath path, Object value) {
+    return checkEnum(path, value);
+  }
+
+  private boolean failsLimits(int comparedToMinimum, int comparedToMaximum) {
+    return comparedToMinimum < 0
+            || (exclusiveMinimum && comparedToMinimum == 0)
+            || comparedToMaximum > 0
+            || (exclusiveMaximum && comparedToMaximum == 0);
+  }
+
+  private Optional<Violation> limitViolation(
+          FieldPath path, BigDecimal value, int comparedToMinimum) {
+    String field = path.toString();
+    boolean belowMinimum = comparedToMinimum < 0 || (exclusiveMinimum && comparedToMinimum == 0);
+    BigDecimal limit = belowMinimum ? minimum : maximum;
+    if (isInt(value) && isInt(limit) && !(belowMinimum ? exclusiveMinimum : exclusiveMaximum)) {
+      return belowMinimum
+              ? ValidationRule.minRule(field, value.intValueExact(), limit.intValueExact())
+              : ValidationRule.maxRule(field, value.intValueExact(), limit.intValueExact());
+    }
+    if (belowMinimum) {
+      return exclusiveMinimum
+              ? ValidationRule.afterRule(field, value, limit)
+              : ValidationRule.afterOrEqualsToRule(field, value, limit);
+    }
+    return exclusiveMaximum
+            ? ValidationRule.beforeRule(field, value, limit)
+            : ValidationRule.beforeOrEqualsToRule(field, value, limit);
+  }
+
+  private Optional<Violation> checkEnum(FieldPath path, Object value) {
+    if (enumValues == null || enumValues.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(
+            Violation.of(
+                    path.toString(),
+                    NOT_ONE_OF_MESSAGE,
+                    "The value is not one of the allowed values.",
+                    singletonMap("values", enumAttribute)));
+  }
+
+  private boolean find(String value) {
+    Matcher current = matcher.get();
+    boolean found = current.reset(value).find();
+    current.reset("");
+    return found;
+  }
+
+  static BigDecimal normalize(BigDecimal value) {
+    return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+  }
+
+  private static boolean isInt(BigDecimal value) {
+    try {
+      value.intValueExact();
+      return true;
+    } catch (ArithmeticException e) {
+      return false;
+    }
+  }
+
+  private static Long toLong(BigDecimal value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return value.longValueExact();
+    } catch (ArithmeticException e) {
+      return null;
+    }
+  }
+}
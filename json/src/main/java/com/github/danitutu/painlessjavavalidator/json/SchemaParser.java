@@ -0,0 +1,265 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Converts a JSON Schema document into a tree of {@link SchemaNode}s.
+ */
+final class SchemaParser {
+
+  private static final Set<String> ANNOTATIONS =
+          new HashSet<>(
+                  Arrays.asList(
+                          "$schema", "$id", "id", "title", "description", "default", "examples",
+                          "$comment", "format"));
+
+  private SchemaParser() {
+  }
+
+  static SchemaNode parse(JsonNode schema) {
+    return parse(schema, "");
+  }
+
+  private static SchemaNode parse(JsonNode schema, String location) {
+    if (!schema.isObject()) {
+      throw invalid(location, "schema must be an object");
+    }
+    Iterator<String> names = schema.fieldNames();
+    while (names.hasNext()) {
+      String name = names.next();
+      if (!ANNOTATIONS.contains(name) && !isKeyword(name)) {
+        throw invalid(location, "keyword '" + name + "' is not supported");
+      }
+    }
+
+    Map<String, SchemaNode> properties = Collections.emptyMap();
+    JsonNode propertiesNode = schema.get("properties");
+    if (propertiesNode != null) {
+      if (!propertiesNode.isObject()) {
+        throw invalid(location, "properties must be an object");
+      }
+      properties = new HashMap<>();
+      Iterator<Map.Entry<String, JsonNode>> fields = propertiesNode.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        properties.put(
+                field.getKey(),
+                parse(field.getValue(), location + "/properties/" + field.getKey()));
+      }
+    }
+
+    JsonNode itemsNode = schema.get("items");
+    SchemaNode items = itemsNode == null ? null : parse(itemsNode, location + "/items");
+
+    BigDecimal minimum = decimal(schema, "minimum", location);
+    BigDecimal maximum = decimal(schema, "maximum", location);
+    boolean exclusiveMinimum = false;
+    boolean exclusiveMaximum = false;
+    JsonNode exclusiveMinimumNode = schema.get("exclusiveMinimum");
+    if (exclusiveMinimumNode != null && exclusiveMinimumNode.isBoolean()) {
+      exclusiveMinimum = exclusiveMinimumNode.booleanValue();
+    } else if (exclusiveMinimumNode != null) {
+      BigDecimal limit = decimal(schema, "exclusiveMinimum", location);
+      if (minimum == null || limit.compareTo(minimum) >= 0) {
+        minimum = limit;
+        exclusiveMinimum = true;
+      }
+    }
+    JsonNode exclusiveMaximumNode = schema.get("exclusiveMaximum");
+    if (exclusiveMaximumNode != null && exclusiveMaximumNode.isBoolean()) {
+      exclusiveMaximum = exclusiveMaximumNode.booleanValue();
+    } else if (exclusiveMaximumNode != null) {
+      BigDecimal limit = decimal(schema, "exclusiveMaximum", location);
+      if (maximum == null || limit.compareTo(maximum) <= 0) {
+        maximum = limit;
+        exclusiveMaximum = true;
+      }
+    }
+
+    int minLength = length(schema, "minLength", 0, location);
+    int maxLength = length(schema, "maxLength", Integer.MAX_VALUE, location);
+    if (minLength > maxLength) {
+      throw invalid(location, "minLength cannot be greater than maxLength");
+    }
+
+    Pattern pattern = null;
+    JsonNode patternNode = schema.get("pattern");
+    if (patternNode != null) {
+      if (!patternNode.isTextual()) {
+        throw invalid(location, "pattern must be a string");
+      }
+      try {
+        pattern = Pattern.compile(patternNode.textValue());
+      } catch (PatternSyntaxException e) {
+        throw invalid(location, "pattern '" + patternNode.textValue() + "' is not valid");
+      }
+    }
+
+    Set<Object> enumValues = null;
+    List<Object> enumAttribute = null;
+    JsonNode enumNode = schema.get("enum");
+    if (enumNode != null) {
+      if (!enumNode.isArray()) {
+        throw invalid(location, "enum must be an array");
+      }
+      enumValues = new HashSet<>();
+      enumAttribute = new ArrayList<>();
+      for (JsonNode value : enumNode) {
+        enumValues.add(literal(value, location));
+        enumAttribute.add(
+                value.isNull() ? null : value.isTextual() ? value.textValue() : value.toString());
+      }
+      enumAttribute = Collections.unmodifiableList(enumAttribute);
+    }
+
+    return new SchemaNode(
+            types(schema.get("type"), location),
+            properties,
+            required(schema.get("required"), location),
+            items,
+            minLength,
+            maxLength,
+            minimum,
+            exclusiveMinimum,
+            maximum,
+            exclusiveMaximum,
+            pattern,
+            enumValues,
+            enumAttribute);
+  }
+
+  private static boolean isKeyword(String name) {
+    switch (name) {
+      case "type":
+      case "properties":
+      case "required":
+      case "items":
+      case "minLength":
+      case "maxLength":
+      case "minimum":
+      case "maximum":
+      case "exclusiveMinimum":
+      case "exclusiveMaximum":
+      case "pattern":
+      case "enum":
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static int types(JsonNode type, String location) {
+    if (type == null) {
+      return SchemaNode.ANY;
+    }
+    if (type.isTextual()) {
+      return type(type.textValue(), location);
+    }
+    if (!type.isArray() || type.size() == 0) {
+      throw invalid(location, "type must be a string or a non empty array");
+    }
+    int types = 0;
+    for (JsonNode element : type) {
+      if (!element.isTextual()) {
+        throw invalid(location, "type must be a string or a non empty array");
+      }
+      types |= type(element.textValue(), location);
+    }
+    return types;
+  }
+
+  private static int type(String name, String location) {
+    switch (name) {
+      case "string":
+        return SchemaNode.STRING;
+      case "integer":
+        return SchemaNode.INTEGER;
+      case "number":
+        // integers are numbers too
+        return SchemaNode.NUMBER | SchemaNode.INTEGER;
+      case "boolean":
+        return SchemaNode.BOOLEAN;
+      case "object":
+        return SchemaNode.OBJECT;
+      case "array":
+        return SchemaNode.ARRAY;
+      case "null":
+        return SchemaNode.NULL;
+      default:
+        throw invalid(location, "type '" + name + "' is not valid");
+    }
+  }
+
+  private static String[] required(JsonNode required, String location) {
+    if (required == null) {
+      return new String[0];
+    }
+    if (!required.isArray()) {
+      throw invalid(location, "required must be an array");
+    }
+    String[] names = new String[required.size()];
+    for (int i = 0; i < names.length; i++) {
+      if (!required.get(i).isTextual()) {
+        throw invalid(location, "required must contain only strings");
+      }
+      names[i] = required.get(i).textValue();
+    }
+    return names;
+  }
+
+  private static BigDecimal decimal(JsonNode schema, String keyword, String location) {
+    JsonNode value = schema.get(keyword);
+    if (value == null) {
+      return null;
+    }
+    if (!value.isNumber()) {
+      throw invalid(location, keyword + " must be a number");
+    }
+    return value.decimalValue();
+  }
+
+  private static int length(JsonNode schema, String keyword, int defaultValue, String location) {
+    JsonNode value = schema.get(keyword);
+    if (value == null) {
+      return defaultValue;
+    }
+    if (!value.canConvertToInt() || !value.isIntegralNumber() || value.intValue() < 0) {
+      throw invalid(location, keyword + " must be a non negative integer");
+    }
+    return value.intValue();
+  }
+
+  private static Object literal(JsonNode value, String location) {
+    if (value.isTextual()) {
+      return value.textValue();
+    }
+    if (value.isNumber()) {
+      return SchemaNode.normalize(value.decimalValue());
+    }
+    if (value.isBoolean()) {
+      return value.booleanValue();
+    }
+    if (value.isNull()) {
+      return SchemaNode.NULL_VALUE;
+    }
+    throw invalid(location, "enum must contain only strings, numbers, booleans and null");
+  }
+
+  private static IllegalArgumentException invalid(String location, String message) {
+    return new IllegalArgumentException(
+            message + " at '" + (location.isEmpty() ? "#" : "#" + location) + "'");
+  }
+}
@@ -0,0 +1,251 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Validates one JSON value against a {@link SchemaNode} as its tokens are pushed, without building
+ * a tree. It can be fed by a parser reading a stream or traversing a tree. A validator is not
+ * thread safe and is used for a single value.
+ */
+final class SchemaValidator implements TokenValidator {
+
+  private final SchemaNode root;
+  private final int maxViolations;
+  private final FieldPath path;
+
+  /**
+   * Schema of each open container; null if the container is not validated.
+   */
+  private SchemaNode[] schemas = new SchemaNode[16];
+  private boolean[] objects = new boolean[16];
+  private int[] indexes = new int[16];
+  private long[] seen = new long[16];
+  private BitSet[] seenLarge = new BitSet[16];
+  private int depth;
+  private SchemaNode pending;
+  private boolean started;
+  private boolean complete;
+  private List<Violation> violations;
+
+  SchemaValidator(SchemaNode root, String prefix, int maxViolations) {
+    this.root = root;
+    this.maxViolations = maxViolations;
+    this.path = new FieldPath(prefix);
+  }
+
+  @Override
+  public void onToken(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == null || complete || isAborted()) {
+      return;
+    }
+    switch (token) {
+      case FIELD_NAME:
+        onFieldName(parser.getCurrentName());
+        return;
+      case END_OBJECT:
+        onEndObject();
+        return;
+      case END_ARRAY:
+        close();
+        return;
+      default:
+        onValue(token, parser);
+    }
+  }
+
+  private void onFieldName(String name) {
+    path.setName(depth, name);
+    SchemaNode parent = schemas[depth - 1];
+    if (parent == null) {
+      pending = null;
+      return;
+    }
+    pending = parent.property(name);
+    String[] required = parent.getRequired();
+    for (int i = 0; i < required.length; i++) {
+      if (required[i].equals(name)) {
+        if (required.length <= Long.SIZE) {
+          seen[depth - 1] |= 1L << i;
+        } else {
+          seenLarge[depth - 1].set(i);
+        }
+        break;
+      }
+    }
+  }
+
+  private void onValue(JsonToken token, JsonParser parser) throws IOException {
+    SchemaNode schema;
+    if (!started) {
+      started = true;
+      schema = root;
+    } else if (objects[depth - 1]) {
+      schema = pending;
+      path.setLength(depth);
+    } else {
+      SchemaNode parent = schemas[depth - 1];
+      schema = parent == null ? null : parent.getItems();
+      path.setIndex(depth, ++indexes[depth - 1]);
+    }
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      int type = token == JsonToken.START_OBJECT ? SchemaNode.OBJECT : SchemaNode.ARRAY;
+      if (schema != null && !schema.accepts(type)) {
+        add(schema.invalidType(path.toString()));
+        schema = null;
+      }
+      open(schema, token == JsonToken.START_OBJECT);
+      return;
+    }
+    if (schema != null) {
+      check(schema, token, parser);
+    }
+    if (depth == 0) {
+      complete = true;
+    }
+  }
+
+  private void check(SchemaNode schema, JsonToken token, JsonParser parser) throws IOException {
+    switch (token) {
+      case VALUE_STRING:
+        if (!schema.accepts(SchemaNode.STRING)) {
+          add(schema.invalidType(path.toString()));
+          return;
+        }
+        add(schema.checkString(path, parser.getText()));
+        return;
+      case VALUE_NUMBER_INT:
+        if (!schema.accepts(SchemaNode.INTEGER | SchemaNode.NUMBER)) {
+          add(schema.invalidType(path.toString()));
+          return;
+        }
+        JsonParser.NumberType numberType = parser.getNumberType();
+        if (numberType == JsonParser.NumberType.INT || numberType == JsonParser.NumberType.LONG) {
+          add(schema.checkLong(path, parser.getLongValue()));
+        } else {
+          add(schema.checkDecimal(path, new BigDecimal(parser.getBigIntegerValue())));
+        }
+        return;
+      case VALUE_NUMBER_FLOAT:
+        BigDecimal decimal = parser.getDecimalValue();
+        if (!schema.accepts(SchemaNode.NUMBER)
+                && !(schema.accepts(SchemaNode.INTEGER) && isIntegral(decimal))) {
+          add(schema.invalidType(path.toString()));
+          return;
+        }
+        add(schema.checkDecimal(path, decimal));
+        return;
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+        if (!schema.accepts(SchemaNode.BOOLEAN)) {
+          add(schema.invalidType(path.toString()));
+          return;
+        }
+        add(schema.checkLiteral(path, token == JsonToken.VALUE_TRUE));
+        return;
+      case VALUE_NULL:
+        if (!schema.accepts(SchemaNode.NULL)) {
+          add(schema.invalidType(path.toString()));
+          return;
+        }
+        add(schema.checkLiteral(path, SchemaNode.NULL_VALUE));
+        return;
+      default:
+    }
+  }
+
+  private void open(SchemaNode schema, boolean object) {
+    if (depth == schemas.length) {
+      int capacity = depth * 2;
+      schemas = Arrays.copyOf(schemas, capacity);
+      objects = Arrays.copyOf(objects, capacity);
+      indexes = Arrays.copyOf(indexes, capacity);
+      seen = Arrays.copyOf(seen, capacity);
+      seenLarge = Arrays.copyOf(seenLarge, capacity);
+    }
+    schemas[depth] = schema;
+    objects[depth] = object;
+    indexes[depth] = -1;
+    seen[depth] = 0;
+    if (schema != null && schema.getRequired().length > Long.SIZE) {
+      seenLarge[depth] = new BitSet(schema.getRequired().length);
+    }
+    depth++;
+  }
+
+  private void onEndObject() {
+    SchemaNode schema = schemas[depth - 1];
+    if (schema != null) {
+      String[] required = schema.getRequired();
+      for (int i = 0; i < required.length && !isAborted(); i++) {
+        boolean present =
+                required.length <= Long.SIZE
+                        ? (seen[depth - 1] & (1L << i)) != 0
+                        : seenLarge[depth - 1].get(i);
+        if (!present) {
+          path.setName(depth, required[i]);
+          add(ValidationRule.notNullRule(path.toString(), null));
+        }
+      }
+    }
+    close();
+  }
+
+  private void close() {
+    depth--;
+    schemas[depth] = null;
+    seenLarge[depth] = null;
+    path.setLength(depth);
+    if (depth == 0) {
+      complete = true;
+    }
+  }
+
+  private void add(Optional<Violation> violation) {
+    if (violation.isPresent()) {
+      add(violation.get());
+    }
+  }
+
+  private void add(Violation violation) {
+    if (violations == null) {
+      violations = new ArrayList<>();
+    }
+    violations.add(violation);
+  }
+
+  private static boolean isIntegral(BigDecimal value) {
+    return value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * @return whether the violations cap was reached
+   */
+  @Override
+  public boolean isAborted() {
+    return violations != null && violations.size() >= maxViolations;
+  }
+
+  @Override
+  public List<Violation> getViolations() {
+    return violations == null ? emptyList() : violations;
+  }
+}
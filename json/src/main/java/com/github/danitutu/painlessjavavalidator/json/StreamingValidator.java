@@ -0,0 +1,246 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Applies field rules directly on the tokens of a JSON value, while the value is read. Invalid
+ * payloads are rejected as soon as a violation of a fatal field is found or the number of
+ * violations reaches the cap, before the rest of the input is read or bound.
+ *
+ * <pre>
+ * StreamingValidator validator = StreamingValidator.builder()
+ *         .prefix("input")
+ *         .maxViolations(10)
+ *         .fatalField("id", String.class, ValidationRule::notNullRule)
+ *         .field("firstName", String.class,
+ *                 ValidationRule::notBlankRule,
+ *                 (field, value) -&gt; ValidationRule.lengthBetweenRule(field, value, 2, 50))
+ *         .field("address.zip", String.class,
+ *                 (field, value) -&gt; ValidationRule.matchRegexRule(field, value, "\\d{6}"))
+ *         .build();
+ *
+ * User user = validator.read(objectMapper, parser, User.class);
+ * </pre>
+ *
+ * <p>Fields are dot separated paths of object properties; values inside arrays are not validated.
+ * The rules of a field are applied, in order, when its value is read and, with a null value, when
+ * the object containing it ends without it, so rules such as <code>notBlankRule</code> also report
+ * missing properties. A value not having the type of the rules results in a <code>
+ * validation.error.json.invalid.type</code> violation. Instances are immutable and can be shared
+ * between threads.
+ */
+public final class StreamingValidator {
+
+  private final FieldNode root;
+  private final int maxViolations;
+
+  private StreamingValidator(FieldNode root, int maxViolations) {
+    this.root = root;
+    this.maxViolations = maxViolations;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Validates the next value read by the parser without binding it. The parser is left inside the
+   * value if validation stopped early.
+   *
+   * @param parser parser positioned before or at the first token of the value
+   * @return violations
+   * @throws IOException if the input cannot be read or is not valid JSON
+   */
+  public List<Violation> validate(JsonParser parser) throws IOException {
+    if (parser == null) {
+      throw new IllegalArgumentException("parser is required");
+    }
+    TokenValidator validator = new FieldRulesValidator(root, maxViolations);
+    JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+    while (token != null) {
+      validator.onToken(parser);
+      if (validator.isComplete() || validator.isAborted()) {
+        break;
+      }
+      token = parser.nextToken();
+    }
+    return validator.getViolations();
+  }
+
+  /**
+   * Binds the next value read by the parser validating it at the same time.
+   *
+   * @param mapper mapper binding the value
+   * @param parser parser positioned before or at the first token of the value
+   * @param type   type of the value
+   * @param <T>    type of the value
+   * @return bound value
+   * @throws ValidationException thrown in case violations are found
+   * @throws IOException         if the input cannot be read or bound
+   */
+  public <T> T read(ObjectMapper mapper, JsonParser parser, Class<T> type) throws IOException {
+    if (type == null) {
+      throw new IllegalArgumentException("type is required");
+    }
+    return read(mapper, parser, mapper == null ? null : mapper.constructType(type));
+  }
+
+  /**
+   * Binds the next value read by the parser validating it at the same time.
+   *
+   * @param mapper mapper binding the value
+   * @param parser parser positioned before or at the first token of the value
+   * @param type   type of the value
+   * @param <T>    type of the value
+   * @return bound value
+   * @throws ValidationException thrown in case violations are found
+   * @throws IOException         if the input cannot be read or bound
+   */
+  public <T> T read(ObjectMapper mapper, JsonParser parser, JavaType type) throws IOException {
+    if (mapper == null) {
+      throw new IllegalArgumentException("mapper is required");
+    }
+    if (parser == null) {
+      throw new IllegalArgumentException("parser is required");
+    }
+    if (type == null) {
+      throw new IllegalArgumentException("type is required");
+    }
+    TokenValidator validator = new FieldRulesValidator(root, maxViolations);
+    T value;
+    try {
+      value = mapper.readValue(new ValidatingJsonParser(parser, validator), type);
+    } catch (IOException | RuntimeException e) {
+      // the mapper may wrap the exception thrown when validation is aborted
+      if (validator.isAborted()) {
+        throw new ValidationException(validator.getViolations());
+      }
+      throw e;
+    }
+    ValidationException.stopIfViolations(validator.getViolations());
+    return value;
+  }
+
+  public static final class Builder {
+    private final List<Definition> definitions = new ArrayList<>();
+    private String prefix = "";
+    private int maxViolations = Integer.MAX_VALUE;
+
+    private Builder() {
+    }
+
+    /**
+     * @param prefix prefix of the field of the violations, for example <code>input</code>
+     * @return this builder
+     */
+    public Builder prefix(String prefix) {
+      if (prefix == null) {
+        throw new IllegalArgumentException("prefix is required");
+      }
+      this.prefix = prefix;
+      return this;
+    }
+
+    /**
+     * @param maxViolations number of violations after which validation stops
+     * @return this builder
+     */
+    public Builder maxViolations(int maxViolations) {
+      if (maxViolations <= 0) {
+        throw new IllegalArgumentException("maxViolations must be positive");
+      }
+      this.maxViolations = maxViolations;
+      return this;
+    }
+
+    /**
+     * Adds rules for a property.
+     *
+     * @param path  dot separated path of the property
+     * @param type  type the value is read as: String, Integer, Long, BigDecimal or Boolean
+     * @param rules rules applied to the value
+     * @param <V>   value type
+     * @return this builder
+     * @throws IllegalArgumentException if the path or the type is not valid or any of the rules is
+     *                                  null
+     */
+    @SafeVarargs
+    public final <V> Builder field(String path, Class<V> type, FieldRule<? super V>... rules) {
+      return add(path, type, rules, false);
+    }
+
+    /**
+     * Adds rules for a property, stopping validation at the first violation of any of them.
+     *
+     * @param path  dot separated path of the property
+     * @param type  type the value is read as: String, Integer, Long, BigDecimal or Boolean
+     * @param rules rules applied to the value
+     * @param <V>   value type
+     * @return this builder
+     * @throws IllegalArgumentException if the path or the type is not valid or any of the rules is
+     *                                  null
+     */
+    @SafeVarargs
+    public final <V> Builder fatalField(String path, Class<V> type, FieldRule<? super V>... rules) {
+      return add(path, type, rules, true);
+    }
+
+    private Builder add(String path, Class<?> type, FieldRule<?>[] rules, boolean fatal) {
+      if (path == null) {
+        throw new IllegalArgumentException("path is required");
+      }
+      if (path.isEmpty() || path.startsWith(".") || path.endsWith(".") || path.contains("..")) {
+        throw new IllegalArgumentException("path '" + path + "' is not valid");
+      }
+      if (!FieldNode.isSupported(type)) {
+        throw new IllegalArgumentException("type " + type + " is not supported");
+      }
+      if (rules == null || asList(rules).contains(null)) {
+        throw new IllegalArgumentException("rules cannot be null");
+      }
+      definitions.add(new Definition(path, type, rules.clone(), fatal));
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public StreamingValidator build() {
+      FieldNode root = new FieldNode(prefix, 0);
+      for (Definition definition : definitions) {
+        FieldNode node = root;
+        StringBuilder field = new StringBuilder(prefix);
+        for (String name : definition.path.split("\\.")) {
+          field.append(field.length() == 0 ? "" : ".").append(name);
+          node = node.addChild(name, field.toString());
+        }
+        node.setRules(definition.type, (FieldRule<Object>[]) definition.rules, definition.fatal);
+      }
+      return new StreamingValidator(root, maxViolations);
+    }
+  }
+
+  private static final class Definition {
+    private final String path;
+    private final Class<?> type;
+    private final FieldRule<?>[] rules;
+    private final boolean fatal;
+
+    private Definition(String path, Class<?> type, FieldRule<?>[] rules, boolean fatal) {
+      this.path = path;
+      this.type = type;
+      this.rules = rules;
+      this.fatal = fatal;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Validates one JSON value as its tokens are pushed, one at a time. Implementations are not thread
+ * safe and are used for a single value.
+ */
+interface TokenValidator {
+
+  /**
+   * Processes the current token of the parser.
+   */
+  void onToken(JsonParser parser) throws IOException;
+
+  /**
+   * @return whether the whole value was processed
+   */
+  boolean isComplete();
+
+  /**
+   * @return whether validation stopped early; no more tokens are processed
+   */
+  boolean isAborted();
+
+  List<Violation> getViolations();
+}
@@ -0,0 +1,71 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+
+import java.io.IOException;
+
+/**
+ * Parser passing every token it reads to a {@link TokenValidator}, so the value is validated while
+ * it is bound. When the validator aborts, a {@link ValidationException} is thrown and the rest of
+ * the input is not read. The other <code>nextXxx</code> methods of {@link JsonParser} are
+ * implemented using {@link #nextToken()}; {@link #nextValue()} and {@link #skipChildren()}, which
+ * are delegated by {@link JsonParserDelegate}, are overridden so that no token is missed.
+ */
+final class ValidatingJsonParser extends JsonParserDelegate {
+
+  private final TokenValidator validator;
+
+  ValidatingJsonParser(JsonParser parser, TokenValidator validator) throws IOException {
+    super(parser);
+    this.validator = validator;
+    if (parser.currentToken() != null) {
+      onToken();
+    }
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException {
+    JsonToken token = delegate.nextToken();
+    if (token != null) {
+      onToken();
+    }
+    return token;
+  }
+
+  @Override
+  public JsonToken nextValue() throws IOException {
+    JsonToken token = nextToken();
+    return token == JsonToken.FIELD_NAME ? nextToken() : token;
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException {
+    JsonToken token = currentToken();
+    if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+      return this;
+    }
+    int open = 1;
+    while (open > 0) {
+      token = nextToken();
+      if (token == null) {
+        return this;
+      }
+      if (token.isStructStart()) {
+        open++;
+      } else if (token.isStructEnd()) {
+        open--;
+      }
+    }
+    return this;
+  }
+
+  private void onToken() throws IOException {
+    validator.onToken(delegate);
+    if (validator.isAborted()) {
+      throw new ValidationException(validator.getViolations());
+    }
+  }
+}
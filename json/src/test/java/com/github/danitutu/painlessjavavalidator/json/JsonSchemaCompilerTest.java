@@ -0,0 +1,70 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonSchemaCompilerTest {
+
+  @Test
+  @DisplayName("WHEN same content is compiled THEN expect the cached schema")
+  void jsonSchemaCompiler1() throws IOException {
+    JsonSchemaCompiler compiler = new JsonSchemaCompiler(2);
+    String text = "{\"type\": \"string\"}";
+
+    JsonSchema schema = compiler.compile(text);
+
+    assertSame(schema, compiler.compile(new String(text.toCharArray())));
+    assertSame(
+            compiler.compile(new ObjectMapper().readTree(text)),
+            compiler.compile(new ObjectMapper().readTree("{\"type\":\"string\"}")));
+    assertEquals(2, compiler.size());
+  }
+
+  @Test
+  @DisplayName("WHEN cache is full THEN expect the least recently used schema to be evicted")
+  void jsonSchemaCompiler2() {
+    JsonSchemaCompiler compiler = new JsonSchemaCompiler(2);
+    JsonSchema string = compiler.compile("{\"type\": \"string\"}");
+    JsonSchema integer = compiler.compile("{\"type\": \"integer\"}");
+    compiler.compile("{\"type\": \"string\"}");
+    compiler.compile("{\"type\": \"boolean\"}");
+
+    assertEquals(2, compiler.size());
+    assertSame(string, compiler.compile("{\"type\": \"string\"}"));
+    assertNotSame(integer, compiler.compile("{\"type\": \"integer\"}"));
+    compiler.clear();
+    assertEquals(0, compiler.size());
+  }
+
+  @Test
+  @DisplayName("WHEN schema is invalid or not supported THEN throw exception")
+  void jsonSchemaCompiler3() {
+    JsonSchemaCompiler compiler = new JsonSchemaCompiler(2);
+
+    assertEquals(
+            "keyword 'oneOf' is not supported at '#/properties/a'",
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> compiler.compile("{\"properties\": {\"a\": {\"oneOf\": []}}}"))
+                    .getMessage());
+    assertEquals(
+            "type 'text' is not valid at '#'",
+            assertThrows(IllegalArgumentException.class, () -> compiler.compile("{\"type\": \"text\"}"))
+                    .getMessage());
+    assertThrows(IllegalArgumentException.class, () -> compiler.compile((String) null));
+    assertThrows(IllegalArgumentException.class, () -> compiler.compile("{"));
+    assertThrows(IllegalArgumentException.class, () -> compiler.compile("{\"pattern\": \"[\"}"));
+    assertThrows(IllegalArgumentException.class, () -> compiler.compile("{\"minLength\": -1}"));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> compiler.compile("{\"minLength\": 3, \"maxLength\": 2}"));
+    assertThrows(IllegalArgumentException.class, () -> compiler.compile("{\"enum\": [[1]]}"));
+    assertThrows(IllegalArgumentException.class, () -> new JsonSchemaCompiler(0));
+    assertEquals(0, compiler.size());
+  }
+}
@@ -0,0 +1,176 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.ViolationCodes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonSchemaTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final JsonSchema USER =
+          new JsonSchemaCompiler(10)
+                  .compile(
+                          "{\"$schema\": \"http://json-schema.org/draft-07/schema#\","
+                                  + " \"title\": \"User\", \"type\": \"object\","
+                                  + " \"required\": [\"name\", \"age\"],"
+                                  + " \"properties\": {"
+                                  + "  \"name\": {\"type\": \"string\", \"minLength\": 2,"
+                                  + "   \"maxLength\": 10, \"pattern\": \"^[A-Z]\"},"
+                                  + "  \"age\": {\"type\": \"integer\", \"minimum\": 18,"
+                                  + "   \"maximum\": 120},"
+                                  + "  \"score\": {\"type\": \"number\", \"exclusiveMinimum\": 0,"
+                                  + "   \"maximum\": 9.5},"
+                                  + "  \"role\": {\"enum\": [\"admin\", \"user\", 1, null]},"
+                                  + "  \"active\": {\"type\": [\"boolean\", \"null\"]},"
+                                  + "  \"tags\": {\"type\": \"array\","
+                                  + "   \"items\": {\"type\": \"string\", \"maxLength\": 3}},"
+                                  + "  \"address\": {\"type\": \"object\", \"required\": [\"city\"],"
+                                  + "   \"properties\": {\"city\": {\"type\": \"string\"}}}"
+                                  + " }}");
+
+  private static JsonNode json(String json) throws IOException {
+    return MAPPER.readTree(json);
+  }
+
+  private static List<String> messages(List<Violation> violations) {
+    return violations.stream().map(v -> v.getField() + ":" + v.getMessage()).collect(toList());
+  }
+
+  @Test
+  @DisplayName("WHEN value matches the schema THEN expect no violations")
+  void jsonSchema1() throws IOException {
+    JsonNode value =
+            json(
+                    "{\"name\": \"Ana\", \"age\": 30, \"score\": 9.5, \"role\": 1.0,"
+                            + " \"active\": null, \"tags\": [\"a\", \"b\"],"
+                            + " \"address\": {\"city\": \"Cluj\", \"zip\": 400}, \"other\": [{}]}");
+
+    assertTrue(USER.validateAll(value).isEmpty());
+    assertTrue(USER.validateFindFirst(value).isEmpty());
+    USER.validateAllAndStopIfViolations(value);
+  }
+
+  @Test
+  @DisplayName("WHEN value does not match the schema THEN expect violations of the matching rules")
+  void jsonSchema2() throws IOException {
+    JsonNode value =
+            json(
+                    "{\"name\": \"ana\", \"age\": 10, \"score\": 0, \"role\": \"guest\","
+                            + " \"active\": \"yes\", \"tags\": [\"a\", \"abcd\"],"
+                            + " \"address\": {}}");
+
+    List<Violation> violations = USER.validateAll(value);
+
+    assertEquals(
+            Arrays.asList(
+                    "name:validation.error.string.value.regex.no.match",
+                    "age:validation.error.integer.value.smaller.than.min",
+                    "score:validation.error.value.is.before.or.equal",
+                    "role:validation.error.value.not.one.of",
+                    "active:validation.error.json.invalid.type",
+                    "tags[1]:validation.error.string.value.not.between",
+                    "address.city:validation.error.value.is.required"),
+            messages(violations));
+    assertEquals("^[A-Z]", violations.get(0).getAttributes().get("regexPattern"));
+    assertEquals(
+            Arrays.asList("admin", "user", "1", null), violations.get(3).getAttributes().get("values"));
+    assertEquals("boolean, null", violations.get(4).getAttributes().get("expected"));
+    assertEquals(ViolationCodes.JSON_INVALID_TYPE, violations.get(4).getCode());
+    assertThrows(ValidationException.class, () -> USER.validateAllAndStopIfViolations(value));
+  }
+
+  @Test
+  @DisplayName("WHEN required properties are missing or types differ THEN expect violations")
+  void jsonSchema3() throws IOException {
+    assertEquals(
+            Arrays.asList(
+                    "tags:validation.error.json.invalid.type",
+                    "name:validation.error.value.is.required",
+                    "age:validation.error.value.is.required"),
+            messages(USER.validateAll(json("{\"tags\": \"a\"}"))));
+    assertEquals(
+            Arrays.asList(":validation.error.json.invalid.type"),
+            messages(USER.validateAll(json("[1, 2]"))));
+    assertEquals(
+            Arrays.asList(
+                    "age:validation.error.json.invalid.type",
+                    "age:validation.error.integer.value.greater.than.max"),
+            Arrays.asList(
+                    messages(USER.validateAll(json("{\"name\": \"Ana\", \"age\": 20.5}"))).get(0),
+                    messages(USER.validateAll(json("{\"name\": \"Ana\", \"age\": 121.0}")))
+                            .get(0)));
+  }
+
+  @Test
+  @DisplayName("WHEN find first is used THEN expect only the first violation")
+  void jsonSchema4() throws IOException {
+    assertEquals(
+            Arrays.asList("name:validation.error.string.value.regex.no.match"),
+            messages(USER.validateFindFirst(json("{\"name\": \"ana\", \"age\": 10}"))));
+  }
+
+  @Test
+  @DisplayName("WHEN prefix is used THEN expect fields to start with the prefix")
+  void jsonSchema5() throws IOException {
+    JsonSchema schema = USER.withPrefix("input");
+
+    assertEquals(
+            Arrays.asList(
+                    "input.tags[0]:validation.error.json.invalid.type",
+                    "input.address.city:validation.error.value.is.required"),
+            messages(
+                    schema.validateAll(
+                            json(
+                                    "{\"name\": \"Ana\", \"age\": 20, \"tags\": [1],"
+                                            + " \"address\": {}}"))));
+    assertEquals(
+            Arrays.asList("input:validation.error.json.invalid.type"),
+            messages(schema.validateAll(json("1"))));
+  }
+
+  @Test
+  @DisplayName("WHEN violations cap is reached THEN expect the rest of the input not to be read")
+  void jsonSchema6() throws IOException {
+    String input = "{\"name\": \"a\", \"age\": 1, \"tags\": [\"abcd\"], \"score\": 100} {}";
+
+    try (JsonParser parser = MAPPER.getFactory().createParser(input)) {
+      assertEquals(
+              Arrays.asList(
+                      "name:validation.error.string.value.not.between",
+                      "age:validation.error.integer.value.smaller.than.min"),
+              messages(USER.validate(parser, 2)));
+      assertEquals(JsonToken.VALUE_NUMBER_INT, parser.currentToken());
+      assertEquals("age", parser.getCurrentName());
+    }
+    try (JsonParser parser = MAPPER.getFactory().createParser(input)) {
+      assertEquals(4, USER.validate(parser, 10).size());
+      assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+      assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN arguments are invalid THEN throw exception")
+  void jsonSchema7() {
+    assertThrows(IllegalArgumentException.class, () -> USER.validateAll(null));
+    assertThrows(IllegalArgumentException.class, () -> USER.validate(null, 1));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> USER.validate(MAPPER.getFactory().createParser("{}"), 0));
+    assertThrows(IllegalArgumentException.class, () -> USER.withPrefix(null));
+  }
+}
@@ -0,0 +1,223 @@
+package com.github.danitutu.painlessjavavalidator.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingValidatorTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final StreamingValidator USER =
+          StreamingValidator.builder()
+                  .prefix("input")
+                  .fatalField("id", String.class, ValidationRule::notNullRule)
+                  .field(
+                          "firstName",
+                          String.class,
+                          ValidationRule::notBlankRule,
+                          (field, value) -> ValidationRule.lengthBetweenRule(field, value, 2, 50))
+                  .field(
+                          "age",
+                          Integer.class,
+                          (field, value) -> ValidationRule.inRangeRule(field, value, 18, 120))
+                  .field(
+                          "address.zip",
+                          String.class,
+                          (field, value) -> ValidationRule.matchRegexRule(field, value, "^\\d{6}$"))
+                  .build();
+
+  public static class User {
+    public String id;
+    public String firstName;
+    public int age;
+    public Address address;
+    public List<Object> tags;
+  }
+
+  public static class Address {
+    public String zip;
+  }
+
+  private static JsonParser parser(String json) throws IOException {
+    return MAPPER.getFactory().createParser(json);
+  }
+
+  private static List<String> messages(List<Violation> violations) {
+    return violations.stream().map(v -> v.getField() + ":" + v.getMessage()).collect(toList());
+  }
+
+  @Test
+  @DisplayName("WHEN value is valid THEN expect it to be bound")
+  void streamingValidator1() throws IOException {
+    User user =
+            USER.read(
+                    MAPPER,
+                    parser(
+                            "{\"id\": \"1\", \"tags\": [\"a\", {\"b\": [1]}],"
+                                    + " \"firstName\": \"Ana\", \"age\": 30,"
+                                    + " \"address\": {\"zip\": \"400000\"}}"),
+                    User.class);
+
+    assertEquals("Ana", user.firstName);
+    assertEquals(30, user.age);
+    assertEquals("400000", user.address.zip);
+    assertEquals(2, user.tags.size());
+  }
+
+  @Test
+  @DisplayName("WHEN value is invalid THEN throw exception having all violations")
+  void streamingValidator2() throws IOException {
+    ValidationException e =
+            assertThrows(
+                    ValidationException.class,
+                    () ->
+                            USER.read(
+                                    MAPPER,
+                                    parser("{\"id\": \"1\", \"firstName\": \" \", \"age\": 10}"),
+                                    User.class));
+
+    assertEquals(
+            Arrays.asList(
+                    "input.firstName:validation.error.value.is.required",
+                    "input.firstName:validation.error.string.value.not.between",
+                    "input.age:validation.error.integer.value.not.in.range"),
+            messages(e.getViolations()));
+  }
+
+  @Test
+  @DisplayName("WHEN properties are missing or null THEN expect rules to be applied with null")
+  void streamingValidator3() throws IOException {
+    assertEquals(
+            Arrays.asList("input.id:validation.error.value.is.required"),
+            messages(USER.validate(parser("{\"firstName\": \"Ana\", \"address\": null}"))));
+    assertEquals(
+            Arrays.asList("input.firstName:validation.error.value.is.required"),
+            messages(USER.validate(parser("{\"id\": \"1\", \"firstName\": null}"))));
+  }
+
+  @Test
+  @DisplayName("WHEN fatal field is invalid THEN expect the rest of the input not to be read")
+  void streamingValidator4() {
+    ValidationException e =
+            assertThrows(
+                    ValidationException.class,
+                    () ->
+                            USER.read(
+                                    MAPPER,
+                                    parser("{\"id\": null, \"firstName\": ]]]"),
+                                    User.class));
+
+    assertEquals(
+            Arrays.asList("input.id:validation.error.value.is.required"),
+            messages(e.getViolations()));
+  }
+
+  @Test
+  @DisplayName("WHEN violations cap is reached THEN expect the rest of the input not to be read")
+  void streamingValidator5() {
+    StreamingValidator validator =
+            StreamingValidator.builder()
+                    .maxViolations(2)
+                    .field("a", String.class, ValidationRule::notBlankRule)
+                    .field("b", String.class, ValidationRule::notBlankRule)
+                    .field("c", String.class, ValidationRule::notBlankRule)
+                    .build();
+
+    ValidationException e =
+            assertThrows(
+                    ValidationException.class,
+                    () ->
+                            validator.read(
+                                    MAPPER,
+                                    parser("{\"a\": \"\", \"b\": \"\", \"c\": ]]]"),
+                                    Object.class));
+
+    assertEquals(
+            Arrays.asList(
+                    "a:validation.error.value.is.required", "b:validation.error.value.is.required"),
+            messages(e.getViolations()));
+  }
+
+  @Test
+  @DisplayName("WHEN value has another type THEN expect invalid type violation")
+  void streamingValidator6() throws IOException {
+    StreamingValidator validator =
+            StreamingValidator.builder()
+                    .field("count", Long.class, ValidationRule::notNullRule)
+                    .field("price", BigDecimal.class, ValidationRule::notNullRule)
+                    .field("active", Boolean.class, ValidationRule::notNullRule)
+                    .field("address.zip", String.class, ValidationRule::notNullRule)
+                    .build();
+
+    List<Violation> violations =
+            validator.validate(
+                    parser(
+                            "{\"count\": 1.5, \"price\": \"1\", \"active\": 1,"
+                                    + " \"address\": {\"zip\": {\"code\": 1}}}"));
+
+    assertEquals(
+            Arrays.asList("count", "price", "active", "address.zip"),
+            violations.stream().map(Violation::getField).collect(toList()));
+    assertEquals(
+            Arrays.asList("integer", "number", "boolean", "string"),
+            violations.stream().map(v -> v.getAttributes().get("expected")).collect(toList()));
+    assertTrue(
+            validator
+                    .validate(
+                            parser(
+                                    "{\"count\": 1, \"price\": 1.5, \"active\": true,"
+                                            + " \"address\": {\"zip\": \"1\"}}"))
+                    .isEmpty());
+    assertEquals(
+            Arrays.asList("address:validation.error.json.invalid.type"),
+            messages(
+                    validator.validate(
+                            parser(
+                                    "{\"count\": 1, \"price\": 1, \"active\": true,"
+                                            + " \"address\": 1}"))));
+  }
+
+  @Test
+  @DisplayName("WHEN builder arguments are invalid THEN throw exception")
+  void streamingValidator7() {
+    StreamingValidator.Builder builder = StreamingValidator.builder();
+
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.field(null, String.class, ValidationRule::notNullRule));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.field("a..b", String.class, ValidationRule::notNullRule));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.field("a", Character.class, ValidationRule::notNullRule));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.field("a", String.class, ValidationRule::notBlankRule, null));
+    assertThrows(IllegalArgumentException.class, () -> builder.maxViolations(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.prefix(null));
+    assertEquals(
+            "field 'a' has rules and cannot have nested fields",
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () ->
+                            StreamingValidator.builder()
+                                    .field("a", String.class, ValidationRule::notNullRule)
+                                    .field("a.b", String.class, ValidationRule::notNullRule)
+                                    .build())
+                    .getMessage());
+  }
+}
@@ -0,0 +1,149 @@
+package com.github.danitutu.painlessjavavalidator.reactor;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The {@link com.github.danitutu.painlessjavavalidator.ValidationEngine} validation modes for
+ * {@link ReactiveViolationProvider}s. Nothing is run until the returned {@link Mono} is subscribed
+ * to and no thread is blocked while waiting for the rules, so the engine can be used on an event
+ * loop thread. The violations are always in the order of the rules.
+ */
+public final class ReactiveValidationEngine {
+
+  private ReactiveValidationEngine() {
+  }
+
+  /**
+   * Runs all rules concurrently and emits their violations at the end.
+   *
+   * @param rules rules
+   * @return violations
+   */
+  public static Mono<List<Violation>> validateAll(ReactiveViolationProvider... rules) {
+    if (rules == null) {
+      return Mono.just(emptyList());
+    }
+    return validateAll(asList(rules));
+  }
+
+  /**
+   * Runs all rules concurrently and emits their violations at the end.
+   *
+   * @param rules rules
+   * @return violations
+   */
+  public static Mono<List<Violation>> validateAll(Collection<ReactiveViolationProvider> rules) {
+    return Flux.defer(() -> Flux.mergeSequential(publishers(rules))).collectList();
+  }
+
+  /**
+   * Runs all rules concurrently and signals {@link ValidationException} if there are any
+   * violations.
+   *
+   * @param rules rules
+   * @return empty mono, completing with a {@link ValidationException} error in case violations are
+   *     found
+   */
+  public static Mono<Void> validateAllAndStopIfViolations(ReactiveViolationProvider... rules) {
+    return validateAll(rules).flatMap(ReactiveValidationEngine::stopIfViolations);
+  }
+
+  /**
+   * Runs all rules concurrently and signals {@link ValidationException} if there are any
+   * violations.
+   *
+   * @param rules rules
+   * @return empty mono, completing with a {@link ValidationException} error in case violations are
+   *     found
+   */
+  public static Mono<Void> validateAllAndStopIfViolations(
+          Collection<ReactiveViolationProvider> rules) {
+    return validateAll(rules).flatMap(ReactiveValidationEngine::stopIfViolations);
+  }
+
+  /**
+   * Runs the rules one after another and stops when the first violation is encountered. The rule
+   * having the violation is cancelled and the remaining rules are not subscribed to.
+   *
+   * @param rules rules
+   * @return single violation inside a list
+   */
+  public static Mono<List<Violation>> validateFindFirst(ReactiveViolationProvider... rules) {
+    if (rules == null) {
+      return Mono.just(emptyList());
+    }
+    return validateFindFirst(asList(rules));
+  }
+
+  /**
+   * Runs the rules one after another and stops when the first violation is encountered. The rule
+   * having the violation is cancelled and the remaining rules are not subscribed to.
+   *
+   * @param rules rules
+   * @return single violation inside a list
+   */
+  public static Mono<List<Violation>> validateFindFirst(
+          Collection<ReactiveViolationProvider> rules) {
+    return Flux.defer(() -> Flux.concat(publishers(rules))).take(1).collectList();
+  }
+
+  /**
+   * Runs the rules one after another and signals {@link ValidationException} when the first
+   * violation is encountered.
+   *
+   * @param rules rules
+   * @return empty mono, completing with a {@link ValidationException} error in case a violation is
+   *     found
+   */
+  public static Mono<Void> validateFindFirstAndStopIfViolation(
+          ReactiveViolationProvider... rules) {
+    return validateFindFirst(rules).flatMap(ReactiveValidationEngine::stopIfViolations);
+  }
+
+  /**
+   * Runs the rules one after another and signals {@link ValidationException} when the first
+   * violation is encountered.
+   *
+   * @param rules rules
+   * @return empty mono, completing with a {@link ValidationException} error in case a violation is
+   *     found
+   */
+  public static Mono<Void> validateFindFirstAndStopIfViolation(
+          Collection<ReactiveViolationProvider> rules) {
+    return validateFindFirst(rules).flatMap(ReactiveValidationEngine::stopIfViolations);
+  }
+
+  private static List<Publisher<Violation>> publishers(
+          Collection<ReactiveViolationProvider> rules) {
+    if (rules == null) {
+      return emptyList();
+    }
+    // a rule is only run when its publisher is subscribed to
+    return rules.stream()
+            .filter(Objects::nonNull)
+            .map(rule -> Flux.defer(() -> nonNull(rule.get())))
+            .collect(toList());
+  }
+
+  private static Publisher<Violation> nonNull(Publisher<Violation> publisher) {
+    return publisher == null ? Flux.empty() : publisher;
+  }
+
+  private static Mono<Void> stopIfViolations(List<Violation> violations) {
+    return violations.isEmpty()
+            ? Mono.empty()
+            : Mono.error(new ValidationException(violations));
+  }
+}
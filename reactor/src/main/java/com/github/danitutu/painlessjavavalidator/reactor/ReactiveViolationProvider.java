@@ -0,0 +1,39 @@
+package com.github.danitutu.painlessjavavalidator.reactor;
+
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.ViolationProvider;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * A rule whose result is only known asynchronously, for example because it queries a repository.
+ * The publisher emits the violations, usually one, or completes empty if the rule passes. It is only
+ * subscribed to when the rule is run.
+ *
+ * <pre>
+ * ReactiveViolationProvider nameIsUnique = () -&gt;
+ *         userRepository.existsByFirstNameAndLastName(firstName, lastName)
+ *                 .filter(exists -&gt; exists)
+ *                 .map(exists -&gt; Violation.of("general", "validation.error.user.duplicate.name",
+ *                         "The provided name is already used."));
+ * </pre>
+ */
+@FunctionalInterface
+public interface ReactiveViolationProvider extends Supplier<Publisher<Violation>> {
+
+  /**
+   * Adapts a rule of {@link com.github.danitutu.painlessjavavalidator.ValidationRule}. The rule is
+   * run on the subscribing thread, when the publisher is subscribed to.
+   *
+   * @param provider rule
+   * @return reactive rule
+   */
+  static ReactiveViolationProvider of(ViolationProvider provider) {
+    if (provider == null) {
+      throw new IllegalArgumentException("provider is required");
+    }
+    return () -> Mono.fromSupplier(provider).flatMap(Mono::justOrEmpty);
+  }
+}
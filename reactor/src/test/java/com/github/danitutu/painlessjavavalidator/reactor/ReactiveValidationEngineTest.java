@@ -0,0 +1,152 @@
+package com.github.danitutu.painlessjavavalidator.reactor;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveValidationEngineTest {
+
+  private static ReactiveViolationProvider violation(String field, Duration delay) {
+    return () ->
+            Mono.delay(delay, Schedulers.parallel())
+                    .map(tick -> Violation.of(field, "validation.error.reactive", "Reactive."));
+  }
+
+  private static List<String> fields(List<Violation> violations) {
+    return violations.stream().map(Violation::getField).collect(toList());
+  }
+
+  @Test
+  @DisplayName("WHEN all violations are requested THEN expect them in the order of the rules")
+  void validateAll1() {
+    List<Violation> violations =
+            ReactiveValidationEngine.validateAll(
+                            violation("a", Duration.ofMillis(50)),
+                            () -> Mono.empty(),
+                            ReactiveViolationProvider.of(ValidationRule.notBlank("b", " ")),
+                            null,
+                            () -> null,
+                            violation("c", Duration.ZERO))
+                    .block();
+
+    assertEquals(Arrays.asList("a", "b", "c"), fields(violations));
+  }
+
+  @Test
+  @DisplayName("WHEN there are no rules THEN expect no violations")
+  void validateAll2() {
+    assertTrue(ReactiveValidationEngine.validateAll().block().isEmpty());
+    assertTrue(
+            ReactiveValidationEngine.validateAll((ReactiveViolationProvider[]) null)
+                    .block()
+                    .isEmpty());
+    assertNull(
+            ReactiveValidationEngine.validateAllAndStopIfViolations(
+                            ReactiveViolationProvider.of(ValidationRule.notBlank("a", "value")))
+                    .block());
+  }
+
+  @Test
+  @DisplayName("WHEN violations are found THEN expect validation exception error signal")
+  void validateAll3() {
+    ValidationException e =
+            assertThrows(
+                    ValidationException.class,
+                    () ->
+                            ReactiveValidationEngine.validateAllAndStopIfViolations(
+                                            violation("a", Duration.ZERO),
+                                            violation("b", Duration.ZERO))
+                                    .block());
+
+    assertEquals(Arrays.asList("a", "b"), fields(e.getViolations()));
+  }
+
+  @Test
+  @DisplayName("WHEN nothing subscribes THEN expect rules not to be run")
+  void validateAll4() {
+    AtomicInteger runs = new AtomicInteger();
+    ReactiveViolationProvider rule =
+            () -> {
+              runs.incrementAndGet();
+              return Mono.empty();
+            };
+
+    Mono<List<Violation>> all = ReactiveValidationEngine.validateAll(rule, rule);
+    Mono<List<Violation>> first = ReactiveValidationEngine.validateFindFirst(rule, rule);
+
+    assertEquals(0, runs.get());
+    all.block();
+    first.block();
+    assertEquals(4, runs.get());
+  }
+
+  @Test
+  @DisplayName("WHEN first violation is found THEN expect rule cancelled and the rest not run")
+  void validateFindFirst1() {
+    AtomicBoolean cancelled = new AtomicBoolean();
+    AtomicBoolean subscribed = new AtomicBoolean();
+    ReactiveViolationProvider many =
+            () ->
+                    Flux.interval(Duration.ofMillis(1), Schedulers.parallel())
+                            .map(i -> Violation.of("b" + i, "validation.error.reactive", "R."))
+                            .doOnCancel(() -> cancelled.set(true));
+    ReactiveViolationProvider last =
+            () -> Mono.<Violation>empty().doOnSubscribe(subscription -> subscribed.set(true));
+
+    List<Violation> violations =
+            ReactiveValidationEngine.validateFindFirst(() -> Mono.empty(), many, last)
+                    .block(Duration.ofSeconds(5));
+
+    assertEquals(Arrays.asList("b0"), fields(violations));
+    assertTrue(cancelled.get());
+    assertFalse(subscribed.get());
+  }
+
+  @Test
+  @DisplayName("WHEN first violation is requested and there are none THEN complete empty")
+  void validateFindFirst2() {
+    assertTrue(
+            ReactiveValidationEngine.validateFindFirst(
+                            ReactiveViolationProvider.of(ValidationRule.notBlank("a", "value")),
+                            () -> Mono.empty())
+                    .block()
+                    .isEmpty());
+
+    ValidationException e =
+            assertThrows(
+                    ValidationException.class,
+                    () ->
+                            ReactiveValidationEngine.validateFindFirstAndStopIfViolation(
+                                            violation("a", Duration.ofMillis(10)),
+                                            violation("b", Duration.ZERO))
+                                    .block());
+    assertEquals(Arrays.asList("a"), fields(e.getViolations()));
+  }
+
+  @Test
+  @DisplayName("WHEN rule fails THEN propagate its error")
+  void validateFindFirst3() {
+    IllegalStateException error = new IllegalStateException("down");
+
+    assertSame(
+            error,
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> ReactiveValidationEngine.validateAll(() -> Mono.error(error)).block()));
+    assertThrows(IllegalArgumentException.class, () -> ReactiveViolationProvider.of(null));
+  }
+}
@@ -0,0 +1,80 @@
+package com.github.danitutu.painlessjavavalidator.spring;
+
+import com.github.danitutu.painlessjavavalidator.ConfiguredValidationEngine;
+import com.github.danitutu.painlessjavavalidator.ValidationMetrics;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Configures a {@link ConfiguredValidationEngine} using:
+ *
+ * <ul>
+ *   <li>the {@link PainlessValidatorProperties}
+ *   <li>the executor bean named {@value #EXECUTOR_BEAN_NAME} or, if it is missing, the application
+ *       task executor configured by Spring Boot
+ *   <li>all the {@link ValidationMetrics} beans
+ * </ul>
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(TaskExecutionAutoConfiguration.class)
+@EnableConfigurationProperties(PainlessValidatorProperties.class)
+public class PainlessValidatorAutoConfiguration {
+
+  public static final String EXECUTOR_BEAN_NAME = "painlessValidatorExecutor";
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ConfiguredValidationEngine configuredValidationEngine(
+          PainlessValidatorProperties properties,
+          BeanFactory beanFactory,
+          ObjectProvider<ValidationMetrics> metrics) {
+    ConfiguredValidationEngine.Builder builder =
+            ConfiguredValidationEngine.builder()
+                    .maxViolations(properties.getMaxViolations())
+                    .metrics(composite(metrics.orderedStream().collect(toList())));
+    Executor executor = executor(beanFactory);
+    if (executor != null) {
+      builder.executor(executor);
+    }
+    return builder.build();
+  }
+
+  private static final String[] EXECUTOR_BEAN_NAMES = {
+          EXECUTOR_BEAN_NAME, TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME
+  };
+
+  private static Executor executor(BeanFactory beanFactory) {
+    for (String name : EXECUTOR_BEAN_NAMES) {
+      if (beanFactory.containsBean(name) && beanFactory.isTypeMatch(name, Executor.class)) {
+        return beanFactory.getBean(name, Executor.class);
+      }
+    }
+    return null;
+  }
+
+  private static ValidationMetrics composite(List<ValidationMetrics> metrics) {
+    if (metrics.isEmpty()) {
+      return ValidationMetrics.NONE;
+    }
+    if (metrics.size() == 1) {
+      return metrics.get(0);
+    }
+    ValidationMetrics[] all = metrics.toArray(new ValidationMetrics[0]);
+    return (durationNanos, violations, limitReached) -> {
+      for (ValidationMetrics current : all) {
+        current.record(durationNanos, violations, limitReached);
+      }
+    };
+  }
+}
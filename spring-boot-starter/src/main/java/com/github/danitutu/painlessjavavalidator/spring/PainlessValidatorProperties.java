@@ -0,0 +1,48 @@
+package com.github.danitutu.painlessjavavalidator.spring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Options of the auto-configured {@link
+ * com.github.danitutu.painlessjavavalidator.ConfiguredValidationEngine}, with the <code>
+ * painless.validator</code> prefix.
+ */
+@ConfigurationProperties(prefix = "painless.validator")
+public class PainlessValidatorProperties {
+
+  /**
+   * Number of violations after which the remaining rules are not run.
+   */
+  private int maxViolations = Integer.MAX_VALUE;
+
+  private final ErrorHandler errorHandler = new ErrorHandler();
+
+  public int getMaxViolations() {
+    return maxViolations;
+  }
+
+  public void setMaxViolations(int maxViolations) {
+    this.maxViolations = maxViolations;
+  }
+
+  public ErrorHandler getErrorHandler() {
+    return errorHandler;
+  }
+
+  public static class ErrorHandler {
+
+    /**
+     * Whether {@link com.github.danitutu.painlessjavavalidator.ValidationException}s thrown by
+     * controllers are written as bad request responses.
+     */
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.github.danitutu.painlessjavavalidator.spring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * Registers the {@link ValidationExceptionHandler} in servlet web applications, unless <code>
+ * painless.validator.error-handler.enabled</code> is false.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(DispatcherServlet.class)
+@ConditionalOnProperty(
+        prefix = "painless.validator.error-handler",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class PainlessValidatorWebAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ValidationExceptionHandler validationExceptionHandler() {
+    return new ValidationExceptionHandler();
+  }
+}
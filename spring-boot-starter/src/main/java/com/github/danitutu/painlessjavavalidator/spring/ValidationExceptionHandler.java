@@ -0,0 +1,34 @@
+package com.github.danitutu.painlessjavavalidator.spring;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Writes the violations of a {@link ValidationException} as a bad request response:
+ *
+ * <pre>
+ * {"type":"VALIDATION-EXCEPTION","validationResult":[{"field":"input.firstName","code":1,
+ * "message":"validation.error.value.is.required","details":"The value is required.",
+ * "attributes":null}]}
+ * </pre>
+ *
+ * <p>The body is written by a {@link ViolationJsonWriter} directly to the response stream.
+ */
+@ControllerAdvice
+public class ValidationExceptionHandler {
+
+  @ExceptionHandler(ValidationException.class)
+  public void handleValidationException(ValidationException ex, HttpServletResponse response)
+          throws IOException {
+    response.setStatus(HttpStatus.BAD_REQUEST.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    ViolationJsonWriter.write(ex.getViolations(), response.getOutputStream());
+  }
+}
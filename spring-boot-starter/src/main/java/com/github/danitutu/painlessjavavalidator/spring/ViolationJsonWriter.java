@@ -0,0 +1,258 @@
+package com.github.danitutu.painlessjavavalidator.spring;
+
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.ViolationTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes violations as JSON directly to a stream. The constant parts of the document are encoded
+ * once and the values are encoded as UTF-8 into a small buffer flushed to the stream, so neither a
+ * map of the response nor reflective bean serialization is needed.
+ *
+ * <p>Attribute values are written as JSON numbers, booleans, strings, arrays (for collections and
+ * arrays) and objects (for maps); any other value is written as the string returned by its <code>
+ * toString</code>.
+ *
+ * <p>The code, message and details of the violations sharing a {@link ViolationTemplate} are
+ * encoded once per write and copied for the following violations of the template.
+ */
+public final class ViolationJsonWriter {
+
+  private static final byte[] START =
+          bytes("{\"type\":\"VALIDATION-EXCEPTION\",\"validationResult\":[");
+  private static final byte[] FIELD = bytes("{\"field\":");
+  private static final byte[] CODE = bytes(",\"code\":");
+  private static final byte[] MESSAGE = bytes(",\"message\":");
+  private static final byte[] DETAILS = bytes(",\"details\":");
+  private static final byte[] ATTRIBUTES = bytes(",\"attributes\":");
+  private static final byte[] NULL = bytes("null");
+  private static final byte[] TRUE = bytes("true");
+  private static final byte[] FALSE = bytes("false");
+  private static final byte[] END = bytes("]}");
+  private static final byte[] HEX = bytes("0123456789abcdef");
+
+  private final OutputStream out;
+  private final byte[] buffer;
+  private int position;
+  private Map<ViolationTemplate, byte[]> templates;
+
+  private ViolationJsonWriter(OutputStream out, int bufferSize) {
+    this.out = out;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Writes the violations and flushes the stream, without closing it.
+   *
+   * @param violations violations
+   * @param out stream
+   * @throws IOException if the stream cannot be written
+   */
+  public static void write(List<Violation> violations, OutputStream out) throws IOException {
+    ViolationJsonWriter writer = new ViolationJsonWriter(out, 2048);
+    writer.write(START);
+    for (int i = 0; i < violations.size(); i++) {
+      Violation violation = violations.get(i);
+      if (i > 0) {
+        writer.write((byte) ',');
+      }
+      writer.write(FIELD);
+      writer.writeString(violation.getField());
+      if (violations.size() > 1) {
+        writer.write(writer.encoded(violation.template()));
+      } else {
+        writer.writeTemplate(violation.template());
+      }
+      writer.write(ATTRIBUTES);
+      writer.writeValue(violation.getAttributes());
+      writer.write((byte) '}');
+    }
+    writer.write(END);
+    writer.flush();
+  }
+
+  private byte[] encoded(ViolationTemplate template) throws IOException {
+    if (templates == null) {
+      templates = new IdentityHashMap<>();
+    }
+    byte[] encoded = templates.get(template);
+    if (encoded == null) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      ViolationJsonWriter encoder = new ViolationJsonWriter(bytes, 256);
+      encoder.writeTemplate(template);
+      encoder.flushBuffer();
+      encoded = bytes.toByteArray();
+      templates.put(template, encoded);
+    }
+    return encoded;
+  }
+
+  private void writeTemplate(ViolationTemplate template) throws IOException {
+    write(CODE);
+    writeAscii(Integer.toString(template.getCode()));
+    write(MESSAGE);
+    writeString(template.getMessage());
+    write(DETAILS);
+    writeString(template.getDetails());
+  }
+
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      write(NULL);
+    } else if (value instanceof Boolean) {
+      write((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Number && isFinite((Number) value)) {
+      writeAscii(value.toString());
+    } else if (value instanceof Map) {
+      write((byte) '{');
+      Iterator<? extends Map.Entry<?, ?>> entries = ((Map<?, ?>) value).entrySet().iterator();
+      while (entries.hasNext()) {
+        Map.Entry<?, ?> entry = entries.next();
+        writeString(String.valueOf(entry.getKey()));
+        write((byte) ':');
+        writeValue(entry.getValue());
+        if (entries.hasNext()) {
+          write((byte) ',');
+        }
+      }
+      write((byte) '}');
+    } else if (value instanceof Iterable) {
+      write((byte) '[');
+      Iterator<?> elements = ((Iterable<?>) value).iterator();
+      while (elements.hasNext()) {
+        writeValue(elements.next());
+        if (elements.hasNext()) {
+          write((byte) ',');
+        }
+      }
+      write((byte) ']');
+    } else if (value.getClass().isArray()) {
+      write((byte) '[');
+      int length = Array.getLength(value);
+      for (int i = 0; i < length; i++) {
+        if (i > 0) {
+          write((byte) ',');
+        }
+        writeValue(Array.get(value, i));
+      }
+      write((byte) ']');
+    } else {
+      writeString(value.toString());
+    }
+  }
+
+  private static boolean isFinite(Number value) {
+    if (value instanceof Double || value instanceof Float) {
+      double number = value.doubleValue();
+      return !Double.isNaN(number) && !Double.isInfinite(number);
+    }
+    return true;
+  }
+
+  private void writeString(String value) throws IOException {
+    if (value == null) {
+      write(NULL);
+      return;
+    }
+    write((byte) '"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        write((byte) '\\');
+        write((byte) c);
+      } else if (c < 0x20) {
+        writeControl(c);
+      } else if (c < 0x80) {
+        write((byte) c);
+      } else if (c < 0x800) {
+        write((byte) (0xc0 | (c >> 6)));
+        write((byte) (0x80 | (c & 0x3f)));
+      } else if (Character.isHighSurrogate(c)
+              && i + 1 < value.length()
+              && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        write((byte) (0xf0 | (codePoint >> 18)));
+        write((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+        write((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+        write((byte) (0x80 | (codePoint & 0x3f)));
+      } else if (Character.isSurrogate(c)) {
+        // a lone surrogate cannot be encoded
+        write((byte) '?');
+      } else {
+        write((byte) (0xe0 | (c >> 12)));
+        write((byte) (0x80 | ((c >> 6) & 0x3f)));
+        write((byte) (0x80 | (c & 0x3f)));
+      }
+    }
+    write((byte) '"');
+  }
+
+  private void writeControl(char c) throws IOException {
+    write((byte) '\\');
+    switch (c) {
+      case '\n':
+        write((byte) 'n');
+        return;
+      case '\r':
+        write((byte) 'r');
+        return;
+      case '\t':
+        write((byte) 't');
+        return;
+      default:
+        write((byte) 'u');
+        write((byte) '0');
+        write((byte) '0');
+        write(HEX[c >> 4]);
+        write(HEX[c & 0xf]);
+    }
+  }
+
+  private void writeAscii(String value) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      write((byte) value.charAt(i));
+    }
+  }
+
+  private void write(byte[] bytes) throws IOException {
+    if (position + bytes.length > buffer.length) {
+      flushBuffer();
+      if (bytes.length > buffer.length) {
+        out.write(bytes);
+        return;
+      }
+    }
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  private void write(byte b) throws IOException {
+    if (position == buffer.length) {
+      flushBuffer();
+    }
+    buffer[position++] = b;
+  }
+
+  private void flushBuffer() throws IOException {
+    out.write(buffer, 0, position);
+    position = 0;
+  }
+
+  private void flush() throws IOException {
+    flushBuffer();
+    out.flush();
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,114 @@
+package com.github.danitutu.painlessjavavalidator.spring;
+
+import com.github.danitutu.painlessjavavalidator.ConfiguredValidationEngine;
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.ValidationMetrics;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PainlessValidatorAutoConfigurationTest {
+
+  private final ApplicationContextRunner runner =
+          new ApplicationContextRunner()
+                  .withConfiguration(
+                          AutoConfigurations.of(
+                                  TaskExecutionAutoConfiguration.class,
+                                  PainlessValidatorAutoConfiguration.class,
+                                  PainlessValidatorWebAutoConfiguration.class));
+
+  @Test
+  @DisplayName("WHEN properties are set THEN expect the engine to use them")
+  void autoConfiguration1() {
+    runner.withPropertyValues("painless.validator.max-violations=2")
+            .run(
+                    context -> {
+                      ConfiguredValidationEngine engine =
+                              context.getBean(ConfiguredValidationEngine.class);
+                      assertEquals(2, engine.getMaxViolations());
+                      assertSame(context.getBean("applicationTaskExecutor"), engine.getExecutor());
+                      assertSame(ValidationMetrics.NONE, engine.getMetrics());
+                      assertFalse(context.containsBean("validationExceptionHandler"));
+                    });
+  }
+
+  @Test
+  @DisplayName("WHEN executor and metrics beans exist THEN expect the engine to use them")
+  void autoConfiguration2() {
+    List<String> measurements = new ArrayList<>();
+    Executor executor = Runnable::run;
+    new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(PainlessValidatorAutoConfiguration.class))
+            .withBean(
+                    PainlessValidatorAutoConfiguration.EXECUTOR_BEAN_NAME,
+                    Executor.class,
+                    () -> executor)
+            .withBean(
+                    "first",
+                    ValidationMetrics.class,
+                    () -> (duration, violations, limitReached) -> measurements.add("first"))
+            .withBean(
+                    "second",
+                    ValidationMetrics.class,
+                    () -> (duration, violations, limitReached) -> measurements.add("second"))
+            .run(
+                    context -> {
+                      ConfiguredValidationEngine engine =
+                              context.getBean(ConfiguredValidationEngine.class);
+                      engine.validateAll(ValidationRule.notNull("a", null));
+                      assertSame(executor, engine.getExecutor());
+                      assertEquals(2, measurements.size());
+                    });
+    new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(PainlessValidatorAutoConfiguration.class))
+            .run(
+                    context -> {
+                      ConfiguredValidationEngine engine =
+                              context.getBean(ConfiguredValidationEngine.class);
+                      assertSame(ForkJoinPool.commonPool(), engine.getExecutor());
+                    });
+  }
+
+  @Test
+  @DisplayName("WHEN application is a servlet web application THEN expect the violations handler")
+  void autoConfiguration3() {
+    WebApplicationContextRunner web =
+            new WebApplicationContextRunner()
+                    .withConfiguration(
+                            AutoConfigurations.of(
+                                    PainlessValidatorAutoConfiguration.class,
+                                    PainlessValidatorWebAutoConfiguration.class));
+
+    web.run(
+            context -> {
+              MockHttpServletResponse response = new MockHttpServletResponse();
+              context.getBean(ValidationExceptionHandler.class)
+                      .handleValidationException(
+                              new ValidationException(Violation.of("a", "m", "d")), response);
+              assertEquals(400, response.getStatus());
+              assertTrue(response.getContentType().startsWith("application/json"));
+              assertEquals("UTF-8", response.getCharacterEncoding());
+              assertEquals(
+                      "{\"type\":\"VALIDATION-EXCEPTION\",\"validationResult\":"
+                              + "[{\"field\":\"a\",\"code\":0,\"message\":\"m\",\"details\":\"d\","
+                              + "\"attributes\":null}]}",
+                      response.getContentAsString());
+            });
+    web.withPropertyValues("painless.validator.error-handler.enabled=false")
+            .run(context -> assertFalse(context.containsBean("validationExceptionHandler")));
+  }
+}
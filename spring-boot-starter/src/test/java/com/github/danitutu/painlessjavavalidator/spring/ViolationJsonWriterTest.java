@@ -0,0 +1,112 @@
+package com.github.danitutu.painlessjavavalidator.spring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.ViolationTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViolationJsonWriterTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static String write(List<Violation> violations) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ViolationJsonWriter.write(violations, out);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("WHEN violations are written THEN expect the document of reflective serialization")
+  void violationJsonWriter1() throws IOException {
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("min", 2);
+    attributes.put("max", 50L);
+    attributes.put("limit", new BigDecimal("10.50"));
+    attributes.put("ratio", 0.5d);
+    attributes.put("strict", true);
+    attributes.put("values", Arrays.asList("a", null, 1));
+    attributes.put("codes", new int[] {1, 2});
+    attributes.put("nested", Collections.singletonMap("key", "value"));
+    attributes.put("empty", null);
+    List<Violation> violations =
+            Arrays.asList(
+                    Violation.of(
+                            "input.firstName",
+                            "validation.error.value.is.required",
+                            "The value is required."),
+                    Violation.of("input.age", "validation.error.custom", null, attributes));
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("type", "VALIDATION-EXCEPTION");
+    expected.put("validationResult", violations);
+
+    String json = write(violations);
+
+    assertEquals(MAPPER.readTree(MAPPER.writeValueAsString(expected)), MAPPER.readTree(json));
+    assertTrue(json.startsWith("{\"type\":\"VALIDATION-EXCEPTION\",\"validationResult\":[{"));
+    assertEquals(
+            "{\"type\":\"VALIDATION-EXCEPTION\",\"validationResult\":[]}",
+            write(Collections.emptyList()));
+  }
+
+  @Test
+  @DisplayName("WHEN strings need escaping or are not ASCII THEN expect them to be encoded")
+  void violationJsonWriter2() throws IOException {
+    String text =
+            "quote\" backslash\\ new\nline\ttab \u0001 é € 😀 "
+                    + String.join("", Collections.nCopies(3000, "x"));
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("value", text);
+    attributes.put("nan", Double.NaN);
+    attributes.put("object", new StringBuilder("text"));
+
+    JsonNode violation =
+            MAPPER.readTree(
+                    write(Collections.singletonList(Violation.of(text, "m", "d", attributes))))
+                    .get("validationResult")
+                    .get(0);
+
+    assertEquals(text, violation.get("field").textValue());
+    assertEquals(text, violation.get("attributes").get("value").textValue());
+    assertEquals("NaN", violation.get("attributes").get("nan").textValue());
+    assertEquals("text", violation.get("attributes").get("object").textValue());
+  }
+  @Test
+  @DisplayName("WHEN violations share a template THEN expect the document of reflective"
+          + " serialization")
+  void violationJsonWriter3() throws IOException {
+    ViolationTemplate range =
+            ViolationTemplate.of("validation.error.range", "Not in range \u20ac.", "min", "max");
+    ViolationTemplate large =
+            ViolationTemplate.of(
+                    "validation.error.large", String.join("", Collections.nCopies(3000, "x")));
+    List<Violation> violations =
+            Arrays.asList(
+                    range.violation("input.items[0]", 1, 5),
+                    large.violation("input.text"),
+                    range.violation("input.items[1]", 1, 5),
+                    large.violation("input.other"),
+                    Violation.of("input.name", "validation.error.range", "Not in range \u20ac."));
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("type", "VALIDATION-EXCEPTION");
+    expected.put("validationResult", violations);
+
+    String json = write(violations);
+
+    assertEquals(MAPPER.readTree(MAPPER.writeValueAsString(expected)), MAPPER.readTree(json));
+  }
+}
@@ -0,0 +1,319 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Terms compiled once into an Aho-Corasick automaton, used by {@link
+ * ValidationRule#notContainsAny(String, CharSequence, Blocklist)}. A value is scanned once,
+ * whatever the number of terms, and a term found in it is reported without creating any object.
+ *
+ * <pre>
+ * private static final Blocklist BANNED = Blocklist.builder()
+ *         .ignoreCase()
+ *         .reportAll()
+ *         .terms(bannedWords)
+ *         .build();
+ *
+ * ValidationRule.notContainsAny("input.comment", input.getComment(), BANNED)
+ * </pre>
+ *
+ * <p>The transitions of the states are stored in shared sorted arrays and the transitions of the
+ * initial state for ASCII characters in a direct lookup table. Instances are immutable and can be
+ * shared between threads.
+ */
+public final class Blocklist {
+
+  private static final int ASCII = 128;
+
+  private final List<String> terms;
+  private final boolean ignoreCase;
+  private final boolean reportAll;
+  private final int[] rootAscii;
+  // transitions of state s: edgeChars/edgeTargets[edgeStart[s] .. edgeStart[s + 1])
+  private final int[] edgeStart;
+  private final char[] edgeChars;
+  private final int[] edgeTargets;
+  private final int[] fail;
+  // term ending at the state or -1
+  private final int[] term;
+  // nearest state on the fail chain at which a term ends or -1
+  private final int[] outputLink;
+
+  private Blocklist(Builder builder) {
+    this.terms = Collections.unmodifiableList(new ArrayList<>(builder.terms));
+    this.ignoreCase = builder.ignoreCase;
+    this.reportAll = builder.reportAll;
+
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<Integer> terminal = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    terminal.add(-1);
+    for (int t = 0; t < terms.size(); t++) {
+      String text = terms.get(t);
+      int state = 0;
+      for (int i = 0; i < text.length(); i++) {
+        char c = fold(text.charAt(i));
+        Integer next = trie.get(state).get(c);
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          terminal.add(-1);
+          trie.get(state).put(c, next);
+        }
+        state = next;
+      }
+      // a duplicate term is reported as the first one
+      if (terminal.get(state) < 0) {
+        terminal.set(state, t);
+      }
+    }
+
+    int states = trie.size();
+    this.edgeStart = new int[states + 1];
+    this.edgeChars = new char[states - 1];
+    this.edgeTargets = new int[states - 1];
+    this.term = new int[states];
+    int edge = 0;
+    for (int s = 0; s < states; s++) {
+      edgeStart[s] = edge;
+      term[s] = terminal.get(s);
+      for (Map.Entry<Character, Integer> entry : trie.get(s).entrySet()) {
+        edgeChars[edge] = entry.getKey();
+        edgeTargets[edge] = entry.getValue();
+        edge++;
+      }
+    }
+    edgeStart[states] = edge;
+    this.rootAscii = new int[ASCII];
+    for (char c = 0; c < ASCII; c++) {
+      rootAscii[c] = Math.max(transition(0, c), 0);
+    }
+
+    this.fail = new int[states];
+    this.outputLink = new int[states];
+    outputLink[0] = -1;
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+      int child = edgeTargets[e];
+      fail[child] = 0;
+      outputLink[child] = -1;
+      queue.add(child);
+    }
+    // breadth first, so the fail state of a state is always computed before the state itself
+    while (!queue.isEmpty()) {
+      int s = queue.poll();
+      for (int e = edgeStart[s]; e < edgeStart[s + 1]; e++) {
+        int child = edgeTargets[e];
+        int f = next(fail[s], edgeChars[e]);
+        fail[child] = f;
+        outputLink[child] = term[f] >= 0 ? f : outputLink[f];
+        queue.add(child);
+      }
+    }
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Creates a case sensitive blocklist reporting the first term found.
+   *
+   * @param terms terms
+   * @return blocklist
+   */
+  public static Blocklist of(String... terms) {
+    if (terms == null) {
+      throw new IllegalArgumentException("terms is required");
+    }
+    return builder().terms(Arrays.asList(terms)).build();
+  }
+
+  /**
+   * @param value text to be scanned
+   * @return the term ending first in the value, the longest one if more end at the same position,
+   *     or null
+   */
+  public String findFirst(CharSequence value) {
+    int found = scan(value);
+    return found < 0 ? null : terms.get(found);
+  }
+
+  /**
+   * @param value text to be scanned
+   * @return all distinct terms found in the value, in the order they end in it
+   */
+  public List<String> findAll(CharSequence value) {
+    int first = scan(value);
+    if (first < 0) {
+      return emptyList();
+    }
+    boolean[] seen = new boolean[terms.size()];
+    List<String> found = new ArrayList<>();
+    int state = 0;
+    for (int i = 0; i < value.length(); i++) {
+      state = next(state, fold(value.charAt(i)));
+      int output = term[state] >= 0 ? state : outputLink[state];
+      while (output >= 0) {
+        int t = term[output];
+        if (!seen[t]) {
+          seen[t] = true;
+          found.add(terms.get(t));
+        }
+        output = outputLink[output];
+      }
+    }
+    return found;
+  }
+
+  /**
+   * @param value text to be scanned
+   * @return the terms reported in a violation: all terms found if {@link Builder#reportAll()} was
+   *     set, otherwise the first one; empty if the value doesn't contain any term
+   */
+  public List<String> find(CharSequence value) {
+    if (reportAll) {
+      return findAll(value);
+    }
+    String found = findFirst(value);
+    return found == null ? emptyList() : singletonList(found);
+  }
+
+  public boolean containsAny(CharSequence value) {
+    return scan(value) >= 0;
+  }
+
+  public List<String> getTerms() {
+    return terms;
+  }
+
+  public boolean isIgnoreCase() {
+    return ignoreCase;
+  }
+
+  public boolean isReportAll() {
+    return reportAll;
+  }
+
+  /**
+   * @return index of the first term found or -1
+   */
+  private int scan(CharSequence value) {
+    int state = 0;
+    for (int i = 0; i < value.length(); i++) {
+      state = next(state, fold(value.charAt(i)));
+      if (term[state] >= 0) {
+        return term[state];
+      }
+      if (outputLink[state] >= 0) {
+        return term[outputLink[state]];
+      }
+    }
+    return -1;
+  }
+
+  private int next(int state, char c) {
+    while (true) {
+      if (state == 0) {
+        return c < ASCII ? rootAscii[c] : Math.max(transition(0, c), 0);
+      }
+      int target = transition(state, c);
+      if (target >= 0) {
+        return target;
+      }
+      state = fail[state];
+    }
+  }
+
+  private int transition(int state, char c) {
+    int low = edgeStart[state];
+    int high = edgeStart[state + 1] - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      char key = edgeChars[middle];
+      if (key < c) {
+        low = middle + 1;
+      } else if (key > c) {
+        high = middle - 1;
+      } else {
+        return edgeTargets[middle];
+      }
+    }
+    return -1;
+  }
+
+  private char fold(char c) {
+    return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+  }
+
+  public static final class Builder {
+    private final List<String> terms = new ArrayList<>();
+    private boolean ignoreCase;
+    private boolean reportAll;
+
+    private Builder() {
+    }
+
+    /**
+     * Matches the terms regardless of the case of their characters.
+     *
+     * @return this builder
+     */
+    public Builder ignoreCase() {
+      this.ignoreCase = true;
+      return this;
+    }
+
+    /**
+     * Reports all terms found in a value instead of the first one. The whole value is scanned.
+     *
+     * @return this builder
+     */
+    public Builder reportAll() {
+      this.reportAll = true;
+      return this;
+    }
+
+    /**
+     * @param term term, not empty
+     * @return this builder
+     */
+    public Builder term(String term) {
+      if (term == null) {
+        throw new IllegalArgumentException("term is required");
+      }
+      if (term.isEmpty()) {
+        throw new IllegalArgumentException("term cannot be empty");
+      }
+      terms.add(term);
+      return this;
+    }
+
+    /**
+     * @param terms terms, not empty
+     * @return this builder
+     */
+    public Builder terms(Collection<String> terms) {
+      if (terms == null) {
+        throw new IllegalArgumentException("terms is required");
+      }
+      terms.forEach(this::term);
+      return this;
+    }
+
+    public Blocklist build() {
+      return new Blocklist(this);
+    }
+  }
+}
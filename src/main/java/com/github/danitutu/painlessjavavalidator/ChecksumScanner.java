@@ -0,0 +1,124 @@
+package com.github.danitutu.painlessjavavalidator;
+
+/**
+ * Single pass checksum computations for the identifiers checked by {@link ValidationRule}. The
+ * checksum is accumulated while the characters are read, so neither a number nor a substring of
+ * the value is created.
+ */
+final class ChecksumScanner {
+
+  private static final int MIN_LUHN_LENGTH = 2;
+  private static final int MIN_IBAN_LENGTH = 15;
+  private static final int MAX_IBAN_LENGTH = 34;
+  private static final int IBAN_MODULUS = 97;
+
+  private ChecksumScanner() {
+  }
+
+  /**
+   * Checks a number made only of digits, for example a payment card number, whose last digit is
+   * its Luhn (mod 10) check digit.
+   */
+  static boolean isLuhn(CharSequence value) {
+    int length = value.length();
+    if (length < MIN_LUHN_LENGTH) {
+      return false;
+    }
+    int sum = 0;
+    boolean doubled = false;
+    for (int i = length - 1; i >= 0; i--) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+      int digit = c - '0';
+      if (doubled) {
+        digit *= 2;
+        if (digit > 9) {
+          digit -= 9;
+        }
+      }
+      sum += digit;
+      doubled = !doubled;
+    }
+    return sum % 10 == 0;
+  }
+
+  /**
+   * Checks an IBAN in its electronic format: two upper case letters, two check digits and up to 30
+   * upper case letters and digits, without spaces. The check digits are verified using mod 97
+   * (ISO 13616), moving the first four characters to the end without copying the value.
+   */
+  static boolean isIban(CharSequence value) {
+    int length = value.length();
+    if (length < MIN_IBAN_LENGTH || length > MAX_IBAN_LENGTH) {
+      return false;
+    }
+    if (!isUpperCaseLetter(value.charAt(0))
+            || !isUpperCaseLetter(value.charAt(1))
+            || !isDigit(value.charAt(2))
+            || !isDigit(value.charAt(3))) {
+      return false;
+    }
+    int remainder = 0;
+    for (int n = 0; n < length; n++) {
+      char c = value.charAt((n + 4) % length);
+      if (isDigit(c)) {
+        remainder = (remainder * 10 + (c - '0')) % IBAN_MODULUS;
+      } else if (isUpperCaseLetter(c)) {
+        // letters are replaced by two digits: A = 10, ..., Z = 35
+        remainder = (remainder * 100 + (c - 'A' + 10)) % IBAN_MODULUS;
+      } else {
+        return false;
+      }
+    }
+    return remainder == 1;
+  }
+
+  /**
+   * Checks an ISBN-10 (mod 11, the last character can be <code>X</code>) or an ISBN-13 (mod 10
+   * having weights 1 and 3). Single hyphens or spaces between the digits are ignored.
+   */
+  static boolean isIsbn(CharSequence value) {
+    int length = value.length();
+    int digits = 0;
+    // summing the running sum weights the ISBN-10 digits by 10, 9, ..., 1
+    int sum10 = 0;
+    int weightedSum10 = 0;
+    int sum13 = 0;
+    boolean separator = true;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      int digit;
+      if (isDigit(c)) {
+        digit = c - '0';
+      } else if (c == 'X' && i == length - 1 && digits == 9) {
+        digit = 10;
+      } else if ((c == '-' || c == ' ') && !separator && i < length - 1) {
+        separator = true;
+        continue;
+      } else {
+        return false;
+      }
+      if (++digits > 13) {
+        return false;
+      }
+      sum10 += digit;
+      weightedSum10 += sum10;
+      sum13 += digits % 2 == 0 ? digit * 3 : digit;
+      separator = false;
+    }
+    if (digits == 10) {
+      return weightedSum10 % 11 == 0;
+    }
+    return digits == 13 && sum13 % 10 == 0;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isUpperCaseLetter(char c) {
+    return c >= 'A' && c <= 'Z';
+  }
+}
@@ -0,0 +1,293 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@link ValidationEngine} having options, meant to be created once, for example as a bean of a
+ * dependency injection container:
+ *
+ * <ul>
+ *   <li>the maximum number of violations after which the remaining rules are not run
+ *   <li>the executor running the asynchronous validations
+ *   <li>the {@link ValidationMetrics} receiving a measurement for each validation
+ *   <li>the clock giving the {@link ValidationTime} of the validations
+ * </ul>
+ *
+ * <p>Instances are immutable and can be shared between threads.
+ */
+public final class ConfiguredValidationEngine {
+
+  private final int maxViolations;
+  private final Executor executor;
+  private final ValidationMetrics metrics;
+  private final Clock clock;
+
+  private ConfiguredValidationEngine(
+          int maxViolations, Executor executor, ValidationMetrics metrics, Clock clock) {
+    this.maxViolations = maxViolations;
+    this.executor = executor;
+    this.metrics = metrics;
+    this.clock = clock;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Validates the rules, stopping when the maximum number of violations is reached, and return the
+   * violations at the end.
+   *
+   * @param rules rules
+   * @return violations
+   */
+  public List<Violation> validateAll(ViolationProvider... rules) {
+    if (rules == null) {
+      return emptyList();
+    }
+    return validateAll(asList(rules));
+  }
+
+  /**
+   * Validates the rules, stopping when the maximum number of violations is reached, and return the
+   * violations at the end.
+   *
+   * @param rules rules
+   * @return violations
+   */
+  public List<Violation> validateAll(Collection<ViolationProvider> rules) {
+    return validate(rules, maxViolations);
+  }
+
+  /**
+   * Validates the rules and throw {@link ValidationException} if there are any violations.
+   *
+   * @param rules rules
+   * @throws ValidationException thrown in case violations are found
+   */
+  public void validateAllAndStopIfViolations(ViolationProvider... rules) {
+    ValidationException.stopIfViolations(validateAll(rules));
+  }
+
+  /**
+   * Validates the rules and throw {@link ValidationException} if there are any violations.
+   *
+   * @param rules rules
+   * @throws ValidationException thrown in case violations are found
+   */
+  public void validateAllAndStopIfViolations(Collection<ViolationProvider> rules) {
+    ValidationException.stopIfViolations(validateAll(rules));
+  }
+
+  /**
+   * Validates the rules and stops when first violation is encountered.
+   *
+   * @param rules rules
+   * @return single violation inside a list
+   */
+  public List<Violation> validateFindFirst(ViolationProvider... rules) {
+    if (rules == null) {
+      return emptyList();
+    }
+    return validateFindFirst(asList(rules));
+  }
+
+  /**
+   * Validates the rules and stops when first violation is encountered.
+   *
+   * @param rules rules
+   * @return single violation inside a list
+   */
+  public List<Violation> validateFindFirst(Collection<ViolationProvider> rules) {
+    return validate(rules, 1);
+  }
+
+  /**
+   * Validates the rules and stops when first violation is encountered and then immediately throw
+   * {@link ValidationException}.
+   *
+   * @param rules rules
+   * @throws ValidationException thrown in case violation is found
+   */
+  public void validateFindFirstAndStopIfViolation(ViolationProvider... rules) {
+    ValidationException.stopIfViolations(validateFindFirst(rules));
+  }
+
+  /**
+   * Validates the rules and stops when first violation is encountered and then immediately throw
+   * {@link ValidationException}.
+   *
+   * @param rules rules
+   * @throws ValidationException thrown in case violation is found
+   */
+  public void validateFindFirstAndStopIfViolation(Collection<ViolationProvider> rules) {
+    ValidationException.stopIfViolations(validateFindFirst(rules));
+  }
+
+  /**
+   * Validates the rules on the executor, as {@link #validateAll(Collection)} does.
+   *
+   * @param rules rules
+   * @return future completed with the violations
+   */
+  public CompletableFuture<List<Violation>> validateAllAsync(Collection<ViolationProvider> rules) {
+    return CompletableFuture.supplyAsync(() -> validateAll(rules), executor);
+  }
+
+  /**
+   * Validates the rules on the executor, as {@link #validateAllAndStopIfViolations(Collection)}
+   * does.
+   *
+   * @param rules rules
+   * @return future completed when there are no violations or completed exceptionally with a {@link
+   *     ValidationException} otherwise
+   */
+  public CompletableFuture<Void> validateAllAsyncAndStopIfViolations(
+          Collection<ViolationProvider> rules) {
+    return CompletableFuture.runAsync(() -> validateAllAndStopIfViolations(rules), executor);
+  }
+
+  /**
+   * Creates the time of a validation run, to be passed to the relative temporal rules of the run.
+   * The clock of the engine is read once, when a rule first needs the time.
+   *
+   * @return time of a validation run
+   */
+  public ValidationTime time() {
+    return ValidationTime.of(clock);
+  }
+
+  public int getMaxViolations() {
+    return maxViolations;
+  }
+
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  public ValidationMetrics getMetrics() {
+    return metrics;
+  }
+
+  public Clock getClock() {
+    return clock;
+  }
+
+  private List<Violation> validate(Collection<ViolationProvider> rules, int limit) {
+    if (rules == null) {
+      return emptyList();
+    }
+    boolean measured = metrics != ValidationMetrics.NONE;
+    long start = measured ? System.nanoTime() : 0;
+    List<Violation> violations = null;
+    Violation first = null;
+    int count = 0;
+    int run = 0;
+    for (ViolationProvider rule : rules) {
+      if (count == limit) {
+        break;
+      }
+      run++;
+      if (rule == null) {
+        continue;
+      }
+      Optional<Violation> violation = rule.get();
+      if (violation.isPresent()) {
+        // most validations find no violations or a single one
+        if (count == 0) {
+          first = violation.get();
+        } else {
+          if (violations == null) {
+            violations = new ArrayList<>();
+            violations.add(first);
+          }
+          violations.add(violation.get());
+        }
+        count++;
+      }
+    }
+    if (measured) {
+      metrics.record(System.nanoTime() - start, count, count == limit && run < rules.size());
+    }
+    if (count == 0) {
+      return emptyList();
+    }
+    return violations == null ? singletonList(first) : violations;
+  }
+
+  public static final class Builder {
+    private int maxViolations = Integer.MAX_VALUE;
+    private Executor executor = ForkJoinPool.commonPool();
+    private ValidationMetrics metrics = ValidationMetrics.NONE;
+    private Clock clock = Clock.systemUTC();
+
+    private Builder() {
+    }
+
+    /**
+     * @param maxViolations number of violations after which the remaining rules are not run;
+     *     unlimited by default
+     * @return this builder
+     */
+    public Builder maxViolations(int maxViolations) {
+      if (maxViolations <= 0) {
+        throw new IllegalArgumentException("maxViolations must be positive");
+      }
+      this.maxViolations = maxViolations;
+      return this;
+    }
+
+    /**
+     * @param executor executor running the asynchronous validations; the common fork join pool by
+     *     default
+     * @return this builder
+     */
+    public Builder executor(Executor executor) {
+      if (executor == null) {
+        throw new IllegalArgumentException("executor is required");
+      }
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * @param metrics metrics receiving a measurement for each validation; {@link
+     *     ValidationMetrics#NONE} by default
+     * @return this builder
+     */
+    public Builder metrics(ValidationMetrics metrics) {
+      if (metrics == null) {
+        throw new IllegalArgumentException("metrics is required");
+      }
+      this.metrics = metrics;
+      return this;
+    }
+
+    /**
+     * @param clock clock read by {@link #time()}; the system clock in UTC by default
+     * @return this builder
+     */
+    public Builder clock(Clock clock) {
+      if (clock == null) {
+        throw new IllegalArgumentException("clock is required");
+      }
+      this.clock = clock;
+      return this;
+    }
+
+    public ConfiguredValidationEngine build() {
+      return new ConfiguredValidationEngine(maxViolations, executor, metrics, clock);
+    }
+  }
+}
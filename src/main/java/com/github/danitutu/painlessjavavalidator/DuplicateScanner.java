@@ -0,0 +1,200 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Finds the first element equal to a previous one, reading the elements once. The <code>int</code>
+ * and <code>long</code> keys are kept in open addressing tables of primitives, like the ones of
+ * {@link IntSet} and {@link LongSet}, so they are not boxed. Small arrays are compared pairwise and
+ * nothing is allocated.
+ *
+ * <p>The null elements of a collection are skipped, they are neither compared nor given to the
+ * key function.
+ */
+final class DuplicateScanner {
+
+  static final int NONE = -1;
+  // below this size comparing all pairs is faster than hashing
+  private static final int SMALL = 16;
+
+  private DuplicateScanner() {
+  }
+
+  /**
+   * @return index of the first value equal to a previous one or {@link #NONE}
+   */
+  static int firstDuplicate(int[] values) {
+    if (values.length <= SMALL) {
+      for (int i = 1; i < values.length; i++) {
+        for (int j = 0; j < i; j++) {
+          if (values[i] == values[j]) {
+            return i;
+          }
+        }
+      }
+      return NONE;
+    }
+    IntKeys keys = new IntKeys(values.length);
+    for (int i = 0; i < values.length; i++) {
+      if (!keys.add(values[i])) {
+        return i;
+      }
+    }
+    return NONE;
+  }
+
+  /**
+   * @return index of the first value equal to a previous one or {@link #NONE}
+   */
+  static int firstDuplicate(long[] values) {
+    if (values.length <= SMALL) {
+      for (int i = 1; i < values.length; i++) {
+        for (int j = 0; j < i; j++) {
+          if (values[i] == values[j]) {
+            return i;
+          }
+        }
+      }
+      return NONE;
+    }
+    LongKeys keys = new LongKeys(values.length);
+    for (int i = 0; i < values.length; i++) {
+      if (!keys.add(values[i])) {
+        return i;
+      }
+    }
+    return NONE;
+  }
+
+  /**
+   * @return index, in iteration order, of the first element having the key of a previous one or
+   *     {@link #NONE}
+   */
+  static <T> int firstDuplicateInt(Collection<T> values, ToIntFunction<? super T> key) {
+    if (values.size() < 2) {
+      return NONE;
+    }
+    IntKeys keys = new IntKeys(values.size());
+    int i = 0;
+    for (T value : values) {
+      if (value != null && !keys.add(key.applyAsInt(value))) {
+        return i;
+      }
+      i++;
+    }
+    return NONE;
+  }
+
+  /**
+   * @return index, in iteration order, of the first element having the key of a previous one or
+   *     {@link #NONE}
+   */
+  static <T> int firstDuplicateLong(Collection<T> values, ToLongFunction<? super T> key) {
+    if (values.size() < 2) {
+      return NONE;
+    }
+    LongKeys keys = new LongKeys(values.size());
+    int i = 0;
+    for (T value : values) {
+      if (value != null && !keys.add(key.applyAsLong(value))) {
+        return i;
+      }
+      i++;
+    }
+    return NONE;
+  }
+
+  /**
+   * @return index, in iteration order, of the first element having a key equal to the key of a
+   *     previous one or {@link #NONE}
+   */
+  static <T> int firstDuplicate(Collection<T> values, Function<? super T, ?> key) {
+    if (values.size() < 2) {
+      return NONE;
+    }
+    Set<Object> keys = new HashSet<>(values.size() * 4 / 3 + 1);
+    int i = 0;
+    for (T value : values) {
+      if (value != null && !keys.add(key.apply(value))) {
+        return i;
+      }
+      i++;
+    }
+    return NONE;
+  }
+
+  /**
+   * Mutable version of the table of {@link IntSet}, sized once for the number of keys.
+   */
+  private static final class IntKeys {
+    private final int[] table;
+    private final int mask;
+    private boolean containsZero;
+
+    private IntKeys(int size) {
+      // 0 marks the empty slots
+      this.table = new int[IntSet.capacity(size)];
+      this.mask = table.length - 1;
+    }
+
+    /**
+     * @return false if the key was already added
+     */
+    private boolean add(int key) {
+      if (key == 0) {
+        boolean added = !containsZero;
+        containsZero = true;
+        return added;
+      }
+      int i = IntSet.hash(key) & mask;
+      while (table[i] != 0) {
+        if (table[i] == key) {
+          return false;
+        }
+        i = (i + 1) & mask;
+      }
+      table[i] = key;
+      return true;
+    }
+  }
+
+  /**
+   * Mutable version of the table of {@link LongSet}, sized once for the number of keys.
+   */
+  private static final class LongKeys {
+    private final long[] table;
+    private final int mask;
+    private boolean containsZero;
+
+    private LongKeys(int size) {
+      // 0 marks the empty slots
+      this.table = new long[IntSet.capacity(size)];
+      this.mask = table.length - 1;
+    }
+
+    /**
+     * @return false if the key was already added
+     */
+    private boolean add(long key) {
+      if (key == 0) {
+        boolean added = !containsZero;
+        containsZero = true;
+        return added;
+      }
+      int i = LongSet.hash(key) & mask;
+      while (table[i] != 0) {
+        if (table[i] == key) {
+          return false;
+        }
+        i = (i + 1) & mask;
+      }
+      table[i] = key;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.Optional;
+
+/**
+ * A rule applied to a single value. It has the same shape as the <code>xxxRule(field, value)</code>
+ * functions of {@link ValidationRule} so they can be used as method references: <code>
+ * ValidationRule::notBlankRule</code>. Rules with extra parameters can be adapted with a lambda:
+ * <code>(field, value) -&gt; ValidationRule.lengthBetweenRule(field, value, 2, 50)</code>.
+ *
+ * @param <V> value type
+ */
+@FunctionalInterface
+public interface FieldRule<V> {
+
+  /**
+   * @param field path to field
+   * @param value value to be checked
+   * @return violation or success
+   */
+  Optional<Violation> apply(String field, V value);
+}
@@ -0,0 +1,242 @@
+package com.github.danitutu.painlessjavavalidator;
+
+/**
+ * Single pass scanners for the formats checked by {@link ValidationRule}. They read the value one
+ * character at a time, without regex and without allocating, and stop at the first character that
+ * cannot be part of the format.
+ */
+final class FormatScanner {
+
+  private static final int MAX_EMAIL_LENGTH = 254;
+  private static final int MAX_LOCAL_PART_LENGTH = 64;
+  private static final int MAX_DOMAIN_LENGTH = 253;
+  private static final int MAX_LABEL_LENGTH = 63;
+  private static final int UUID_LENGTH = 36;
+  private static final int DATE_LENGTH = 10;
+  private static final int MAX_FRACTION_DIGITS = 9;
+
+  private FormatScanner() {
+  }
+
+  /**
+   * Checks a practical subset of RFC 5322 addresses: a dot separated local part of atext
+   * characters, without quoting or comments, and a domain of at least two dot separated labels of
+   * letters, digits and hyphens, without IP literals.
+   */
+  static boolean isEmail(CharSequence value) {
+    int length = value.length();
+    if (length > MAX_EMAIL_LENGTH) {
+      return false;
+    }
+    int i = 0;
+    int atom = 0;
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      if (c == '@') {
+        break;
+      }
+      if (c == '.') {
+        if (atom == 0) {
+          return false;
+        }
+        atom = 0;
+      } else if (isAtext(c)) {
+        atom++;
+      } else {
+        return false;
+      }
+    }
+    if (i == length || i == 0 || i > MAX_LOCAL_PART_LENGTH || atom == 0) {
+      return false;
+    }
+    int domainStart = ++i;
+    if (length - domainStart > MAX_DOMAIN_LENGTH) {
+      return false;
+    }
+    int labels = 1;
+    int label = 0;
+    char previous = '.';
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      if (c == '.') {
+        if (label == 0 || previous == '-') {
+          return false;
+        }
+        labels++;
+        label = 0;
+      } else if (isAlphanumeric(c) || (c == '-' && label > 0)) {
+        if (++label > MAX_LABEL_LENGTH) {
+          return false;
+        }
+      } else {
+        return false;
+      }
+      previous = c;
+    }
+    return labels > 1 && label > 0 && previous != '-';
+  }
+
+  /**
+   * Checks the canonical textual form of a UUID: 32 hexadecimal digits, in either case, grouped
+   * 8-4-4-4-12 by hyphens.
+   */
+  static boolean isUuid(CharSequence value) {
+    if (value.length() != UUID_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < UUID_LENGTH; i++) {
+      char c = value.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') {
+          return false;
+        }
+      } else if (!isHexDigit(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks an ISO-8601 calendar date, <code>yyyy-MM-dd</code>, taking the length of the month and
+   * leap years into account.
+   */
+  static boolean isIsoDate(CharSequence value) {
+    return value.length() == DATE_LENGTH && scanDate(value);
+  }
+
+  /**
+   * Checks an ISO-8601 date-time having an offset, <code>
+   * yyyy-MM-ddTHH:mm:ss[.S...](Z|+HH:mm|-HH:mm)</code>, as written by <code>OffsetDateTime</code>
+   * and <code>Instant</code> when seconds are present. Up to nine fraction digits are accepted.
+   */
+  static boolean isIsoDateTime(CharSequence value) {
+    int length = value.length();
+    // date, 'T', time and the shortest offset
+    if (length < DATE_LENGTH + 10 || !scanDate(value) || value.charAt(DATE_LENGTH) != 'T') {
+      return false;
+    }
+    if (!scanTime(value, DATE_LENGTH + 1, true)) {
+      return false;
+    }
+    int i = DATE_LENGTH + 9;
+    if (value.charAt(i) == '.') {
+      int fractionStart = ++i;
+      while (i < length && isDigit(value.charAt(i))) {
+        i++;
+      }
+      int digits = i - fractionStart;
+      if (digits == 0 || digits > MAX_FRACTION_DIGITS) {
+        return false;
+      }
+    }
+    if (i >= length) {
+      return false;
+    }
+    char offset = value.charAt(i);
+    if (offset == 'Z') {
+      return i + 1 == length;
+    }
+    return (offset == '+' || offset == '-') && i + 6 == length && scanTime(value, i + 1, false);
+  }
+
+  private static boolean scanDate(CharSequence value) {
+    if (value.charAt(4) != '-' || value.charAt(7) != '-') {
+      return false;
+    }
+    int year = digits(value, 0, 4);
+    int month = digits(value, 5, 2);
+    int day = digits(value, 8, 2);
+    return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+  }
+
+  /**
+   * Scans <code>HH:mm</code>, followed by <code>:ss</code> if seconds are required.
+   */
+  private static boolean scanTime(CharSequence value, int start, boolean seconds) {
+    if (value.charAt(start + 2) != ':') {
+      return false;
+    }
+    int hour = digits(value, start, 2);
+    int minute = digits(value, start + 3, 2);
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+      return false;
+    }
+    if (!seconds) {
+      return true;
+    }
+    int second = value.charAt(start + 5) == ':' ? digits(value, start + 6, 2) : -1;
+    return second >= 0 && second <= 59;
+  }
+
+  /**
+   * @return the number written by the digits or -1 if any of the characters is not a digit
+   */
+  private static int digits(CharSequence value, int start, int count) {
+    int number = 0;
+    for (int i = start; i < start + count; i++) {
+      char c = value.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      number = number * 10 + (c - '0');
+    }
+    return number;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isAlphanumeric(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isHexDigit(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  private static boolean isAtext(char c) {
+    if (isAlphanumeric(c)) {
+      return true;
+    }
+    switch (c) {
+      case '!':
+      case '#':
+      case '$':
+      case '%':
+      case '&':
+      case '\'':
+      case '*':
+      case '+':
+      case '-':
+      case '/':
+      case '=':
+      case '?':
+      case '^':
+      case '_':
+      case '`':
+      case '{':
+      case '|':
+      case '}':
+      case '~':
+        return true;
+      default:
+        return false;
+    }
+  }
+}
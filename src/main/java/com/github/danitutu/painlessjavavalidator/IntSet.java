@@ -0,0 +1,113 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable set of <code>int</code> values used by {@link ValidationRule#oneOf(String, Integer,
+ * IntSet)} and {@link ValidationRule#noneOf(String, Integer, IntSet)}. The values are kept in an
+ * open addressing table of primitives, so checking a value doesn't box it. Create it once and
+ * reuse it.
+ */
+public final class IntSet {
+
+  private final int[] table;
+  private final int mask;
+  private final boolean containsZero;
+  private final List<Integer> values;
+
+  private IntSet(int[] values) {
+    // 0 marks the empty slots
+    this.table = new int[capacity(values.length)];
+    this.mask = table.length - 1;
+    List<Integer> distinct = new ArrayList<>();
+    boolean zero = false;
+    for (int value : values) {
+      if (value == 0) {
+        if (!zero) {
+          distinct.add(value);
+        }
+        zero = true;
+      } else if (add(value)) {
+        distinct.add(value);
+      }
+    }
+    this.containsZero = zero;
+    this.values = Collections.unmodifiableList(distinct);
+  }
+
+  /**
+   * @param values values of the set, duplicates are ignored
+   * @return set
+   */
+  public static IntSet of(int... values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    return new IntSet(values);
+  }
+
+  public boolean contains(int value) {
+    if (value == 0) {
+      return containsZero;
+    }
+    for (int i = index(value); ; i = (i + 1) & mask) {
+      int key = table[i];
+      if (key == value) {
+        return true;
+      }
+      if (key == 0) {
+        return false;
+      }
+    }
+  }
+
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * @return values in the order they were given
+   */
+  public List<Integer> values() {
+    return values;
+  }
+
+  private boolean add(int value) {
+    int i = index(value);
+    while (table[i] != 0) {
+      if (table[i] == value) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    table[i] = value;
+    return true;
+  }
+
+  private int index(int value) {
+    return hash(value) & mask;
+  }
+
+  static int hash(int value) {
+    int hash = value * 0x9e3779b9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * @return power of two keeping the load factor at most 0.5, so there is always an empty slot
+   */
+  static int capacity(int size) {
+    int capacity = 2;
+    while (capacity < size * 2) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  @Override
+  public String toString() {
+    return values.toString();
+  }
+}
@@ -0,0 +1,102 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable set of <code>long</code> values used by {@link ValidationRule#oneOf(String, Long,
+ * LongSet)} and {@link ValidationRule#noneOf(String, Long, LongSet)}. The values are kept in an
+ * open addressing table of primitives, so checking a value doesn't box it. Create it once and
+ * reuse it.
+ */
+public final class LongSet {
+
+  private final long[] table;
+  private final int mask;
+  private final boolean containsZero;
+  private final List<Long> values;
+
+  private LongSet(long[] values) {
+    // 0 marks the empty slots
+    this.table = new long[IntSet.capacity(values.length)];
+    this.mask = table.length - 1;
+    List<Long> distinct = new ArrayList<>();
+    boolean zero = false;
+    for (long value : values) {
+      if (value == 0) {
+        if (!zero) {
+          distinct.add(value);
+        }
+        zero = true;
+      } else if (add(value)) {
+        distinct.add(value);
+      }
+    }
+    this.containsZero = zero;
+    this.values = Collections.unmodifiableList(distinct);
+  }
+
+  /**
+   * @param values values of the set, duplicates are ignored
+   * @return set
+   */
+  public static LongSet of(long... values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    return new LongSet(values);
+  }
+
+  public boolean contains(long value) {
+    if (value == 0) {
+      return containsZero;
+    }
+    for (int i = index(value); ; i = (i + 1) & mask) {
+      long key = table[i];
+      if (key == value) {
+        return true;
+      }
+      if (key == 0) {
+        return false;
+      }
+    }
+  }
+
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * @return values in the order they were given
+   */
+  public List<Long> values() {
+    return values;
+  }
+
+  private boolean add(long value) {
+    int i = index(value);
+    while (table[i] != 0) {
+      if (table[i] == value) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    table[i] = value;
+    return true;
+  }
+
+  private int index(long value) {
+    return hash(value) & mask;
+  }
+
+  static int hash(long value) {
+    long hash = value * 0x9e3779b97f4a7c15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  @Override
+  public String toString() {
+    return values.toString();
+  }
+}
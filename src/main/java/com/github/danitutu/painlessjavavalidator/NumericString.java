@@ -0,0 +1,451 @@
+package com.github.danitutu.painlessjavavalidator;
+
+/**
+ * Format and limits of a number written as text, used by {@link
+ * ValidationRule#numericString(String, CharSequence, NumericString)}. A value is scanned once: the
+ * syntax, the number of digits and the comparison with the limits are checked digit by digit,
+ * without parsing the value into a {@link java.math.BigDecimal} or a {@link Long}, so any number of
+ * digits is handled without overflow and nothing is allocated.
+ *
+ * <p>A value has an optional <code>+</code> or <code>-</code> sign, at least one digit and, for
+ * decimals, an optional point followed by at least one digit. Exponents, grouping separators and
+ * whitespace are not accepted.
+ *
+ * <pre>
+ * private static final NumericString AMOUNT = NumericString.decimal()
+ *         .min("0")
+ *         .max("99999.99")
+ *         .maxScale(2)
+ *         .rejectLeadingZeros()
+ *         .build();
+ *
+ * ValidationRule.numericString("input.amount", input.getAmount(), AMOUNT)
+ * </pre>
+ *
+ * <p>Instances are immutable and can be shared between threads.
+ */
+public final class NumericString {
+
+  static final int VALID = 0;
+  static final int INVALID_FORMAT = 1;
+  static final int TOO_MANY_DIGITS = 2;
+  static final int OUT_OF_RANGE = 3;
+
+  private static final int NO_LIMIT = -1;
+
+  private final boolean decimal;
+  private final Bound min;
+  private final Bound max;
+  private final int maxPrecision;
+  private final int maxScale;
+  private final boolean rejectLeadingZeros;
+
+  private NumericString(Builder builder) {
+    this.decimal = builder.decimal;
+    this.min = builder.min == null ? null : Bound.parse(builder.min, "min");
+    this.max = builder.max == null ? null : Bound.parse(builder.max, "max");
+    if (min != null && max != null && Bound.compare(min, max) > 0) {
+      throw new IllegalArgumentException("min is greater than max");
+    }
+    this.maxPrecision = builder.maxPrecision;
+    this.maxScale = builder.maxScale;
+    this.rejectLeadingZeros = builder.rejectLeadingZeros;
+  }
+
+  /**
+   * @return builder of integers: a value cannot have a fractional part
+   */
+  public static Builder integer() {
+    return new Builder(false);
+  }
+
+  /**
+   * @return builder of decimals: a value can have a fractional part
+   */
+  public static Builder decimal() {
+    return new Builder(true);
+  }
+
+  /**
+   * @param value text to be checked
+   * @return true if the value has the format, the number of digits and the limits of this number
+   */
+  public boolean isValid(CharSequence value) {
+    return check(value) == VALID;
+  }
+
+  /**
+   * @return inferior limit, as written in the builder, or null
+   */
+  public String getMin() {
+    return min == null ? null : min.text;
+  }
+
+  /**
+   * @return superior limit, as written in the builder, or null
+   */
+  public String getMax() {
+    return max == null ? null : max.text;
+  }
+
+  /**
+   * @return maximum number of digits or -1 if there is no limit
+   */
+  public int getMaxPrecision() {
+    return maxPrecision;
+  }
+
+  /**
+   * @return maximum number of digits of the fractional part or -1 if there is no limit
+   */
+  public int getMaxScale() {
+    return maxScale;
+  }
+
+  public boolean isDecimal() {
+    return decimal;
+  }
+
+  public boolean isRejectLeadingZeros() {
+    return rejectLeadingZeros;
+  }
+
+  /**
+   * @return {@link #VALID}, {@link #INVALID_FORMAT}, {@link #TOO_MANY_DIGITS} or {@link
+   *     #OUT_OF_RANGE}
+   */
+  int check(CharSequence value) {
+    int length = value.length();
+    int i = 0;
+    boolean negative = false;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      negative = value.charAt(0) == '-';
+      i++;
+    }
+    int start = i;
+    // index of the first digit of the integer part which is not a leading zero or -1
+    int significant = -1;
+    // the first difference between the digits of the value and of a limit, at the same position
+    int minDifference = 0;
+    int maxDifference = 0;
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        break;
+      }
+      if (significant < 0) {
+        if (c == '0') {
+          continue;
+        }
+        significant = i;
+      }
+      int position = i - significant;
+      if (minDifference == 0 && min != null) {
+        minDifference = c - min.integerDigit(position);
+      }
+      if (maxDifference == 0 && max != null) {
+        maxDifference = c - max.integerDigit(position);
+      }
+    }
+    if (i == start || (rejectLeadingZeros && i - start > 1 && value.charAt(start) == '0')) {
+      return INVALID_FORMAT;
+    }
+    int integerDigits = significant < 0 ? 0 : i - significant;
+    boolean zero = significant < 0;
+    int scale = 0;
+    if (i < length) {
+      if (!decimal || value.charAt(i) != '.') {
+        return INVALID_FORMAT;
+      }
+      int fractionStart = ++i;
+      int minFractionDifference = 0;
+      int maxFractionDifference = 0;
+      for (; i < length; i++) {
+        char c = value.charAt(i);
+        if (c < '0' || c > '9') {
+          return INVALID_FORMAT;
+        }
+        if (c != '0') {
+          zero = false;
+        }
+        int position = i - fractionStart;
+        if (minFractionDifference == 0 && min != null) {
+          minFractionDifference = c - min.fractionDigit(position);
+        }
+        if (maxFractionDifference == 0 && max != null) {
+          maxFractionDifference = c - max.fractionDigit(position);
+        }
+      }
+      scale = i - fractionStart;
+      if (scale == 0) {
+        return INVALID_FORMAT;
+      }
+      // the integer parts are compared first, their difference is kept if they differ
+      if (minDifference == 0) {
+        minDifference = minFractionDifference;
+      }
+      if (maxDifference == 0) {
+        maxDifference = maxFractionDifference;
+      }
+    }
+    if ((maxScale != NO_LIMIT && scale > maxScale)
+            || (maxPrecision != NO_LIMIT && integerDigits + scale > maxPrecision)) {
+      return TOO_MANY_DIGITS;
+    }
+    // -0 is 0
+    negative = negative && !zero;
+    if (min != null && min.compareTo(negative, integerDigits, scale, minDifference) > 0) {
+      return OUT_OF_RANGE;
+    }
+    if (max != null && max.compareTo(negative, integerDigits, scale, maxDifference) < 0) {
+      return OUT_OF_RANGE;
+    }
+    return VALID;
+  }
+
+  /**
+   * Checks the format of an integer, allowing leading zeros, and its range. The value is
+   * accumulated into a long; a value which doesn't fit is out of range.
+   *
+   * @return {@link #VALID}, {@link #INVALID_FORMAT} or {@link #OUT_OF_RANGE}
+   */
+  static int checkLong(CharSequence value, long min, long max) {
+    int length = value.length();
+    int i = 0;
+    boolean negative = false;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      negative = value.charAt(0) == '-';
+      i++;
+    }
+    if (i == length) {
+      return INVALID_FORMAT;
+    }
+    // accumulated as a negative number, so Long.MIN_VALUE fits
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long multiplicationLimit = limit / 10;
+    long result = 0;
+    boolean overflow = false;
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return INVALID_FORMAT;
+      }
+      int digit = c - '0';
+      if (overflow || result < multiplicationLimit || result * 10 < limit + digit) {
+        // the remaining characters are still checked for the format
+        overflow = true;
+      } else {
+        result = result * 10 - digit;
+      }
+    }
+    if (overflow) {
+      return OUT_OF_RANGE;
+    }
+    long number = negative ? result : -result;
+    return number >= min && number <= max ? VALID : OUT_OF_RANGE;
+  }
+
+  /**
+   * Limit normalized for the comparison: no leading zeros in the integer part, no trailing zeros in
+   * the fractional part and no sign for zero.
+   */
+  private static final class Bound {
+    private final String text;
+    private final boolean negative;
+    private final String integerDigits;
+    private final String fractionDigits;
+    // the digits again, read while a value is scanned
+    private final char[] integer;
+    private final char[] fraction;
+
+    private Bound(String text, boolean negative, String integerDigits, String fractionDigits) {
+      this.text = text;
+      this.negative = negative;
+      this.integerDigits = integerDigits;
+      this.fractionDigits = fractionDigits;
+      this.integer = integerDigits.toCharArray();
+      this.fraction = fractionDigits.toCharArray();
+    }
+
+    static Bound parse(String text, String name) {
+      int start = text.startsWith("-") || text.startsWith("+") ? 1 : 0;
+      int point = text.indexOf('.');
+      String integer = point < 0 ? text.substring(start) : text.substring(start, point);
+      String fraction = point < 0 ? "" : text.substring(point + 1);
+      if (integer.isEmpty() || !isDigits(integer) || (point >= 0 && fraction.isEmpty())
+              || !isDigits(fraction)) {
+        throw new IllegalArgumentException(name + " is not a number");
+      }
+      int first = 0;
+      while (first < integer.length() && integer.charAt(first) == '0') {
+        first++;
+      }
+      int last = fraction.length();
+      while (last > 0 && fraction.charAt(last - 1) == '0') {
+        last--;
+      }
+      String integerDigits = integer.substring(first);
+      String fractionDigits = fraction.substring(0, last);
+      boolean zero = integerDigits.isEmpty() && fractionDigits.isEmpty();
+      return new Bound(text, text.startsWith("-") && !zero, integerDigits, fractionDigits);
+    }
+
+    private static boolean isDigits(String text) {
+      for (int i = 0; i < text.length(); i++) {
+        if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    static int compare(Bound first, Bound second) {
+      if (first.negative != second.negative) {
+        return first.negative ? -1 : 1;
+      }
+      int magnitude =
+              Integer.compare(first.integerDigits.length(), second.integerDigits.length());
+      if (magnitude == 0) {
+        magnitude = first.integerDigits.compareTo(second.integerDigits);
+      }
+      if (magnitude == 0) {
+        // without trailing zeros, a shorter fractional part is smaller
+        magnitude = first.fractionDigits.compareTo(second.fractionDigits);
+      }
+      return first.negative ? -magnitude : magnitude;
+    }
+
+    char integerDigit(int position) {
+      return position < integer.length ? integer[position] : '0';
+    }
+
+    char fractionDigit(int position) {
+      return position < fraction.length ? fraction[position] : '0';
+    }
+
+    /**
+     * @param negative      sign of the other number, false for zero
+     * @param integerLength number of digits of the integer part, without leading zeros
+     * @param scale         number of digits of the fractional part
+     * @param difference    first difference between the digits of the other number and of this
+     *                      bound, at the same position, or 0
+     * @return a negative number, zero or a positive number as this bound is less than, equal to or
+     *     greater than the other number
+     */
+    int compareTo(boolean negative, int integerLength, int scale, int difference) {
+      if (this.negative != negative) {
+        return this.negative ? -1 : 1;
+      }
+      int magnitude;
+      if (integerDigits.length() != integerLength) {
+        magnitude = integerDigits.length() - integerLength;
+      } else if (difference != 0) {
+        magnitude = -difference;
+      } else {
+        // the remaining digits of the bound end with a digit which is not zero
+        magnitude = fractionDigits.length() > scale ? 1 : 0;
+      }
+      return negative ? -magnitude : magnitude;
+    }
+  }
+
+  public static final class Builder {
+    private final boolean decimal;
+    private String min;
+    private String max;
+    private int maxPrecision = NO_LIMIT;
+    private int maxScale = NO_LIMIT;
+    private boolean rejectLeadingZeros;
+
+    private Builder(boolean decimal) {
+      this.decimal = decimal;
+    }
+
+    /**
+     * @param min inferior limit, included, as a decimal number
+     * @return this builder
+     */
+    public Builder min(String min) {
+      if (min == null) {
+        throw new IllegalArgumentException("min is required");
+      }
+      this.min = min;
+      return this;
+    }
+
+    /**
+     * @param min inferior limit, included
+     * @return this builder
+     */
+    public Builder min(long min) {
+      return min(Long.toString(min));
+    }
+
+    /**
+     * @param max superior limit, included, as a decimal number
+     * @return this builder
+     */
+    public Builder max(String max) {
+      if (max == null) {
+        throw new IllegalArgumentException("max is required");
+      }
+      this.max = max;
+      return this;
+    }
+
+    /**
+     * @param max superior limit, included
+     * @return this builder
+     */
+    public Builder max(long max) {
+      return max(Long.toString(max));
+    }
+
+    /**
+     * Limits the number of digits, the leading zeros of the integer part excluded.
+     *
+     * @param maxPrecision maximum number of digits
+     * @return this builder
+     */
+    public Builder maxPrecision(int maxPrecision) {
+      if (maxPrecision < 1) {
+        throw new IllegalArgumentException("maxPrecision must be positive");
+      }
+      this.maxPrecision = maxPrecision;
+      return this;
+    }
+
+    /**
+     * Limits the number of digits of the fractional part, the trailing zeros included.
+     *
+     * @param maxScale maximum number of digits after the point
+     * @return this builder
+     */
+    public Builder maxScale(int maxScale) {
+      if (maxScale < 0) {
+        throw new IllegalArgumentException("maxScale cannot be negative");
+      }
+      this.maxScale = maxScale;
+      return this;
+    }
+
+    /**
+     * Rejects an integer part starting with zero and having more than one digit, like <code>007
+     * </code> or <code>00.5</code>. <code>0</code> and <code>0.5</code> are accepted.
+     *
+     * @return this builder
+     */
+    public Builder rejectLeadingZeros() {
+      this.rejectLeadingZeros = true;
+      return this;
+    }
+
+    /**
+     * @return number format
+     * @throws IllegalArgumentException if a limit is not a number or min is greater than max.
+     */
+    public NumericString build() {
+      return new NumericString(this);
+    }
+  }
+}
@@ -0,0 +1,380 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import com.github.danitutu.painlessjavavalidator.RegexSubsetParser.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Deterministic automaton matching several patterns at once, built from the syntax trees of {@link
+ * RegexSubsetParser} through a Thompson NFA and the subset construction. The code points are
+ * grouped into the classes that no pattern distinguishes, so the transition table has one column
+ * per class instead of one per code point.
+ *
+ * <p>Matching reads each code point of the value once and doesn't allocate. Instances are
+ * immutable and can be shared between threads.
+ */
+final class RegexAutomaton {
+
+  static final int MAX_STATES = 2000;
+  static final int MAX_TRANSITIONS = 1 << 18;
+  private static final int MAX_NFA_STATES = 20_000;
+  private static final int ASCII = 128;
+  private static final int DEAD = 0;
+
+  // the first code point of each class
+  private final int[] classStarts;
+  private final int[] asciiClasses;
+  private final int[] transitions;
+  private final int classCount;
+  private final int start;
+  // lowest index of the patterns accepted in the state or -1
+  private final int[] accepted;
+
+  private RegexAutomaton(int[] classStarts, int[] transitions, int start, int[] accepted) {
+    this.classStarts = classStarts;
+    this.classCount = classStarts.length;
+    this.transitions = transitions;
+    this.start = start;
+    this.accepted = accepted;
+    this.asciiClasses = new int[ASCII];
+    for (int c = 0; c < ASCII; c++) {
+      asciiClasses[c] = classOf(c);
+    }
+  }
+
+  /**
+   * @param patterns syntax trees
+   * @param indexes  index reported for each pattern
+   * @return automaton or null if it would have more than {@link #MAX_STATES} states or {@link
+   *     #MAX_TRANSITIONS} transitions
+   */
+  static RegexAutomaton build(List<Node> patterns, int[] indexes) {
+    Nfa nfa = new Nfa();
+    int nfaStart = nfa.addEpsilon();
+    for (int i = 0; i < patterns.size(); i++) {
+      int[] fragment = nfa.add(patterns.get(i));
+      if (fragment == null) {
+        return null;
+      }
+      nfa.epsilon(nfaStart, fragment[0]);
+      nfa.epsilon(fragment[1], nfa.addAccept(indexes[i]));
+    }
+    return new Builder(nfa).build(nfaStart);
+  }
+
+  /**
+   * @param value value to be matched entirely
+   * @return lowest index of the patterns matching the value or -1
+   */
+  int match(CharSequence value) {
+    int state = start;
+    int length = value.length();
+    for (int i = 0; i < length; ) {
+      int c = Character.codePointAt(value, i);
+      i += Character.charCount(c);
+      state = transitions[state * classCount + (c < ASCII ? asciiClasses[c] : classOf(c))];
+      if (state == DEAD) {
+        return -1;
+      }
+    }
+    return accepted[state];
+  }
+
+  int stateCount() {
+    return accepted.length;
+  }
+
+  private int classOf(int c) {
+    int low = 0;
+    int high = classStarts.length - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (classStarts[middle] <= c) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Thompson NFA: every state either reads a code point of its ranges, has epsilon transitions or
+   * accepts a pattern.
+   */
+  private static final class Nfa {
+    private final List<int[]> ranges = new ArrayList<>();
+    private final List<Integer> next = new ArrayList<>();
+    private final List<List<Integer>> epsilons = new ArrayList<>();
+    private final List<Integer> accepts = new ArrayList<>();
+
+    int size() {
+      return ranges.size();
+    }
+
+    int addEpsilon() {
+      return addState(null, -1);
+    }
+
+    int addAccept(int index) {
+      return addState(null, index);
+    }
+
+    private int addState(int[] stateRanges, int accept) {
+      ranges.add(stateRanges);
+      next.add(-1);
+      epsilons.add(new ArrayList<>(2));
+      accepts.add(accept);
+      return ranges.size() - 1;
+    }
+
+    void epsilon(int from, int to) {
+      epsilons.get(from).add(to);
+    }
+
+    /**
+     * @return start and end state of the fragment matching the node or null if the NFA gets too
+     *     large
+     */
+    int[] add(Node node) {
+      if (size() > MAX_NFA_STATES) {
+        return null;
+      }
+      switch (node.kind) {
+        case CHARACTERS: {
+          int state = addState(node.ranges, -1);
+          int end = addEpsilon();
+          next.set(state, end);
+          return new int[] {state, end};
+        }
+        case CONCATENATION: {
+          int begin = addEpsilon();
+          int end = begin;
+          for (Node item : node.children) {
+            int[] fragment = add(item);
+            if (fragment == null) {
+              return null;
+            }
+            epsilon(end, fragment[0]);
+            end = fragment[1];
+          }
+          return new int[] {begin, end};
+        }
+        case ALTERNATION: {
+          int begin = addEpsilon();
+          int end = addEpsilon();
+          for (Node branch : node.children) {
+            int[] fragment = add(branch);
+            if (fragment == null) {
+              return null;
+            }
+            epsilon(begin, fragment[0]);
+            epsilon(fragment[1], end);
+          }
+          return new int[] {begin, end};
+        }
+        default:
+          return addRepetition(node.children.get(0), node.min, node.max);
+      }
+    }
+
+    private int[] addRepetition(Node child, int min, int max) {
+      int begin = addEpsilon();
+      int end = begin;
+      for (int i = 0; i < min; i++) {
+        int[] fragment = add(child);
+        if (fragment == null) {
+          return null;
+        }
+        epsilon(end, fragment[0]);
+        end = fragment[1];
+      }
+      if (max == -1) {
+        int loop = addEpsilon();
+        int[] fragment = add(child);
+        if (fragment == null) {
+          return null;
+        }
+        epsilon(end, loop);
+        epsilon(loop, fragment[0]);
+        epsilon(fragment[1], loop);
+        return new int[] {begin, loop};
+      }
+      int last = addEpsilon();
+      for (int i = min; i < max; i++) {
+        int[] fragment = add(child);
+        if (fragment == null) {
+          return null;
+        }
+        epsilon(end, last);
+        epsilon(end, fragment[0]);
+        end = fragment[1];
+      }
+      epsilon(end, last);
+      return new int[] {begin, last};
+    }
+  }
+
+  /**
+   * Subset construction over the classes of code points.
+   */
+  private static final class Builder {
+    private final Nfa nfa;
+    private final int[] classStarts;
+    // classes read by each NFA state having ranges
+    private final BitSet[] classes;
+    private final int[] marks;
+    private final int[] stack;
+    private int generation;
+
+    private Builder(Nfa nfa) {
+      this.nfa = nfa;
+      TreeSet<Integer> starts = new TreeSet<>();
+      starts.add(0);
+      for (int[] stateRanges : nfa.ranges) {
+        if (stateRanges == null) {
+          continue;
+        }
+        for (int i = 0; i < stateRanges.length; i += 2) {
+          starts.add(stateRanges[i]);
+          if (stateRanges[i + 1] < Character.MAX_CODE_POINT) {
+            starts.add(stateRanges[i + 1] + 1);
+          }
+        }
+      }
+      this.classStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+      this.classes = new BitSet[nfa.size()];
+      for (int s = 0; s < nfa.size(); s++) {
+        int[] stateRanges = nfa.ranges.get(s);
+        if (stateRanges == null) {
+          continue;
+        }
+        classes[s] = new BitSet(classStarts.length);
+        for (int i = 0; i < stateRanges.length; i += 2) {
+          int from = Arrays.binarySearch(classStarts, stateRanges[i]);
+          int to =
+                  stateRanges[i + 1] == Character.MAX_CODE_POINT
+                          ? classStarts.length
+                          : Arrays.binarySearch(classStarts, stateRanges[i + 1] + 1);
+          classes[s].set(from, to);
+        }
+      }
+      this.marks = new int[nfa.size()];
+      this.stack = new int[nfa.size()];
+    }
+
+    private RegexAutomaton build(int nfaStart) {
+      int classCount = classStarts.length;
+      List<int[]> states = new ArrayList<>();
+      Map<StateKey, Integer> ids = new HashMap<>();
+      // the dead state has no NFA states and loops on itself
+      states.add(new int[0]);
+      ids.put(new StateKey(new int[0]), DEAD);
+      int start = id(closure(new int[] {nfaStart}), states, ids);
+      int[] transitions = new int[classCount * 16];
+      int[] moved = new int[nfa.size()];
+      for (int d = 0; d < states.size(); d++) {
+        if (states.size() > MAX_STATES || (long) states.size() * classCount > MAX_TRANSITIONS) {
+          return null;
+        }
+        if ((d + 1) * classCount > transitions.length) {
+          transitions = Arrays.copyOf(transitions, transitions.length * 2);
+        }
+        int[] state = states.get(d);
+        for (int c = 0; c < classCount; c++) {
+          int size = 0;
+          for (int s : state) {
+            if (classes[s] != null && classes[s].get(c)) {
+              moved[size++] = nfa.next.get(s);
+            }
+          }
+          transitions[d * classCount + c] =
+                  size == 0 ? DEAD : id(closure(Arrays.copyOf(moved, size)), states, ids);
+        }
+      }
+      int[] accepted = new int[states.size()];
+      for (int d = 0; d < states.size(); d++) {
+        accepted[d] = -1;
+        for (int s : states.get(d)) {
+          int accept = nfa.accepts.get(s);
+          if (accept >= 0 && (accepted[d] < 0 || accept < accepted[d])) {
+            accepted[d] = accept;
+          }
+        }
+      }
+      return new RegexAutomaton(
+              classStarts,
+              Arrays.copyOf(transitions, states.size() * classCount),
+              start,
+              accepted);
+    }
+
+    private static int id(int[] state, List<int[]> states, Map<StateKey, Integer> ids) {
+      StateKey key = new StateKey(state);
+      Integer id = ids.get(key);
+      if (id == null) {
+        id = states.size();
+        states.add(state);
+        ids.put(key, id);
+      }
+      return id;
+    }
+
+    /**
+     * @return sorted states reading a code point or accepting a pattern, reachable through epsilon
+     *     transitions
+     */
+    private int[] closure(int[] from) {
+      generation++;
+      int size = 0;
+      for (int s : from) {
+        if (marks[s] != generation) {
+          marks[s] = generation;
+          stack[size++] = s;
+        }
+      }
+      List<Integer> result = new ArrayList<>();
+      while (size > 0) {
+        int s = stack[--size];
+        if (nfa.ranges.get(s) != null || nfa.accepts.get(s) >= 0) {
+          result.add(s);
+        }
+        for (int target : nfa.epsilons.get(s)) {
+          if (marks[target] != generation) {
+            marks[target] = generation;
+            stack[size++] = target;
+          }
+        }
+      }
+      int[] state = result.stream().mapToInt(Integer::intValue).toArray();
+      Arrays.sort(state);
+      return state;
+    }
+  }
+
+  private static final class StateKey {
+    private final int[] states;
+    private final int hash;
+
+    private StateKey(int[] states) {
+      this.states = states;
+      this.hash = Arrays.hashCode(states);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof StateKey && Arrays.equals(states, ((StateKey) o).states);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import com.github.danitutu.painlessjavavalidator.RegexSubsetParser.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Patterns compiled once, used by {@link ValidationRule#matchAnyRegex(String, CharSequence,
+ * RegexSet)} and {@link ValidationRule#matchNoRegex(String, CharSequence, RegexSet)}. As with
+ * {@link ValidationRule#matchPattern(String, String, Pattern)}, a pattern matches a value if it
+ * matches the entire value.
+ *
+ * <p>The patterns describing a regular language (literals, <code>.</code>, <code>\d \w \s</code>
+ * and their negations, character classes with ranges, groups, alternation and greedy or reluctant
+ * quantifiers) are combined into deterministic automata, which read the value once for all of
+ * them. The automata are kept below a size limit, so a large set may be split into a few of them.
+ * The other patterns, for example the ones having back references or lookarounds, are matched one
+ * by one with {@link Pattern}.
+ *
+ * <pre>
+ * private static final RegexSet PRODUCT_CODES =
+ *         RegexSet.compile("[A-Z]{2}-\\d{4}", "X\\d{6}", "(EU|US)[0-9A-F]{8}");
+ *
+ * ValidationRule.matchAnyRegex("input.code", input.getCode(), PRODUCT_CODES)
+ * </pre>
+ *
+ * <p>Instances are immutable and can be shared between threads.
+ */
+public final class RegexSet {
+
+  private final List<String> patterns;
+  private final RegexAutomaton[] automata;
+  // indexes of the patterns matched with Pattern, in ascending order
+  private final int[] fallbackIndexes;
+  private final Pattern[] fallbackPatterns;
+
+  private RegexSet(List<String> patterns) {
+    this.patterns = Collections.unmodifiableList(new ArrayList<>(patterns));
+    List<Node> nodes = new ArrayList<>();
+    List<Integer> indexes = new ArrayList<>();
+    List<Integer> fallback = new ArrayList<>();
+    for (int i = 0; i < patterns.size(); i++) {
+      String regex = patterns.get(i);
+      if (regex == null) {
+        throw new IllegalArgumentException("regexes cannot contain null");
+      }
+      // throws PatternSyntaxException for invalid patterns
+      Pattern.compile(regex);
+      Node node = RegexSubsetParser.parse(regex);
+      if (node == null) {
+        fallback.add(i);
+      } else {
+        nodes.add(node);
+        indexes.add(i);
+      }
+    }
+    List<RegexAutomaton> built = new ArrayList<>();
+    split(nodes, indexes, built, fallback);
+    this.automata = built.toArray(new RegexAutomaton[0]);
+    Collections.sort(fallback);
+    this.fallbackIndexes = fallback.stream().mapToInt(Integer::intValue).toArray();
+    this.fallbackPatterns = new Pattern[fallbackIndexes.length];
+    for (int i = 0; i < fallbackIndexes.length; i++) {
+      fallbackPatterns[i] = Pattern.compile(patterns.get(fallbackIndexes[i]));
+    }
+  }
+
+  /**
+   * Builds one automaton for all patterns or, if it would be too large, adds the patterns one by
+   * one to an automaton and starts a new one when the limit is reached. A pattern too large for an
+   * automaton of its own is matched with {@link Pattern}.
+   */
+  private static void split(
+          List<Node> nodes,
+          List<Integer> indexes,
+          List<RegexAutomaton> automata,
+          List<Integer> fallback) {
+    if (nodes.isEmpty()) {
+      return;
+    }
+    RegexAutomaton all = RegexAutomaton.build(nodes, toArray(indexes));
+    if (all != null) {
+      automata.add(all);
+      return;
+    }
+    List<Node> group = new ArrayList<>();
+    List<Integer> groupIndexes = new ArrayList<>();
+    RegexAutomaton current = null;
+    for (int i = 0; i < nodes.size(); i++) {
+      group.add(nodes.get(i));
+      groupIndexes.add(indexes.get(i));
+      RegexAutomaton candidate = RegexAutomaton.build(group, toArray(groupIndexes));
+      if (candidate != null) {
+        current = candidate;
+        continue;
+      }
+      if (current != null) {
+        automata.add(current);
+      }
+      group.clear();
+      groupIndexes.clear();
+      group.add(nodes.get(i));
+      groupIndexes.add(indexes.get(i));
+      current = RegexAutomaton.build(group, toArray(groupIndexes));
+      if (current == null) {
+        fallback.add(indexes.get(i));
+        group.clear();
+        groupIndexes.clear();
+      }
+    }
+    if (current != null) {
+      automata.add(current);
+    }
+  }
+
+  private static int[] toArray(List<Integer> values) {
+    return values.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * @param regexes valid patterns
+   * @return set
+   * @throws java.util.regex.PatternSyntaxException if any of the patterns is not valid
+   */
+  public static RegexSet compile(String... regexes) {
+    if (regexes == null) {
+      throw new IllegalArgumentException("regexes is required");
+    }
+    return compile(Arrays.asList(regexes));
+  }
+
+  /**
+   * @param regexes valid patterns
+   * @return set
+   * @throws java.util.regex.PatternSyntaxException if any of the patterns is not valid
+   */
+  public static RegexSet compile(Collection<String> regexes) {
+    if (regexes == null) {
+      throw new IllegalArgumentException("regexes is required");
+    }
+    return new RegexSet(new ArrayList<>(regexes));
+  }
+
+  /**
+   * @param value value to be matched entirely
+   * @return index of the first pattern matching the value or -1
+   */
+  public int firstMatch(CharSequence value) {
+    int first = Integer.MAX_VALUE;
+    for (RegexAutomaton automaton : automata) {
+      int index = automaton.match(value);
+      if (index >= 0 && index < first) {
+        first = index;
+      }
+    }
+    for (int i = 0; i < fallbackPatterns.length && fallbackIndexes[i] < first; i++) {
+      if (fallbackPatterns[i].matcher(value).matches()) {
+        first = fallbackIndexes[i];
+      }
+    }
+    return first == Integer.MAX_VALUE ? -1 : first;
+  }
+
+  /**
+   * @param value value to be matched entirely
+   * @return true if any of the patterns matches the value
+   */
+  public boolean matchesAny(CharSequence value) {
+    for (RegexAutomaton automaton : automata) {
+      if (automaton.match(value) >= 0) {
+        return true;
+      }
+    }
+    for (Pattern pattern : fallbackPatterns) {
+      if (pattern.matcher(value).matches()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public List<String> getPatterns() {
+    return patterns;
+  }
+
+  int automatonCount() {
+    return automata.length;
+  }
+
+  int fallbackCount() {
+    return fallbackPatterns.length;
+  }
+}
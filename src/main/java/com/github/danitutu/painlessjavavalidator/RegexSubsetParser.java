@@ -0,0 +1,416 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the subset of the {@link java.util.regex.Pattern} syntax that describes a regular
+ * language, so a pattern can be compiled into a {@link RegexAutomaton} and give the same result as
+ * <code>Matcher.matches()</code>:
+ *
+ * <ul>
+ *   <li>literals, <code>.</code>, <code>\d \D \w \W \s \S</code>, the escapes <code>\t \n \r \f
+ *       \a \e</code> and escaped characters which are not letters or digits
+ *   <li>character classes having ranges, negation and the escapes above
+ *   <li>capturing and non capturing groups, alternation
+ *   <li>greedy and reluctant quantifiers <code>* + ? {n} {n,} {n,m}</code>
+ *   <li><code>^</code> at the beginning and <code>$</code> at the end of the pattern, which don't
+ *       change the result of a match of the whole input
+ * </ul>
+ *
+ * <p>Anything else, for example back references, lookarounds, possessive quantifiers, flags,
+ * boundaries or nested classes, is reported as not supported and the pattern is matched with
+ * {@link java.util.regex.Pattern} instead. The pattern is expected to be a valid one.
+ */
+final class RegexSubsetParser {
+
+  static final int MAX_REPETITION = 1000;
+
+  private static final int[] DIGIT = {'0', '9'};
+  private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+  private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+  // any character except the line terminators: LF, CR, U+0085, U+2028 and U+2029
+  private static final int[] DOT =
+          complement(new int[] {'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029});
+
+  private final String regex;
+  private final int end;
+  private int position;
+
+  private RegexSubsetParser(String regex, int start, int end) {
+    this.regex = regex;
+    this.position = start;
+    this.end = end;
+  }
+
+  /**
+   * @param regex valid pattern
+   * @return syntax tree or null if the pattern is not supported
+   */
+  static Node parse(String regex) {
+    int start = regex.startsWith("^") ? 1 : 0;
+    int end = regex.length();
+    if (end > start && regex.charAt(end - 1) == '$' && !isEscaped(regex, end - 1)) {
+      end--;
+    }
+    try {
+      RegexSubsetParser parser = new RegexSubsetParser(regex, start, end);
+      Node node = parser.parseAlternation();
+      if (parser.position != end) {
+        throw new UnsupportedSyntax();
+      }
+      return node;
+    } catch (UnsupportedSyntax e) {
+      return null;
+    }
+  }
+
+  private static boolean isEscaped(String regex, int index) {
+    int backslashes = 0;
+    for (int i = index - 1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+      backslashes++;
+    }
+    return backslashes % 2 == 1;
+  }
+
+  private Node parseAlternation() {
+    List<Node> branches = new ArrayList<>();
+    branches.add(parseConcatenation());
+    while (position < end && peek() == '|') {
+      position++;
+      branches.add(parseConcatenation());
+    }
+    return branches.size() == 1 ? branches.get(0) : Node.alternation(branches);
+  }
+
+  private Node parseConcatenation() {
+    List<Node> items = new ArrayList<>();
+    while (position < end && peek() != '|' && peek() != ')') {
+      items.add(parseRepetition());
+    }
+    return items.size() == 1 ? items.get(0) : Node.concatenation(items);
+  }
+
+  private Node parseRepetition() {
+    Node atom = parseAtom();
+    if (position == end) {
+      return atom;
+    }
+    int min;
+    int max;
+    int c = peek();
+    if (c == '*') {
+      min = 0;
+      max = -1;
+      position++;
+    } else if (c == '+') {
+      min = 1;
+      max = -1;
+      position++;
+    } else if (c == '?') {
+      min = 0;
+      max = 1;
+      position++;
+    } else if (c == '{') {
+      position++;
+      min = parseNumber();
+      max = min;
+      if (position < end && peek() == ',') {
+        position++;
+        max = position < end && peek() == '}' ? -1 : parseNumber();
+      }
+      expect('}');
+      if (max != -1 && max < min) {
+        throw new UnsupportedSyntax();
+      }
+    } else {
+      return atom;
+    }
+    if (position < end) {
+      int modifier = peek();
+      if (modifier == '?') {
+        // a reluctant quantifier matches the same inputs when the whole input has to match
+        position++;
+      } else if (modifier == '+' || modifier == '*' || modifier == '{') {
+        throw new UnsupportedSyntax();
+      }
+    }
+    return Node.repetition(atom, min, max);
+  }
+
+  private int parseNumber() {
+    int start = position;
+    int number = 0;
+    while (position < end && peek() >= '0' && peek() <= '9') {
+      number = number * 10 + (next() - '0');
+      if (number > MAX_REPETITION) {
+        throw new UnsupportedSyntax();
+      }
+    }
+    if (position == start) {
+      throw new UnsupportedSyntax();
+    }
+    return number;
+  }
+
+  private Node parseAtom() {
+    int c = next();
+    switch (c) {
+      case '(':
+        if (position < end && peek() == '?') {
+          position++;
+          expect(':');
+        }
+        Node group = parseAlternation();
+        expect(')');
+        return group;
+      case '[':
+        return Node.characters(parseClass());
+      case '.':
+        return Node.characters(DOT);
+      case '\\':
+        return Node.characters(parseEscape());
+      case ')':
+      case '*':
+      case '+':
+      case '?':
+      case '{':
+      case '^':
+      case '$':
+      case '|':
+        throw new UnsupportedSyntax();
+      default:
+        return Node.characters(new int[] {c, c});
+    }
+  }
+
+  private int[] parseClass() {
+    boolean negated = position < end && peek() == '^';
+    if (negated) {
+      position++;
+    }
+    if (position < end && peek() == ']') {
+      throw new UnsupportedSyntax();
+    }
+    int[] ranges = new int[0];
+    while (true) {
+      if (position == end) {
+        throw new UnsupportedSyntax();
+      }
+      int c = next();
+      if (c == ']') {
+        break;
+      }
+      if (c == '[' || (c == '&' && position < end && peek() == '&')) {
+        throw new UnsupportedSyntax();
+      }
+      int[] item;
+      if (c == '\\') {
+        item = parseEscape();
+        if (item.length > 2 || item[0] != item[1]) {
+          // a predefined class cannot start a range
+          ranges = union(ranges, item);
+          if (position + 1 < end && peek() == '-' && regex.codePointAt(position + 1) != ']') {
+            throw new UnsupportedSyntax();
+          }
+          continue;
+        }
+        c = item[0];
+      }
+      int last = c;
+      if (position + 1 < end && peek() == '-' && regex.codePointAt(position + 1) != ']') {
+        position++;
+        last = next();
+        if (last == '[') {
+          throw new UnsupportedSyntax();
+        }
+        if (last == '\\') {
+          int[] escaped = parseEscape();
+          if (escaped.length > 2 || escaped[0] != escaped[1]) {
+            throw new UnsupportedSyntax();
+          }
+          last = escaped[0];
+        }
+        if (last < c) {
+          throw new UnsupportedSyntax();
+        }
+      }
+      ranges = union(ranges, new int[] {c, last});
+    }
+    return negated ? complement(ranges) : ranges;
+  }
+
+  /**
+   * @return ranges matched by the escape following a backslash
+   */
+  private int[] parseEscape() {
+    if (position == end) {
+      throw new UnsupportedSyntax();
+    }
+    int c = next();
+    switch (c) {
+      case 'd':
+        return DIGIT;
+      case 'D':
+        return complement(DIGIT);
+      case 'w':
+        return WORD;
+      case 'W':
+        return complement(WORD);
+      case 's':
+        return SPACE;
+      case 'S':
+        return complement(SPACE);
+      case 't':
+        return new int[] {'\t', '\t'};
+      case 'n':
+        return new int[] {'\n', '\n'};
+      case 'r':
+        return new int[] {'\r', '\r'};
+      case 'f':
+        return new int[] {'\f', '\f'};
+      case 'a':
+        return new int[] {7, 7};
+      case 'e':
+        return new int[] {27, 27};
+      default:
+        if (Character.isLetterOrDigit(c)) {
+          throw new UnsupportedSyntax();
+        }
+        return new int[] {c, c};
+    }
+  }
+
+  private int peek() {
+    return regex.codePointAt(position);
+  }
+
+  private int next() {
+    int c = regex.codePointAt(position);
+    position += Character.charCount(c);
+    if (position > end) {
+      throw new UnsupportedSyntax();
+    }
+    return c;
+  }
+
+  private void expect(int c) {
+    if (position == end || next() != c) {
+      throw new UnsupportedSyntax();
+    }
+  }
+
+  /**
+   * @param ranges sorted, disjoint and not adjacent <code>[from, to]</code> pairs
+   * @return the code points not in the ranges, as pairs
+   */
+  static int[] complement(int[] ranges) {
+    int[] result = new int[ranges.length + 2];
+    int size = 0;
+    int from = 0;
+    for (int i = 0; i < ranges.length; i += 2) {
+      if (ranges[i] > from) {
+        result[size++] = from;
+        result[size++] = ranges[i] - 1;
+      }
+      from = ranges[i + 1] + 1;
+    }
+    if (from <= Character.MAX_CODE_POINT) {
+      result[size++] = from;
+      result[size++] = Character.MAX_CODE_POINT;
+    }
+    int[] trimmed = new int[size];
+    System.arraycopy(result, 0, trimmed, 0, size);
+    return trimmed;
+  }
+
+  /**
+   * @return sorted, disjoint and not adjacent pairs covering both range lists
+   */
+  static int[] union(int[] first, int[] second) {
+    int[] all = new int[first.length + second.length];
+    System.arraycopy(first, 0, all, 0, first.length);
+    System.arraycopy(second, 0, all, first.length, second.length);
+    // sort the pairs by their start
+    for (int i = 2; i < all.length; i += 2) {
+      int from = all[i];
+      int to = all[i + 1];
+      int j = i - 2;
+      while (j >= 0 && all[j] > from) {
+        all[j + 2] = all[j];
+        all[j + 3] = all[j + 1];
+        j -= 2;
+      }
+      all[j + 2] = from;
+      all[j + 3] = to;
+    }
+    int[] result = new int[all.length];
+    int size = 0;
+    for (int i = 0; i < all.length; i += 2) {
+      if (size > 0 && all[i] <= result[size - 1] + 1) {
+        result[size - 1] = Math.max(result[size - 1], all[i + 1]);
+      } else {
+        result[size++] = all[i];
+        result[size++] = all[i + 1];
+      }
+    }
+    int[] trimmed = new int[size];
+    System.arraycopy(result, 0, trimmed, 0, size);
+    return trimmed;
+  }
+
+  /**
+   * Node of the syntax tree of a pattern.
+   */
+  static final class Node {
+
+    enum Kind {
+      CHARACTERS,
+      CONCATENATION,
+      ALTERNATION,
+      REPETITION
+    }
+
+    final Kind kind;
+    final int[] ranges;
+    final List<Node> children;
+    final int min;
+    // -1 for no limit
+    final int max;
+
+    private Node(Kind kind, int[] ranges, List<Node> children, int min, int max) {
+      this.kind = kind;
+      this.ranges = ranges;
+      this.children = children;
+      this.min = min;
+      this.max = max;
+    }
+
+    static Node characters(int[] ranges) {
+      return new Node(Kind.CHARACTERS, ranges, null, 0, 0);
+    }
+
+    static Node concatenation(List<Node> items) {
+      return new Node(Kind.CONCATENATION, null, items, 0, 0);
+    }
+
+    static Node alternation(List<Node> branches) {
+      return new Node(Kind.ALTERNATION, null, branches, 0, 0);
+    }
+
+    static Node repetition(Node child, int min, int max) {
+      List<Node> children = new ArrayList<>();
+      children.add(child);
+      return new Node(Kind.REPETITION, null, children, min, max);
+    }
+  }
+
+  private static final class UnsupportedSyntax extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private UnsupportedSyntax() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable set of strings used by {@link ValidationRule#oneOf(String, CharSequence, StringSet)}
+ * and {@link ValidationRule#noneOf(String, CharSequence, StringSet)}. The strings are kept in an
+ * open addressing table together with their hash codes. Any {@link CharSequence} can be checked:
+ * its hash code is computed the way {@link String#hashCode()} does (or taken from the string
+ * itself, where it is cached) and the characters are compared in place, so no string is created.
+ * Create it once and reuse it.
+ */
+public final class StringSet {
+
+  private final String[] table;
+  private final int[] hashes;
+  private final int mask;
+  private final List<String> values;
+
+  private StringSet(Collection<String> values) {
+    this.table = new String[IntSet.capacity(values.size())];
+    this.hashes = new int[table.length];
+    this.mask = table.length - 1;
+    List<String> distinct = new ArrayList<>();
+    for (String value : values) {
+      if (value == null) {
+        throw new IllegalArgumentException("values cannot contain null");
+      }
+      if (add(value)) {
+        distinct.add(value);
+      }
+    }
+    this.values = Collections.unmodifiableList(distinct);
+  }
+
+  /**
+   * @param values values of the set, duplicates are ignored
+   * @return set
+   */
+  public static StringSet of(String... values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    return of(Arrays.asList(values));
+  }
+
+  /**
+   * @param values values of the set, duplicates are ignored
+   * @return set
+   */
+  public static StringSet of(Collection<String> values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    return new StringSet(values);
+  }
+
+  /**
+   * Creates the set of the names of the enum constants, for values received as text.
+   *
+   * @param type enum type
+   * @param <E>  enum type
+   * @return set
+   */
+  public static <E extends Enum<E>> StringSet ofNames(Class<E> type) {
+    if (type == null) {
+      throw new IllegalArgumentException("type is required");
+    }
+    List<String> names = new ArrayList<>();
+    for (E constant : type.getEnumConstants()) {
+      names.add(constant.name());
+    }
+    return new StringSet(names);
+  }
+
+  public boolean contains(CharSequence value) {
+    int hash = hash(value);
+    for (int i = index(hash); ; i = (i + 1) & mask) {
+      String key = table[i];
+      if (key == null) {
+        return false;
+      }
+      if (hashes[i] == hash && key.contentEquals(value)) {
+        return true;
+      }
+    }
+  }
+
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * @return values in the order they were given
+   */
+  public List<String> values() {
+    return values;
+  }
+
+  private boolean add(String value) {
+    int hash = value.hashCode();
+    int i = index(hash);
+    while (table[i] != null) {
+      if (table[i].equals(value)) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    table[i] = value;
+    hashes[i] = hash;
+    return true;
+  }
+
+  private int index(int hash) {
+    int mixed = hash * 0x9e3779b9;
+    return (mixed ^ (mixed >>> 16)) & mask;
+  }
+
+  private static int hash(CharSequence value) {
+    if (value instanceof String) {
+      return value.hashCode();
+    }
+    int hash = 0;
+    for (int i = 0; i < value.length(); i++) {
+      hash = 31 * hash + value.charAt(i);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return values.toString();
+  }
+}
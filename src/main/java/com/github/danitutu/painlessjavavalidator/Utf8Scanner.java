@@ -0,0 +1,182 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Scans UTF-8 encoded bytes without decoding them into a string. The bytes are read either from
+ * an array or, for buffers not backed by an accessible array, with the absolute getters of the
+ * buffer, so neither the buffer position nor its content is changed and nothing is allocated.
+ *
+ * <p>Well-formed means the shortest form encoding of a code point which is not a surrogate and not
+ * greater than U+10FFFF, as defined by RFC 3629.
+ */
+final class Utf8Scanner {
+
+  static final int MALFORMED = -1;
+
+  private Utf8Scanner() {
+  }
+
+  /**
+   * @return number of code points or {@link #MALFORMED}
+   */
+  static int length(byte[] array, int from, int to) {
+    return length(array, null, from, to);
+  }
+
+  /**
+   * @return number of code points between the position and the limit or {@link #MALFORMED}
+   */
+  static int length(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset();
+      return length(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+    }
+    return length(null, buffer, buffer.position(), buffer.limit());
+  }
+
+  /**
+   * @return true if the bytes are empty or encode only whitespace; malformed bytes are not blank
+   */
+  static boolean isBlank(byte[] array, int from, int to) {
+    return isBlank(array, null, from, to);
+  }
+
+  static boolean isBlank(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset();
+      return isBlank(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+    }
+    return isBlank(null, buffer, buffer.position(), buffer.limit());
+  }
+
+  static boolean isAscii(byte[] array, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (array[i] < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean isAscii(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset();
+      return isAscii(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+    }
+    for (int i = buffer.position(); i < buffer.limit(); i++) {
+      if (buffer.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int length(byte[] array, ByteBuffer buffer, int from, int to) {
+    int count = 0;
+    int i = from;
+    while (i < to) {
+      int lead = get(array, buffer, i);
+      if (lead >= 0) {
+        // ASCII, the most frequent case
+        i++;
+      } else {
+        int size = sequenceSize(lead);
+        if (size == 0 || i + size > to || decode(array, buffer, i, size) == MALFORMED) {
+          return MALFORMED;
+        }
+        i += size;
+      }
+      count++;
+    }
+    return count;
+  }
+
+  private static boolean isBlank(byte[] array, ByteBuffer buffer, int from, int to) {
+    int i = from;
+    while (i < to) {
+      int lead = get(array, buffer, i);
+      int codePoint;
+      int size;
+      if (lead >= 0) {
+        codePoint = lead;
+        size = 1;
+      } else {
+        size = sequenceSize(lead);
+        if (size == 0 || i + size > to) {
+          return false;
+        }
+        codePoint = decode(array, buffer, i, size);
+        if (codePoint == MALFORMED) {
+          return false;
+        }
+      }
+      if (!Character.isWhitespace(codePoint)) {
+        return false;
+      }
+      i += size;
+    }
+    return true;
+  }
+
+  /**
+   * @param lead first byte of a sequence, as a signed value
+   * @return number of bytes of the sequence or 0 if the byte cannot start a sequence
+   */
+  private static int sequenceSize(int lead) {
+    int b = lead & 0xff;
+    if (b < 0x80) {
+      return 1;
+    }
+    // 0xc0 and 0xc1 could only start an overlong encoding of ASCII
+    if (b >= 0xc2 && b <= 0xdf) {
+      return 2;
+    }
+    if (b >= 0xe0 && b <= 0xef) {
+      return 3;
+    }
+    if (b >= 0xf0 && b <= 0xf4) {
+      return 4;
+    }
+    return 0;
+  }
+
+  /**
+   * @return code point of the sequence or {@link #MALFORMED}
+   */
+  private static int decode(byte[] array, ByteBuffer buffer, int i, int size) {
+    int lead = get(array, buffer, i) & 0xff;
+    int second = get(array, buffer, i + 1) & 0xff;
+    if ((second & 0xc0) != 0x80) {
+      return MALFORMED;
+    }
+    if (size == 2) {
+      return ((lead & 0x1f) << 6) | (second & 0x3f);
+    }
+    // the ranges of the second byte exclude overlong encodings, surrogates and values above
+    // U+10FFFF
+    if ((lead == 0xe0 && second < 0xa0)
+            || (lead == 0xed && second > 0x9f)
+            || (lead == 0xf0 && second < 0x90)
+            || (lead == 0xf4 && second > 0x8f)) {
+      return MALFORMED;
+    }
+    int third = get(array, buffer, i + 2) & 0xff;
+    if ((third & 0xc0) != 0x80) {
+      return MALFORMED;
+    }
+    if (size == 3) {
+      return ((lead & 0x0f) << 12) | ((second & 0x3f) << 6) | (third & 0x3f);
+    }
+    int fourth = get(array, buffer, i + 3) & 0xff;
+    if ((fourth & 0xc0) != 0x80) {
+      return MALFORMED;
+    }
+    return ((lead & 0x07) << 18) | ((second & 0x3f) << 12) | ((third & 0x3f) << 6)
+            | (fourth & 0x3f);
+  }
+
+  private static int get(byte[] array, ByteBuffer buffer, int i) {
+    return array != null ? array[i] : buffer.get(i);
+  }
+}
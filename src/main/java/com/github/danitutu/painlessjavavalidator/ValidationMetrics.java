@@ -0,0 +1,22 @@
+package com.github.danitutu.painlessjavavalidator;
+
+/**
+ * Receives a measurement for each validation run by a {@link ConfiguredValidationEngine}. It can be
+ * implemented to publish the measurements to a metrics library. Implementations are called on the
+ * validating thread, so they should be fast and thread safe.
+ */
+public interface ValidationMetrics {
+
+  /**
+   * Metrics which ignore the measurements. When used, the engine doesn't measure anything.
+   */
+  ValidationMetrics NONE = (durationNanos, violations, limitReached) -> {};
+
+  /**
+   * @param durationNanos time spent running the rules, in nanoseconds
+   * @param violations number of violations found
+   * @param limitReached whether the rules were not all run because the maximum number of
+   *     violations was reached
+   */
+  void record(long durationNanos, int violations, boolean limitReached);
+}
@@ -2,21 +2,180 @@ package com.github.danitutu.painlessjavavalidator;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
 
-import static java.util.Collections.singletonMap;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 
 public class ValidationRule {
 
-  private static final String VALIDATION_ERROR_VALUE_IS_REQUIRED_MESSAGE =
-          "validation.error.value.is.required";
-  private static final String VALIDATION_ERROR_VALUE_IS_REQUIRED_DETAILS = "The value is required.";
   private static final String PARAM_NAME_OTHER = "other";
+  private static final String PARAM_NAME_NOW = "now";
+  private static final String PARAM_NAME_FORMAT = "format";
+  private static final String PARAM_NAME_VALUES = "values";
+  private static final String FORMAT_EMAIL = "email";
+  private static final String FORMAT_UUID = "uuid";
+  private static final String FORMAT_ISO_DATE = "iso-date";
+  private static final String FORMAT_ISO_DATE_TIME = "iso-date-time";
+  private static final String FORMAT_LUHN = "luhn";
+  private static final String FORMAT_IBAN = "iban";
+  private static final String FORMAT_ISBN = "isbn";
+  private static final String FORMAT_UTF_8 = "utf-8";
+  private static final String FORMAT_ASCII = "ascii";
+  private static final String FORMAT_INTEGER = "integer";
+  private static final String FORMAT_DECIMAL = "decimal";
+
+  // the violations of the built-in rules; a template is shared by all the violations of a kind
+  private static final ViolationTemplate VALUE_IS_NOT_NULL = ViolationTemplate.of(
+          "validation.error.value.is.not.null",
+          "The value is not null.");
+  private static final ViolationTemplate VALUE_IS_REQUIRED = ViolationTemplate.of(
+          "validation.error.value.is.required",
+          "The value is required.");
+  private static final ViolationTemplate VALUE_IS_NOT_EMPTY = ViolationTemplate.of(
+          "validation.error.value.is.not.empty",
+          "The value is not empty.");
+  private static final ViolationTemplate VALUE_IS_NOT_BLANK = ViolationTemplate.of(
+          "validation.error.value.is.not.blank",
+          "The value is empty.");
+  private static final ViolationTemplate STRING_VALUE_NOT_BETWEEN = ViolationTemplate.of(
+          "validation.error.string.value.not.between",
+          "Value is not in range.",
+          "min",
+          "max");
+  private static final ViolationTemplate STRING_VALUE_REGEX_NO_MATCH = ViolationTemplate.of(
+          "validation.error.string.value.regex.no.match",
+          "Value does not match the expected regex.",
+          "regexPattern");
+  private static final ViolationTemplate STRING_VALUE_NO_REGEX_MATCHES = ViolationTemplate.of(
+          "validation.error.string.value.regex.no.match",
+          "Value does not match any of the expected regexes.",
+          "regexPatterns");
+  private static final ViolationTemplate STRING_VALUE_REGEX_MATCH = ViolationTemplate.of(
+          "validation.error.string.value.regex.match",
+          "Value matches a forbidden regex.",
+          "regexPattern");
+  private static final ViolationTemplate STRING_VALUE_CONTAINS_BLOCKED_TERM = ViolationTemplate.of(
+          "validation.error.string.value.contains.blocked.term",
+          "Value contains a blocked term.",
+          "terms");
+  private static final ViolationTemplate STRING_VALUE_INVALID_FORMAT = ViolationTemplate.of(
+          "validation.error.string.value.invalid.format",
+          "Value does not have the expected format.",
+          PARAM_NAME_FORMAT);
+  private static final ViolationTemplate VALUE_NOT_ONE_OF = ViolationTemplate.of(
+          "validation.error.value.not.one.of",
+          "The value is not one of the allowed values.",
+          PARAM_NAME_VALUES);
+  private static final ViolationTemplate VALUE_IS_ONE_OF = ViolationTemplate.of(
+          "validation.error.value.is.one.of",
+          "The value is one of the forbidden values.",
+          PARAM_NAME_VALUES);
+  private static final ViolationTemplate INTEGER_VALUE_NOT_IN_RANGE = ViolationTemplate.of(
+          "validation.error.integer.value.not.in.range",
+          "Value is not in range.",
+          "min",
+          "max");
+  private static final ViolationTemplate INTEGER_VALUE_SMALLER_THAN_MIN = ViolationTemplate.of(
+          "validation.error.integer.value.smaller.than.min",
+          "Value is smaller than min.",
+          "min");
+  private static final ViolationTemplate INTEGER_VALUE_GREATER_THAN_MAX = ViolationTemplate.of(
+          "validation.error.integer.value.greater.than.max",
+          "Value is greater than max.",
+          "max");
+  private static final ViolationTemplate NUMBER_VALUE_SMALLER_THAN_MIN = ViolationTemplate.of(
+          "validation.error.number.value.smaller.than.min",
+          "Value is smaller than min.",
+          "min");
+  private static final ViolationTemplate NUMBER_VALUE_NOT_GREATER_THAN_MIN = ViolationTemplate.of(
+          "validation.error.number.value.not.greater.than.min",
+          "Value is not greater than min.",
+          "min");
+  private static final ViolationTemplate NUMBER_VALUE_GREATER_THAN_MAX = ViolationTemplate.of(
+          "validation.error.number.value.greater.than.max",
+          "Value is greater than max.",
+          "max");
+  private static final ViolationTemplate NUMBER_VALUE_NOT_SMALLER_THAN_MAX = ViolationTemplate.of(
+          "validation.error.number.value.not.smaller.than.max",
+          "Value is not smaller than max.",
+          "max");
+  private static final ViolationTemplate NEGATIVE_VALUE = ViolationTemplate.of(
+          "validation.error.negative.value",
+          "The value must be a positive number (zero allowed).");
+  private static final ViolationTemplate NEGATIVE_OR_ZERO_VALUE = ViolationTemplate.of(
+          "validation.error.negative.or.zero.value",
+          "The value must be a positive number (zero not allowed).");
+  private static final ViolationTemplate POSITIVE_VALUE = ViolationTemplate.of(
+          "validation.error.positive.value",
+          "The value must be a negative number (zero allowed.");
+  private static final ViolationTemplate POSITIVE_OR_ZERO_VALUE = ViolationTemplate.of(
+          "validation.error.positive.or.zero.value",
+          "The value must be a negative number (zero not allowed).");
+  private static final ViolationTemplate VALUE_IS_BEFORE_OR_EQUAL = ViolationTemplate.of(
+          "validation.error.value.is.before.or.equal",
+          "The value is before or equal the other value.",
+          PARAM_NAME_OTHER);
+  private static final ViolationTemplate VALUE_IS_BEFORE = ViolationTemplate.of(
+          "validation.error.value.is.before",
+          "The value is before the other value.",
+          PARAM_NAME_OTHER);
+  private static final ViolationTemplate VALUE_IS_AFTER_OR_EQUAL = ViolationTemplate.of(
+          "validation.error.value.is.after.or.equal",
+          "The value is after or equal the other value.",
+          PARAM_NAME_OTHER);
+  private static final ViolationTemplate VALUE_IS_AFTER = ViolationTemplate.of(
+          "validation.error.value.is.after",
+          "The value is after the other value.",
+          PARAM_NAME_OTHER);
+  private static final ViolationTemplate VALUE_IS_IN_THE_FUTURE = ViolationTemplate.of(
+          "validation.error.value.is.in.the.future",
+          "The value is in the future.",
+          PARAM_NAME_NOW);
+  private static final ViolationTemplate VALUE_IS_IN_THE_PAST = ViolationTemplate.of(
+          "validation.error.value.is.in.the.past",
+          "The value is in the past.",
+          PARAM_NAME_NOW);
+  private static final ViolationTemplate VALUE_NOT_WITHIN_PERIOD = ViolationTemplate.of(
+          "validation.error.value.not.within.period",
+          "The value is not within the period.",
+          "from",
+          "to");
+  private static final ViolationTemplate VALUE_IS_NOT_EQUAL = ViolationTemplate.of(
+          "validation.error.value.is.not.equal",
+          "The value is not equal to the other value.",
+          PARAM_NAME_OTHER);
+  private static final ViolationTemplate STRING_IS_EQUAL = ViolationTemplate.of(
+          "validation.error.string.is.equal",
+          "The value is equal to the other value.",
+          PARAM_NAME_OTHER);
+  private static final ViolationTemplate COLLECTION_SIZE_NOT_BETWEEN = ViolationTemplate.of(
+          "validation.error.collection.size.not.between",
+          "The collection size is not in range.",
+          "min",
+          "max");
+  private static final ViolationTemplate COLLECTION_ELEMENT_IS_DUPLICATE = ViolationTemplate.of(
+          "validation.error.collection.element.is.duplicate",
+          "The element is equal to a previous element.");
 
   private ValidationRule() {
   }
@@ -38,7 +197,7 @@ public class ValidationRule {
   public static Optional<Violation> isNullRule(String field, Object value) {
     return isTrueRule(
             () -> value == null,
-            Violation.of(field, "validation.error.value.is.not.null", "The value is not null."));
+            VALUE_IS_NOT_NULL.violation(field));
   }
 
   /** See {@link #isTrue(BooleanSupplier, Violation)} */
@@ -69,10 +228,7 @@ public class ValidationRule {
   public static Optional<Violation> notNullRule(String field, Object value) {
     return isTrueRule(
             () -> value != null,
-            Violation.of(
-                    field,
-                    VALIDATION_ERROR_VALUE_IS_REQUIRED_MESSAGE,
-                    VALIDATION_ERROR_VALUE_IS_REQUIRED_DETAILS));
+            VALUE_IS_REQUIRED.violation(field));
   }
 
   /**
@@ -92,10 +248,7 @@ public class ValidationRule {
   public static Optional<Violation> emptyRule(String field, CharSequence value) {
     return isTrueRule(
             () -> empty(value),
-            Violation.of(
-                    field,
-                    VALIDATION_ERROR_VALUE_IS_REQUIRED_MESSAGE,
-                    VALIDATION_ERROR_VALUE_IS_REQUIRED_DETAILS));
+            VALUE_IS_REQUIRED.violation(field));
   }
 
   private static boolean empty(final CharSequence cs) {
@@ -151,7 +304,7 @@ public class ValidationRule {
   public static Optional<Violation> notEmptyRule(String field, CharSequence value) {
     return isFalseRule(
             () -> empty(value),
-            Violation.of(field, "validation.error.value.is.not.empty", "The value is not empty."));
+            VALUE_IS_NOT_EMPTY.violation(field));
   }
 
   /**
@@ -171,7 +324,7 @@ public class ValidationRule {
   public static Optional<Violation> blankRule(String field, CharSequence value) {
     return isTrueRule(
             () -> isBlank(value),
-            Violation.of(field, "validation.error.value.is.not.blank", "The value is empty."));
+            VALUE_IS_NOT_BLANK.violation(field));
   }
 
   private static boolean isBlank(CharSequence cs) {
@@ -203,10 +356,7 @@ public class ValidationRule {
   public static Optional<Violation> notBlankRule(String field, CharSequence value) {
     return isFalseRule(
             () -> isBlank(value),
-            Violation.of(
-                    field,
-                    VALIDATION_ERROR_VALUE_IS_REQUIRED_MESSAGE,
-                    VALIDATION_ERROR_VALUE_IS_REQUIRED_DETAILS));
+            VALUE_IS_REQUIRED.violation(field));
   }
 
   /**
@@ -238,23 +388,24 @@ public class ValidationRule {
     }
     return isTrueRule(
             () -> value.length() >= min && value.length() <= max,
-            () -> {
-              Map<String, Object> map = new HashMap<>();
-              map.put("min", min);
-              map.put("max", max);
-          return Violation.of(
-              field, "validation.error.string.value.not.between", "Value is not in range.", map);
-        });
+            () -> STRING_VALUE_NOT_BETWEEN.violation(field, min, max));
   }
 
   /**
-   * See {@link #isTrue(BooleanSupplier, Violation)}
+   * See {@link #isTrue(BooleanSupplier, Violation)}. The violation is created only if the condition
+   * is evaluated to false.
    *
    * @param violation violation provider
    */
   public static Optional<Violation> isTrueRule(
           BooleanSupplier condition, Supplier<Violation> violation) {
-    return isTrueRule(condition, violation.get());
+    if (condition == null) {
+      throw new IllegalArgumentException("Condition cannot be null");
+    }
+    if (violation == null) {
+      throw new IllegalArgumentException("Violation provider cannot be null");
+    }
+    return condition.getAsBoolean() ? Optional.empty() : isTrueRule(() -> false, violation.get());
   }
 
   /**
@@ -282,492 +433,2342 @@ public class ValidationRule {
     }
     return isTrueRule(
             () -> value.matches(regex),
-            Violation.of(
-                    field,
-                    "validation.error.string.value.regex.no.match",
-                    "Value does not match the expected regex.",
-                    singletonMap("regexPattern", regex)));
+            STRING_VALUE_REGEX_NO_MATCH.violation(field, regex));
   }
 
   /**
-   * Checks if the value is between or equals to one of the two limits. The limits can be equal. If
-   * the value is null then no violation is returned.
+   * Checks if the value matches the provided precompiled pattern. Prefer it over {@link
+   * #matchRegex(String, String, String)} for rules evaluated often because the regex is not
+   * compiled on each call. If the value is null then no violation is returned.
    *
-   * @param field path to field
-   * @param value value to be checked
-   * @param min inferior limit
-   * @param max superior limit
+   * @param field   path to field
+   * @param value   value to be checked
+   * @param pattern compiled pattern
    * @return violation or success
-   * @throws IllegalArgumentException if min is greater than max.
    */
-  public static ViolationProvider inRange(String field, Integer value, int min, int max) {
-    return () -> inRangeRule(field, value, min, max);
+  public static ViolationProvider matchPattern(String field, String value, Pattern pattern) {
+    return () -> matchPatternRule(field, value, pattern);
   }
 
   /**
-   * See {@link #inRange(String, Integer, int, int)}
+   * See {@link #matchPattern(String, String, Pattern)}
    */
-  public static Optional<Violation> inRangeRule(String field, Integer value, int min, int max) {
-    if (min > max) {
-      throw new IllegalArgumentException("min is greater than max");
+  public static Optional<Violation> matchPatternRule(String field, String value, Pattern pattern) {
+    if (pattern == null) {
+      throw new IllegalArgumentException("pattern is required");
     }
-    if (value == null) {
+    if (value == null || pattern.matcher(value).matches()) {
       return Optional.empty();
     }
-    return isTrueRule(
-            () -> value >= min && value <= max,
-            () -> {
-              Map<String, Object> map = new HashMap<>();
-              map.put("min", min);
-              map.put("max", max);
-              return Violation.of(
-                      field, "validation.error.integer.value.not.in.range", "Value is not in range.", map);
-            });
+    return Optional.of(
+            STRING_VALUE_REGEX_NO_MATCH.violation(field, pattern.pattern()));
   }
 
   /**
-   * Checks if the value is grater than or equals to the provided inferior limit. If the value is
-   * null then no violation is returned.
+   * Checks if the value is an email address: a dot separated local part of letters, digits and
+   * <code>!#$%&amp;'*+/=?^_`{|}~-</code>, followed by <code>@</code> and a domain of at least two
+   * labels of letters, digits and hyphens. Quoted local parts and IP literals are not accepted. The
+   * value is scanned once, without regex. If the value is null then no violation is returned.
    *
    * @param field path to field
    * @param value value to be checked
-   * @param min inferior limit
    * @return violation or success
    */
-  public static ViolationProvider min(String field, Integer value, int min) {
-    return () -> minRule(field, value, min);
+  public static ViolationProvider email(String field, CharSequence value) {
+    return () -> emailRule(field, value);
   }
 
   /**
-   * See {@link #min(String, Integer, int)}
+   * See {@link #email(String, CharSequence)}
    */
-  public static Optional<Violation> minRule(String field, Integer value, int min) {
-    if (value == null) {
+  public static Optional<Violation> emailRule(String field, CharSequence value) {
+    if (value == null || FormatScanner.isEmail(value)) {
       return Optional.empty();
     }
-    return isTrueRule(
-            () -> value >= min,
-            Violation.of(
-                    field,
-                    "validation.error.integer.value.smaller.than.min",
-                    "Value is smaller than min.",
-                    singletonMap("min", min)));
+    return Optional.of(invalidFormat(field, FORMAT_EMAIL));
   }
 
-  public static ViolationProvider positiveOrZero(String field, BigDecimal value) {
-    return () -> positiveOrZeroRule(field, value);
+  /**
+   * Checks if the value is a UUID written as 32 hexadecimal digits grouped 8-4-4-4-12 by hyphens,
+   * in either case. The value is scanned once, without regex. If the value is null then no
+   * violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider uuid(String field, CharSequence value) {
+    return () -> uuidRule(field, value);
   }
 
-  public static Optional<Violation> positiveOrZeroRule(String field, BigDecimal value) {
-    return positiveOrZeroRule(field, () -> value.compareTo(BigDecimal.ZERO) >= 0, value);
+  /**
+   * See {@link #uuid(String, CharSequence)}
+   */
+  public static Optional<Violation> uuidRule(String field, CharSequence value) {
+    if (value == null || FormatScanner.isUuid(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_UUID));
   }
 
-  private static Optional<Violation> positiveOrZeroRule(
-          String field, BooleanSupplier conditionProvider, Object value) {
-    return commonPositiveAndNegative(
-            conditionProvider,
-            value,
-            Violation.of(
-                    field,
-                    "validation.error.negative.value",
-                    "The value must be a positive number (zero allowed)."));
+  /**
+   * Checks if the value is an ISO-8601 calendar date, <code>yyyy-MM-dd</code>, existing in the
+   * calendar (leap years included). The value is scanned once, without regex and without parsing
+   * it. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider isoDate(String field, CharSequence value) {
+    return () -> isoDateRule(field, value);
   }
 
-  private static Optional<Violation> commonPositiveAndNegative(
-          BooleanSupplier conditionProvider, Object value, Violation violation) {
-    if (value == null) {
+  /**
+   * See {@link #isoDate(String, CharSequence)}
+   */
+  public static Optional<Violation> isoDateRule(String field, CharSequence value) {
+    if (value == null || FormatScanner.isIsoDate(value)) {
       return Optional.empty();
     }
-    return isTrueRule(conditionProvider, violation);
+    return Optional.of(invalidFormat(field, FORMAT_ISO_DATE));
   }
 
-  public static ViolationProvider positiveOrZero(String field, BigInteger value) {
-    return () -> positiveOrZeroRule(field, value);
-  }
-
-  public static Optional<Violation> positiveOrZeroRule(String field, BigInteger value) {
-    return positiveOrZeroRule(field, () -> value.compareTo(BigInteger.ZERO) >= 0, value);
+  /**
+   * Checks if the value is an ISO-8601 date-time having seconds and an offset, <code>
+   * yyyy-MM-ddTHH:mm:ss[.S...](Z|+HH:mm|-HH:mm)</code>, for example <code>
+   * 2020-02-29T10:15:30.123Z</code>. The value is scanned once, without regex and without parsing
+   * it. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider isoDateTime(String field, CharSequence value) {
+    return () -> isoDateTimeRule(field, value);
   }
 
-  public static ViolationProvider positiveOrZero(String field, Double value) {
-    return () -> positiveOrZeroRule(field, value);
+  /**
+   * See {@link #isoDateTime(String, CharSequence)}
+   */
+  public static Optional<Violation> isoDateTimeRule(String field, CharSequence value) {
+    if (value == null || FormatScanner.isIsoDateTime(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_ISO_DATE_TIME));
   }
 
-  public static Optional<Violation> positiveOrZeroRule(String field, Double value) {
-    return positiveOrZeroRule(field, () -> value >= 0, value);
+  /**
+   * Checks if the value is made only of digits, at least two, and its last digit is the Luhn (mod
+   * 10) check digit of the others, as for payment card numbers. The checksum is computed while the
+   * value is scanned. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider luhn(String field, CharSequence value) {
+    return () -> luhnRule(field, value);
   }
 
-  public static ViolationProvider positiveOrZero(String field, Float value) {
-    return () -> positiveOrZeroRule(field, value);
+  /**
+   * See {@link #luhn(String, CharSequence)}
+   */
+  public static Optional<Violation> luhnRule(String field, CharSequence value) {
+    if (value == null || ChecksumScanner.isLuhn(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_LUHN));
   }
 
-  public static Optional<Violation> positiveOrZeroRule(String field, Float value) {
-    return positiveOrZeroRule(field, () -> value >= 0, value);
+  /**
+   * Checks if the value is an IBAN in its electronic format (upper case, without spaces) having
+   * valid mod 97 check digits. The country specific length and structure are not checked. The
+   * checksum is computed while the value is scanned. If the value is null then no violation is
+   * returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider iban(String field, CharSequence value) {
+    return () -> ibanRule(field, value);
   }
 
-  public static ViolationProvider positiveOrZero(String field, Long value) {
-    return () -> positiveOrZeroRule(field, value);
+  /**
+   * See {@link #iban(String, CharSequence)}
+   */
+  public static Optional<Violation> ibanRule(String field, CharSequence value) {
+    if (value == null || ChecksumScanner.isIban(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_IBAN));
   }
 
-  public static Optional<Violation> positiveOrZeroRule(String field, Long value) {
-    return positiveOrZeroRule(field, () -> value >= 0, value);
+  /**
+   * Checks if the value is an ISBN-10 or an ISBN-13 having a valid check digit. Single hyphens or
+   * spaces between digits are allowed. The checksum is computed while the value is scanned. If the
+   * value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider isbn(String field, CharSequence value) {
+    return () -> isbnRule(field, value);
   }
 
-  public static ViolationProvider positiveOrZero(String field, Integer value) {
-    return () -> positiveOrZeroRule(field, value);
+  /**
+   * See {@link #isbn(String, CharSequence)}
+   */
+  public static Optional<Violation> isbnRule(String field, CharSequence value) {
+    if (value == null || ChecksumScanner.isIsbn(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_ISBN));
   }
 
-  public static Optional<Violation> positiveOrZeroRule(String field, Integer value) {
-    return positiveOrZeroRule(field, () -> value >= 0, value);
+  /**
+   * Checks if the value is one of the allowed values. The set is built once and checking the value
+   * takes constant time. If the value is null then no violation is returned.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param values allowed values
+   * @return violation or success
+   */
+  public static ViolationProvider oneOf(String field, CharSequence value, StringSet values) {
+    return () -> oneOfRule(field, value, values);
   }
 
-  public static ViolationProvider positive(String field, BigDecimal value) {
-    return () -> positiveRule(field, value);
+  /**
+   * See {@link #oneOf(String, CharSequence, StringSet)}
+   */
+  public static Optional<Violation> oneOfRule(String field, CharSequence value, StringSet values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    if (value == null || values.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(notOneOf(field, values.values()));
   }
 
-  public static Optional<Violation> positiveRule(String field, BigDecimal value) {
-    return positiveRule(field, () -> value.compareTo(BigDecimal.ZERO) > 0, value);
+  /**
+   * Checks if the value is one of the allowed values. The set is built once and checking the value
+   * takes constant time. If the value is null then no violation is returned.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param values allowed values
+   * @return violation or success
+   */
+  public static ViolationProvider oneOf(String field, Integer value, IntSet values) {
+    return () -> oneOfRule(field, value, values);
   }
 
-  private static Optional<Violation> positiveRule(
-          String field, BooleanSupplier conditionProvider, Object value) {
-    return commonPositiveAndNegative(
-            conditionProvider,
-            value,
-            Violation.of(
-                    field,
-                    "validation.error.negative.or.zero.value",
-                    "The value must be a positive number (zero not allowed)."));
+  /**
+   * See {@link #oneOf(String, Integer, IntSet)}
+   */
+  public static Optional<Violation> oneOfRule(String field, Integer value, IntSet values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    if (value == null || values.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(notOneOf(field, values.values()));
   }
 
-  public static ViolationProvider positive(String field, BigInteger value) {
-    return () -> positiveRule(field, value);
+  /**
+   * Checks if the value is one of the allowed values. The set is built once and checking the value
+   * takes constant time. If the value is null then no violation is returned.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param values allowed values
+   * @return violation or success
+   */
+  public static ViolationProvider oneOf(String field, Long value, LongSet values) {
+    return () -> oneOfRule(field, value, values);
   }
 
-  public static Optional<Violation> positiveRule(String field, BigInteger value) {
-    return positiveRule(field, () -> value.compareTo(BigInteger.ZERO) > 0, value);
+  /**
+   * See {@link #oneOf(String, Long, LongSet)}
+   */
+  public static Optional<Violation> oneOfRule(String field, Long value, LongSet values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    if (value == null || values.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(notOneOf(field, values.values()));
   }
 
-  public static ViolationProvider positive(String field, Double value) {
-    return () -> positiveRule(field, value);
+  /**
+   * See {@link #oneOf(String, CharSequence, StringSet)}. {@link EnumSet} is backed by a bit
+   * vector, so checking the value takes constant time.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param values allowed values
+   * @param <E>    enum type
+   * @return violation or success
+   */
+  public static <E extends Enum<E>> ViolationProvider oneOf(
+          String field, E value, EnumSet<E> values) {
+    return () -> oneOfRule(field, value, values);
   }
 
-  public static Optional<Violation> positiveRule(String field, Double value) {
-    return positiveRule(field, () -> value > 0, value);
+  /**
+   * See {@link #oneOf(String, Enum, EnumSet)}
+   */
+  public static <E extends Enum<E>> Optional<Violation> oneOfRule(
+          String field, E value, EnumSet<E> values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    if (value == null || values.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(notOneOf(field, new ArrayList<>(values)));
   }
 
-  public static ViolationProvider positive(String field, Float value) {
-    return () -> positiveRule(field, value);
+  /**
+   * Checks if the value is not one of the forbidden values. The set is built once and checking the
+   * value takes constant time. If the value is null then no violation is returned.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param values forbidden values
+   * @return violation or success
+   */
+  public static ViolationProvider noneOf(String field, CharSequence value, StringSet values) {
+    return () -> noneOfRule(field, value, values);
   }
 
-  public static Optional<Violation> positiveRule(String field, Float value) {
-    return positiveRule(field, () -> value > 0, value);
+  /**
+   * See {@link #noneOf(String, CharSequence, StringSet)}
+   */
+  public static Optional<Violation> noneOfRule(String field, CharSequence value, StringSet values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    if (value == null || !values.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(oneOf(field, values.values()));
   }
 
-  public static ViolationProvider positive(String field, Long value) {
-    return () -> positiveRule(field, value);
+  /**
+   * Checks if the value is not one of the forbidden values. The set is built once and checking the
+   * value takes constant time. If the value is null then no violation is returned.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param values forbidden values
+   * @return violation or success
+   */
+  public static ViolationProvider noneOf(String field, Integer value, IntSet values) {
+    return () -> noneOfRule(field, value, values);
   }
 
-  public static Optional<Violation> positiveRule(String field, Long value) {
-    return positiveRule(field, () -> value > 0, value);
+  /**
+   * See {@link #noneOf(String, Integer, IntSet)}
+   */
+  public static Optional<Violation> noneOfRule(String field, Integer value, IntSet values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    if (value == null || !values.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(oneOf(field, values.values()));
   }
 
-  public static ViolationProvider positive(String field, Integer value) {
-    return () -> positiveRule(field, value);
+  /**
+   * Checks if the value is not one of the forbidden values. The set is built once and checking the
+   * value takes constant time. If the value is null then no violation is returned.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param values forbidden values
+   * @return violation or success
+   */
+  public static ViolationProvider noneOf(String field, Long value, LongSet values) {
+    return () -> noneOfRule(field, value, values);
   }
 
-  public static Optional<Violation> positiveRule(String field, Integer value) {
-    return positiveRule(field, () -> value > 0, value);
+  /**
+   * See {@link #noneOf(String, Long, LongSet)}
+   */
+  public static Optional<Violation> noneOfRule(String field, Long value, LongSet values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    if (value == null || !values.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(oneOf(field, values.values()));
   }
 
-  public static ViolationProvider negativeOrZero(String field, BigDecimal value) {
-    return () -> negativeOrZeroRule(field, value);
+  /**
+   * See {@link #noneOf(String, CharSequence, StringSet)}. {@link EnumSet} is backed by a bit
+   * vector, so checking the value takes constant time.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param values forbidden values
+   * @param <E>    enum type
+   * @return violation or success
+   */
+  public static <E extends Enum<E>> ViolationProvider noneOf(
+          String field, E value, EnumSet<E> values) {
+    return () -> noneOfRule(field, value, values);
   }
 
-  public static Optional<Violation> negativeOrZeroRule(String field, BigDecimal value) {
-    return negativeOrZeroRule(field, () -> value.compareTo(BigDecimal.ZERO) <= 0, value);
+  /**
+   * See {@link #noneOf(String, Enum, EnumSet)}
+   */
+  public static <E extends Enum<E>> Optional<Violation> noneOfRule(
+          String field, E value, EnumSet<E> values) {
+    if (values == null) {
+      throw new IllegalArgumentException("values is required");
+    }
+    if (value == null || !values.contains(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(oneOf(field, new ArrayList<>(values)));
   }
 
-  private static Optional<Violation> negativeOrZeroRule(
-          String field, BooleanSupplier conditionProvider, Object value) {
-    return commonPositiveAndNegative(
-            conditionProvider,
-            value,
-            Violation.of(
-                    field,
-                    "validation.error.positive.value",
-                    "The value must be a negative number (zero allowed."));
+  /**
+   * Checks if the value doesn't contain any of the terms of the blocklist. The value is scanned
+   * once, whatever the number of terms. The violation has the first term found or, if the
+   * blocklist reports all of them, all terms found. If the value is null then no violation is
+   * returned.
+   *
+   * @param field     path to field
+   * @param value     value to be checked
+   * @param blocklist compiled terms
+   * @return violation or success
+   */
+  public static ViolationProvider notContainsAny(
+          String field, CharSequence value, Blocklist blocklist) {
+    return () -> notContainsAnyRule(field, value, blocklist);
   }
 
-  public static ViolationProvider negativeOrZero(String field, BigInteger value) {
-    return () -> negativeOrZeroRule(field, value);
+  /**
+   * See {@link #notContainsAny(String, CharSequence, Blocklist)}
+   */
+  public static Optional<Violation> notContainsAnyRule(
+          String field, CharSequence value, Blocklist blocklist) {
+    if (blocklist == null) {
+      throw new IllegalArgumentException("blocklist is required");
+    }
+    if (value == null || !blocklist.containsAny(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(
+            STRING_VALUE_CONTAINS_BLOCKED_TERM.violation(field, blocklist.find(value)));
   }
 
-  public static Optional<Violation> negativeOrZeroRule(String field, BigInteger value) {
-    return negativeOrZeroRule(field, () -> value.compareTo(BigInteger.ZERO) <= 0, value);
+  private static Violation notOneOf(String field, Collection<?> values) {
+    return VALUE_NOT_ONE_OF.violation(field, values);
   }
 
-  public static ViolationProvider negativeOrZero(String field, Double value) {
-    return () -> negativeOrZeroRule(field, value);
+  private static Violation oneOf(String field, Collection<?> values) {
+    return VALUE_IS_ONE_OF.violation(field, values);
   }
 
-  public static Optional<Violation> negativeOrZeroRule(String field, Double value) {
-    return negativeOrZeroRule(field, () -> value <= 0, value);
+  private static Violation invalidFormat(String field, String format) {
+    return STRING_VALUE_INVALID_FORMAT.violation(field, format);
   }
 
-  public static ViolationProvider negativeOrZero(String field, Float value) {
-    return () -> negativeOrZeroRule(field, value);
+  /**
+   * Checks if the value matches any of the patterns of the set. The patterns are matched together,
+   * reading the value once where they allow it. The violation has all patterns. If the value is
+   * null then no violation is returned.
+   *
+   * @param field   path to field
+   * @param value   value to be checked
+   * @param regexes compiled patterns
+   * @return violation or success
+   */
+  public static ViolationProvider matchAnyRegex(
+          String field, CharSequence value, RegexSet regexes) {
+    return () -> matchAnyRegexRule(field, value, regexes);
   }
 
-  public static Optional<Violation> negativeOrZeroRule(String field, Float value) {
-    return negativeOrZeroRule(field, () -> value <= 0, value);
+  /**
+   * See {@link #matchAnyRegex(String, CharSequence, RegexSet)}
+   */
+  public static Optional<Violation> matchAnyRegexRule(
+          String field, CharSequence value, RegexSet regexes) {
+    if (regexes == null) {
+      throw new IllegalArgumentException("regexes is required");
+    }
+    if (value == null || regexes.matchesAny(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(
+            STRING_VALUE_NO_REGEX_MATCHES.violation(field, regexes.getPatterns()));
   }
 
-  public static ViolationProvider negativeOrZero(String field, Long value) {
-    return () -> negativeOrZeroRule(field, value);
+  /**
+   * Checks if the value doesn't match any of the patterns of the set. The patterns are matched
+   * together, reading the value once where they allow it. The violation has the first pattern
+   * matching the value. If the value is null then no violation is returned.
+   *
+   * @param field   path to field
+   * @param value   value to be checked
+   * @param regexes compiled patterns
+   * @return violation or success
+   */
+  public static ViolationProvider matchNoRegex(
+          String field, CharSequence value, RegexSet regexes) {
+    return () -> matchNoRegexRule(field, value, regexes);
   }
 
-  public static Optional<Violation> negativeOrZeroRule(String field, Long value) {
-    return negativeOrZeroRule(field, () -> value <= 0, value);
+  /**
+   * See {@link #matchNoRegex(String, CharSequence, RegexSet)}
+   */
+  public static Optional<Violation> matchNoRegexRule(
+          String field, CharSequence value, RegexSet regexes) {
+    if (regexes == null) {
+      throw new IllegalArgumentException("regexes is required");
+    }
+    int index = value == null ? -1 : regexes.firstMatch(value);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(
+            STRING_VALUE_REGEX_MATCH.violation(field, regexes.getPatterns().get(index)));
   }
 
-  public static ViolationProvider negativeOrZero(String field, Integer value) {
-    return () -> negativeOrZeroRule(field, value);
+  /**
+   * Checks if the value is well-formed UTF-8: every code point has its shortest encoding, is not a
+   * surrogate and is not greater than U+10FFFF. The bytes are scanned once, without decoding them
+   * into a string. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value UTF-8 bytes to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider validUtf8(String field, byte[] value) {
+    return () -> validUtf8Rule(field, value);
   }
 
-  public static Optional<Violation> negativeOrZeroRule(String field, Integer value) {
-    return negativeOrZeroRule(field, () -> value <= 0, value);
+  /**
+   * See {@link #validUtf8(String, byte[])}
+   */
+  public static Optional<Violation> validUtf8Rule(String field, byte[] value) {
+    return validUtf8Rule(field, value, 0, value == null ? 0 : value.length);
   }
 
-  public static ViolationProvider negative(String field, BigDecimal value) {
-    return () -> negativeRule(field, value);
+  /**
+   * See {@link #validUtf8(String, byte[])}. Only the <code>length</code> bytes starting at <code>
+   * offset</code> are checked.
+   *
+   * @throws IllegalArgumentException if the bytes are out of the bounds of the array.
+   */
+  public static ViolationProvider validUtf8(String field, byte[] value, int offset, int length) {
+    return () -> validUtf8Rule(field, value, offset, length);
   }
 
-  public static Optional<Violation> negativeRule(String field, BigDecimal value) {
-    return negativeRule(field, () -> value.compareTo(BigDecimal.ZERO) < 0, value);
+  /**
+   * See {@link #validUtf8(String, byte[], int, int)}
+   */
+  public static Optional<Violation> validUtf8Rule(
+          String field, byte[] value, int offset, int length) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    checkBounds(value, offset, length);
+    if (Utf8Scanner.length(value, offset, offset + length) != Utf8Scanner.MALFORMED) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_UTF_8));
   }
 
-  private static Optional<Violation> negativeRule(
-          String field, BooleanSupplier conditionProvider, Object value) {
-    return commonPositiveAndNegative(
-            conditionProvider,
-            value,
-            Violation.of(
-                    field,
-                    "validation.error.positive.or.zero.value",
-                    "The value must be a negative number (zero not allowed)."));
+  /**
+   * See {@link #validUtf8(String, byte[])}. The bytes between the position and the limit of the
+   * buffer are checked; neither the position nor the content of the buffer is changed.
+   */
+  public static ViolationProvider validUtf8(String field, ByteBuffer value) {
+    return () -> validUtf8Rule(field, value);
   }
 
-  public static ViolationProvider negative(String field, BigInteger value) {
-    return () -> negativeRule(field, value);
+  /**
+   * See {@link #validUtf8(String, ByteBuffer)}
+   */
+  public static Optional<Violation> validUtf8Rule(String field, ByteBuffer value) {
+    if (value == null || Utf8Scanner.length(value) != Utf8Scanner.MALFORMED) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_UTF_8));
   }
 
-  public static Optional<Violation> negativeRule(String field, BigInteger value) {
-    return negativeRule(field, () -> value.compareTo(BigInteger.ZERO) < 0, value);
+  /**
+   * Checks if the UTF-8 value has a number of code points between or equals to one of two limits,
+   * like {@link #lengthBetween(String, CharSequence, int, int)} does for a string, except that a
+   * supplementary character counts once. The bytes are scanned once, without decoding them into a
+   * string. A value which is not well-formed UTF-8 has the violation of {@link #validUtf8(String,
+   * byte[])}. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value UTF-8 bytes to be checked
+   * @param min   inferior limit
+   * @param max   superior limit
+   * @return violation or success
+   * @throws IllegalArgumentException if min is greater than max.
+   */
+  public static ViolationProvider utf8LengthBetween(
+          String field, byte[] value, int min, int max) {
+    return () -> utf8LengthBetweenRule(field, value, min, max);
   }
 
-  public static ViolationProvider negative(String field, Double value) {
-    return () -> negativeRule(field, value);
+  /**
+   * See {@link #utf8LengthBetween(String, byte[], int, int)}
+   */
+  public static Optional<Violation> utf8LengthBetweenRule(
+          String field, byte[] value, int min, int max) {
+    return utf8LengthBetweenRule(field, value, 0, value == null ? 0 : value.length, min, max);
   }
 
-  public static Optional<Violation> negativeRule(String field, Double value) {
-    return negativeRule(field, () -> value < 0, value);
+  /**
+   * See {@link #utf8LengthBetween(String, byte[], int, int)}. Only the <code>length</code> bytes
+   * starting at <code>offset</code> are checked.
+   *
+   * @throws IllegalArgumentException if the bytes are out of the bounds of the array.
+   */
+  public static ViolationProvider utf8LengthBetween(
+          String field, byte[] value, int offset, int length, int min, int max) {
+    return () -> utf8LengthBetweenRule(field, value, offset, length, min, max);
   }
 
-  public static ViolationProvider negative(String field, Float value) {
-    return () -> negativeRule(field, value);
+  /**
+   * See {@link #utf8LengthBetween(String, byte[], int, int, int, int)}
+   */
+  public static Optional<Violation> utf8LengthBetweenRule(
+          String field, byte[] value, int offset, int length, int min, int max) {
+    if (min > max) {
+      throw new IllegalArgumentException("min is greater than max");
+    }
+    if (value == null) {
+      return Optional.empty();
+    }
+    checkBounds(value, offset, length);
+    return codePointsBetween(field, Utf8Scanner.length(value, offset, offset + length), min, max);
   }
 
-  public static Optional<Violation> negativeRule(String field, Float value) {
-    return negativeRule(field, () -> value < 0, value);
+  /**
+   * See {@link #utf8LengthBetween(String, byte[], int, int)}. The bytes between the position and
+   * the limit of the buffer are checked; neither the position nor the content of the buffer is
+   * changed.
+   */
+  public static ViolationProvider utf8LengthBetween(
+          String field, ByteBuffer value, int min, int max) {
+    return () -> utf8LengthBetweenRule(field, value, min, max);
   }
 
-  public static ViolationProvider negative(String field, Long value) {
-    return () -> negativeRule(field, value);
+  /**
+   * See {@link #utf8LengthBetween(String, ByteBuffer, int, int)}
+   */
+  public static Optional<Violation> utf8LengthBetweenRule(
+          String field, ByteBuffer value, int min, int max) {
+    if (min > max) {
+      throw new IllegalArgumentException("min is greater than max");
+    }
+    if (value == null) {
+      return Optional.empty();
+    }
+    return codePointsBetween(field, Utf8Scanner.length(value), min, max);
   }
 
-  public static Optional<Violation> negativeRule(String field, Long value) {
-    return negativeRule(field, () -> value < 0, value);
+  private static Optional<Violation> codePointsBetween(
+          String field, int codePoints, int min, int max) {
+    if (codePoints == Utf8Scanner.MALFORMED) {
+      return Optional.of(invalidFormat(field, FORMAT_UTF_8));
+    }
+    if (codePoints >= min && codePoints <= max) {
+      return Optional.empty();
+    }
+    return Optional.of(STRING_VALUE_NOT_BETWEEN.violation(field, min, max));
   }
 
-  public static ViolationProvider negative(String field, Integer value) {
-    return () -> negativeRule(field, value);
+  /**
+   * Checks if the UTF-8 value is not blank, like {@link #notBlank(String, CharSequence)} does for a
+   * string. Blank value means null, no bytes or only whitespace code points. A value which is not
+   * well-formed UTF-8 is not blank. The bytes are scanned without decoding them into a string.
+   *
+   * @param field path to field
+   * @param value UTF-8 bytes to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider utf8NotBlank(String field, byte[] value) {
+    return () -> utf8NotBlankRule(field, value);
   }
 
-  public static Optional<Violation> negativeRule(String field, Integer value) {
-    return negativeRule(field, () -> value < 0, value);
+  /**
+   * See {@link #utf8NotBlank(String, byte[])}
+   */
+  public static Optional<Violation> utf8NotBlankRule(String field, byte[] value) {
+    return utf8NotBlankRule(field, value, 0, value == null ? 0 : value.length);
   }
 
   /**
-   * Checks if the value is smaller than or equals to the provided superior limit. If the value is
-   * null then no violation is returned.
+   * See {@link #utf8NotBlank(String, byte[])}. Only the <code>length</code> bytes starting at
+   * <code>offset</code> are checked.
    *
-   * @param field path to field
-   * @param value value to be checked
-   * @param max superior limit
-   * @return violation or success
+   * @throws IllegalArgumentException if the bytes are out of the bounds of the array.
    */
-  public static ViolationProvider max(String field, Integer value, int max) {
-    return () -> maxRule(field, value, max);
+  public static ViolationProvider utf8NotBlank(
+          String field, byte[] value, int offset, int length) {
+    return () -> utf8NotBlankRule(field, value, offset, length);
   }
 
   /**
-   * See {@link #max(String, Integer, int)}
+   * See {@link #utf8NotBlank(String, byte[], int, int)}
    */
-  public static Optional<Violation> maxRule(String field, Integer value, int max) {
-    if (value == null) {
+  public static Optional<Violation> utf8NotBlankRule(
+          String field, byte[] value, int offset, int length) {
+    if (value != null) {
+      checkBounds(value, offset, length);
+      if (!Utf8Scanner.isBlank(value, offset, offset + length)) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(
+            VALUE_IS_REQUIRED.violation(field));
+  }
+
+  /**
+   * See {@link #utf8NotBlank(String, byte[])}. The bytes between the position and the limit of the
+   * buffer are checked; neither the position nor the content of the buffer is changed.
+   */
+  public static ViolationProvider utf8NotBlank(String field, ByteBuffer value) {
+    return () -> utf8NotBlankRule(field, value);
+  }
+
+  /**
+   * See {@link #utf8NotBlank(String, ByteBuffer)}
+   */
+  public static Optional<Violation> utf8NotBlankRule(String field, ByteBuffer value) {
+    if (value != null && !Utf8Scanner.isBlank(value)) {
       return Optional.empty();
     }
-    return isTrueRule(
-            () -> value <= max,
-            Violation.of(
-                    field,
-                    "validation.error.integer.value.greater.than.max",
-                    "Value is greater than max.",
-                    singletonMap("max", max)));
+    return Optional.of(
+            VALUE_IS_REQUIRED.violation(field));
   }
 
   /**
-   * Checks if the compared value is strictly after the other. If the value is null then no
-   * violation is returned.
+   * Checks if all bytes of the value are ASCII characters, from 0 to 127. If the value is null then
+   * no violation is returned.
    *
    * @param field path to field
-   * @param value value to be checked
-   * @param other other value
-   * @param <T> compared object type
+   * @param value bytes to be checked
    * @return violation or success
    */
-  public static <T> ViolationProvider after(String field, Comparable<T> value, T other) {
-    return () -> afterRule(field, value, other);
+  public static ViolationProvider asciiOnly(String field, byte[] value) {
+    return () -> asciiOnlyRule(field, value);
   }
 
   /**
-   * See {@link #after(String, Comparable, Object)}
+   * See {@link #asciiOnly(String, byte[])}
    */
-  public static <T> Optional<Violation> afterRule(String field, Comparable<T> value, T other) {
-    return compareComparableRule(
-            value,
-            other,
-            (tComparable, t) -> value.compareTo(other) <= 0,
-            () ->
-                    Violation.of(
-                            field,
-                            "validation.error.value.is.before.or.equal",
-                            "The value is before or equal the other value.",
-                            singletonMap(PARAM_NAME_OTHER, other == null ? null : other.toString())));
+  public static Optional<Violation> asciiOnlyRule(String field, byte[] value) {
+    return asciiOnlyRule(field, value, 0, value == null ? 0 : value.length);
   }
 
   /**
-   * Returns violation in case compare function is true. If the value is null then no violation is
-   * returned.
+   * See {@link #asciiOnly(String, byte[])}. Only the <code>length</code> bytes starting at <code>
+   * offset</code> are checked.
    *
-   * @param value         first value
-   * @param other         second value
-   * @param compareFunc   function that compares the two values
-   * @param violationFunc the Violation that will be returned
-   * @return violation or success
+   * @throws IllegalArgumentException if the bytes are out of the bounds of the array.
    */
-  public static <T> Optional<Violation> compareComparableRule(
-          Comparable<T> value,
-          T other,
-          BiPredicate<Comparable<T>, T> compareFunc,
-          Supplier<Violation> violationFunc) {
+  public static ViolationProvider asciiOnly(String field, byte[] value, int offset, int length) {
+    return () -> asciiOnlyRule(field, value, offset, length);
+  }
+
+  /**
+   * See {@link #asciiOnly(String, byte[], int, int)}
+   */
+  public static Optional<Violation> asciiOnlyRule(
+          String field, byte[] value, int offset, int length) {
     if (value == null) {
       return Optional.empty();
     }
-    return isTrueRule(() -> other != null && !compareFunc.test(value, other), violationFunc);
+    checkBounds(value, offset, length);
+    if (Utf8Scanner.isAscii(value, offset, offset + length)) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_ASCII));
   }
 
   /**
-   * Checks if the compared value is after or equals to the other. If the value is null then no
-   * violation is returned.
+   * See {@link #asciiOnly(String, byte[])}. The bytes between the position and the limit of the
+   * buffer are checked; neither the position nor the content of the buffer is changed.
+   */
+  public static ViolationProvider asciiOnly(String field, ByteBuffer value) {
+    return () -> asciiOnlyRule(field, value);
+  }
+
+  /**
+   * See {@link #asciiOnly(String, ByteBuffer)}
+   */
+  public static Optional<Violation> asciiOnlyRule(String field, ByteBuffer value) {
+    if (value == null || Utf8Scanner.isAscii(value)) {
+      return Optional.empty();
+    }
+    return Optional.of(invalidFormat(field, FORMAT_ASCII));
+  }
+
+  private static void checkBounds(byte[] value, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > value.length - length) {
+      throw new IllegalArgumentException("offset and length are out of the bounds of value");
+    }
+  }
+
+  /**
+   * Checks if the value is a number written as text having the format, the number of digits and
+   * the limits of the numeric string. The value is scanned once and is not parsed into a {@link
+   * BigDecimal}. A value without the format has the invalid format violation with the <code>
+   * integer</code> or <code>decimal</code> format. If the value is null then no violation is
+   * returned.
    *
-   * @param field path to field
-   * @param value value to be checked
-   * @param other other value
-   * @param <T> compared object type
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param number format and limits
    * @return violation or success
    */
-  public static <T> ViolationProvider afterOrEqualsTo(String field, Comparable<T> value, T other) {
-    return () -> afterOrEqualsToRule(field, value, other);
+  public static ViolationProvider numericString(
+          String field, CharSequence value, NumericString number) {
+    return () -> numericStringRule(field, value, number);
   }
 
   /**
-   * See {@link #afterOrEqualsTo(String, Comparable, Object)}
+   * See {@link #numericString(String, CharSequence, NumericString)}
    */
-  public static <T> Optional<Violation> afterOrEqualsToRule(
-          String field, Comparable<T> value, T other) {
-    return compareComparableRule(
-            value,
-            other,
-            (tComparable, t) -> value.compareTo(other) < 0,
-            () ->
-                    Violation.of(
-                            field,
-                            "validation.error.value.is.before",
-                            "The value is before the other value.",
-                            singletonMap(PARAM_NAME_OTHER, other == null ? null : other.toString())));
+  public static Optional<Violation> numericStringRule(
+          String field, CharSequence value, NumericString number) {
+    if (number == null) {
+      throw new IllegalArgumentException("number is required");
+    }
+    if (value == null) {
+      return Optional.empty();
+    }
+    switch (number.check(value)) {
+      case NumericString.VALID:
+        return Optional.empty();
+      case NumericString.INVALID_FORMAT:
+        return Optional.of(
+                invalidFormat(field, number.isDecimal() ? FORMAT_DECIMAL : FORMAT_INTEGER));
+      case NumericString.TOO_MANY_DIGITS: {
+        Map<String, Object> map = new HashMap<>();
+        if (number.getMaxPrecision() >= 0) {
+          map.put("precision", number.getMaxPrecision());
+        }
+        if (number.getMaxScale() >= 0) {
+          map.put("scale", number.getMaxScale());
+        }
+        return Optional.of(
+                Violation.of(
+                        field,
+                        "validation.error.number.value.too.many.digits",
+                        "Value has too many digits.",
+                        map));
+      }
+      default: {
+        Map<String, Object> map = new HashMap<>();
+        if (number.getMin() != null) {
+          map.put("min", number.getMin());
+        }
+        if (number.getMax() != null) {
+          map.put("max", number.getMax());
+        }
+        return Optional.of(
+                Violation.of(
+                        field,
+                        "validation.error.number.value.not.in.range",
+                        "Value is not in range.",
+                        map));
+      }
+    }
   }
 
   /**
-   * Checks if the compared value is strictly before the other. If the value is null then no
+   * Checks if the value is an integer written as text, with an optional sign and leading zeros,
+   * between or equals to one of the two limits. The value is scanned once and is not parsed into a
+   * {@link Long}; a value too large for a long is out of range. A value which is not an integer has
+   * the invalid format violation with the <code>integer</code> format. If the value is null then no
    * violation is returned.
    *
    * @param field path to field
    * @param value value to be checked
-   * @param other other value
-   * @param <T> compared object type
+   * @param min   inferior limit
+   * @param max   superior limit
    * @return violation or success
+   * @throws IllegalArgumentException if min is greater than max.
    */
-  public static <T> ViolationProvider before(String field, Comparable<T> value, T other) {
-    return () -> beforeRule(field, value, other);
+  public static ViolationProvider integerString(
+          String field, CharSequence value, long min, long max) {
+    return () -> integerStringRule(field, value, min, max);
   }
 
   /**
-   * See {@link #before(String, Comparable, Object)}
+   * See {@link #integerString(String, CharSequence, long, long)}
    */
-  public static <T> Optional<Violation> beforeRule(String field, Comparable<T> value, T other) {
-    return compareComparableRule(
-            value,
-            other,
-            (tComparable, t) -> value.compareTo(other) >= 0,
-            () ->
-                    Violation.of(
-                            field,
-                            "validation.error.value.is.after.or.equal",
-                            "The value is after or equal the other value.",
-                            singletonMap(PARAM_NAME_OTHER, other == null ? null : other.toString())));
+  public static Optional<Violation> integerStringRule(
+          String field, CharSequence value, long min, long max) {
+    if (min > max) {
+      throw new IllegalArgumentException("min is greater than max");
+    }
+    if (value == null) {
+      return Optional.empty();
+    }
+    switch (NumericString.checkLong(value, min, max)) {
+      case NumericString.VALID:
+        return Optional.empty();
+      case NumericString.INVALID_FORMAT:
+        return Optional.of(invalidFormat(field, FORMAT_INTEGER));
+      default:
+        return Optional.of(INTEGER_VALUE_NOT_IN_RANGE.violation(field, min, max));
+    }
   }
 
   /**
-   * Checks if the compared value is before or equals to the other. If the value is null then no
-   * violation is returned.
+   * Checks if the value is between or equals to one of the two limits. The limits can be equal. If
+   * the value is null then no violation is returned.
    *
    * @param field path to field
    * @param value value to be checked
-   * @param other other value
-   * @param <T> compared object type
+   * @param min inferior limit
+   * @param max superior limit
    * @return violation or success
+   * @throws IllegalArgumentException if min is greater than max.
    */
-  public static <T> ViolationProvider beforeOrEqualsTo(String field, Comparable<T> value, T other) {
-    return () -> beforeOrEqualsToRule(field, value, other);
+  public static ViolationProvider inRange(String field, Integer value, int min, int max) {
+    return () -> inRangeRule(field, value, min, max);
   }
 
   /**
-   * See {@link #beforeOrEqualsTo(String, Comparable, Object)}
+   * See {@link #inRange(String, Integer, int, int)}
    */
-  public static <T> Optional<Violation> beforeOrEqualsToRule(
-          String field, Comparable<T> value, T other) {
-    return compareComparableRule(
+  public static Optional<Violation> inRangeRule(String field, Integer value, int min, int max) {
+    if (min > max) {
+      throw new IllegalArgumentException("min is greater than max");
+    }
+    if (value == null) {
+      return Optional.empty();
+    }
+    return isTrueRule(
+            () -> value >= min && value <= max,
+            () -> INTEGER_VALUE_NOT_IN_RANGE.violation(field, min, max));
+  }
+
+  /**
+   * Checks if the value is grater than or equals to the provided inferior limit. If the value is
+   * null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param min inferior limit
+   * @return violation or success
+   */
+  public static ViolationProvider min(String field, Integer value, int min) {
+    return () -> minRule(field, value, min);
+  }
+
+  /**
+   * See {@link #min(String, Integer, int)}
+   */
+  public static Optional<Violation> minRule(String field, Integer value, int min) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    return isTrueRule(
+            () -> value >= min,
+            INTEGER_VALUE_SMALLER_THAN_MIN.violation(field, min));
+  }
+
+  /**
+   * Checks if the value is grater than or equals to the provided inferior limit, for values and
+   * limits outside the <code>int</code> range. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param min inferior limit
+   * @return violation or success
+   */
+  public static ViolationProvider minLong(String field, Long value, long min) {
+    return () -> minLongRule(field, value, min);
+  }
+
+  /**
+   * See {@link #minLong(String, Long, long)}
+   */
+  public static Optional<Violation> minLongRule(String field, Long value, long min) {
+    if (value == null || value >= min) {
+      return Optional.empty();
+    }
+    return Optional.of(INTEGER_VALUE_SMALLER_THAN_MIN.violation(field, min));
+  }
+
+  /**
+   * Checks if the value is greater than (or, when inclusive, equal to) the provided inferior
+   * limit. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param min inferior limit
+   * @param inclusive if a value equal to the limit is allowed
+   * @return violation or success
+   */
+  public static ViolationProvider decimalMin(
+          String field, BigDecimal value, BigDecimal min, boolean inclusive) {
+    return () -> decimalMinRule(field, value, min, inclusive);
+  }
+
+  /**
+   * See {@link #decimalMin(String, BigDecimal, BigDecimal, boolean)}
+   */
+  public static Optional<Violation> decimalMinRule(
+          String field, BigDecimal value, BigDecimal min, boolean inclusive) {
+    if (min == null) {
+      throw new IllegalArgumentException("min is required");
+    }
+    if (value == null) {
+      return Optional.empty();
+    }
+    int comparison = value.compareTo(min);
+    if (inclusive) {
+      return comparison >= 0
+              ? Optional.empty()
+              : Optional.of(NUMBER_VALUE_SMALLER_THAN_MIN.violation(field, min));
+    }
+    return comparison > 0
+            ? Optional.empty()
+            : Optional.of(NUMBER_VALUE_NOT_GREATER_THAN_MIN.violation(field, min));
+  }
+
+  public static ViolationProvider positiveOrZero(String field, BigDecimal value) {
+    return () -> positiveOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> positiveOrZeroRule(String field, BigDecimal value) {
+    return positiveOrZeroRule(field, () -> value.compareTo(BigDecimal.ZERO) >= 0, value);
+  }
+
+  private static Optional<Violation> positiveOrZeroRule(
+          String field, BooleanSupplier conditionProvider, Object value) {
+    return commonPositiveAndNegative(
+            conditionProvider,
             value,
-            other,
-            (tComparable, t) -> value.compareTo(other) > 0,
-            () ->
-                    Violation.of(
-                            field,
-                            "validation.error.value.is.after",
-                            "The value is after the other value.",
-                            singletonMap(PARAM_NAME_OTHER, other == null ? null : other.toString())));
+            NEGATIVE_VALUE.violation(field));
+  }
+
+  private static Optional<Violation> commonPositiveAndNegative(
+          BooleanSupplier conditionProvider, Object value, Violation violation) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    return isTrueRule(conditionProvider, violation);
+  }
+
+  public static ViolationProvider positiveOrZero(String field, BigInteger value) {
+    return () -> positiveOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> positiveOrZeroRule(String field, BigInteger value) {
+    return positiveOrZeroRule(field, () -> value.compareTo(BigInteger.ZERO) >= 0, value);
+  }
+
+  public static ViolationProvider positiveOrZero(String field, Double value) {
+    return () -> positiveOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> positiveOrZeroRule(String field, Double value) {
+    return positiveOrZeroRule(field, () -> value >= 0, value);
+  }
+
+  public static ViolationProvider positiveOrZero(String field, Float value) {
+    return () -> positiveOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> positiveOrZeroRule(String field, Float value) {
+    return positiveOrZeroRule(field, () -> value >= 0, value);
+  }
+
+  public static ViolationProvider positiveOrZero(String field, Long value) {
+    return () -> positiveOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> positiveOrZeroRule(String field, Long value) {
+    return positiveOrZeroRule(field, () -> value >= 0, value);
+  }
+
+  public static ViolationProvider positiveOrZero(String field, Integer value) {
+    return () -> positiveOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> positiveOrZeroRule(String field, Integer value) {
+    return positiveOrZeroRule(field, () -> value >= 0, value);
+  }
+
+  public static ViolationProvider positive(String field, BigDecimal value) {
+    return () -> positiveRule(field, value);
+  }
+
+  public static Optional<Violation> positiveRule(String field, BigDecimal value) {
+    return positiveRule(field, () -> value.compareTo(BigDecimal.ZERO) > 0, value);
+  }
+
+  private static Optional<Violation> positiveRule(
+          String field, BooleanSupplier conditionProvider, Object value) {
+    return commonPositiveAndNegative(
+            conditionProvider,
+            value,
+            NEGATIVE_OR_ZERO_VALUE.violation(field));
+  }
+
+  public static ViolationProvider positive(String field, BigInteger value) {
+    return () -> positiveRule(field, value);
+  }
+
+  public static Optional<Violation> positiveRule(String field, BigInteger value) {
+    return positiveRule(field, () -> value.compareTo(BigInteger.ZERO) > 0, value);
+  }
+
+  public static ViolationProvider positive(String field, Double value) {
+    return () -> positiveRule(field, value);
+  }
+
+  public static Optional<Violation> positiveRule(String field, Double value) {
+    return positiveRule(field, () -> value > 0, value);
+  }
+
+  public static ViolationProvider positive(String field, Float value) {
+    return () -> positiveRule(field, value);
+  }
+
+  public static Optional<Violation> positiveRule(String field, Float value) {
+    return positiveRule(field, () -> value > 0, value);
+  }
+
+  public static ViolationProvider positive(String field, Long value) {
+    return () -> positiveRule(field, value);
+  }
+
+  public static Optional<Violation> positiveRule(String field, Long value) {
+    return positiveRule(field, () -> value > 0, value);
+  }
+
+  public static ViolationProvider positive(String field, Integer value) {
+    return () -> positiveRule(field, value);
+  }
+
+  public static Optional<Violation> positiveRule(String field, Integer value) {
+    return positiveRule(field, () -> value > 0, value);
+  }
+
+  public static ViolationProvider negativeOrZero(String field, BigDecimal value) {
+    return () -> negativeOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> negativeOrZeroRule(String field, BigDecimal value) {
+    return negativeOrZeroRule(field, () -> value.compareTo(BigDecimal.ZERO) <= 0, value);
+  }
+
+  private static Optional<Violation> negativeOrZeroRule(
+          String field, BooleanSupplier conditionProvider, Object value) {
+    return commonPositiveAndNegative(
+            conditionProvider,
+            value,
+            POSITIVE_VALUE.violation(field));
+  }
+
+  public static ViolationProvider negativeOrZero(String field, BigInteger value) {
+    return () -> negativeOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> negativeOrZeroRule(String field, BigInteger value) {
+    return negativeOrZeroRule(field, () -> value.compareTo(BigInteger.ZERO) <= 0, value);
+  }
+
+  public static ViolationProvider negativeOrZero(String field, Double value) {
+    return () -> negativeOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> negativeOrZeroRule(String field, Double value) {
+    return negativeOrZeroRule(field, () -> value <= 0, value);
+  }
+
+  public static ViolationProvider negativeOrZero(String field, Float value) {
+    return () -> negativeOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> negativeOrZeroRule(String field, Float value) {
+    return negativeOrZeroRule(field, () -> value <= 0, value);
+  }
+
+  public static ViolationProvider negativeOrZero(String field, Long value) {
+    return () -> negativeOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> negativeOrZeroRule(String field, Long value) {
+    return negativeOrZeroRule(field, () -> value <= 0, value);
+  }
+
+  public static ViolationProvider negativeOrZero(String field, Integer value) {
+    return () -> negativeOrZeroRule(field, value);
+  }
+
+  public static Optional<Violation> negativeOrZeroRule(String field, Integer value) {
+    return negativeOrZeroRule(field, () -> value <= 0, value);
+  }
+
+  public static ViolationProvider negative(String field, BigDecimal value) {
+    return () -> negativeRule(field, value);
+  }
+
+  public static Optional<Violation> negativeRule(String field, BigDecimal value) {
+    return negativeRule(field, () -> value.compareTo(BigDecimal.ZERO) < 0, value);
+  }
+
+  private static Optional<Violation> negativeRule(
+          String field, BooleanSupplier conditionProvider, Object value) {
+    return commonPositiveAndNegative(
+            conditionProvider,
+            value,
+            POSITIVE_OR_ZERO_VALUE.violation(field));
+  }
+
+  public static ViolationProvider negative(String field, BigInteger value) {
+    return () -> negativeRule(field, value);
+  }
+
+  public static Optional<Violation> negativeRule(String field, BigInteger value) {
+    return negativeRule(field, () -> value.compareTo(BigInteger.ZERO) < 0, value);
+  }
+
+  public static ViolationProvider negative(String field, Double value) {
+    return () -> negativeRule(field, value);
+  }
+
+  public static Optional<Violation> negativeRule(String field, Double value) {
+    return negativeRule(field, () -> value < 0, value);
+  }
+
+  public static ViolationProvider negative(String field, Float value) {
+    return () -> negativeRule(field, value);
+  }
+
+  public static Optional<Violation> negativeRule(String field, Float value) {
+    return negativeRule(field, () -> value < 0, value);
+  }
+
+  public static ViolationProvider negative(String field, Long value) {
+    return () -> negativeRule(field, value);
+  }
+
+  public static Optional<Violation> negativeRule(String field, Long value) {
+    return negativeRule(field, () -> value < 0, value);
+  }
+
+  public static ViolationProvider negative(String field, Integer value) {
+    return () -> negativeRule(field, value);
+  }
+
+  public static Optional<Violation> negativeRule(String field, Integer value) {
+    return negativeRule(field, () -> value < 0, value);
+  }
+
+  /**
+   * Checks if the value is smaller than or equals to the provided superior limit. If the value is
+   * null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param max superior limit
+   * @return violation or success
+   */
+  public static ViolationProvider max(String field, Integer value, int max) {
+    return () -> maxRule(field, value, max);
+  }
+
+  /**
+   * See {@link #max(String, Integer, int)}
+   */
+  public static Optional<Violation> maxRule(String field, Integer value, int max) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    return isTrueRule(
+            () -> value <= max,
+            INTEGER_VALUE_GREATER_THAN_MAX.violation(field, max));
+  }
+
+  /**
+   * Checks if the value is smaller than or equals to the provided superior limit, for values and
+   * limits outside the <code>int</code> range. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param max superior limit
+   * @return violation or success
+   */
+  public static ViolationProvider maxLong(String field, Long value, long max) {
+    return () -> maxLongRule(field, value, max);
+  }
+
+  /**
+   * See {@link #maxLong(String, Long, long)}
+   */
+  public static Optional<Violation> maxLongRule(String field, Long value, long max) {
+    if (value == null || value <= max) {
+      return Optional.empty();
+    }
+    return Optional.of(INTEGER_VALUE_GREATER_THAN_MAX.violation(field, max));
+  }
+
+  /**
+   * Checks if the value is smaller than (or, when inclusive, equal to) the provided superior
+   * limit. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param max superior limit
+   * @param inclusive if a value equal to the limit is allowed
+   * @return violation or success
+   */
+  public static ViolationProvider decimalMax(
+          String field, BigDecimal value, BigDecimal max, boolean inclusive) {
+    return () -> decimalMaxRule(field, value, max, inclusive);
+  }
+
+  /**
+   * See {@link #decimalMax(String, BigDecimal, BigDecimal, boolean)}
+   */
+  public static Optional<Violation> decimalMaxRule(
+          String field, BigDecimal value, BigDecimal max, boolean inclusive) {
+    if (max == null) {
+      throw new IllegalArgumentException("max is required");
+    }
+    if (value == null) {
+      return Optional.empty();
+    }
+    int comparison = value.compareTo(max);
+    if (inclusive) {
+      return comparison <= 0
+              ? Optional.empty()
+              : Optional.of(NUMBER_VALUE_GREATER_THAN_MAX.violation(field, max));
+    }
+    return comparison < 0
+            ? Optional.empty()
+            : Optional.of(NUMBER_VALUE_NOT_SMALLER_THAN_MAX.violation(field, max));
+  }
+
+  /**
+   * Checks if the compared value is strictly after the other. If the value is null then no
+   * violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param other other value
+   * @param <T> compared object type
+   * @return violation or success
+   */
+  public static <T> ViolationProvider after(String field, Comparable<T> value, T other) {
+    return () -> afterRule(field, value, other);
+  }
+
+  /**
+   * See {@link #after(String, Comparable, Object)}
+   */
+  public static <T> Optional<Violation> afterRule(String field, Comparable<T> value, T other) {
+    return compareComparableRule(
+            value,
+            other,
+            (tComparable, t) -> value.compareTo(other) <= 0,
+            () -> VALUE_IS_BEFORE_OR_EQUAL.violation(
+                    field, other == null ? null : other.toString()));
+  }
+
+  /**
+   * Returns violation in case compare function is true. If the value is null then no violation is
+   * returned.
+   *
+   * @param value         first value
+   * @param other         second value
+   * @param compareFunc   function that compares the two values
+   * @param violationFunc the Violation that will be returned
+   * @return violation or success
+   */
+  public static <T> Optional<Violation> compareComparableRule(
+          Comparable<T> value,
+          T other,
+          BiPredicate<Comparable<T>, T> compareFunc,
+          Supplier<Violation> violationFunc) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    return isTrueRule(() -> other != null && !compareFunc.test(value, other), violationFunc);
+  }
+
+  /**
+   * Checks if the compared value is after or equals to the other. If the value is null then no
+   * violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param other other value
+   * @param <T> compared object type
+   * @return violation or success
+   */
+  public static <T> ViolationProvider afterOrEqualsTo(String field, Comparable<T> value, T other) {
+    return () -> afterOrEqualsToRule(field, value, other);
+  }
+
+  /**
+   * See {@link #afterOrEqualsTo(String, Comparable, Object)}
+   */
+  public static <T> Optional<Violation> afterOrEqualsToRule(
+          String field, Comparable<T> value, T other) {
+    return compareComparableRule(
+            value,
+            other,
+            (tComparable, t) -> value.compareTo(other) < 0,
+            () ->
+                    VALUE_IS_BEFORE.violation(field, other == null ? null : other.toString()));
+  }
+
+  /**
+   * Checks if the compared value is strictly before the other. If the value is null then no
+   * violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param other other value
+   * @param <T> compared object type
+   * @return violation or success
+   */
+  public static <T> ViolationProvider before(String field, Comparable<T> value, T other) {
+    return () -> beforeRule(field, value, other);
+  }
+
+  /**
+   * See {@link #before(String, Comparable, Object)}
+   */
+  public static <T> Optional<Violation> beforeRule(String field, Comparable<T> value, T other) {
+    return compareComparableRule(
+            value,
+            other,
+            (tComparable, t) -> value.compareTo(other) >= 0,
+            () -> VALUE_IS_AFTER_OR_EQUAL.violation(
+                    field, other == null ? null : other.toString()));
+  }
+
+  /**
+   * Checks if the compared value is before or equals to the other. If the value is null then no
+   * violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param other other value
+   * @param <T> compared object type
+   * @return violation or success
+   */
+  public static <T> ViolationProvider beforeOrEqualsTo(String field, Comparable<T> value, T other) {
+    return () -> beforeOrEqualsToRule(field, value, other);
+  }
+
+  /**
+   * See {@link #beforeOrEqualsTo(String, Comparable, Object)}
+   */
+  public static <T> Optional<Violation> beforeOrEqualsToRule(
+          String field, Comparable<T> value, T other) {
+    return compareComparableRule(
+            value,
+            other,
+            (tComparable, t) -> value.compareTo(other) > 0,
+            () ->
+                    VALUE_IS_AFTER.violation(field, other == null ? null : other.toString()));
+  }
+
+  /**
+   * Checks if the instant is strictly after the other. The seconds and nanoseconds are compared
+   * directly, without the {@link Comparable} dispatch of {@link #after(String, Comparable,
+   * Object)}, which reports the same violation. If the value or the other is null then no violation
+   * is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param other other value
+   * @return violation or success
+   */
+  public static ViolationProvider afterEpoch(String field, Instant value, Instant other) {
+    return () -> afterEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #afterEpoch(String, Instant, Instant)}
+   */
+  public static Optional<Violation> afterEpochRule(String field, Instant value, Instant other) {
+    if (value == null || other == null || value.isAfter(other)) {
+      return Optional.empty();
+    }
+    return Optional.of(isBeforeOrEqual(field, other));
+  }
+
+  /**
+   * See {@link #afterEpoch(String, Instant, Instant)}
+   */
+  public static ViolationProvider afterEpoch(String field, LocalDate value, LocalDate other) {
+    return () -> afterEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #afterEpoch(String, LocalDate, LocalDate)}
+   */
+  public static Optional<Violation> afterEpochRule(String field, LocalDate value, LocalDate other) {
+    if (value == null || other == null || value.isAfter(other)) {
+      return Optional.empty();
+    }
+    return Optional.of(isBeforeOrEqual(field, other));
+  }
+
+  /**
+   * See {@link #afterEpoch(String, Instant, Instant)}. The value and the other are epoch
+   * milliseconds.
+   */
+  public static ViolationProvider afterEpoch(String field, long value, long other) {
+    return () -> afterEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #afterEpoch(String, long, long)}
+   */
+  public static Optional<Violation> afterEpochRule(String field, long value, long other) {
+    if (value > other) {
+      return Optional.empty();
+    }
+    return Optional.of(isBeforeOrEqual(field, other));
+  }
+
+  /**
+   * Checks if the instant is after or equals to the other. The seconds and nanoseconds are compared
+   * directly, without the {@link Comparable} dispatch of {@link #afterOrEqualsTo(String,
+   * Comparable, Object)}, which reports the same violation. If the value or the other is null then
+   * no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param other other value
+   * @return violation or success
+   */
+  public static ViolationProvider afterOrEqualsToEpoch(String field, Instant value, Instant other) {
+    return () -> afterOrEqualsToEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #afterOrEqualsToEpoch(String, Instant, Instant)}
+   */
+  public static Optional<Violation> afterOrEqualsToEpochRule(
+          String field, Instant value, Instant other) {
+    if (value == null || other == null || !value.isBefore(other)) {
+      return Optional.empty();
+    }
+    return Optional.of(isBefore(field, other));
+  }
+
+  /**
+   * See {@link #afterOrEqualsToEpoch(String, Instant, Instant)}
+   */
+  public static ViolationProvider afterOrEqualsToEpoch(
+          String field, LocalDate value, LocalDate other) {
+    return () -> afterOrEqualsToEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #afterOrEqualsToEpoch(String, LocalDate, LocalDate)}
+   */
+  public static Optional<Violation> afterOrEqualsToEpochRule(
+          String field, LocalDate value, LocalDate other) {
+    if (value == null || other == null || !value.isBefore(other)) {
+      return Optional.empty();
+    }
+    return Optional.of(isBefore(field, other));
+  }
+
+  /**
+   * See {@link #afterOrEqualsToEpoch(String, Instant, Instant)}. The value and the other are epoch
+   * milliseconds.
+   */
+  public static ViolationProvider afterOrEqualsToEpoch(String field, long value, long other) {
+    return () -> afterOrEqualsToEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #afterOrEqualsToEpoch(String, long, long)}
+   */
+  public static Optional<Violation> afterOrEqualsToEpochRule(String field, long value, long other) {
+    if (value >= other) {
+      return Optional.empty();
+    }
+    return Optional.of(isBefore(field, other));
+  }
+
+  /**
+   * Checks if the instant is strictly before the other. The seconds and nanoseconds are compared
+   * directly, without the {@link Comparable} dispatch of {@link #before(String, Comparable,
+   * Object)}, which reports the same violation. If the value or the other is null then no violation
+   * is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param other other value
+   * @return violation or success
+   */
+  public static ViolationProvider beforeEpoch(String field, Instant value, Instant other) {
+    return () -> beforeEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #beforeEpoch(String, Instant, Instant)}
+   */
+  public static Optional<Violation> beforeEpochRule(String field, Instant value, Instant other) {
+    if (value == null || other == null || value.isBefore(other)) {
+      return Optional.empty();
+    }
+    return Optional.of(isAfterOrEqual(field, other));
+  }
+
+  /**
+   * See {@link #beforeEpoch(String, Instant, Instant)}
+   */
+  public static ViolationProvider beforeEpoch(String field, LocalDate value, LocalDate other) {
+    return () -> beforeEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #beforeEpoch(String, LocalDate, LocalDate)}
+   */
+  public static Optional<Violation> beforeEpochRule(
+          String field, LocalDate value, LocalDate other) {
+    if (value == null || other == null || value.isBefore(other)) {
+      return Optional.empty();
+    }
+    return Optional.of(isAfterOrEqual(field, other));
+  }
+
+  /**
+   * See {@link #beforeEpoch(String, Instant, Instant)}. The value and the other are epoch
+   * milliseconds.
+   */
+  public static ViolationProvider beforeEpoch(String field, long value, long other) {
+    return () -> beforeEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #beforeEpoch(String, long, long)}
+   */
+  public static Optional<Violation> beforeEpochRule(String field, long value, long other) {
+    if (value < other) {
+      return Optional.empty();
+    }
+    return Optional.of(isAfterOrEqual(field, other));
+  }
+
+  /**
+   * Checks if the instant is before or equals to the other. The seconds and nanoseconds are
+   * compared directly, without the {@link Comparable} dispatch of {@link #beforeOrEqualsTo(String,
+   * Comparable, Object)}, which reports the same violation. If the value or the other is null then
+   * no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param other other value
+   * @return violation or success
+   */
+  public static ViolationProvider beforeOrEqualsToEpoch(
+          String field, Instant value, Instant other) {
+    return () -> beforeOrEqualsToEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #beforeOrEqualsToEpoch(String, Instant, Instant)}
+   */
+  public static Optional<Violation> beforeOrEqualsToEpochRule(
+          String field, Instant value, Instant other) {
+    if (value == null || other == null || !value.isAfter(other)) {
+      return Optional.empty();
+    }
+    return Optional.of(isAfter(field, other));
+  }
+
+  /**
+   * See {@link #beforeOrEqualsToEpoch(String, Instant, Instant)}
+   */
+  public static ViolationProvider beforeOrEqualsToEpoch(
+          String field, LocalDate value, LocalDate other) {
+    return () -> beforeOrEqualsToEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #beforeOrEqualsToEpoch(String, LocalDate, LocalDate)}
+   */
+  public static Optional<Violation> beforeOrEqualsToEpochRule(
+          String field, LocalDate value, LocalDate other) {
+    if (value == null || other == null || !value.isAfter(other)) {
+      return Optional.empty();
+    }
+    return Optional.of(isAfter(field, other));
+  }
+
+  /**
+   * See {@link #beforeOrEqualsToEpoch(String, Instant, Instant)}. The value and the other are epoch
+   * milliseconds.
+   */
+  public static ViolationProvider beforeOrEqualsToEpoch(String field, long value, long other) {
+    return () -> beforeOrEqualsToEpochRule(field, value, other);
+  }
+
+  /**
+   * See {@link #beforeOrEqualsToEpoch(String, long, long)}
+   */
+  public static Optional<Violation> beforeOrEqualsToEpochRule(
+          String field, long value, long other) {
+    if (value <= other) {
+      return Optional.empty();
+    }
+    return Optional.of(isAfter(field, other));
+  }
+
+  private static Violation isBeforeOrEqual(String field, Object other) {
+    return VALUE_IS_BEFORE_OR_EQUAL.violation(field, other.toString());
+  }
+
+  private static Violation isBefore(String field, Object other) {
+    return VALUE_IS_BEFORE.violation(field, other.toString());
+  }
+
+  private static Violation isAfterOrEqual(String field, Object other) {
+    return VALUE_IS_AFTER_OR_EQUAL.violation(field, other.toString());
+  }
+
+  private static Violation isAfter(String field, Object other) {
+    return VALUE_IS_AFTER.violation(field, other.toString());
+  }
+
+  /**
+   * Checks if the instant is not after the current time of the validation run. The clock of the run
+   * is read once, whatever the number of rules using it. If the value is null then no violation is
+   * returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param now   time of the validation run
+   * @return violation or success
+   */
+  public static ViolationProvider notInFuture(String field, Instant value, ValidationTime now) {
+    return () -> notInFutureRule(field, value, now);
+  }
+
+  /**
+   * See {@link #notInFuture(String, Instant, ValidationTime)}
+   */
+  public static Optional<Violation> notInFutureRule(
+          String field, Instant value, ValidationTime now) {
+    requireTime(now);
+    if (value == null || compare(value, now.epochSecond(), now.nano()) <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(notInFuture(field, now.instant()));
+  }
+
+  /**
+   * See {@link #notInFuture(String, Instant, ValidationTime)}. The date is compared with the
+   * current date in the time zone of the clock.
+   */
+  public static ViolationProvider notInFuture(String field, LocalDate value, ValidationTime now) {
+    return () -> notInFutureRule(field, value, now);
+  }
+
+  /**
+   * See {@link #notInFuture(String, LocalDate, ValidationTime)}
+   */
+  public static Optional<Violation> notInFutureRule(
+          String field, LocalDate value, ValidationTime now) {
+    requireTime(now);
+    if (value == null || !value.isAfter(now.date())) {
+      return Optional.empty();
+    }
+    return Optional.of(notInFuture(field, now.date()));
+  }
+
+  /**
+   * See {@link #notInFuture(String, Instant, ValidationTime)}. The value is in epoch milliseconds.
+   */
+  public static ViolationProvider notInFuture(String field, long value, ValidationTime now) {
+    return () -> notInFutureRule(field, value, now);
+  }
+
+  /**
+   * See {@link #notInFuture(String, long, ValidationTime)}
+   */
+  public static Optional<Violation> notInFutureRule(String field, long value, ValidationTime now) {
+    requireTime(now);
+    if (value <= now.epochMilli()) {
+      return Optional.empty();
+    }
+    return Optional.of(notInFuture(field, now.instant()));
+  }
+
+  /**
+   * Checks if the instant is not before the current time of the validation run. The clock of the
+   * run is read once, whatever the number of rules using it. If the value is null then no violation
+   * is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param now   time of the validation run
+   * @return violation or success
+   */
+  public static ViolationProvider notInPast(String field, Instant value, ValidationTime now) {
+    return () -> notInPastRule(field, value, now);
+  }
+
+  /**
+   * See {@link #notInPast(String, Instant, ValidationTime)}
+   */
+  public static Optional<Violation> notInPastRule(String field, Instant value, ValidationTime now) {
+    requireTime(now);
+    if (value == null || compare(value, now.epochSecond(), now.nano()) >= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(notInPast(field, now.instant()));
+  }
+
+  /**
+   * See {@link #notInPast(String, Instant, ValidationTime)}. The date is compared with the current
+   * date in the time zone of the clock.
+   */
+  public static ViolationProvider notInPast(String field, LocalDate value, ValidationTime now) {
+    return () -> notInPastRule(field, value, now);
+  }
+
+  /**
+   * See {@link #notInPast(String, LocalDate, ValidationTime)}
+   */
+  public static Optional<Violation> notInPastRule(
+          String field, LocalDate value, ValidationTime now) {
+    requireTime(now);
+    if (value == null || !value.isBefore(now.date())) {
+      return Optional.empty();
+    }
+    return Optional.of(notInPast(field, now.date()));
+  }
+
+  /**
+   * See {@link #notInPast(String, Instant, ValidationTime)}. The value is in epoch milliseconds.
+   */
+  public static ViolationProvider notInPast(String field, long value, ValidationTime now) {
+    return () -> notInPastRule(field, value, now);
+  }
+
+  /**
+   * See {@link #notInPast(String, long, ValidationTime)}
+   */
+  public static Optional<Violation> notInPastRule(String field, long value, ValidationTime now) {
+    requireTime(now);
+    if (value >= now.epochMilli()) {
+      return Optional.empty();
+    }
+    return Optional.of(notInPast(field, now.instant()));
+  }
+
+  /**
+   * Checks if the instant is within the period ending at the current time of the validation run,
+   * both ends included, for example within the last 30 days. The clock of the run is read once,
+   * whatever the number of rules using it. If the value is null then no violation is returned.
+   *
+   * @param field  path to field
+   * @param value  value to be checked
+   * @param period length of the window, not negative
+   * @param now    time of the validation run
+   * @return violation or success
+   * @throws IllegalArgumentException if the period is negative.
+   */
+  public static ViolationProvider withinLast(
+          String field, Instant value, Duration period, ValidationTime now) {
+    return () -> withinLastRule(field, value, period, now);
+  }
+
+  /**
+   * See {@link #withinLast(String, Instant, Duration, ValidationTime)}
+   */
+  public static Optional<Violation> withinLastRule(
+          String field, Instant value, Duration period, ValidationTime now) {
+    requirePeriod(period);
+    requireTime(now);
+    if (value == null) {
+      return Optional.empty();
+    }
+    long second = Instant.MIN.getEpochSecond();
+    int nano = 0;
+    // a longer period starts the window at Instant.MIN
+    if (period.getSeconds() <= now.epochSecond() - second) {
+      long fromSecond = now.epochSecond() - period.getSeconds();
+      int fromNano = now.nano() - period.getNano();
+      if (fromNano < 0) {
+        fromNano += 1_000_000_000;
+        fromSecond--;
+      }
+      if (fromSecond >= second) {
+        second = fromSecond;
+        nano = fromNano;
+      }
+    }
+    if (compare(value, second, nano) >= 0 && compare(value, now.epochSecond(), now.nano()) <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(notWithin(field, Instant.ofEpochSecond(second, nano), now.instant()));
+  }
+
+  /**
+   * See {@link #withinLast(String, Instant, Duration, ValidationTime)}. The date is compared with
+   * the current date in the time zone of the clock and the period is counted in whole days.
+   */
+  public static ViolationProvider withinLast(
+          String field, LocalDate value, Duration period, ValidationTime now) {
+    return () -> withinLastRule(field, value, period, now);
+  }
+
+  /**
+   * See {@link #withinLast(String, LocalDate, Duration, ValidationTime)}
+   */
+  public static Optional<Violation> withinLastRule(
+          String field, LocalDate value, Duration period, ValidationTime now) {
+    requirePeriod(period);
+    requireTime(now);
+    if (value == null) {
+      return Optional.empty();
+    }
+    long from = Math.max(now.epochDay() - period.toDays(), LocalDate.MIN.toEpochDay());
+    long day = value.toEpochDay();
+    if (day >= from && day <= now.epochDay()) {
+      return Optional.empty();
+    }
+    return Optional.of(notWithin(field, LocalDate.ofEpochDay(from), now.date()));
+  }
+
+  /**
+   * See {@link #withinLast(String, Instant, Duration, ValidationTime)}. The value is in epoch
+   * milliseconds.
+   */
+  public static ViolationProvider withinLast(
+          String field, long value, Duration period, ValidationTime now) {
+    return () -> withinLastRule(field, value, period, now);
+  }
+
+  /**
+   * See {@link #withinLast(String, long, Duration, ValidationTime)}
+   */
+  public static Optional<Violation> withinLastRule(
+          String field, long value, Duration period, ValidationTime now) {
+    requirePeriod(period);
+    requireTime(now);
+    long from = windowStartMilli(now.epochMilli(), period);
+    if (value >= from && value <= now.epochMilli()) {
+      return Optional.empty();
+    }
+    return Optional.of(notWithin(field, Instant.ofEpochMilli(from), now.instant()));
+  }
+
+  /**
+   * <code>now - period</code> in epoch milliseconds, or <code>Long.MIN_VALUE</code> when the
+   * window starts before it.
+   */
+  private static long windowStartMilli(long now, Duration period) {
+    long minSecond = Math.floorDiv(Long.MIN_VALUE, 1000);
+    long nowSecond = Math.floorDiv(now, 1000);
+    if (period.getSeconds() > nowSecond - minSecond) {
+      return Long.MIN_VALUE;
+    }
+    long second = nowSecond - period.getSeconds();
+    long milli = Math.floorMod(now, 1000) - period.getNano() / 1_000_000;
+    if (milli < 0) {
+      milli += 1000;
+      second--;
+    }
+    if (second < minSecond
+            || second == minSecond && milli < Math.floorMod(Long.MIN_VALUE, 1000)) {
+      return Long.MIN_VALUE;
+    }
+    return second * 1000 + milli;
+  }
+
+  private static int compare(Instant value, long epochSecond, int nano) {
+    int seconds = Long.compare(value.getEpochSecond(), epochSecond);
+    return seconds != 0 ? seconds : Integer.compare(value.getNano(), nano);
+  }
+
+  private static void requireTime(ValidationTime now) {
+    if (now == null) {
+      throw new IllegalArgumentException("now is required");
+    }
+  }
+
+  private static void requirePeriod(Duration period) {
+    if (period == null) {
+      throw new IllegalArgumentException("period is required");
+    }
+    if (period.isNegative()) {
+      throw new IllegalArgumentException("period cannot be negative");
+    }
+  }
+
+  private static Violation notInFuture(String field, Object now) {
+    return VALUE_IS_IN_THE_FUTURE.violation(field, now.toString());
+  }
+
+  private static Violation notInPast(String field, Object now) {
+    return VALUE_IS_IN_THE_PAST.violation(field, now.toString());
+  }
+
+  private static Violation notWithin(String field, Object from, Object to) {
+    return VALUE_NOT_WITHIN_PERIOD.violation(field, from.toString(), to.toString());
+  }
+
+  /**
+   * Checks if the collection has the size between or equals to one of two limits. The limits can
+   * be equal. If the value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @param min   inferior limit
+   * @param max   superior limit
+   * @return violation or success
+   * @throws IllegalArgumentException if min is greater than max.
+   */
+  public static ViolationProvider sizeBetween(
+          String field, Collection<?> value, int min, int max) {
+    return () -> sizeBetweenRule(field, value, min, max);
+  }
+
+  /**
+   * See {@link #sizeBetween(String, Collection, int, int)}
+   */
+  public static Optional<Violation> sizeBetweenRule(
+          String field, Collection<?> value, int min, int max) {
+    if (min > max) {
+      throw new IllegalArgumentException("min is greater than max");
+    }
+    if (value == null) {
+      return Optional.empty();
+    }
+    int size = value.size();
+    if (size >= min && size <= max) {
+      return Optional.empty();
+    }
+    return Optional.of(COLLECTION_SIZE_NOT_BETWEEN.violation(field, min, max));
+  }
+
+  /**
+   * Checks if the collection has no element equal to a previous one. The elements are read once
+   * and the search stops at the first duplicate, whose indexed path, for example
+   * <code>input.tags[3]</code>, is the field of the violation. Null elements are skipped. If the
+   * value is null then no violation is returned.
+   *
+   * @param field path to field
+   * @param value value to be checked
+   * @return violation or success
+   */
+  public static ViolationProvider uniqueElements(String field, Collection<?> value) {
+    return () -> uniqueElementsRule(field, value);
+  }
+
+  /**
+   * See {@link #uniqueElements(String, Collection)}
+   */
+  public static Optional<Violation> uniqueElementsRule(String field, Collection<?> value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    return duplicate(field, DuplicateScanner.firstDuplicate(value, Function.identity()));
+  }
+
+  /**
+   * See {@link #uniqueElements(String, Collection)}. The values are not boxed.
+   */
+  public static ViolationProvider uniqueElements(String field, int[] value) {
+    return () -> uniqueElementsRule(field, value);
+  }
+
+  /**
+   * See {@link #uniqueElements(String, int[])}
+   */
+  public static Optional<Violation> uniqueElementsRule(String field, int[] value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    return duplicate(field, DuplicateScanner.firstDuplicate(value));
+  }
+
+  /**
+   * See {@link #uniqueElements(String, Collection)}. The values are not boxed.
+   */
+  public static ViolationProvider uniqueElements(String field, long[] value) {
+    return () -> uniqueElementsRule(field, value);
+  }
+
+  /**
+   * See {@link #uniqueElements(String, long[])}
+   */
+  public static Optional<Violation> uniqueElementsRule(String field, long[] value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    return duplicate(field, DuplicateScanner.firstDuplicate(value));
+  }
+
+  /**
+   * Checks if no element of the collection has the same key as a previous one, for example no two
+   * lines of an order for the same product. The keys are compared with <code>equals</code>. The
+   * elements are read once and the search stops at the first duplicate, whose indexed path is the
+   * field of the violation. Null elements are skipped. If the value is null then no violation is
+   * returned.
+   *
+   * @param field        path to field
+   * @param value        value to be checked
+   * @param keyExtractor function giving the key of an element
+   * @param <T>          element type
+   * @return violation or success
+   * @throws IllegalArgumentException if keyExtractor is null.
+   */
+  public static <T> ViolationProvider distinctBy(
+          String field, Collection<T> value, Function<? super T, ?> keyExtractor) {
+    return () -> distinctByRule(field, value, keyExtractor);
+  }
+
+  /**
+   * See {@link #distinctBy(String, Collection, Function)}
+   */
+  public static <T> Optional<Violation> distinctByRule(
+          String field, Collection<T> value, Function<? super T, ?> keyExtractor) {
+    requireKeyExtractor(keyExtractor);
+    if (value == null) {
+      return Optional.empty();
+    }
+    return duplicate(field, DuplicateScanner.firstDuplicate(value, keyExtractor));
+  }
+
+  /**
+   * See {@link #distinctBy(String, Collection, Function)}. The keys are <code>int</code> values
+   * and they are not boxed.
+   */
+  public static <T> ViolationProvider distinctByInt(
+          String field, Collection<T> value, ToIntFunction<? super T> keyExtractor) {
+    return () -> distinctByIntRule(field, value, keyExtractor);
+  }
+
+  /**
+   * See {@link #distinctByInt(String, Collection, ToIntFunction)}
+   */
+  public static <T> Optional<Violation> distinctByIntRule(
+          String field, Collection<T> value, ToIntFunction<? super T> keyExtractor) {
+    requireKeyExtractor(keyExtractor);
+    if (value == null) {
+      return Optional.empty();
+    }
+    return duplicate(field, DuplicateScanner.firstDuplicateInt(value, keyExtractor));
+  }
+
+  /**
+   * See {@link #distinctBy(String, Collection, Function)}. The keys are <code>long</code> values
+   * and they are not boxed.
+   */
+  public static <T> ViolationProvider distinctByLong(
+          String field, Collection<T> value, ToLongFunction<? super T> keyExtractor) {
+    return () -> distinctByLongRule(field, value, keyExtractor);
+  }
+
+  /**
+   * See {@link #distinctByLong(String, Collection, ToLongFunction)}
+   */
+  public static <T> Optional<Violation> distinctByLongRule(
+          String field, Collection<T> value, ToLongFunction<? super T> keyExtractor) {
+    requireKeyExtractor(keyExtractor);
+    if (value == null) {
+      return Optional.empty();
+    }
+    return duplicate(field, DuplicateScanner.firstDuplicateLong(value, keyExtractor));
+  }
+
+  /**
+   * Applies the rules to each element of the collection. The rules receive the path of the
+   * collection, and the indexed path, for example <code>input.lines[2]</code>, is put in the
+   * violations they return, so the paths are built only for the failing elements. A rule may
+   * return a violation for a nested path, like <code>input.lines.quantity</code>, which becomes
+   * <code>input.lines[2].quantity</code>.
+   *
+   * <p>There is one provider per element, returning the first violation of the element, or, if
+   * <code>stopAfterFirst</code> is false, one provider per element and rule. The elements are
+   * read once and in order when the providers are validated. Null elements are given to the rules
+   * like the others. If the value is null then no provider is returned.
+   *
+   * <pre>
+   * ValidationEngine.validateAll(ValidationRule.each("input.emails", input.getEmails(), true,
+   *         ValidationRule::notBlankRule, ValidationRule::emailRule));
+   * </pre>
+   *
+   * @param field          path to field
+   * @param value          value to be checked
+   * @param stopAfterFirst true to stop at the first violation of each element
+   * @param rules          rules applied to each element, in order
+   * @param <T>            element type
+   * @return violation providers
+   * @throws IllegalArgumentException if any of the rules is null.
+   */
+  @SafeVarargs
+  public static <T> List<ViolationProvider> each(
+          String field,
+          Collection<T> value,
+          boolean stopAfterFirst,
+          FieldRule<? super T>... rules) {
+    requireRules(rules);
+    if (value == null) {
+      return emptyList();
+    }
+    List<T> elements =
+            value instanceof List && value instanceof RandomAccess
+                    ? (List<T>) value
+                    : new ArrayList<>(value);
+    return new ElementProviders<>(field, elements, stopAfterFirst, rules.clone());
+  }
+
+  /**
+   * See {@link #each(String, Collection, boolean, FieldRule[])}. The rules are applied right away.
+   *
+   * @return violations
+   */
+  @SafeVarargs
+  public static <T> List<Violation> eachRule(
+          String field,
+          Collection<T> value,
+          boolean stopAfterFirst,
+          FieldRule<? super T>... rules) {
+    requireRules(rules);
+    if (value == null) {
+      return emptyList();
+    }
+    String path = field == null ? "" : field;
+    List<Violation> violations = null;
+    int index = 0;
+    for (T element : value) {
+      for (FieldRule<? super T> rule : rules) {
+        Optional<Violation> violation = rule.apply(path, element);
+        if (violation.isPresent()) {
+          if (violations == null) {
+            violations = new ArrayList<>();
+          }
+          violations.add(indexed(path, index, violation.get()));
+          if (stopAfterFirst) {
+            break;
+          }
+        }
+      }
+      index++;
+    }
+    return violations == null ? emptyList() : violations;
+  }
+
+  private static Optional<Violation> duplicate(String field, int index) {
+    if (index == DuplicateScanner.NONE) {
+      return Optional.empty();
+    }
+    return Optional.of(COLLECTION_ELEMENT_IS_DUPLICATE.violation(field + "[" + index + "]"));
+  }
+
+  private static void requireKeyExtractor(Object keyExtractor) {
+    if (keyExtractor == null) {
+      throw new IllegalArgumentException("keyExtractor is required");
+    }
+  }
+
+  private static void requireRules(FieldRule<?>[] rules) {
+    if (rules == null || asList(rules).contains(null)) {
+      throw new IllegalArgumentException("rules cannot be null");
+    }
+  }
+
+  /**
+   * @return violation with the index inserted after the path of the collection
+   */
+  private static Violation indexed(String path, int index, Violation violation) {
+    String field = violation.getField();
+    if (field == null || !field.startsWith(path)) {
+      return violation;
+    }
+    // "input.linesCount" starts with "input.lines" but is not one of its elements
+    if (field.length() > path.length()
+            && field.charAt(path.length()) != '.'
+            && field.charAt(path.length()) != '[') {
+      return violation;
+    }
+    return violation.withField(path + "[" + index + "]" + field.substring(path.length()));
+  }
+
+  /**
+   * Providers of {@link #each(String, Collection, boolean, FieldRule[])}, created when they are
+   * read, so a collection of any size costs a single object until it is validated.
+   */
+  private static final class ElementProviders<T> extends AbstractList<ViolationProvider>
+          implements RandomAccess {
+    private final String path;
+    private final List<T> elements;
+    private final boolean stopAfterFirst;
+    private final FieldRule<? super T>[] rules;
+
+    private ElementProviders(
+            String field, List<T> elements, boolean stopAfterFirst, FieldRule<? super T>[] rules) {
+      this.path = field == null ? "" : field;
+      this.elements = elements;
+      this.stopAfterFirst = stopAfterFirst;
+      this.rules = rules;
+    }
+
+    @Override
+    public ViolationProvider get(int i) {
+      if (i < 0 || i >= size()) {
+        throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+      }
+      if (stopAfterFirst) {
+        return () -> first(i);
+      }
+      int index = i / rules.length;
+      FieldRule<? super T> rule = rules[i % rules.length];
+      return () -> rule.apply(path, elements.get(index)).map(v -> indexed(path, index, v));
+    }
+
+    private Optional<Violation> first(int index) {
+      T element = elements.get(index);
+      for (FieldRule<? super T> rule : rules) {
+        Optional<Violation> violation = rule.apply(path, element);
+        if (violation.isPresent()) {
+          return Optional.of(indexed(path, index, violation.get()));
+        }
+      }
+      return Optional.empty();
+    }
+
+    @Override
+    public int size() {
+      return stopAfterFirst
+              ? elements.size()
+              : Math.multiplyExact(elements.size(), rules.length);
+    }
   }
 
   /**
@@ -793,11 +2794,7 @@ public class ValidationRule {
             other,
             (tComparable, t) -> value.compareTo(other) != 0,
             () ->
-                    Violation.of(
-                            field,
-                            "validation.error.value.is.not.equal",
-                            "The value is not equal to the other value.",
-                            singletonMap(PARAM_NAME_OTHER, other == null ? null : other.toString())));
+                    VALUE_IS_NOT_EQUAL.violation(field, other == null ? null : other.toString()));
   }
 
   /**
@@ -822,11 +2819,7 @@ public class ValidationRule {
             other,
             (s, s2) -> !value.equals(other),
             () ->
-                    Violation.of(
-                            field,
-                            "validation.error.value.is.not.equal",
-                            "The value is not equal to the other value.",
-                            singletonMap(PARAM_NAME_OTHER, other)));
+                    VALUE_IS_NOT_EQUAL.violation(field, other));
   }
 
   /**
@@ -900,11 +2893,7 @@ public class ValidationRule {
         other,
         (s, s2) -> value.equals(other),
         () ->
-            Violation.of(
-                    field,
-                    "validation.error.string.is.equal",
-                    "The value is equal to the other value.",
-                singletonMap(PARAM_NAME_OTHER, other)));
+            STRING_IS_EQUAL.violation(field, other));
   }
 
   public static <T> ViolationProvider compareComparable(
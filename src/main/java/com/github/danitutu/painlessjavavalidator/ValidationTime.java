@@ -0,0 +1,111 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * The current time of a validation run, used by the relative temporal rules like {@link
+ * ValidationRule#notInFuture(String, Instant, ValidationTime)} or {@link
+ * ValidationRule#withinLast(String, Instant, java.time.Duration, ValidationTime)}. The clock is
+ * read once, by the first rule needing the time, and all rules of the run see the same instant.
+ *
+ * <pre>
+ * ValidationTime now = ValidationTime.of(clock);
+ *
+ * ValidationEngine.validateAll(
+ *         ValidationRule.notInFuture("input.birthDate", input.getBirthDate(), now),
+ *         ValidationRule.withinLast("input.paidAt", input.getPaidAt(), Duration.ofDays(30), now));
+ * </pre>
+ *
+ * <p>An instance is meant for a single validation run. It can be shared between threads.
+ */
+public final class ValidationTime {
+
+  private static final long SECONDS_PER_DAY = 86_400;
+
+  private final Clock clock;
+  private volatile Reading reading;
+
+  private ValidationTime(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * @param clock clock giving the current instant and, for dates, the time zone
+   * @return time read from the clock when it is first needed
+   */
+  public static ValidationTime of(Clock clock) {
+    if (clock == null) {
+      throw new IllegalArgumentException("clock is required");
+    }
+    return new ValidationTime(clock);
+  }
+
+  /**
+   * @return time read from the system clock, in UTC, when it is first needed
+   */
+  public static ValidationTime systemUTC() {
+    return of(Clock.systemUTC());
+  }
+
+  public Clock getClock() {
+    return clock;
+  }
+
+  public Instant instant() {
+    return read().instant;
+  }
+
+  /**
+   * @return current date in the time zone of the clock
+   */
+  public LocalDate date() {
+    return read().date;
+  }
+
+  public long epochMilli() {
+    return read().epochMilli;
+  }
+
+  long epochSecond() {
+    return read().instant.getEpochSecond();
+  }
+
+  int nano() {
+    return read().instant.getNano();
+  }
+
+  long epochDay() {
+    return read().epochDay;
+  }
+
+  private Reading read() {
+    Reading current = reading;
+    if (current == null) {
+      synchronized (this) {
+        current = reading;
+        if (current == null) {
+          current = new Reading(clock);
+          reading = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private static final class Reading {
+    private final Instant instant;
+    private final long epochMilli;
+    private final long epochDay;
+    private final LocalDate date;
+
+    private Reading(Clock clock) {
+      this.instant = clock.instant();
+      this.epochMilli = instant.toEpochMilli();
+      int offset = clock.getZone().getRules().getOffset(instant).getTotalSeconds();
+      this.epochDay = Math.floorDiv(instant.getEpochSecond() + offset, SECONDS_PER_DAY);
+      this.date = LocalDate.ofEpochDay(epochDay);
+    }
+  }
+}
@@ -1,7 +1,13 @@
 package com.github.danitutu.painlessjavavalidator;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 
 public class Violation {
   /**
@@ -9,7 +15,10 @@ public class Violation {
    */
   private final String field;
   /**
-   * A message describing the validation result. A good message handling approach is to let the
+   * Message, details and attribute names, shared by the violations of the same kind. See {@link
+   * ViolationTemplate}.
+   *
+   * <p>The message describes the validation result. A good message handling approach is to let the
    * clients decide how they should handle a message. For that it would be best to return something
    * like a message key and then the client can translate it in different languages or display the
    * message and use the parameters however they like.
@@ -19,23 +28,31 @@ public class Violation {
    * validation.error.user.account.email.duplicate
    * validation.warning.engine.previous.configuration.clear
    * </code>
+   *
+   * <p>The details is a field where the message can be explained. This can be used for giving
+   * details about a the message, maybe explain it, or even give something like a default
+   * translation for it.
    */
-  private final String message;
+  private final ViolationTemplate template;
   /**
-   * A field where the message can be explained. This can be used for giving details about a the
-   * message, maybe explain it, or even give something like a default translation for it.
+   * Values of the attributes named by the template or null.
    */
-  private final String details;
+  private final Object[] values;
   /**
    * Anything related to the violation can be added here. One good purpose of the field is to send
-   * the parameters of the message. For that you can use the key as identifier.
+   * the parameters of the message. For that you can use the key as identifier. Given by the caller
+   * or, for violations created from a template, built from the values when first needed.
    */
-  private final Map<String, Object> attributes;
+  private Map<String, Object> attributes;
 
-  private Violation(String field, String message, String details, Map<String, Object> attributes) {
+  private Violation(
+          String field,
+          ViolationTemplate template,
+          Object[] values,
+          Map<String, Object> attributes) {
     this.field = field;
-    this.message = message;
-    this.details = details;
+    this.template = template;
+    this.values = values;
     this.attributes = attributes;
   }
 
@@ -45,7 +62,19 @@ public class Violation {
 
   public static Violation of(
           String field, String message, String details, Map<String, Object> attributes) {
-    return new Violation(field, message, details, attributes);
+    return new Violation(
+            field, ViolationTemplate.withoutAttributeNames(message, details), null, attributes);
+  }
+
+  static Violation fromTemplate(String field, ViolationTemplate template, Object[] values) {
+    return new Violation(field, template, values, null);
+  }
+
+  /**
+   * @return same violation for another field, sharing the template, values and attributes
+   */
+  Violation withField(String field) {
+    return new Violation(field, template, values, attributes);
   }
 
   public String getField() {
@@ -53,20 +82,48 @@ public class Violation {
   }
 
   public String getMessage() {
-    return message;
+    return template.getMessage();
   }
 
   public String getDetails() {
-    return details;
+    return template.getDetails();
   }
 
+  /**
+   * @return code of the message or {@link ViolationCodes#NONE} if the message has no registered
+   *     code
+   */
+  public int getCode() {
+    return template.getCode();
+  }
+
+  /**
+   * @return attributes or null if the violation has none
+   */
   public Map<String, Object> getAttributes() {
-    return attributes;
+    Map<String, Object> current = attributes;
+    if (current == null && values != null) {
+      // an immutable view, so a race only builds it twice
+      current = new TemplateAttributes(template.attributeNames(), values);
+      attributes = current;
+    }
+    return current;
+  }
+
+  /**
+   * Not named as a getter, so the template is not a property of the serialized violation.
+   *
+   * @return template of the violation; a violation created with {@link #of(String, String, String,
+   *     Map)} has a template without attribute names, usually shared by the violations with the
+   *     same message and details
+   */
+  public ViolationTemplate template() {
+    return template;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(field, message, details, attributes);
+    return Objects.hash(field, getMessage(), getDetails(), getAttributes());
   }
 
   @Override
@@ -74,9 +131,83 @@ public class Violation {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     Violation violation = (Violation) o;
-    return Objects.equals(field, violation.field)
-            && Objects.equals(message, violation.message)
-            && Objects.equals(details, violation.details)
-            && Objects.equals(attributes, violation.attributes);
+    if (!Objects.equals(field, violation.field)) {
+      return false;
+    }
+    if (template == violation.template && values != null && violation.values != null) {
+      return Arrays.equals(values, violation.values);
+    }
+    return Objects.equals(getMessage(), violation.getMessage())
+            && Objects.equals(getDetails(), violation.getDetails())
+            && Objects.equals(getAttributes(), violation.getAttributes());
+  }
+
+  /**
+   * Read only map of the attribute names of a template and the values of a violation.
+   */
+  private static final class TemplateAttributes extends AbstractMap<String, Object> {
+    private final String[] names;
+    private final Object[] values;
+
+    private TemplateAttributes(String[] names, Object[] values) {
+      this.names = names;
+      this.values = values;
+    }
+
+    @Override
+    public Object get(Object key) {
+      for (int i = 0; i < names.length; i++) {
+        if (names[i].equals(key)) {
+          return values[i];
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      for (String name : names) {
+        if (name.equals(key)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public int size() {
+      return names.length;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      return new AbstractSet<Entry<String, Object>>() {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+          return new Iterator<Entry<String, Object>>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+              return next < names.length;
+            }
+
+            @Override
+            public Entry<String, Object> next() {
+              if (next >= names.length) {
+                throw new NoSuchElementException();
+              }
+              int i = next++;
+              return new SimpleImmutableEntry<>(names[i], values[i]);
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return names.length;
+        }
+      };
+    }
   }
 }
@@ -0,0 +1,178 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the integer codes of the violation messages. Every message key of {@link
+ * ValidationRule} and of the json module has a code, given by the constants of this class, which
+ * never changes between versions, so the codes can be stored and switched on instead of the
+ * message strings:
+ *
+ * <pre>
+ * switch (violation.getCode()) {
+ *   case ViolationCodes.VALUE_IS_REQUIRED:
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Custom rules register the codes of their messages, starting at {@link #FIRST_CUSTOM_CODE},
+ * usually next to the declaration of the message:
+ *
+ * <pre>
+ * static {
+ *   ViolationCodes.register("validation.error.user.duplicate.name", 1000);
+ * }
+ * </pre>
+ *
+ * <p>A message and a code are registered together once, for the life of the class loader. The
+ * registry can be read and written from any thread.
+ */
+public final class ViolationCodes {
+
+  /**
+   * Code of the messages without a registered code.
+   */
+  public static final int NONE = 0;
+  /**
+   * Codes below this one are reserved for the built-in rules.
+   */
+  public static final int FIRST_CUSTOM_CODE = 1000;
+
+  public static final int VALUE_IS_REQUIRED = 1;
+  public static final int VALUE_IS_NOT_NULL = 2;
+  public static final int VALUE_IS_NOT_EMPTY = 3;
+  public static final int VALUE_IS_NOT_BLANK = 4;
+  public static final int STRING_VALUE_NOT_BETWEEN = 5;
+  public static final int STRING_VALUE_REGEX_NO_MATCH = 6;
+  public static final int STRING_VALUE_REGEX_MATCH = 7;
+  public static final int STRING_VALUE_CONTAINS_BLOCKED_TERM = 8;
+  public static final int STRING_VALUE_INVALID_FORMAT = 9;
+  public static final int VALUE_NOT_ONE_OF = 10;
+  public static final int VALUE_IS_ONE_OF = 11;
+  public static final int INTEGER_VALUE_NOT_IN_RANGE = 12;
+  public static final int INTEGER_VALUE_SMALLER_THAN_MIN = 13;
+  public static final int INTEGER_VALUE_GREATER_THAN_MAX = 14;
+  public static final int NUMBER_VALUE_NOT_IN_RANGE = 15;
+  public static final int NUMBER_VALUE_TOO_MANY_DIGITS = 16;
+  public static final int NEGATIVE_VALUE = 17;
+  public static final int NEGATIVE_OR_ZERO_VALUE = 18;
+  public static final int POSITIVE_VALUE = 19;
+  public static final int POSITIVE_OR_ZERO_VALUE = 20;
+  public static final int VALUE_IS_BEFORE = 21;
+  public static final int VALUE_IS_BEFORE_OR_EQUAL = 22;
+  public static final int VALUE_IS_AFTER = 23;
+  public static final int VALUE_IS_AFTER_OR_EQUAL = 24;
+  public static final int VALUE_IS_IN_THE_FUTURE = 25;
+  public static final int VALUE_IS_IN_THE_PAST = 26;
+  public static final int VALUE_NOT_WITHIN_PERIOD = 27;
+  public static final int VALUE_IS_NOT_EQUAL = 28;
+  public static final int STRING_IS_EQUAL = 29;
+  public static final int COLLECTION_SIZE_NOT_BETWEEN = 30;
+  public static final int COLLECTION_ELEMENT_IS_DUPLICATE = 31;
+  public static final int NUMBER_VALUE_SMALLER_THAN_MIN = 32;
+  public static final int NUMBER_VALUE_NOT_GREATER_THAN_MIN = 33;
+  public static final int NUMBER_VALUE_GREATER_THAN_MAX = 34;
+  public static final int NUMBER_VALUE_NOT_SMALLER_THAN_MAX = 35;
+  /**
+   * Value of a JSON document not having the type of its schema.
+   */
+  public static final int JSON_INVALID_TYPE = 36;
+
+  private static final Map<String, Integer> CODES = new ConcurrentHashMap<>();
+  private static final Map<Integer, String> MESSAGES = new ConcurrentHashMap<>();
+
+  static {
+    add("validation.error.value.is.required", VALUE_IS_REQUIRED);
+    add("validation.error.value.is.not.null", VALUE_IS_NOT_NULL);
+    add("validation.error.value.is.not.empty", VALUE_IS_NOT_EMPTY);
+    add("validation.error.value.is.not.blank", VALUE_IS_NOT_BLANK);
+    add("validation.error.string.value.not.between", STRING_VALUE_NOT_BETWEEN);
+    add("validation.error.string.value.regex.no.match", STRING_VALUE_REGEX_NO_MATCH);
+    add("validation.error.string.value.regex.match", STRING_VALUE_REGEX_MATCH);
+    add("validation.error.string.value.contains.blocked.term", STRING_VALUE_CONTAINS_BLOCKED_TERM);
+    add("validation.error.string.value.invalid.format", STRING_VALUE_INVALID_FORMAT);
+    add("validation.error.value.not.one.of", VALUE_NOT_ONE_OF);
+    add("validation.error.value.is.one.of", VALUE_IS_ONE_OF);
+    add("validation.error.integer.value.not.in.range", INTEGER_VALUE_NOT_IN_RANGE);
+    add("validation.error.integer.value.smaller.than.min", INTEGER_VALUE_SMALLER_THAN_MIN);
+    add("validation.error.integer.value.greater.than.max", INTEGER_VALUE_GREATER_THAN_MAX);
+    add("validation.error.number.value.not.in.range", NUMBER_VALUE_NOT_IN_RANGE);
+    add("validation.error.number.value.too.many.digits", NUMBER_VALUE_TOO_MANY_DIGITS);
+    add("validation.error.negative.value", NEGATIVE_VALUE);
+    add("validation.error.negative.or.zero.value", NEGATIVE_OR_ZERO_VALUE);
+    add("validation.error.positive.value", POSITIVE_VALUE);
+    add("validation.error.positive.or.zero.value", POSITIVE_OR_ZERO_VALUE);
+    add("validation.error.value.is.before", VALUE_IS_BEFORE);
+    add("validation.error.value.is.before.or.equal", VALUE_IS_BEFORE_OR_EQUAL);
+    add("validation.error.value.is.after", VALUE_IS_AFTER);
+    add("validation.error.value.is.after.or.equal", VALUE_IS_AFTER_OR_EQUAL);
+    add("validation.error.value.is.in.the.future", VALUE_IS_IN_THE_FUTURE);
+    add("validation.error.value.is.in.the.past", VALUE_IS_IN_THE_PAST);
+    add("validation.error.value.not.within.period", VALUE_NOT_WITHIN_PERIOD);
+    add("validation.error.value.is.not.equal", VALUE_IS_NOT_EQUAL);
+    add("validation.error.string.is.equal", STRING_IS_EQUAL);
+    add("validation.error.collection.size.not.between", COLLECTION_SIZE_NOT_BETWEEN);
+    add("validation.error.collection.element.is.duplicate", COLLECTION_ELEMENT_IS_DUPLICATE);
+    add("validation.error.number.value.smaller.than.min", NUMBER_VALUE_SMALLER_THAN_MIN);
+    add("validation.error.number.value.not.greater.than.min", NUMBER_VALUE_NOT_GREATER_THAN_MIN);
+    add("validation.error.number.value.greater.than.max", NUMBER_VALUE_GREATER_THAN_MAX);
+    add("validation.error.number.value.not.smaller.than.max", NUMBER_VALUE_NOT_SMALLER_THAN_MAX);
+    add("validation.error.json.invalid.type", JSON_INVALID_TYPE);
+  }
+
+  private ViolationCodes() {
+  }
+
+  /**
+   * Registers the code of a custom message. Registering again the same message with the same code
+   * has no effect.
+   *
+   * @param message message of the violations, usually a key
+   * @param code    code, at least {@link #FIRST_CUSTOM_CODE}
+   * @throws IllegalArgumentException if the message or the code is already registered with
+   *                                  another code or message
+   */
+  public static void register(String message, int code) {
+    if (message == null) {
+      throw new IllegalArgumentException("message is required");
+    }
+    if (code < FIRST_CUSTOM_CODE) {
+      throw new IllegalArgumentException("code must be at least " + FIRST_CUSTOM_CODE);
+    }
+    add(message, code);
+  }
+
+  /**
+   * @param message message of the violations
+   * @return code of the message or {@link #NONE} if it has no code
+   */
+  public static int codeOf(String message) {
+    if (message == null) {
+      return NONE;
+    }
+    Integer code = CODES.get(message);
+    return code == null ? NONE : code;
+  }
+
+  /**
+   * @param code code of a message
+   * @return message having the code or null if the code is not registered
+   */
+  public static String messageOf(int code) {
+    return MESSAGES.get(code);
+  }
+
+  private static synchronized void add(String message, int code) {
+    String registered = MESSAGES.get(code);
+    if (registered != null && !registered.equals(message)) {
+      throw new IllegalArgumentException("code " + code + " is already used by " + registered);
+    }
+    Integer current = CODES.get(message);
+    if (current != null && current != code) {
+      throw new IllegalArgumentException(message + " already has code " + current);
+    }
+    MESSAGES.put(code, message);
+    CODES.put(message, code);
+  }
+}
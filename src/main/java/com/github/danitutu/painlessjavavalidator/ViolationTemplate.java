@@ -0,0 +1,162 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The constant part of a kind of {@link Violation}: message, details and the names of its
+ * attributes. A template is created once and shared by all the violations it creates, which only
+ * hold the field and the attribute values.
+ *
+ * <pre>
+ * private static final ViolationTemplate NOT_BETWEEN = ViolationTemplate.of(
+ *         "validation.error.string.value.not.between", "Value is not in range.", "min", "max");
+ *
+ * NOT_BETWEEN.violation("input.name", 2, 50)
+ * </pre>
+ *
+ * <p>Instances are immutable and can be shared between threads. Two violations with the same
+ * template are compared by field and attribute values only.
+ */
+public final class ViolationTemplate {
+
+  private static final String[] NO_ATTRIBUTE_NAMES = new String[0];
+  // templates of Violation.of by message; bounded, as a message can be built for each violation
+  private static final int MAX_SHARED_TEMPLATES = 1024;
+  private static final ConcurrentMap<String, ViolationTemplate> SHARED_TEMPLATES =
+          new ConcurrentHashMap<>();
+
+  private final String message;
+  private final String details;
+  private final String[] attributeNames;
+  // NONE until the message has a code, so a code registered after the template is created is seen
+  private int code = ViolationCodes.NONE;
+
+  private ViolationTemplate(String message, String details, String[] attributeNames) {
+    this.message = message;
+    this.details = details;
+    this.attributeNames = attributeNames;
+  }
+
+  /**
+   * @param message        message of the violations, usually a key
+   * @param details        details of the violations
+   * @param attributeNames names of the attributes, in the order of the values given to {@link
+   *                       #violation(String, Object...)}
+   * @return template
+   */
+  public static ViolationTemplate of(String message, String details, String... attributeNames) {
+    if (attributeNames == null || Arrays.asList(attributeNames).contains(null)) {
+      throw new IllegalArgumentException("attributeNames cannot be null");
+    }
+    for (int i = 0; i < attributeNames.length; i++) {
+      for (int j = 0; j < i; j++) {
+        if (attributeNames[i].equals(attributeNames[j])) {
+          throw new IllegalArgumentException("attributeNames cannot contain duplicates");
+        }
+      }
+    }
+    return new ViolationTemplate(message, details, attributeNames.clone());
+  }
+
+  /**
+   * @return template shared by the violations with the same message and details, or a new one
+   *     once the shared templates are full
+   */
+  static ViolationTemplate withoutAttributeNames(String message, String details) {
+    if (message == null) {
+      return new ViolationTemplate(null, details, NO_ATTRIBUTE_NAMES);
+    }
+    ViolationTemplate template = SHARED_TEMPLATES.get(message);
+    if (template != null && Objects.equals(template.details, details)) {
+      return template;
+    }
+    template = new ViolationTemplate(message, details, NO_ATTRIBUTE_NAMES);
+    if (SHARED_TEMPLATES.size() < MAX_SHARED_TEMPLATES) {
+      ViolationTemplate shared = SHARED_TEMPLATES.putIfAbsent(message, template);
+      if (shared != null && Objects.equals(shared.details, details)) {
+        return shared;
+      }
+    }
+    return template;
+  }
+
+  /**
+   * @param field path to field
+   * @return violation without attributes
+   * @throws IllegalArgumentException if the template has attributes
+   */
+  public Violation violation(String field) {
+    if (attributeNames.length != 0) {
+      throw new IllegalArgumentException("values must match the attribute names");
+    }
+    return Violation.fromTemplate(field, this, null);
+  }
+
+  /**
+   * @param field  path to field
+   * @param values values of the attributes, in the order of the names
+   * @return violation
+   * @throws IllegalArgumentException if the number of values is not the number of attributes
+   */
+  public Violation violation(String field, Object... values) {
+    if (values == null || values.length != attributeNames.length) {
+      throw new IllegalArgumentException("values must match the attribute names");
+    }
+    return Violation.fromTemplate(field, this, values.length == 0 ? null : values.clone());
+  }
+
+  // used by the rules of this package, so the values are not copied
+
+  Violation violation(String field, Object value) {
+    if (attributeNames.length != 1) {
+      throw new IllegalArgumentException("values must match the attribute names");
+    }
+    return Violation.fromTemplate(field, this, new Object[] {value});
+  }
+
+  Violation violation(String field, Object first, Object second) {
+    if (attributeNames.length != 2) {
+      throw new IllegalArgumentException("values must match the attribute names");
+    }
+    return Violation.fromTemplate(field, this, new Object[] {first, second});
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public String getDetails() {
+    return details;
+  }
+
+  /**
+   * @return code of the message, see {@link ViolationCodes}
+   */
+  public int getCode() {
+    int current = code;
+    if (current == ViolationCodes.NONE) {
+      // a registered code never changes, so a race only looks it up twice
+      current = ViolationCodes.codeOf(message);
+      code = current;
+    }
+    return current;
+  }
+
+  public List<String> getAttributeNames() {
+    return Collections.unmodifiableList(Arrays.asList(attributeNames));
+  }
+
+  String[] attributeNames() {
+    return attributeNames;
+  }
+
+  @Override
+  public String toString() {
+    return message;
+  }
+}
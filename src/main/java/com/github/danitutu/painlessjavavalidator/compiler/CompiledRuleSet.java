@@ -0,0 +1,71 @@
+package com.github.danitutu.painlessjavavalidator.compiler;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.util.List;
+
+/**
+ * A {@link RuleSet} ready to be executed. It has the same validation modes as the {@link
+ * com.github.danitutu.painlessjavavalidator.ValidationEngine}. Instances are immutable and can be
+ * shared between threads.
+ *
+ * @param <T> validated object type
+ */
+public interface CompiledRuleSet<T> {
+
+  /**
+   * Validates all rules and return violations at the end.
+   *
+   * @param value object to be validated
+   * @return violations
+   * @throws IllegalArgumentException if value is null
+   */
+  List<Violation> validateAll(T value);
+
+  /**
+   * Validates all rules and stops when first violation is encountered.
+   *
+   * @param value object to be validated
+   * @return single violation inside a list
+   * @throws IllegalArgumentException if value is null
+   */
+  List<Violation> validateFindFirst(T value);
+
+  /**
+   * Validates all rules and throw {@link ValidationException} if there are any violations.
+   *
+   * @param value object to be validated
+   * @throws ValidationException thrown in case violations are found
+   */
+  default void validateAllAndStopIfViolations(T value) {
+    ValidationException.stopIfViolations(validateAll(value));
+  }
+
+  /**
+   * Validates rules and stops when first violation is encountered and then immediately throw
+   * {@link ValidationException}.
+   *
+   * @param value object to be validated
+   * @throws ValidationException thrown in case violation is found
+   */
+  default void validateFindFirstAndStopIfViolation(T value) {
+    ValidationException.stopIfViolations(validateFindFirst(value));
+  }
+
+  /**
+   * Runs both validation modes against a sample so the JIT compiles the rule set before the first
+   * real request. Should be called once, at startup, with a representative object.
+   *
+   * @param sample     object to be validated
+   * @param iterations number of runs of each mode; about 10 000 is enough for the JIT to kick in
+   * @return this rule set
+   */
+  default CompiledRuleSet<T> warmUp(T sample, int iterations) {
+    for (int i = 0; i < iterations; i++) {
+      validateAll(sample);
+      validateFindFirst(sample);
+    }
+    return this;
+  }
+}
@@ -0,0 +1,112 @@
+package com.github.danitutu.painlessjavavalidator.compiler;
+
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Executes a {@link RuleSet} by iterating its rules. Used where method handle chains are not
+ * optimized well (Java 8) or when explicitly requested. If there are cross-field rules, the values
+ * read for the properties are kept in an array for them.
+ */
+final class InterpretedRuleSet<T> implements CompiledRuleSet<T> {
+
+  private final RuleSet<T> ruleSet;
+
+  InterpretedRuleSet(RuleSet<T> ruleSet) {
+    this.ruleSet = ruleSet;
+  }
+
+  @Override
+  public List<Violation> validateAll(T value) {
+    requireValue(value);
+    List<Violation> violations = null;
+    List<RuleSet.Property<T, ?>> properties = ruleSet.getProperties();
+    List<RuleSet.CrossField> crossFields = ruleSet.getCrossFields();
+    Object[] values = crossFields.isEmpty() ? null : new Object[properties.size()];
+    int next = 0;
+    for (int i = 0; i < properties.size(); i++) {
+      violations = validateAll(properties.get(i), value, values, i, violations);
+      for (; next < crossFields.size() && crossFields.get(next).getPosition() == i; next++) {
+        Optional<Violation> violation = crossFields.get(next).apply(values);
+        if (violation.isPresent()) {
+          if (violations == null) {
+            violations = new ArrayList<>();
+          }
+          violations.add(violation.get());
+        }
+      }
+    }
+    return violations == null ? emptyList() : violations;
+  }
+
+  private static <T, V> List<Violation> validateAll(
+          RuleSet.Property<T, V> property,
+          T value,
+          Object[] values,
+          int index,
+          List<Violation> violations) {
+    V propertyValue = property.getGetter().apply(value);
+    if (values != null) {
+      values[index] = propertyValue;
+    }
+    for (FieldRule<? super V> rule : property.getRules()) {
+      Optional<Violation> violation = rule.apply(property.getField(), propertyValue);
+      if (violation.isPresent()) {
+        if (violations == null) {
+          violations = new ArrayList<>();
+        }
+        violations.add(violation.get());
+      }
+    }
+    return violations;
+  }
+
+  @Override
+  public List<Violation> validateFindFirst(T value) {
+    requireValue(value);
+    List<RuleSet.Property<T, ?>> properties = ruleSet.getProperties();
+    List<RuleSet.CrossField> crossFields = ruleSet.getCrossFields();
+    Object[] values = crossFields.isEmpty() ? null : new Object[properties.size()];
+    int next = 0;
+    for (int i = 0; i < properties.size(); i++) {
+      Optional<Violation> violation = validateFindFirst(properties.get(i), value, values, i);
+      for (; !violation.isPresent()
+              && next < crossFields.size()
+              && crossFields.get(next).getPosition() == i; next++) {
+        violation = crossFields.get(next).apply(values);
+      }
+      if (violation.isPresent()) {
+        return Collections.singletonList(violation.get());
+      }
+    }
+    return emptyList();
+  }
+
+  private static <T, V> Optional<Violation> validateFindFirst(
+          RuleSet.Property<T, V> property, T value, Object[] values, int index) {
+    V propertyValue = property.getGetter().apply(value);
+    if (values != null) {
+      values[index] = propertyValue;
+    }
+    for (FieldRule<? super V> rule : property.getRules()) {
+      Optional<Violation> violation = rule.apply(property.getField(), propertyValue);
+      if (violation.isPresent()) {
+        return violation;
+      }
+    }
+    return Optional.empty();
+  }
+
+  static void requireValue(Object value) {
+    if (value == null) {
+      throw new IllegalArgumentException("value is required");
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.github.danitutu.painlessjavavalidator.compiler;
+
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.github.danitutu.painlessjavavalidator.compiler.InterpretedRuleSet.requireValue;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Collections.emptyList;
+
+/**
+ * Executes a {@link RuleSet} through a single method handle per validation mode. The rules and
+ * getters are bound as constants into the chain, so once the JVM customizes the chain for this
+ * rule set every call site inside it is monomorphic and can be inlined, unlike the shared
+ * <code>Supplier.get()</code> call site of the {@link
+ * com.github.danitutu.painlessjavavalidator.ValidationEngine}.
+ *
+ * <p>The handles are combined as balanced trees so that large rule sets don't produce deeply
+ * nested chains. The values of the properties used by cross-field rules are stored, as they are
+ * read, in an array passed along the chain; the cross-field rules are bound after the property
+ * they follow.
+ */
+final class MethodHandleRuleSet<T> implements CompiledRuleSet<T> {
+
+  private static final MethodHandle FIELD_RULE_APPLY;
+  private static final MethodHandle FUNCTION_APPLY;
+  private static final MethodHandle READ;
+  private static final MethodHandle CROSS_FIELD_APPLY;
+  private static final MethodHandle ADD_IF_PRESENT;
+  private static final MethodHandle IS_PRESENT;
+  private static final MethodHandle NOOP;
+  private static final MethodHandle EMPTY;
+  private static final MethodHandle NO_VIOLATIONS;
+  private static final MethodHandle NO_VIOLATION;
+
+  static {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      FIELD_RULE_APPLY =
+              lookup.findVirtual(
+                      FieldRule.class, "apply", methodType(Optional.class, String.class, Object.class));
+      FUNCTION_APPLY =
+              lookup.findVirtual(Function.class, "apply", methodType(Object.class, Object.class));
+      READ =
+              lookup.findStatic(
+                      MethodHandleRuleSet.class,
+                      "read",
+                      methodType(
+                              Object.class,
+                              Function.class,
+                              int.class,
+                              Object.class,
+                              Object[].class));
+      CROSS_FIELD_APPLY =
+              lookup.findVirtual(
+                      RuleSet.CrossField.class,
+                      "apply",
+                      methodType(Optional.class, Object[].class));
+      ADD_IF_PRESENT =
+              lookup.findStatic(
+                      MethodHandleRuleSet.class,
+                      "addIfPresent",
+                      methodType(void.class, Optional.class, List.class));
+      IS_PRESENT = lookup.findVirtual(Optional.class, "isPresent", methodType(boolean.class));
+      NOOP = lookup.findStatic(MethodHandleRuleSet.class, "noop", methodType(void.class));
+      EMPTY = MethodHandles.constant(Optional.class, Optional.empty());
+      NO_VIOLATIONS =
+              MethodHandles.dropArguments(NOOP, 0, Object.class, Object[].class, List.class);
+      NO_VIOLATION = MethodHandles.dropArguments(EMPTY, 0, Object.class, Object[].class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  /**
+   * <code>(Object value, Object[] values, List violations) void</code>
+   */
+  private final MethodHandle all;
+  /**
+   * <code>(Object value, Object[] values) Optional</code>
+   */
+  private final MethodHandle first;
+  /**
+   * Length of the array of values or 0 if there are no cross-field rules.
+   */
+  private final int valueCount;
+
+  MethodHandleRuleSet(RuleSet<T> ruleSet) {
+    List<MethodHandle> allSteps = new ArrayList<>();
+    List<MethodHandle> firstSteps = new ArrayList<>();
+    List<RuleSet.Property<T, ?>> properties = ruleSet.getProperties();
+    List<RuleSet.CrossField> crossFields = ruleSet.getCrossFields();
+    int next = 0;
+    for (int i = 0; i < properties.size(); i++) {
+      RuleSet.Property<T, ?> property = properties.get(i);
+      boolean shared = ruleSet.isShared(i);
+      if (!property.getRules().isEmpty() || shared) {
+        List<MethodHandle> allChecks = new ArrayList<>();
+        List<MethodHandle> firstChecks = new ArrayList<>();
+        for (FieldRule<?> rule : property.getRules()) {
+          MethodHandle check =
+                  MethodHandles.insertArguments(FIELD_RULE_APPLY, 0, rule, property.getField());
+          allChecks.add(MethodHandles.filterArguments(ADD_IF_PRESENT, 0, check));
+          firstChecks.add(check);
+        }
+        // (Object propertyValue, List) void and (Object propertyValue) Optional
+        MethodHandle allChecked =
+                allChecks.isEmpty()
+                        ? MethodHandles.dropArguments(NOOP, 0, Object.class, List.class)
+                        : sequence(allChecks, 0, allChecks.size());
+        MethodHandle firstChecked =
+                firstChecks.isEmpty()
+                        ? MethodHandles.dropArguments(EMPTY, 0, Object.class)
+                        : firstOf(firstChecks, 0, firstChecks.size());
+        allSteps.add(readInto(allChecked, property.getGetter(), shared ? i : -1));
+        firstSteps.add(readInto(firstChecked, property.getGetter(), shared ? i : -1));
+      }
+      for (; next < crossFields.size() && crossFields.get(next).getPosition() == i; next++) {
+        // (Object[] values) Optional
+        MethodHandle check = CROSS_FIELD_APPLY.bindTo(crossFields.get(next));
+        allSteps.add(
+                MethodHandles.dropArguments(
+                        MethodHandles.filterArguments(ADD_IF_PRESENT, 0, check), 0, Object.class));
+        firstSteps.add(MethodHandles.dropArguments(check, 0, Object.class));
+      }
+    }
+    this.all = allSteps.isEmpty() ? NO_VIOLATIONS : sequence(allSteps, 0, allSteps.size());
+    this.first = firstSteps.isEmpty() ? NO_VIOLATION : firstOf(firstSteps, 0, firstSteps.size());
+    this.valueCount = crossFields.isEmpty() ? 0 : properties.size();
+  }
+
+  /**
+   * Reads the property value and passes it to the checks, storing it in the array of values
+   * before if the index isn't -1.
+   *
+   * @param checks <code>(Object propertyValue, A...) R</code>
+   * @return <code>(Object value, Object[] values, A...) R</code>
+   */
+  private static MethodHandle readInto(MethodHandle checks, Function<?, ?> getter, int index) {
+    if (index < 0) {
+      MethodHandle read = FUNCTION_APPLY.bindTo(getter);
+      return MethodHandles.dropArguments(
+              MethodHandles.filterArguments(checks, 0, read), 1, Object[].class);
+    }
+    // (Object value, Object[] values) Object
+    MethodHandle read = MethodHandles.insertArguments(READ, 0, getter, index);
+    // (Object propertyValue, Object value, Object[] values, A...) R
+    MethodHandle target = MethodHandles.dropArguments(checks, 1, Object.class, Object[].class);
+    return MethodHandles.foldArguments(target, read);
+  }
+
+  /**
+   * Runs the <code>(Object, List) void</code> handles in order.
+   */
+  private static MethodHandle sequence(List<MethodHandle> handles, int from, int to) {
+    if (to - from == 1) {
+      return handles.get(from);
+    }
+    int middle = (from + to) >>> 1;
+    return MethodHandles.foldArguments(
+            sequence(handles, middle, to), sequence(handles, from, middle));
+  }
+
+  /**
+   * Runs the <code>(A...) Optional</code> handles in order and returns the first present result.
+   */
+  private static MethodHandle firstOf(List<MethodHandle> handles, int from, int to) {
+    if (to - from == 1) {
+      return handles.get(from);
+    }
+    int middle = (from + to) >>> 1;
+    MethodHandle left = firstOf(handles, from, middle);
+    MethodHandle right = firstOf(handles, middle, to);
+    List<Class<?>> arguments = right.type().parameterList();
+    // (Optional leftResult, A...) Optional
+    MethodHandle leftOrRight =
+            MethodHandles.guardWithTest(
+                    MethodHandles.dropArguments(IS_PRESENT, 1, arguments),
+                    MethodHandles.dropArguments(
+                            MethodHandles.identity(Optional.class), 1, arguments),
+                    MethodHandles.dropArguments(right, 0, Optional.class));
+    return MethodHandles.foldArguments(leftOrRight, left);
+  }
+
+  @Override
+  public List<Violation> validateAll(T value) {
+    requireValue(value);
+    List<Violation> violations = new ArrayList<>();
+    Object[] values = valueCount == 0 ? null : new Object[valueCount];
+    try {
+      all.invokeExact((Object) value, values, violations);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+    return violations.isEmpty() ? emptyList() : violations;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<Violation> validateFindFirst(T value) {
+    requireValue(value);
+    Optional<Violation> violation;
+    Object[] values = valueCount == 0 ? null : new Object[valueCount];
+    try {
+      violation = (Optional<Violation>) (Optional<?>) first.invokeExact((Object) value, values);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+    return violation.map(Collections::singletonList).orElse(emptyList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void addIfPresent(Optional<?> violation, List<?> violations) {
+    if (violation.isPresent()) {
+      ((List<Object>) violations).add(violation.get());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object read(Function<?, ?> getter, int index, Object value, Object[] values) {
+    Object propertyValue = ((Function<Object, ?>) getter).apply(value);
+    values[index] = propertyValue;
+    return propertyValue;
+  }
+
+  private static void noop() {
+  }
+}
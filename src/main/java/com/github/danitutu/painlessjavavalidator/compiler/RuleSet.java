@@ -0,0 +1,281 @@
+package com.github.danitutu.painlessjavavalidator.compiler;
+
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Immutable description of the rules applied to an object of type <code>T</code>. It can be built
+ * at runtime (for example from configuration) and it has to be compiled using {@link
+ * RuleSetCompiler} before being used.
+ *
+ * <pre>
+ * RuleSet&lt;User&gt; rules = RuleSet.&lt;User&gt;builder()
+ *         .field("input.firstName", User::getFirstName,
+ *                 ValidationRule::notBlankRule,
+ *                 (field, value) -&gt; ValidationRule.lengthBetweenRule(field, value, 2, 50))
+ *         .field("input.age", User::getAge,
+ *                 (field, value) -&gt; ValidationRule.inRangeRule(field, value, 18, 120))
+ *         .build();
+ * </pre>
+ *
+ * <p>Constraints between fields are added with <code>crossField</code>. They use the values read
+ * for the declared fields, so each getter is called once per validation whatever the number of
+ * rules reading it:
+ *
+ * <pre>
+ * RuleSet&lt;Booking&gt; rules = RuleSet.&lt;Booking&gt;builder()
+ *         .field("input.startDate", Booking::getStartDate, ValidationRule::notNullRule)
+ *         .field("input.endDate", Booking::getEndDate, ValidationRule::notNullRule)
+ *         .crossField("input.startDate", "input.endDate",
+ *                 (LocalDate start, LocalDate end) -&gt;
+ *                         start == null || end == null || end.isAfter(start),
+ *                 () -&gt; Violation.of("input.endDate", "validation.error.end.before.start",
+ *                         "The end date must be after the start date."))
+ *         .build();
+ * </pre>
+ *
+ * @param <T> validated object type
+ */
+public final class RuleSet<T> {
+
+  private final List<Property<T, ?>> properties;
+  private final List<CrossField> crossFields;
+
+  private RuleSet(List<Property<T, ?>> properties, List<CrossField> crossFields) {
+    this.properties = unmodifiableList(new ArrayList<>(properties));
+    this.crossFields = unmodifiableList(new ArrayList<>(crossFields));
+  }
+
+  public static <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  List<Property<T, ?>> getProperties() {
+    return properties;
+  }
+
+  /**
+   * @return cross-field rules, ordered by position
+   */
+  List<CrossField> getCrossFields() {
+    return crossFields;
+  }
+
+  /**
+   * @return true if the value of the property is used by a cross-field rule
+   */
+  boolean isShared(int property) {
+    for (CrossField crossField : crossFields) {
+      for (int index : crossField.getProperties()) {
+        if (index == property) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  public static final class Builder<T> {
+    private final List<Property<T, ?>> properties = new ArrayList<>();
+    private final List<CrossField> crossFields = new ArrayList<>();
+    // index of the last property declared for each field
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    private Builder() {
+    }
+
+    /**
+     * Adds rules for a property. The property is read once and its value is passed to each rule,
+     * in order.
+     *
+     * @param field  path to field
+     * @param getter property getter
+     * @param rules  rules applied to the property value
+     * @param <V>    property type
+     * @return this builder
+     * @throws IllegalArgumentException if getter or any of the rules is null
+     */
+    @SafeVarargs
+    public final <V> Builder<T> field(
+            String field, Function<T, V> getter, FieldRule<? super V>... rules) {
+      if (getter == null) {
+        throw new IllegalArgumentException("getter is required");
+      }
+      if (rules == null || asList(rules).contains(null)) {
+        throw new IllegalArgumentException("rules cannot be null");
+      }
+      indexes.put(field, properties.size());
+      properties.add(new Property<>(field, getter, asList(rules.clone())));
+      return this;
+    }
+
+    /**
+     * Adds a rule between two fields declared before. It is evaluated right after the rules of the
+     * last of them, with the values already read for them. The condition must return true for
+     * valid values; the violation, which names the field it is attached to or
+     * <code>general</code>, is created only when it returns false.
+     *
+     * @param first     path to the first field, as given to {@link #field}
+     * @param second    path to the second field
+     * @param condition condition on the values of the two fields
+     * @param violation violation returned if the condition is false
+     * @param <A>       type of the first field
+     * @param <B>       type of the second field
+     * @return this builder
+     * @throws IllegalArgumentException if a field is not declared or condition or violation is
+     *     null
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> Builder<T> crossField(
+            String first,
+            String second,
+            BiPredicate<? super A, ? super B> condition,
+            Supplier<Violation> violation) {
+      if (condition == null) {
+        throw new IllegalArgumentException("condition is required");
+      }
+      int[] fields = indexes(asList(first, second));
+      BiPredicate<Object, Object> test = (BiPredicate<Object, Object>) condition;
+      return crossField(
+              fields, values -> test.test(values[fields[0]], values[fields[1]]), violation);
+    }
+
+    /**
+     * Adds a rule between any number of fields declared before, for example checking that the
+     * parts add up to the total. See {@link #crossField(String, String, BiPredicate, Supplier)}.
+     * The condition receives a new array with the values of the fields, in the given order.
+     *
+     * @param fields    paths to the fields, as given to {@link #field}
+     * @param condition condition on the values of the fields
+     * @param violation violation returned if the condition is false
+     * @return this builder
+     * @throws IllegalArgumentException if a field is not declared or condition or violation is
+     *     null
+     */
+    public Builder<T> crossField(
+            List<String> fields, Predicate<Object[]> condition, Supplier<Violation> violation) {
+      if (condition == null) {
+        throw new IllegalArgumentException("condition is required");
+      }
+      if (fields == null || fields.isEmpty()) {
+        throw new IllegalArgumentException("fields is required");
+      }
+      int[] properties = indexes(fields);
+      return crossField(
+              properties,
+              values -> {
+                Object[] arguments = new Object[properties.length];
+                for (int i = 0; i < properties.length; i++) {
+                  arguments[i] = values[properties[i]];
+                }
+                return condition.test(arguments);
+              },
+              violation);
+    }
+
+    private Builder<T> crossField(
+            int[] fields, Predicate<Object[]> condition, Supplier<Violation> violation) {
+      if (violation == null) {
+        throw new IllegalArgumentException("violation is required");
+      }
+      int position = 0;
+      for (int index : fields) {
+        position = Math.max(position, index);
+      }
+      crossFields.add(new CrossField(fields, position, condition, violation));
+      // keeps the rules ordered by position, the later declared last among equal positions
+      crossFields.sort((a, b) -> Integer.compare(a.getPosition(), b.getPosition()));
+      return this;
+    }
+
+    private int[] indexes(List<String> fields) {
+      int[] result = new int[fields.size()];
+      for (int i = 0; i < result.length; i++) {
+        Integer index = indexes.get(fields.get(i));
+        if (index == null) {
+          throw new IllegalArgumentException("field " + fields.get(i) + " is not declared");
+        }
+        result[i] = index;
+      }
+      return result;
+    }
+
+    public RuleSet<T> build() {
+      return new RuleSet<>(properties, crossFields);
+    }
+  }
+
+  static final class Property<T, V> {
+    private final String field;
+    private final Function<T, V> getter;
+    private final List<FieldRule<? super V>> rules;
+
+    private Property(String field, Function<T, V> getter, List<FieldRule<? super V>> rules) {
+      this.field = field;
+      this.getter = getter;
+      this.rules = unmodifiableList(rules);
+    }
+
+    String getField() {
+      return field;
+    }
+
+    Function<T, V> getGetter() {
+      return getter;
+    }
+
+    List<FieldRule<? super V>> getRules() {
+      return rules;
+    }
+  }
+
+  /**
+   * A rule between properties, evaluated with the array of the values read for the properties,
+   * indexed like {@link #getProperties()}.
+   */
+  static final class CrossField {
+    private final int[] properties;
+    private final int position;
+    private final Predicate<Object[]> condition;
+    private final Supplier<Violation> violation;
+
+    private CrossField(
+            int[] properties,
+            int position,
+            Predicate<Object[]> condition,
+            Supplier<Violation> violation) {
+      this.properties = properties;
+      this.position = position;
+      this.condition = condition;
+      this.violation = violation;
+    }
+
+    int[] getProperties() {
+      return properties;
+    }
+
+    /**
+     * @return index of the property after which the rule is evaluated
+     */
+    int getPosition() {
+      return position;
+    }
+
+    Optional<Violation> apply(Object[] values) {
+      return condition.test(values) ? Optional.empty() : Optional.of(violation.get());
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.github.danitutu.painlessjavavalidator.compiler;
+
+/**
+ * Turns a {@link RuleSet} into a {@link CompiledRuleSet}.
+ *
+ * <p>On Java 9+ the rule set is compiled into a method handle chain with the rules and getters
+ * bound as constants, which the JIT can inline end to end. On Java 8, or when the system property
+ * <code>painlessjavavalidator.compiler.interpret</code> is <code>true</code>, a simple interpreter
+ * iterating the rules is used instead. Both implementations return the same violations in the same
+ * order.
+ *
+ * <p>Compilation is relatively expensive so compiled rule sets should be created once and reused.
+ */
+public final class RuleSetCompiler {
+
+  static final String INTERPRET_PROPERTY = "painlessjavavalidator.compiler.interpret";
+
+  private RuleSetCompiler() {
+  }
+
+  /**
+   * Compiles the rule set using the best implementation available on the running JVM.
+   *
+   * @param ruleSet rule set to compile
+   * @param <T>     validated object type
+   * @return compiled rule set
+   * @throws IllegalArgumentException if ruleSet is null
+   */
+  public static <T> CompiledRuleSet<T> compile(RuleSet<T> ruleSet) {
+    requireRuleSet(ruleSet);
+    if (isInterpreterPreferred()) {
+      return new InterpretedRuleSet<>(ruleSet);
+    }
+    return new MethodHandleRuleSet<>(ruleSet);
+  }
+
+  /**
+   * Returns an interpreter for the rule set regardless of the running JVM.
+   *
+   * @param ruleSet rule set to interpret
+   * @param <T>     validated object type
+   * @return interpreted rule set
+   * @throws IllegalArgumentException if ruleSet is null
+   */
+  public static <T> CompiledRuleSet<T> interpret(RuleSet<T> ruleSet) {
+    requireRuleSet(ruleSet);
+    return new InterpretedRuleSet<>(ruleSet);
+  }
+
+  private static boolean isInterpreterPreferred() {
+    return Boolean.getBoolean(INTERPRET_PROPERTY)
+            || System.getProperty("java.specification.version", "").startsWith("1.");
+  }
+
+  private static void requireRuleSet(RuleSet<?> ruleSet) {
+    if (ruleSet == null) {
+      throw new IllegalArgumentException("ruleSet is required");
+    }
+  }
+}
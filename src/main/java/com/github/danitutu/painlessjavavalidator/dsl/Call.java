@@ -0,0 +1,158 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.property.PropertyPath;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <code>name(path[, min, max])</code>: calls a {@link ValidationRule} by name. The condition of the
+ * rule is checked first so that the rule, and its violation, is only created when it fails.
+ */
+final class Call implements Node {
+
+  enum Name {
+    NOT_NULL("notNull", 0),
+    IS_NULL("isNull", 0),
+    NOT_EMPTY("notEmpty", 0),
+    EMPTY("empty", 0),
+    NOT_BLANK("notBlank", 0),
+    BLANK("blank", 0),
+    LENGTH_BETWEEN("lengthBetween", 2),
+    IN_RANGE("inRange", 2);
+
+    private final String functionName;
+    private final int limits;
+
+    Name(String functionName, int limits) {
+      this.functionName = functionName;
+      this.limits = limits;
+    }
+
+    static Name of(String functionName) {
+      for (Name name : values()) {
+        if (name.functionName.equals(functionName)) {
+          return name;
+        }
+      }
+      return null;
+    }
+
+    int getLimits() {
+      return limits;
+    }
+
+    @Override
+    public String toString() {
+      return functionName;
+    }
+  }
+
+  private final Name name;
+  private final String field;
+  private final PropertyPath path;
+  private final int min;
+  private final int max;
+
+  Call(Name name, String field, int min, int max) {
+    if (min > max) {
+      throw new IllegalArgumentException("min is greater than max");
+    }
+    this.name = name;
+    this.field = field;
+    this.path = PropertyPath.of(field);
+    this.min = min;
+    this.max = max;
+  }
+
+  @Override
+  public boolean passes(Object root) {
+    return test(path.resolve(root));
+  }
+
+  @Override
+  public List<Violation> evaluate(Object root, List<Violation> violations, boolean findFirst) {
+    Object value = path.resolve(root);
+    if (test(value)) {
+      return violations;
+    }
+    return Node.add(violations, violation(value));
+  }
+
+  private boolean test(Object value) {
+    switch (name) {
+      case NOT_NULL:
+        return value != null;
+      case IS_NULL:
+        return value == null;
+      case NOT_EMPTY:
+        return !isEmpty(text(value));
+      case EMPTY:
+        return isEmpty(text(value));
+      case NOT_BLANK:
+        return !isBlank(text(value));
+      case BLANK:
+        return isBlank(text(value));
+      case LENGTH_BETWEEN:
+        CharSequence text = text(value);
+        return text == null || (text.length() >= min && text.length() <= max);
+      default:
+        Integer number = integer(value);
+        return number == null || (number >= min && number <= max);
+    }
+  }
+
+  private Optional<Violation> violation(Object value) {
+    switch (name) {
+      case NOT_NULL:
+        return ValidationRule.notNullRule(field, value);
+      case IS_NULL:
+        return ValidationRule.isNullRule(field, value);
+      case NOT_EMPTY:
+        return ValidationRule.notEmptyRule(field, text(value));
+      case EMPTY:
+        return ValidationRule.emptyRule(field, text(value));
+      case NOT_BLANK:
+        return ValidationRule.notBlankRule(field, text(value));
+      case BLANK:
+        return ValidationRule.blankRule(field, text(value));
+      case LENGTH_BETWEEN:
+        return ValidationRule.lengthBetweenRule(field, text(value), min, max);
+      default:
+        return ValidationRule.inRangeRule(field, integer(value), min, max);
+    }
+  }
+
+  private CharSequence text(Object value) {
+    if (value == null || value instanceof CharSequence) {
+      return (CharSequence) value;
+    }
+    throw new IllegalArgumentException(
+            "property '" + field + "' of type " + value.getClass().getName() + " is not a text");
+  }
+
+  private Integer integer(Object value) {
+    if (value == null || value instanceof Integer) {
+      return (Integer) value;
+    }
+    throw new IllegalArgumentException(
+            "property '" + field + "' of type " + value.getClass().getName() + " is not an integer");
+  }
+
+  private static boolean isEmpty(CharSequence value) {
+    return value == null || value.length() == 0;
+  }
+
+  private static boolean isBlank(CharSequence value) {
+    if (value != null) {
+      for (int i = 0; i < value.length(); i++) {
+        if (!Character.isWhitespace(value.charAt(i))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,289 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.property.PropertyPath;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <code>path op literal</code>. The comparison is done on primitives so that a passing comparison
+ * doesn't allocate; the violation is created by the matching {@link ValidationRule} only when the
+ * comparison fails. A null property value passes, except for <code>!= null</code>.
+ */
+final class Comparison implements Node {
+
+  enum Operator {
+    EQ("=="),
+    NE("!="),
+    LT("<"),
+    LE("<="),
+    GT(">"),
+    GE(">=");
+
+    private final String symbol;
+
+    Operator(String symbol) {
+      this.symbol = symbol;
+    }
+
+    static Operator of(String symbol) {
+      for (Operator operator : values()) {
+        if (operator.symbol.equals(symbol)) {
+          return operator;
+        }
+      }
+      return null;
+    }
+
+    boolean isEquality() {
+      return this == EQ || this == NE;
+    }
+
+    boolean test(int comparison) {
+      switch (this) {
+        case EQ:
+          return comparison == 0;
+        case NE:
+          return comparison != 0;
+        case LT:
+          return comparison < 0;
+        case LE:
+          return comparison <= 0;
+        case GT:
+          return comparison > 0;
+        default:
+          return comparison >= 0;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return symbol;
+    }
+  }
+
+  private final String field;
+  private final PropertyPath path;
+  private final Operator operator;
+  /**
+   * Long, BigDecimal, String, Boolean or null.
+   */
+  private final Object literal;
+  private final long longLiteral;
+  private final double doubleLiteral;
+  private final BigDecimal decimalLiteral;
+
+  Comparison(String field, Operator operator, Object literal) {
+    this.field = field;
+    this.path = PropertyPath.of(field);
+    this.operator = operator;
+    this.literal = literal;
+    if (literal instanceof Long) {
+      this.longLiteral = (Long) literal;
+      this.doubleLiteral = (Long) literal;
+      this.decimalLiteral = BigDecimal.valueOf((Long) literal);
+    } else if (literal instanceof BigDecimal) {
+      this.longLiteral = 0;
+      this.doubleLiteral = ((BigDecimal) literal).doubleValue();
+      this.decimalLiteral = (BigDecimal) literal;
+    } else {
+      this.longLiteral = 0;
+      this.doubleLiteral = 0;
+      this.decimalLiteral = null;
+    }
+  }
+
+  @Override
+  public boolean passes(Object root) {
+    return test(path.resolve(root));
+  }
+
+  private boolean test(Object value) {
+    if (literal == null) {
+      return operator == Operator.EQ ? value == null : value != null;
+    }
+    return value == null || operator.test(compare(value));
+  }
+
+  @Override
+  public List<Violation> evaluate(Object root, List<Violation> violations, boolean findFirst) {
+    Object value = path.resolve(root);
+    if (test(value)) {
+      return violations;
+    }
+    if (literal == null) {
+      return Node.add(
+              violations,
+              operator == Operator.EQ
+                      ? ValidationRule.isNullRule(field, value)
+                      : ValidationRule.notNullRule(field, value));
+    }
+    return Node.add(violations, violation(value));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private int compare(Object value) {
+    if (decimalLiteral != null) {
+      if (!(value instanceof Number)) {
+        throw incomparable(value);
+      }
+      Number number = (Number) value;
+      if (isIntegral(number) && literal instanceof Long) {
+        return Long.compare(number.longValue(), longLiteral);
+      }
+      if (number instanceof BigDecimal) {
+        return ((BigDecimal) number).compareTo(decimalLiteral);
+      }
+      if (number instanceof BigInteger) {
+        return new BigDecimal((BigInteger) number).compareTo(decimalLiteral);
+      }
+      return Double.compare(number.doubleValue(), doubleLiteral);
+    }
+    if (literal instanceof String) {
+      if (!(value instanceof CharSequence)) {
+        throw incomparable(value);
+      }
+      return compare((CharSequence) value, (String) literal);
+    }
+    if (!(value instanceof Boolean)) {
+      throw incomparable(value);
+    }
+    return ((Comparable) value).compareTo(literal);
+  }
+
+  private static int compare(CharSequence value, String literal) {
+    int length = Math.min(value.length(), literal.length());
+    for (int i = 0; i < length; i++) {
+      int difference = value.charAt(i) - literal.charAt(i);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return value.length() - literal.length();
+  }
+
+  private Optional<Violation> violation(Object value) {
+    if (operator == Operator.NE) {
+      return ValidationRule.notEqualsToRule(field, text(value), text(literal));
+    }
+    if (value instanceof CharSequence) {
+      return violation(value.toString(), (String) literal);
+    }
+    if (value instanceof Boolean) {
+      return violation((Boolean) value, (Boolean) literal);
+    }
+    Number number = (Number) value;
+    if (isIntegral(number) && literal instanceof Long && hasIntegralBound()) {
+      return integralViolation(number);
+    }
+    BigDecimal decimal = toBigDecimal(number);
+    switch (operator) {
+      case EQ:
+        return ValidationRule.equalsToRule(field, decimal, decimalLiteral);
+      case LT:
+        return ValidationRule.decimalMaxRule(field, decimal, decimalLiteral, false);
+      case LE:
+        return ValidationRule.decimalMaxRule(field, decimal, decimalLiteral, true);
+      case GT:
+        return ValidationRule.decimalMinRule(field, decimal, decimalLiteral, false);
+      default:
+        return ValidationRule.decimalMinRule(field, decimal, decimalLiteral, true);
+    }
+  }
+
+  /**
+   * No <code>long</code> is greater than <code>Long.MAX_VALUE</code> or smaller than
+   * <code>Long.MIN_VALUE</code>, so these comparisons have no integral bound.
+   */
+  private boolean hasIntegralBound() {
+    switch (operator) {
+      case EQ:
+        return false;
+      case GT:
+        return longLiteral != Long.MAX_VALUE;
+      case LT:
+        return longLiteral != Long.MIN_VALUE;
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * An integral value is checked against the inclusive bound of the operator, so that
+   * <code>age &gt; 17</code> fails as smaller than the min 18.
+   */
+  private Optional<Violation> integralViolation(Number value) {
+    boolean min = operator == Operator.GT || operator == Operator.GE;
+    long bound = operator == Operator.GT ? longLiteral + 1
+            : operator == Operator.LT ? longLiteral - 1
+            : longLiteral;
+    if (!(value instanceof Long) && bound == (int) bound) {
+      return min
+              ? ValidationRule.minRule(field, value.intValue(), (int) bound)
+              : ValidationRule.maxRule(field, value.intValue(), (int) bound);
+    }
+    return min
+            ? ValidationRule.minLongRule(field, value.longValue(), bound)
+            : ValidationRule.maxLongRule(field, value.longValue(), bound);
+  }
+
+  private <T> Optional<Violation> violation(Comparable<T> value, T other) {
+    switch (operator) {
+      case EQ:
+        return ValidationRule.equalsToRule(field, value, other);
+      case LT:
+        return ValidationRule.beforeRule(field, value, other);
+      case LE:
+        return ValidationRule.beforeOrEqualsToRule(field, value, other);
+      case GT:
+        return ValidationRule.afterRule(field, value, other);
+      default:
+        return ValidationRule.afterOrEqualsToRule(field, value, other);
+    }
+  }
+
+  /**
+   * Numbers are normalized so that equal values (for example <code>18</code> and
+   * <code>18.0</code>) have the same text.
+   */
+  private static String text(Object value) {
+    if (value instanceof Number) {
+      return toBigDecimal((Number) value).stripTrailingZeros().toPlainString();
+    }
+    return value.toString();
+  }
+
+  private static boolean isIntegral(Number number) {
+    return number instanceof Integer
+            || number instanceof Long
+            || number instanceof Short
+            || number instanceof Byte;
+  }
+
+  private static BigDecimal toBigDecimal(Number number) {
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    }
+    if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    if (isIntegral(number)) {
+      return BigDecimal.valueOf(number.longValue());
+    }
+    return BigDecimal.valueOf(number.doubleValue());
+  }
+
+  private IllegalArgumentException incomparable(Object value) {
+    return new IllegalArgumentException(
+            "property '"
+                    + field
+                    + "' of type "
+                    + value.getClass().getName()
+                    + " cannot be compared with "
+                    + literal);
+  }
+}
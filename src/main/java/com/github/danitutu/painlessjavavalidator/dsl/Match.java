@@ -0,0 +1,58 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.property.PropertyPath;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <code>path ~ /regex/</code>: passes if the regex is found in the value, so anchors have to be
+ * used to match the whole value. The pattern is compiled once and each thread reuses its own
+ * {@link Matcher}. A null property value passes.
+ */
+final class Match implements Node {
+
+  private final String field;
+  private final PropertyPath path;
+  private final Pattern pattern;
+  private final ThreadLocal<Matcher> matcher;
+
+  Match(String field, Pattern pattern) {
+    this.field = field;
+    this.path = PropertyPath.of(field);
+    this.pattern = pattern;
+    this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+  }
+
+  @Override
+  public boolean passes(Object root) {
+    return test(path.resolve(root));
+  }
+
+  private boolean test(Object value) {
+    if (value == null) {
+      return true;
+    }
+    if (!(value instanceof CharSequence)) {
+      throw new IllegalArgumentException(
+              "property '" + field + "' of type " + value.getClass().getName() + " is not a text");
+    }
+    Matcher current = matcher.get();
+    boolean found = current.reset((CharSequence) value).find();
+    current.reset("");
+    return found;
+  }
+
+  @Override
+  public List<Violation> evaluate(Object root, List<Violation> violations, boolean findFirst) {
+    Object value = path.resolve(root);
+    if (test(value)) {
+      return violations;
+    }
+    // a value in which the regex is not found cannot match it entirely either
+    return Node.add(violations, ValidationRule.matchPatternRule(field, value.toString(), pattern));
+  }
+}
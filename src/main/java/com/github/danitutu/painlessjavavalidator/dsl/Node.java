@@ -0,0 +1,98 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Node of a parsed rule expression. Implementations must not allocate when the node passes.
+ */
+interface Node {
+
+  /**
+   * Checks the node without creating any violation.
+   *
+   * @param root validated object
+   * @return whether the node passes
+   */
+  boolean passes(Object root);
+
+  /**
+   * Evaluates the node and appends its violations.
+   *
+   * @param root       validated object
+   * @param violations violations found so far; null until the first violation is found
+   * @param findFirst  whether evaluation stops at the first violation
+   * @return the violations list, still null if no violation was found
+   */
+  List<Violation> evaluate(Object root, List<Violation> violations, boolean findFirst);
+
+  static List<Violation> add(List<Violation> violations, Optional<Violation> violation) {
+    if (!violation.isPresent()) {
+      return violations;
+    }
+    if (violations == null) {
+      violations = new ArrayList<>();
+    }
+    violations.add(violation.get());
+    return violations;
+  }
+
+  /**
+   * <code>left &amp;&amp; right</code>: both have to pass; in find first mode right is not
+   * evaluated if left fails.
+   */
+  final class And implements Node {
+    private final Node left;
+    private final Node right;
+
+    And(Node left, Node right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public boolean passes(Object root) {
+      return left.passes(root) && right.passes(root);
+    }
+
+    @Override
+    public List<Violation> evaluate(Object root, List<Violation> violations, boolean findFirst) {
+      List<Violation> result = left.evaluate(root, violations, findFirst);
+      if (findFirst && result != null && !result.isEmpty()) {
+        return result;
+      }
+      return right.evaluate(root, result, findFirst);
+    }
+  }
+
+  /**
+   * <code>left || right</code>: one has to pass; if both fail the violations of both are
+   * reported.
+   */
+  final class Or implements Node {
+    private final Node left;
+    private final Node right;
+
+    Or(Node left, Node right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public boolean passes(Object root) {
+      return left.passes(root) || right.passes(root);
+    }
+
+    @Override
+    public List<Violation> evaluate(Object root, List<Violation> violations, boolean findFirst) {
+      if (passes(root)) {
+        return violations;
+      }
+      violations = left.evaluate(root, violations, findFirst);
+      return findFirst ? violations : right.evaluate(root, violations, false);
+    }
+  }
+}
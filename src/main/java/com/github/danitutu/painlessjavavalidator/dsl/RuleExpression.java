@@ -0,0 +1,113 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Validation rules written as an expression, for example read from configuration.
+ *
+ * <pre>
+ * age &gt;= 18 &amp;&amp; name ~ /^[A-Z]/ &amp;&amp; (notBlank(address.street) || notBlank(address.poBox))
+ * </pre>
+ *
+ * <p>The properties are dot separated paths resolved as described by {@link
+ * com.github.danitutu.painlessjavavalidator.property.PropertyPath} and are used as path to field of
+ * the violations. Supported conditions:
+ *
+ * <ul>
+ *   <li><code>path op literal</code> where <code>op</code> is one of <code>== != &lt; &lt;= &gt;
+ *       &gt;=</code> and the literal is a number, a quoted text, <code>true</code>, <code>false
+ *       </code> or <code>null</code> (the last three only with <code>==</code> and <code>!=
+ *       </code>)
+ *   <li><code>path ~ /regex/</code>, passing if the regex is found in the value
+ *   <li><code>notNull(path)</code>, <code>isNull(path)</code>, <code>notEmpty(path)</code>,
+ *       <code>empty(path)</code>, <code>notBlank(path)</code>, <code>blank(path)</code>,
+ *       <code>lengthBetween(path, min, max)</code>, <code>inRange(path, min, max)</code>
+ * </ul>
+ *
+ * <p>Conditions are combined with <code>&amp;&amp;</code>, <code>||</code> and parentheses. As for
+ * the {@link com.github.danitutu.painlessjavavalidator.ValidationRule}s, a null value passes all
+ * conditions except the null checks. The violations are created by the {@link
+ * com.github.danitutu.painlessjavavalidator.ValidationRule} matching each condition, only when the
+ * condition fails; evaluating an expression that passes doesn't allocate.
+ *
+ * <p>Parsing is relatively expensive so expressions should be parsed once, for example through a
+ * {@link RuleExpressionCache}. Instances are immutable and can be shared between threads.
+ */
+public final class RuleExpression {
+
+  private final String expression;
+  private final Node plan;
+
+  private RuleExpression(String expression, Node plan) {
+    this.expression = expression;
+    this.plan = plan;
+  }
+
+  /**
+   * Parses the expression.
+   *
+   * @param expression expression text
+   * @return parsed expression
+   * @throws IllegalArgumentException if the expression is null or invalid
+   */
+  public static RuleExpression parse(String expression) {
+    if (expression == null) {
+      throw new IllegalArgumentException("expression is required");
+    }
+    return new RuleExpression(expression, RuleExpressionParser.parse(expression));
+  }
+
+  /**
+   * Validates all conditions and returns the violations at the end.
+   *
+   * @param value object to be validated
+   * @return violations
+   * @throws IllegalArgumentException if value is null or a property cannot be resolved
+   */
+  public List<Violation> validateAll(Object value) {
+    return evaluate(value, false);
+  }
+
+  /**
+   * Validates the conditions and stops when the first violation is encountered.
+   *
+   * @param value object to be validated
+   * @return single violation inside a list
+   * @throws IllegalArgumentException if value is null or a property cannot be resolved
+   */
+  public List<Violation> validateFindFirst(Object value) {
+    return evaluate(value, true);
+  }
+
+  /**
+   * Validates all conditions and throws {@link ValidationException} if there are any violations.
+   *
+   * @param value object to be validated
+   * @throws ValidationException thrown in case violations are found
+   */
+  public void validateAllAndStopIfViolations(Object value) {
+    ValidationException.stopIfViolations(validateAll(value));
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+
+  private List<Violation> evaluate(Object value, boolean findFirst) {
+    if (value == null) {
+      throw new IllegalArgumentException("value is required");
+    }
+    List<Violation> violations = plan.evaluate(value, null, findFirst);
+    return violations == null ? emptyList() : violations;
+  }
+
+  @Override
+  public String toString() {
+    return expression;
+  }
+}
@@ -0,0 +1,67 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of parsed {@link RuleExpression}s keyed by the expression text. When the cache is
+ * full the least recently used expression is evicted, so reloading a configuration only parses the
+ * expressions that changed. It is thread safe.
+ */
+public final class RuleExpressionCache {
+
+  private final Map<String, RuleExpression> expressions;
+
+  /**
+   * @param maximumSize maximum number of cached expressions
+   * @throws IllegalArgumentException if maximumSize is not positive
+   */
+  public RuleExpressionCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive");
+    }
+    this.expressions =
+            new LinkedHashMap<String, RuleExpression>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, RuleExpression> eldest) {
+                return size() > maximumSize;
+              }
+            };
+  }
+
+  /**
+   * Returns the cached expression or parses and caches it.
+   *
+   * @param expression expression text
+   * @return parsed expression
+   * @throws IllegalArgumentException if the expression is null or invalid
+   */
+  public RuleExpression get(String expression) {
+    if (expression == null) {
+      throw new IllegalArgumentException("expression is required");
+    }
+    synchronized (expressions) {
+      RuleExpression cached = expressions.get(expression);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    RuleExpression parsed = RuleExpression.parse(expression);
+    synchronized (expressions) {
+      RuleExpression cached = expressions.putIfAbsent(expression, parsed);
+      return cached == null ? parsed : cached;
+    }
+  }
+
+  public int size() {
+    synchronized (expressions) {
+      return expressions.size();
+    }
+  }
+
+  public void clear() {
+    synchronized (expressions) {
+      expressions.clear();
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import java.math.BigDecimal;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Recursive descent parser of rule expressions.
+ *
+ * <pre>
+ * expression := or
+ * or         := and ('||' and)*
+ * and        := primary ('&amp;&amp;' primary)*
+ * primary    := '(' or ')'
+ *             | name '(' path (',' integer ',' integer)? ')'
+ *             | path '~' regex
+ *             | path ('==' | '!=' | '&lt;' | '&lt;=' | '&gt;' | '&gt;=') literal
+ * literal    := number | 'text' | "text" | true | false | null
+ * regex      := '/' ... '/'
+ * </pre>
+ */
+final class RuleExpressionParser {
+
+  private final String expression;
+  private int position;
+
+  private RuleExpressionParser(String expression) {
+    this.expression = expression;
+  }
+
+  static Node parse(String expression) {
+    RuleExpressionParser parser = new RuleExpressionParser(expression);
+    Node node = parser.or();
+    parser.skipWhitespace();
+    if (parser.position < expression.length()) {
+      throw parser.error("unexpected '" + expression.charAt(parser.position) + "'");
+    }
+    return node;
+  }
+
+  private Node or() {
+    Node node = and();
+    while (consume("||")) {
+      node = new Node.Or(node, and());
+    }
+    return node;
+  }
+
+  private Node and() {
+    Node node = primary();
+    while (consume("&&")) {
+      node = new Node.And(node, primary());
+    }
+    return node;
+  }
+
+  private Node primary() {
+    if (consume("(")) {
+      Node node = or();
+      expect(")");
+      return node;
+    }
+    int start = position;
+    String identifier = identifier();
+    if (consume("(")) {
+      return call(identifier, start);
+    }
+    if (consume("~")) {
+      return new Match(identifier, regex());
+    }
+    int operatorStart = skipWhitespace();
+    Comparison.Operator operator = operator();
+    Object literal = literal();
+    if (!operator.isEquality() && (literal == null || literal instanceof Boolean)) {
+      position = operatorStart;
+      throw error("operator '" + operator + "' cannot be used with " + literal);
+    }
+    return new Comparison(identifier, operator, literal);
+  }
+
+  private Node call(String functionName, int start) {
+    Call.Name name = Call.Name.of(functionName);
+    if (name == null) {
+      position = start;
+      throw error("unknown function '" + functionName + "'");
+    }
+    String path = identifier();
+    int min = 0;
+    int max = 0;
+    if (name.getLimits() == 2) {
+      expect(",");
+      min = integer();
+      expect(",");
+      max = integer();
+    }
+    expect(")");
+    if (min > max) {
+      position = start;
+      throw error("min is greater than max");
+    }
+    return new Call(name, path, min, max);
+  }
+
+  private Comparison.Operator operator() {
+    skipWhitespace();
+    for (String symbol : new String[] {"==", "!=", "<=", ">=", "<", ">"}) {
+      if (expression.startsWith(symbol, position)) {
+        position += symbol.length();
+        return Comparison.Operator.of(symbol);
+      }
+    }
+    throw error("operator expected");
+  }
+
+  private Object literal() {
+    skipWhitespace();
+    if (position >= expression.length()) {
+      throw error("literal expected");
+    }
+    char c = expression.charAt(position);
+    if (c == '\'' || c == '"') {
+      return text(c);
+    }
+    if (c == '-' || Character.isDigit(c)) {
+      return number();
+    }
+    int start = position;
+    String keyword = identifier();
+    switch (keyword) {
+      case "true":
+        return Boolean.TRUE;
+      case "false":
+        return Boolean.FALSE;
+      case "null":
+        return null;
+      default:
+        position = start;
+        throw error("literal expected");
+    }
+  }
+
+  private String text(char quote) {
+    StringBuilder text = new StringBuilder();
+    position++;
+    while (position < expression.length()) {
+      char c = expression.charAt(position++);
+      if (c == quote) {
+        return text.toString();
+      }
+      if (c == '\\' && position < expression.length()) {
+        c = expression.charAt(position++);
+      }
+      text.append(c);
+    }
+    throw error("unterminated text");
+  }
+
+  private Object number() {
+    int start = position;
+    if (expression.charAt(position) == '-') {
+      position++;
+    }
+    while (position < expression.length()
+            && (Character.isDigit(expression.charAt(position)) || expression.charAt(position) == '.')) {
+      position++;
+    }
+    String number = expression.substring(start, position);
+    try {
+      return number.indexOf('.') < 0 ? (Object) Long.valueOf(number) : new BigDecimal(number);
+    } catch (NumberFormatException e) {
+      position = start;
+      throw error("invalid number '" + number + "'");
+    }
+  }
+
+  private int integer() {
+    skipWhitespace();
+    int start = position;
+    Object number =
+            position < expression.length()
+                    && (expression.charAt(position) == '-' || Character.isDigit(expression.charAt(position)))
+                    ? number()
+                    : null;
+    if (!(number instanceof Long) || (Long) number != ((Long) number).intValue()) {
+      position = start;
+      throw error("integer expected");
+    }
+    return ((Long) number).intValue();
+  }
+
+  private Pattern regex() {
+    skipWhitespace();
+    if (position >= expression.length() || expression.charAt(position) != '/') {
+      throw error("regex expected");
+    }
+    int start = position;
+    StringBuilder regex = new StringBuilder();
+    position++;
+    while (position < expression.length()) {
+      char c = expression.charAt(position++);
+      if (c == '/') {
+        try {
+          return Pattern.compile(regex.toString());
+        } catch (PatternSyntaxException e) {
+          position = start;
+          throw error("invalid regex: " + e.getDescription());
+        }
+      }
+      if (c == '\\' && position < expression.length() && expression.charAt(position) == '/') {
+        c = expression.charAt(position++);
+      } else if (c == '\\' && position < expression.length()) {
+        regex.append(c);
+        c = expression.charAt(position++);
+      }
+      regex.append(c);
+    }
+    position = start;
+    throw error("unterminated regex");
+  }
+
+  private String identifier() {
+    skipWhitespace();
+    int start = position;
+    while (position < expression.length()) {
+      char c = expression.charAt(position);
+      if (!Character.isJavaIdentifierPart(c) && !(c == '.' && position > start)) {
+        break;
+      }
+      position++;
+    }
+    if (start == position || !Character.isJavaIdentifierStart(expression.charAt(start))) {
+      position = start;
+      throw error("property expected");
+    }
+    String identifier = expression.substring(start, position);
+    if (identifier.endsWith(".") || identifier.contains("..")) {
+      position = start;
+      throw error("invalid property '" + identifier + "'");
+    }
+    return identifier;
+  }
+
+  private boolean consume(String token) {
+    skipWhitespace();
+    if (expression.startsWith(token, position)) {
+      position += token.length();
+      return true;
+    }
+    return false;
+  }
+
+  private void expect(String token) {
+    if (!consume(token)) {
+      throw error("'" + token + "' expected");
+    }
+  }
+
+  private int skipWhitespace() {
+    while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private IllegalArgumentException error(String message) {
+    return new IllegalArgumentException(
+            message + " at position " + position + " in expression '" + expression + "'");
+  }
+}
@@ -0,0 +1,148 @@
+package com.github.danitutu.painlessjavavalidator.message;
+
+import com.github.danitutu.painlessjavavalidator.Violation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Renders the message of a {@link Violation} in a given language, using the message as key of a
+ * template and its attributes as values of the placeholders:
+ *
+ * <pre>
+ * # messages.properties
+ * validation.error.string.value.not.between=Length must be between {min} and {max}.
+ *
+ * private static final MessageRenderer MESSAGES = MessageRenderer.fromBundle("messages");
+ *
+ * String text = MESSAGES.render(violation, Locale.ENGLISH);
+ * </pre>
+ *
+ * <p>The bundle of a locale is loaded and all its templates are compiled the first time the locale
+ * is used. Rendering then only looks the template up and appends its parts and the attribute
+ * values, formatted with <code>String.valueOf</code>, to a string builder; no {@link
+ * java.text.MessageFormat} is created. Placeholders are attribute names, like <code>{min}</code>,
+ * and quotes work as with <code>MessageFormat</code>.
+ *
+ * <p>If there is no template for the message, the details of the violation are rendered instead.
+ * Instances are thread safe and meant to be created once.
+ */
+public final class MessageRenderer {
+
+  private final Function<Locale, ResourceBundle> loader;
+  private final Map<Locale, Map<String, MessageTemplate>> templates = new ConcurrentHashMap<>();
+
+  private MessageRenderer(Function<Locale, ResourceBundle> loader) {
+    this.loader = loader;
+  }
+
+  /**
+   * Uses the bundles of {@link ResourceBundle#getBundle(String, Locale)}. A locale without bundle
+   * falls back to the base bundle, not to the default locale of the JVM.
+   *
+   * @param baseName base name of the bundles, for example <code>messages</code>
+   * @return renderer
+   */
+  public static MessageRenderer fromBundle(String baseName) {
+    if (baseName == null) {
+      throw new IllegalArgumentException("baseName is required");
+    }
+    ResourceBundle.Control control =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+    return of(locale -> ResourceBundle.getBundle(baseName, locale, control));
+  }
+
+  /**
+   * @param loader function giving the bundle of a locale, called once per locale
+   * @return renderer
+   */
+  public static MessageRenderer of(Function<Locale, ResourceBundle> loader) {
+    if (loader == null) {
+      throw new IllegalArgumentException("loader is required");
+    }
+    return new MessageRenderer(loader);
+  }
+
+  /**
+   * @param violation violation to be rendered
+   * @param locale    language of the message
+   * @return rendered message
+   */
+  public String render(Violation violation, Locale locale) {
+    return render(violation, locale, new StringBuilder()).toString();
+  }
+
+  /**
+   * Appends the rendered message to the target, which can be reused between calls.
+   *
+   * @param violation violation to be rendered
+   * @param locale    language of the message
+   * @param target    builder the message is appended to
+   * @return target
+   */
+  public StringBuilder render(Violation violation, Locale locale, StringBuilder target) {
+    if (violation == null) {
+      throw new IllegalArgumentException("violation is required");
+    }
+    MessageTemplate template = template(violation.getMessage(), locale);
+    if (template == null) {
+      return target.append(violation.getDetails());
+    }
+    template.render(violation.getAttributes(), target);
+    return target;
+  }
+
+  /**
+   * Appends the template of the key rendered with the attributes, or the key itself if there is
+   * no template for it.
+   *
+   * @param key        message key
+   * @param attributes values of the placeholders, can be null
+   * @param locale     language of the message
+   * @param target     builder the message is appended to
+   * @return target
+   */
+  public StringBuilder render(
+          String key, Map<String, Object> attributes, Locale locale, StringBuilder target) {
+    MessageTemplate template = template(key, locale);
+    if (template == null) {
+      return target.append(key);
+    }
+    template.render(attributes, target);
+    return target;
+  }
+
+  /**
+   * @return true if there is a template for the key
+   */
+  public boolean contains(String key, Locale locale) {
+    return template(key, locale) != null;
+  }
+
+  private MessageTemplate template(String key, Locale locale) {
+    if (locale == null) {
+      throw new IllegalArgumentException("locale is required");
+    }
+    if (key == null) {
+      return null;
+    }
+    return templates.computeIfAbsent(locale, this::load).get(key);
+  }
+
+  private Map<String, MessageTemplate> load(Locale locale) {
+    ResourceBundle bundle = loader.apply(locale);
+    if (bundle == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, MessageTemplate> compiled = new HashMap<>();
+    for (String key : bundle.keySet()) {
+      compiled.put(key, MessageTemplate.compile(bundle.getString(key)));
+    }
+    return compiled;
+  }
+}
@@ -0,0 +1,95 @@
+package com.github.danitutu.painlessjavavalidator.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Message template split once into literal texts and attribute names, so rendering only appends
+ * them. A template like <code>Length must be between {min} and {max}.</code> has the texts
+ * <code>"Length must be between ", " and ", "."</code> and the names <code>min, max</code>.
+ *
+ * <p>As with {@link java.text.MessageFormat}, text between single quotes is literal and two single
+ * quotes stand for one. Instances are immutable and can be shared between threads.
+ */
+final class MessageTemplate {
+
+  // one more text than names, the texts and names alternate
+  private final String[] texts;
+  private final String[] names;
+
+  private MessageTemplate(String[] texts, String[] names) {
+    this.texts = texts;
+    this.names = names;
+  }
+
+  /**
+   * @param pattern template text
+   * @return compiled template
+   * @throws IllegalArgumentException if a placeholder is not closed or empty
+   */
+  static MessageTemplate compile(String pattern) {
+    List<String> texts = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    StringBuilder text = new StringBuilder();
+    boolean quoted = false;
+    int i = 0;
+    while (i < pattern.length()) {
+      char c = pattern.charAt(i);
+      if (c == '\'') {
+        if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+          text.append('\'');
+          i += 2;
+        } else {
+          quoted = !quoted;
+          i++;
+        }
+      } else if (c == '{' && !quoted) {
+        int end = pattern.indexOf('}', i + 1);
+        if (end < 0) {
+          throw new IllegalArgumentException("unclosed placeholder in " + pattern);
+        }
+        String name = pattern.substring(i + 1, end).trim();
+        if (name.isEmpty()) {
+          throw new IllegalArgumentException("empty placeholder in " + pattern);
+        }
+        texts.add(text.toString());
+        names.add(name);
+        text.setLength(0);
+        i = end + 1;
+      } else {
+        text.append(c);
+        i++;
+      }
+    }
+    texts.add(text.toString());
+    return new MessageTemplate(texts.toArray(new String[0]), names.toArray(new String[0]));
+  }
+
+  /**
+   * Appends the template with the values of the attributes. A placeholder without attribute is
+   * appended as it is, for example <code>{min}</code>.
+   */
+  void render(Map<String, Object> attributes, StringBuilder target) {
+    target.append(texts[0]);
+    for (int i = 0; i < names.length; i++) {
+      if (attributes != null && attributes.containsKey(names[i])) {
+        append(attributes.get(names[i]), target);
+      } else {
+        target.append('{').append(names[i]).append('}');
+      }
+      target.append(texts[i + 1]);
+    }
+  }
+
+  private static void append(Object value, StringBuilder target) {
+    // appending the primitive avoids creating its string
+    if (value instanceof Integer) {
+      target.append(((Integer) value).intValue());
+    } else if (value instanceof Long) {
+      target.append(((Long) value).longValue());
+    } else {
+      target.append(value);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.github.danitutu.painlessjavavalidator.property;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per class cache of property accessors. The accessors are stored in a {@link ClassValue} so they
+ * are released together with the class when its class loader is unloaded.
+ */
+final class PropertyAccessors {
+
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<Map<String, MethodHandle>> ACCESSORS =
+          new ClassValue<Map<String, MethodHandle>>() {
+            @Override
+            protected Map<String, MethodHandle> computeValue(Class<?> type) {
+              return new ConcurrentHashMap<>();
+            }
+          };
+
+  private PropertyAccessors() {
+  }
+
+  /**
+   * Returns an accessor of type <code>(Object) Object</code> for the property. Lookup order is
+   * <code>getName()</code>, <code>isName()</code>, <code>name()</code> and then the public field
+   * <code>name</code>.
+   *
+   * @throws IllegalArgumentException if the property cannot be found or accessed
+   */
+  static MethodHandle accessor(Class<?> type, String property) {
+    Map<String, MethodHandle> accessors = ACCESSORS.get(type);
+    MethodHandle accessor = accessors.get(property);
+    if (accessor == null) {
+      accessor = find(type, property);
+      MethodHandle existing = accessors.putIfAbsent(property, accessor);
+      if (existing != null) {
+        accessor = existing;
+      }
+    }
+    return accessor;
+  }
+
+  private static MethodHandle find(Class<?> type, String property) {
+    String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    try {
+      Method method = findGetter(type, "get" + capitalized);
+      if (method == null) {
+        method = findGetter(type, "is" + capitalized);
+        if (method != null
+                && method.getReturnType() != boolean.class
+                && method.getReturnType() != Boolean.class) {
+          method = null;
+        }
+      }
+      if (method == null) {
+        method = findGetter(type, property);
+      }
+      if (method != null) {
+        return MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_TYPE);
+      }
+      Field field = findField(type, property);
+      if (field != null) {
+        return MethodHandles.publicLookup().unreflectGetter(field).asType(ACCESSOR_TYPE);
+      }
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException(
+              "property '" + property + "' of " + type.getName() + " is not accessible", e);
+    }
+    throw new IllegalArgumentException(
+            "property '" + property + "' not found on " + type.getName());
+  }
+
+  /**
+   * Finds a public no-arg method, preferring the declaration from a public type so that public
+   * methods of non-public classes can still be called.
+   */
+  private static Method findGetter(Class<?> type, String name) {
+    Method method;
+    try {
+      method = type.getMethod(name);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+    if (method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers())) {
+      return null;
+    }
+    return publicDeclaration(method.getDeclaringClass(), method);
+  }
+
+  private static Method publicDeclaration(Class<?> type, Method method) {
+    if (type == null) {
+      return null;
+    }
+    if (Modifier.isPublic(type.getModifiers())) {
+      try {
+        return type.getMethod(method.getName());
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+    for (Class<?> anInterface : type.getInterfaces()) {
+      Method declaration = publicDeclaration(anInterface, method);
+      if (declaration != null) {
+        return declaration;
+      }
+    }
+    return publicDeclaration(type.getSuperclass(), method);
+  }
+
+  private static Field findField(Class<?> type, String name) {
+    try {
+      Field field = type.getField(name);
+      if (Modifier.isStatic(field.getModifiers())
+              || !Modifier.isPublic(field.getDeclaringClass().getModifiers())) {
+        return null;
+      }
+      return field;
+    } catch (NoSuchFieldException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.github.danitutu.painlessjavavalidator.property;
+
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.ViolationProvider;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+
+/**
+ * Dot separated path to a nested property, for example <code>"address.street"</code>. Each segment
+ * is read from a {@link Map} using the segment as key or from a bean using, in order, the
+ * <code>getXxx()</code>, <code>isXxx()</code> or <code>xxx()</code> public method or the public
+ * field. The accessors are resolved once per class and cached as method handles, so resolving a
+ * path doesn't use reflection after the first call for a class.
+ *
+ * <p>A path is immutable and should be created once and reused.
+ *
+ * <pre>
+ * PropertyPath street = PropertyPath.of("address.street");
+ * ValidationEngine.validateAll(
+ *         street.rule(user, ValidationRule::notBlankRule),
+ *         PropertyPath.of("age")
+ *                 .&lt;Integer&gt;rule(user, (field, value) -&gt; ValidationRule.minRule(field, value, 18)));
+ * </pre>
+ */
+public final class PropertyPath {
+
+  private final String path;
+  private final String[] segments;
+
+  private PropertyPath(String path, String[] segments) {
+    this.path = path;
+    this.segments = segments;
+  }
+
+  /**
+   * Parses the path.
+   *
+   * @param path dot separated property names
+   * @return parsed path
+   * @throws IllegalArgumentException if path is null or has empty segments
+   */
+  public static PropertyPath of(String path) {
+    if (path == null) {
+      throw new IllegalArgumentException("path is required");
+    }
+    String[] segments = path.split("\\.", -1);
+    for (String segment : segments) {
+      if (segment.isEmpty()) {
+        throw new IllegalArgumentException("path '" + path + "' is not valid");
+      }
+    }
+    return new PropertyPath(path, segments);
+  }
+
+  /**
+   * Reads the property value. If any of the intermediate values is null then the result is null.
+   *
+   * @param root object the path starts from
+   * @param <V>  expected property type
+   * @return property value
+   * @throws IllegalArgumentException if a property cannot be found on the class of an intermediate
+   *                                  value
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V resolve(Object root) {
+    Object current = root;
+    for (String segment : segments) {
+      if (current == null) {
+        return null;
+      }
+      if (current instanceof Map) {
+        current = ((Map<?, ?>) current).get(segment);
+      } else {
+        current = invoke(PropertyAccessors.accessor(current.getClass(), segment), current);
+      }
+    }
+    return (V) current;
+  }
+
+  /**
+   * Creates a {@link ViolationProvider} applying the rule on the property value. The path is used
+   * as path to field of the violation.
+   *
+   * @param root object the path starts from
+   * @param rule rule applied on the property value
+   * @param <V>  property type
+   * @return violation provider
+   */
+  public <V> ViolationProvider rule(Object root, FieldRule<V> rule) {
+    return rule(path, root, rule);
+  }
+
+  /**
+   * Creates a {@link ViolationProvider} applying the rule on the property value.
+   *
+   * @param field path to field of the violation
+   * @param root  object the path starts from
+   * @param rule  rule applied on the property value
+   * @param <V>   property type
+   * @return violation provider
+   */
+  public <V> ViolationProvider rule(String field, Object root, FieldRule<V> rule) {
+    if (rule == null) {
+      throw new IllegalArgumentException("rule is required");
+    }
+    return () -> rule.apply(field, resolve(root));
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  private static Object invoke(MethodHandle accessor, Object target) {
+    try {
+      return (Object) accessor.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return path.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    return path.equals(((PropertyPath) o).path);
+  }
+
+  @Override
+  public String toString() {
+    return path;
+  }
+}
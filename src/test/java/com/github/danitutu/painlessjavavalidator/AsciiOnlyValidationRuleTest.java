@@ -0,0 +1,62 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.ValidUtf8ValidationRuleTest.bytes;
+import static com.github.danitutu.painlessjavavalidator.ValidUtf8ValidationRuleTest.direct;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.asciiOnlyRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiOnlyValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void asciiOnly1() {
+    assertFalse(asciiOnlyRule("field.path", (byte[]) null).isPresent());
+    assertFalse(asciiOnlyRule("field.path", (ByteBuffer) null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value has only ASCII characters THEN expect no violation")
+  void asciiOnly2() {
+    byte[] value = "Order #42\n".getBytes(StandardCharsets.US_ASCII);
+
+    assertFalse(asciiOnlyRule("field.path", value).isPresent());
+    assertFalse(asciiOnlyRule("field.path", ByteBuffer.wrap(value)).isPresent());
+    assertFalse(asciiOnlyRule("field.path", direct(value)).isPresent());
+    assertFalse(asciiOnlyRule("field.path", new byte[0]).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value has a byte greater than 127 THEN expect violation")
+  void asciiOnly3() {
+    byte[] value = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+
+    Optional<Violation> violation = asciiOnlyRule("field.path", value);
+
+    assertTrue(violation.isPresent());
+    assertViolationInvalidFormat(violation.get(), "field.path", "ascii");
+    assertTrue(asciiOnlyRule("field.path", direct(value)).isPresent());
+    assertTrue(asciiOnlyRule("field.path", ByteBuffer.wrap(value).asReadOnlyBuffer()).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN only a slice of the value is checked THEN expect the other bytes are ignored")
+  void asciiOnly4() {
+    byte[] value = bytes(0xff, 'a', 'b', 0x80);
+
+    assertFalse(asciiOnlyRule("field.path", value, 1, 2).isPresent());
+    assertTrue(asciiOnlyRule("field.path", value, 1, 3).isPresent());
+
+    ByteBuffer buffer = ByteBuffer.wrap(value);
+    buffer.position(1).limit(3);
+    assertFalse(asciiOnlyRule("field.path", buffer).isPresent());
+    assertThrows(IllegalArgumentException.class, () -> asciiOnlyRule("field.path", value, 3, 2));
+  }
+}
@@ -0,0 +1,62 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationIsAfterOrEqual;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.beforeEpochRule;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeforeEpochValidationRuleTest {
+
+  private static final Instant INSTANT = Instant.parse("2020-03-01T10:00:00.000000500Z");
+  private static final LocalDate DATE = LocalDate.parse("2020-03-01");
+
+  @Test
+  @DisplayName("WHEN value or other is null THEN expect no violation")
+  void beforeEpoch1() {
+    assertFalse(beforeEpochRule("field.path", null, INSTANT).isPresent());
+    assertFalse(beforeEpochRule("field.path", INSTANT, null).isPresent());
+    assertFalse(beforeEpochRule("field.path", (LocalDate) null, DATE).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is before other THEN expect no violation")
+  void beforeEpoch2() {
+    assertFalse(beforeEpochRule("field.path", INSTANT.minusNanos(1), INSTANT).isPresent());
+    assertFalse(beforeEpochRule("field.path", DATE.minusDays(1), DATE).isPresent());
+    assertFalse(beforeEpochRule("field.path", 999L, 1000L).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is equal to other THEN expect violation")
+  void beforeEpoch3() {
+    assertTrue(beforeEpochRule("field.path", INSTANT, INSTANT).isPresent());
+    assertTrue(beforeEpochRule("field.path", DATE, LocalDate.of(2020, 3, 1)).isPresent());
+    assertTrue(beforeEpochRule("field.path", 1000L, 1000L).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is after other THEN expect violation")
+  void beforeEpoch4() {
+    Optional<Violation> violation = beforeEpochRule("field.path", INSTANT.plusNanos(1), INSTANT);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsAfterOrEqual(violation.get(), "field.path", INSTANT.toString());
+
+    violation = beforeEpochRule("field.path", DATE.plusDays(1), DATE);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsAfterOrEqual(violation.get(), "field.path", "2020-03-01");
+
+    violation = beforeEpochRule("field.path", 1001L, 1000L);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsAfterOrEqual(violation.get(), "field.path", "1000");
+  }
+}
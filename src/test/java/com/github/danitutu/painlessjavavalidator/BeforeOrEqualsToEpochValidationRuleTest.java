@@ -0,0 +1,65 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationIsAfter;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.beforeOrEqualsToEpochRule;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeforeOrEqualsToEpochValidationRuleTest {
+
+  private static final Instant INSTANT = Instant.parse("2020-03-01T10:00:00.000000500Z");
+  private static final LocalDate DATE = LocalDate.parse("2020-03-01");
+
+  @Test
+  @DisplayName("WHEN value or other is null THEN expect no violation")
+  void beforeOrEqualsToEpoch1() {
+    assertFalse(beforeOrEqualsToEpochRule("field.path", null, INSTANT).isPresent());
+    assertFalse(beforeOrEqualsToEpochRule("field.path", INSTANT, null).isPresent());
+    assertFalse(beforeOrEqualsToEpochRule("field.path", (LocalDate) null, DATE).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is before other THEN expect no violation")
+  void beforeOrEqualsToEpoch2() {
+    assertFalse(
+            beforeOrEqualsToEpochRule("field.path", INSTANT.minusNanos(1), INSTANT).isPresent());
+    assertFalse(beforeOrEqualsToEpochRule("field.path", DATE.minusDays(1), DATE).isPresent());
+    assertFalse(beforeOrEqualsToEpochRule("field.path", 999L, 1000L).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is equal to other THEN expect no violation")
+  void beforeOrEqualsToEpoch3() {
+    assertFalse(beforeOrEqualsToEpochRule("field.path", INSTANT, INSTANT).isPresent());
+    assertFalse(
+            beforeOrEqualsToEpochRule("field.path", DATE, LocalDate.of(2020, 3, 1)).isPresent());
+    assertFalse(beforeOrEqualsToEpochRule("field.path", 1000L, 1000L).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is after other THEN expect violation")
+  void beforeOrEqualsToEpoch4() {
+    Optional<Violation> violation =
+            beforeOrEqualsToEpochRule("field.path", INSTANT.plusNanos(1), INSTANT);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsAfter(violation.get(), "field.path", INSTANT.toString());
+
+    violation = beforeOrEqualsToEpochRule("field.path", DATE.plusDays(1), DATE);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsAfter(violation.get(), "field.path", "2020-03-01");
+
+    violation = beforeOrEqualsToEpochRule("field.path", 1001L, 1000L);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsAfter(violation.get(), "field.path", "1000");
+  }
+}
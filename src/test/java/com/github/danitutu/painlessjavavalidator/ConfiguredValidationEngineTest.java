@@ -0,0 +1,122 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.*;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfiguredValidationEngineTest {
+
+  private static List<String> fields(List<Violation> violations) {
+    return violations.stream().map(Violation::getField).collect(toList());
+  }
+
+  @Test
+  @DisplayName("WHEN no limit is set THEN expect the same violations as the validation engine")
+  void configuredValidationEngine1() {
+    ConfiguredValidationEngine engine = ConfiguredValidationEngine.builder().build();
+    ViolationProvider[] rules = {
+            notNull("a", null), null, notBlank("b", "b"), notBlank("c", " "), min("d", 1, 2)
+    };
+
+    assertEquals(ValidationEngine.validateAll(rules), engine.validateAll(rules));
+    assertEquals(ValidationEngine.validateFindFirst(rules), engine.validateFindFirst(rules));
+    assertTrue(engine.validateAll(notBlank("a", "a")).isEmpty());
+    assertTrue(engine.validateAll((ViolationProvider[]) null).isEmpty());
+    assertTrue(engine.validateFindFirst((ViolationProvider[]) null).isEmpty());
+    engine.validateAllAndStopIfViolations(notBlank("a", "a"));
+    ValidationException e =
+            assertThrows(
+                    ValidationException.class, () -> engine.validateAllAndStopIfViolations(rules));
+    assertEquals(Arrays.asList("a", "c", "d"), fields(e.getViolations()));
+    e =
+            assertThrows(
+                    ValidationException.class,
+                    () -> engine.validateFindFirstAndStopIfViolation(rules));
+    assertEquals(Arrays.asList("a"), fields(e.getViolations()));
+  }
+
+  @Test
+  @DisplayName("WHEN limit is reached THEN expect the remaining rules not to be run")
+  void configuredValidationEngine2() {
+    AtomicInteger run = new AtomicInteger();
+    ConfiguredValidationEngine engine =
+            ConfiguredValidationEngine.builder().maxViolations(2).build();
+
+    List<Violation> violations =
+            engine.validateAll(
+                    notNull("a", null),
+                    notNull("b", null),
+                    () -> {
+                      run.incrementAndGet();
+                      return notNullRule("c", null);
+                    });
+
+    assertEquals(Arrays.asList("a", "b"), fields(violations));
+    assertEquals(0, run.get());
+    assertEquals(2, engine.getMaxViolations());
+  }
+
+  @Test
+  @DisplayName("WHEN metrics are set THEN expect a measurement for each validation")
+  void configuredValidationEngine3() {
+    List<String> measurements = new ArrayList<>();
+    ConfiguredValidationEngine engine =
+            ConfiguredValidationEngine.builder()
+                    .maxViolations(1)
+                    .metrics(
+                            (durationNanos, violations, limitReached) -> {
+                              assertTrue(durationNanos >= 0);
+                              measurements.add(violations + ":" + limitReached);
+                            })
+                    .build();
+
+    engine.validateAll(notNull("a", "a"));
+    engine.validateAll(notNull("a", null));
+    engine.validateAll(notNull("a", null), notNull("b", null));
+
+    assertEquals(Arrays.asList("0:false", "1:false", "1:true"), measurements);
+  }
+
+  @Test
+  @DisplayName("WHEN validation is asynchronous THEN expect it to run on the executor")
+  void configuredValidationEngine4() throws InterruptedException {
+    List<Runnable> tasks = new ArrayList<>();
+    ConfiguredValidationEngine engine =
+            ConfiguredValidationEngine.builder().executor(tasks::add).build();
+
+    CompletableFuture<List<Violation>> violations =
+            engine.validateAllAsync(Arrays.asList(notNull("a", null)));
+    CompletableFuture<Void> stopped =
+            engine.validateAllAsyncAndStopIfViolations(Arrays.asList(notNull("a", null)));
+
+    assertFalse(violations.isDone());
+    tasks.forEach(Runnable::run);
+    assertEquals(Arrays.asList("a"), fields(violations.join()));
+    ExecutionException e = assertThrows(ExecutionException.class, stopped::get);
+    assertTrue(e.getCause() instanceof ValidationException);
+  }
+
+  @Test
+  @DisplayName("WHEN options are invalid THEN throw exception")
+  void configuredValidationEngine5() {
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> ConfiguredValidationEngine.builder().maxViolations(0));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> ConfiguredValidationEngine.builder().executor(null));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> ConfiguredValidationEngine.builder().metrics(null));
+  }
+}
@@ -0,0 +1,75 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecimalMaxValidationRuleTest {
+
+  private static final BigDecimal MAX = new BigDecimal("1.5");
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void decimalMax1() {
+    Optional<Violation> violation = ValidationRule.decimalMaxRule("field.path", null, MAX, true);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN max is null THEN expect exception")
+  void decimalMax2() {
+    IllegalArgumentException exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ValidationRule.decimalMaxRule("field.path", BigDecimal.ONE, null, true));
+
+    assertEquals("max is required", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN value is equal to an inclusive max THEN expect no violation")
+  void decimalMax3() {
+    Optional<Violation> violation =
+            ValidationRule.decimalMaxRule("field.path", new BigDecimal("1.50"), MAX, true);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is beyond an inclusive max THEN expect violation")
+  void decimalMax4() {
+    Optional<Violation> violation =
+            ValidationRule.decimalMaxRule("field.path", new BigDecimal("1.6"), MAX, true);
+
+    assertTrue(violation.isPresent());
+    assertViolationNumberGreaterThanMax(violation.get(), "field.path", MAX);
+  }
+
+  @Test
+  @DisplayName("WHEN value is equal to an exclusive max THEN expect violation")
+  void decimalMax5() {
+    Optional<Violation> violation =
+            ValidationRule.decimalMaxRule("field.path", new BigDecimal("1.50"), MAX, false);
+
+    assertTrue(violation.isPresent());
+    assertViolationNumberNotSmallerThanMax(violation.get(), "field.path", MAX);
+  }
+
+  @Test
+  @DisplayName("WHEN value is within an exclusive max THEN expect no violation")
+  void decimalMax6() {
+    Optional<Violation> violation =
+            ValidationRule.decimalMaxRule("field.path", new BigDecimal("1.4"), MAX, false);
+
+    assertFalse(violation.isPresent());
+  }
+}
@@ -0,0 +1,75 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecimalMinValidationRuleTest {
+
+  private static final BigDecimal MIN = new BigDecimal("1.5");
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void decimalMin1() {
+    Optional<Violation> violation = ValidationRule.decimalMinRule("field.path", null, MIN, true);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN min is null THEN expect exception")
+  void decimalMin2() {
+    IllegalArgumentException exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ValidationRule.decimalMinRule("field.path", BigDecimal.ONE, null, true));
+
+    assertEquals("min is required", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN value is equal to an inclusive min THEN expect no violation")
+  void decimalMin3() {
+    Optional<Violation> violation =
+            ValidationRule.decimalMinRule("field.path", new BigDecimal("1.50"), MIN, true);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is beyond an inclusive min THEN expect violation")
+  void decimalMin4() {
+    Optional<Violation> violation =
+            ValidationRule.decimalMinRule("field.path", new BigDecimal("1.4"), MIN, true);
+
+    assertTrue(violation.isPresent());
+    assertViolationNumberSmallerThanMin(violation.get(), "field.path", MIN);
+  }
+
+  @Test
+  @DisplayName("WHEN value is equal to an exclusive min THEN expect violation")
+  void decimalMin5() {
+    Optional<Violation> violation =
+            ValidationRule.decimalMinRule("field.path", new BigDecimal("1.50"), MIN, false);
+
+    assertTrue(violation.isPresent());
+    assertViolationNumberNotGreaterThanMin(violation.get(), "field.path", MIN);
+  }
+
+  @Test
+  @DisplayName("WHEN value is within an exclusive min THEN expect no violation")
+  void decimalMin6() {
+    Optional<Violation> violation =
+            ValidationRule.decimalMinRule("field.path", new BigDecimal("1.6"), MIN, false);
+
+    assertFalse(violation.isPresent());
+  }
+}
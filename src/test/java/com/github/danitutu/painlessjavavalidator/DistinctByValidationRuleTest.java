@@ -0,0 +1,143 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationIsDuplicate;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistinctByValidationRuleTest {
+
+  private static final List<Line> LINES =
+          Arrays.asList(
+                  new Line("book", 7, 10_000_000_000L),
+                  new Line("pen", 9, 20_000_000_000L),
+                  null,
+                  new Line("book", 3, 30_000_000_000L),
+                  new Line("ink", 9, 10_000_000_000L));
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void distinctBy1() {
+    assertFalse(ValidationRule.distinctByRule("lines", null, Line::getName).isPresent());
+    assertFalse(ValidationRule.distinctByIntRule("lines", null, Line::getQuantity).isPresent());
+    assertFalse(ValidationRule.distinctByLongRule("lines", null, Line::getPrice).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN keys are distinct THEN expect no violation")
+  void distinctBy2() {
+    List<Line> lines = Arrays.asList(new Line("book", 1, 1), null, new Line("pen", 2, 2));
+
+    assertFalse(ValidationRule.distinctByRule("lines", lines, Line::getName).isPresent());
+    assertFalse(ValidationRule.distinctByIntRule("lines", lines, Line::getQuantity).isPresent());
+    assertFalse(ValidationRule.distinctByLongRule("lines", lines, Line::getPrice).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN an object key is repeated THEN expect violation on the repeated index")
+  void distinctBy3() {
+    Optional<Violation> violation = ValidationRule.distinctByRule("lines", LINES, Line::getName);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsDuplicate(violation.get(), "lines[3]");
+  }
+
+  @Test
+  @DisplayName("WHEN an int key is repeated THEN expect violation on the index of the repetition")
+  void distinctBy4() {
+    Optional<Violation> violation =
+            ValidationRule.distinctByIntRule("lines", LINES, Line::getQuantity);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsDuplicate(violation.get(), "lines[4]");
+  }
+
+  @Test
+  @DisplayName("WHEN a long key is repeated THEN expect violation on the index of the repetition")
+  void distinctBy5() {
+    Optional<Violation> violation =
+            ValidationRule.distinctByLongRule("lines", LINES, Line::getPrice);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsDuplicate(violation.get(), "lines[4]");
+  }
+
+  @Test
+  @DisplayName("WHEN a zero key is repeated THEN expect violation")
+  void distinctBy6() {
+    List<Line> lines = Arrays.asList(new Line("a", 0, 0), new Line("b", 0, 0));
+
+    assertViolationIsDuplicate(
+            ValidationRule.distinctByIntRule("lines", lines, Line::getQuantity).get(), "lines[1]");
+    assertViolationIsDuplicate(
+            ValidationRule.distinctByLongRule("lines", lines, Line::getPrice).get(), "lines[1]");
+  }
+
+  @Test
+  @DisplayName("WHEN key extractor is null THEN expect exception")
+  void distinctBy7() {
+    List<Line> lines = Collections.emptyList();
+
+    IllegalArgumentException exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ValidationRule.distinctByRule("lines", lines, null));
+    assertEquals("keyExtractor is required", exception.getMessage());
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidationRule.distinctByIntRule("lines", lines, null));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidationRule.distinctByLongRule("lines", lines, null));
+  }
+
+  @Test
+  @DisplayName("WHEN many keys are checked THEN expect the first repetition")
+  void distinctBy8() {
+    List<Line> lines = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      lines.add(new Line("line" + i, i * 31, i * 1_000_000_007L));
+    }
+    lines.add(new Line("line500", 500 * 31, 500 * 1_000_000_007L));
+
+    assertViolationIsDuplicate(
+            ValidationRule.distinctBy("lines", lines, Line::getName).get().get(), "lines[1000]");
+    assertViolationIsDuplicate(
+            ValidationRule.distinctByInt("lines", lines, Line::getQuantity).get().get(),
+            "lines[1000]");
+    assertViolationIsDuplicate(
+            ValidationRule.distinctByLong("lines", lines, Line::getPrice).get().get(),
+            "lines[1000]");
+  }
+
+  private static final class Line {
+    private final String name;
+    private final int quantity;
+    private final long price;
+
+    private Line(String name, int quantity, long price) {
+      this.name = name;
+      this.quantity = quantity;
+      this.price = price;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    int getQuantity() {
+      return quantity;
+    }
+
+    long getPrice() {
+      return price;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationIsRequired;
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationLengthNotBetween;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EachValidationRuleTest {
+
+  private static final FieldRule<String> LENGTH =
+          (field, value) -> ValidationRule.lengthBetweenRule(field, value, 2, 5);
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no providers and no violations")
+  void each1() {
+    assertTrue(ValidationRule.each("names", null, true, LENGTH).isEmpty());
+    assertTrue(ValidationRule.<String>eachRule("names", null, true, LENGTH).isEmpty());
+  }
+
+  @Test
+  @DisplayName("WHEN all elements are valid THEN expect no violations")
+  void each2() {
+    List<String> names = Arrays.asList("ab", "abc");
+
+    assertTrue(
+            ValidationEngine.validateAll(
+                    ValidationRule.each("names", names, true, ValidationRule::notBlankRule, LENGTH))
+                    .isEmpty());
+    assertTrue(
+            ValidationRule.eachRule("names", names, false, ValidationRule::notBlankRule, LENGTH)
+                    .isEmpty());
+  }
+
+  @Test
+  @DisplayName("WHEN stopping after first THEN expect one violation per failing element")
+  void each3() {
+    List<String> names = Arrays.asList("ab", " ", "abcdef", null);
+
+    List<ViolationProvider> providers =
+            ValidationRule.each("names", names, true, ValidationRule::notBlankRule, LENGTH);
+    List<Violation> violations = ValidationEngine.validateAll(providers);
+
+    assertEquals(3, violations.size());
+    assertViolationIsRequired(violations.get(0), "names[1]");
+    assertViolationLengthNotBetween(violations.get(1), "names[2]", 2, 5);
+    assertViolationIsRequired(violations.get(2), "names[3]");
+    assertEquals(
+            violations,
+            ValidationRule.eachRule("names", names, true, ValidationRule::notBlankRule, LENGTH));
+  }
+
+  @Test
+  @DisplayName("WHEN not stopping after first THEN expect all violations of each element")
+  void each4() {
+    List<String> names = Arrays.asList(" ", "ab");
+
+    List<ViolationProvider> providers =
+            ValidationRule.each("names", names, false, ValidationRule::notBlankRule, LENGTH);
+    List<Violation> violations = ValidationEngine.validateAll(providers);
+
+    assertEquals(4, providers.size());
+    assertEquals(2, violations.size());
+    assertViolationIsRequired(violations.get(0), "names[0]");
+    assertViolationLengthNotBetween(violations.get(1), "names[0]", 2, 5);
+    assertEquals(
+            violations,
+            ValidationRule.eachRule("names", names, false, ValidationRule::notBlankRule, LENGTH));
+  }
+
+  @Test
+  @DisplayName("WHEN a rule returns a nested path THEN expect the index after the collection path")
+  void each5() {
+    FieldRule<String> nested =
+            (field, value) -> ValidationRule.notBlankRule(field + ".name", value);
+    FieldRule<String> other = (field, value) -> ValidationRule.notBlankRule("other", value);
+
+    List<Violation> violations =
+            ValidationRule.eachRule("input.lines", Arrays.asList("a", ""), false, nested, other);
+
+    assertEquals(2, violations.size());
+    assertViolationIsRequired(violations.get(0), "input.lines[1].name");
+    assertViolationIsRequired(violations.get(1), "other");
+  }
+
+  @Test
+  @DisplayName("WHEN validating the first violation THEN expect the remaining elements not read")
+  void each6() {
+    AtomicInteger calls = new AtomicInteger();
+    FieldRule<String> counting =
+            (field, value) -> {
+              calls.incrementAndGet();
+              return ValidationRule.notBlankRule(field, value);
+            };
+
+    List<Violation> violations =
+            ValidationEngine.validateFindFirst(
+                    ValidationRule.each("names", Arrays.asList("a", "", "", "b"), true, counting));
+
+    assertEquals(1, violations.size());
+    assertViolationIsRequired(violations.get(0), "names[1]");
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  @DisplayName("WHEN value is not a list THEN expect indexes in iteration order")
+  void each7() {
+    List<ViolationProvider> providers =
+            ValidationRule.each(
+                    "names", new LinkedHashSet<>(Arrays.asList("ab", "", "abc")), true, LENGTH);
+
+    Optional<Violation> violation = providers.get(1).get();
+
+    assertTrue(violation.isPresent());
+    assertViolationLengthNotBetween(violation.get(), "names[1]", 2, 5);
+    assertThrows(IndexOutOfBoundsException.class, () -> providers.get(3));
+  }
+
+  @Test
+  @DisplayName("WHEN any of the rules is null THEN expect exception")
+  void each8() {
+    List<String> names = Arrays.asList("a", "b");
+
+    IllegalArgumentException exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ValidationRule.each("names", names, true, LENGTH, null));
+    assertEquals("rules cannot be null", exception.getMessage());
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidationRule.eachRule("names", names, true, (FieldRule<String>[]) null));
+  }
+
+  @Test
+  @DisplayName("WHEN a rule returns a sibling path with the same prefix THEN expect no index")
+  void each9() {
+    FieldRule<String> sibling =
+            (field, value) -> ValidationRule.notBlankRule(field + "Count", value);
+    FieldRule<String> nested =
+            (field, value) -> ValidationRule.notBlankRule(field + "[0]", value);
+
+    List<Violation> violations =
+            ValidationRule.eachRule("input.lines", Arrays.asList("a", ""), false, sibling, nested);
+
+    assertEquals(2, violations.size());
+    assertViolationIsRequired(violations.get(0), "input.linesCount");
+    assertViolationIsRequired(violations.get(1), "input.lines[1][0]");
+  }
+}
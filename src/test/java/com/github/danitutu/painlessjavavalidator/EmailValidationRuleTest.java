@@ -0,0 +1,87 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.emailRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void email1() {
+    assertFalse(emailRule("field.path", null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is an email THEN expect no violation")
+  void email2() {
+    for (String value :
+            new String[] {
+              "a@b.co",
+              "john.doe@example.com",
+              "j_o+h-n{1}@mail.example-domain.org",
+              "!#$%&'*+/=?^_`{|}~-@x1.io"
+            }) {
+      assertFalse(emailRule("field.path", value).isPresent(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is not an email THEN expect violation")
+  void email3() {
+    for (String value :
+            new String[] {
+              "",
+              "@example.com",
+              "john.doe",
+              "john.doe@",
+              "john.doe@example",
+              ".john@example.com",
+              "john.@example.com",
+              "jo..hn@example.com",
+              "jo hn@example.com",
+              "john@@example.com",
+              "john@-example.com",
+              "john@example-.com",
+              "john@example..com",
+              "john@example.com.",
+              "john@exa_mple.com",
+              "\"john\"@example.com",
+              "john@[127.0.0.1]"
+            }) {
+      Optional<Violation> violation = emailRule("field.path", value);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "email");
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN parts are longer than allowed THEN expect violation")
+  void email4() {
+    String label = repeat('a', 63);
+    String localPart = repeat('b', 64);
+
+    assertFalse(emailRule("field.path", localPart + "@" + label + ".com").isPresent());
+    assertTrue(emailRule("field.path", localPart + "b@example.com").isPresent());
+    assertTrue(emailRule("field.path", "john@" + label + "a.com").isPresent());
+    assertTrue(
+            emailRule(
+                    "field.path",
+                    localPart + "@" + label + "." + label + "." + label + "." + label)
+                    .isPresent());
+  }
+
+  private static String repeat(char c, int count) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+}
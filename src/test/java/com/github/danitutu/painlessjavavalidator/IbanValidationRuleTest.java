@@ -0,0 +1,56 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.ibanRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IbanValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void iban1() {
+    assertFalse(ibanRule("field.path", null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN check digits are valid THEN expect no violation")
+  void iban2() {
+    for (String value :
+            new String[] {
+              "GB82WEST12345698765432",
+              "DE89370400440532013000",
+              "RO49AAAA1B31007593840000",
+              "NO9386011117947",
+              "MT84MALT011000012345MTLCAST001S"
+            }) {
+      assertFalse(ibanRule("field.path", value).isPresent(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN check digits or characters are not valid THEN expect violation")
+  void iban3() {
+    for (String value :
+            new String[] {
+              "",
+              "GB82WEST12345698765433",
+              "GB28WEST12345698765432",
+              "gb82west12345698765432",
+              "GB82 WEST 1234 5698 7654 32",
+              "1B82WEST12345698765432",
+              "GBX2WEST12345698765432",
+              "NO938601111794",
+              "GB82WEST1234569876543212345678901234"
+            }) {
+      Optional<Violation> violation = ibanRule("field.path", value);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "iban");
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithTwoAttributes;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.integerStringRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegerStringValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void integerString1() {
+    assertFalse(integerStringRule("field.path", null, 1, 10).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is an integer within the limits THEN expect no violation")
+  void integerString2() {
+    for (String value : new String[] {"1", "+1", "10", "0005", "-0"}) {
+      assertFalse(integerStringRule("field.path", value, -5, 10).isPresent(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is an integer out of the limits THEN expect violation")
+  void integerString3() {
+    for (String value :
+            new String[] {"-6", "11", "99999999999999999999", "-99999999999999999999"}) {
+      Optional<Violation> violation = integerStringRule("field.path", value, -5, 10);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationWithTwoAttributes(
+              violation.get(),
+              "field.path",
+              "validation.error.integer.value.not.in.range",
+              "Value is not in range.",
+              -5L,
+              10L,
+              "min",
+              "max");
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is at the limits of a long THEN expect no overflow")
+  void integerString4() {
+    long min = Long.MIN_VALUE;
+    long max = Long.MAX_VALUE;
+
+    assertFalse(integerStringRule("field.path", "-9223372036854775808", min, max).isPresent());
+    assertFalse(integerStringRule("field.path", "9223372036854775807", min, max).isPresent());
+    assertTrue(integerStringRule("field.path", "-9223372036854775809", min, max).isPresent());
+    assertTrue(integerStringRule("field.path", "9223372036854775808", min, max).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is not an integer THEN expect violation")
+  void integerString5() {
+    for (String value : new String[] {"", "-", "1.0", "1e3", " 1", "99999999999999999999x"}) {
+      Optional<Violation> violation = integerStringRule("field.path", value, 0, 10);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "integer");
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN min is greater than max THEN expect exception")
+  void integerString6() {
+    assertThrows(IllegalArgumentException.class, () -> integerStringRule("field.path", "1", 2, 1));
+  }
+}
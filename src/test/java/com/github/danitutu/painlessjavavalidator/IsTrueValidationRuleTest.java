@@ -51,4 +51,27 @@ class IsTrueValidationRuleTest {
 
     assertFalse(result.isPresent());
   }
+
+  @Test
+  @DisplayName("WHEN condition is evaluated to true THEN expect violation provider is not called")
+  void isTrueRule5() {
+    Optional<Violation> result =
+            ValidationRule.isTrueRule(
+                    () -> true,
+                    () -> {
+                      throw new IllegalStateException("violation should not be created");
+                    });
+
+    assertFalse(result.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN condition is evaluated to false THEN expect violation from provider")
+  void isTrueRule6() {
+    Violation violation = Violation.of(null, null, null, null);
+
+    Optional<Violation> result = ValidationRule.isTrueRule(() -> false, () -> violation);
+
+    assertSame(violation, result.get());
+  }
 }
@@ -0,0 +1,59 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.isbnRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsbnValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void isbn1() {
+    assertFalse(isbnRule("field.path", null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN check digit is valid THEN expect no violation")
+  void isbn2() {
+    for (String value :
+            new String[] {
+              "0306406152",
+              "0-306-40615-2",
+              "080442957X",
+              "0 8044 2957 X",
+              "9780306406157",
+              "978-0-306-40615-7"
+            }) {
+      assertFalse(isbnRule("field.path", value).isPresent(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN check digit or separators are not valid THEN expect violation")
+  void isbn3() {
+    for (String value :
+            new String[] {
+              "",
+              "0306406153",
+              "9780306406158",
+              "030640615",
+              "97803064061570",
+              "X306406152",
+              "978030640615X",
+              "0--306406152",
+              "-0306406152",
+              "0306406152-",
+              "0306406x52"
+            }) {
+      Optional<Violation> violation = isbnRule("field.path", value);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "isbn");
+    }
+  }
+}
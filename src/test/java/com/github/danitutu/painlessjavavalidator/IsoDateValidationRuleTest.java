@@ -0,0 +1,99 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.isoDateRule;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.isoDateTimeRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsoDateValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void isoDate1() {
+    assertFalse(isoDateRule("field.path", null).isPresent());
+    assertFalse(isoDateTimeRule("field.path", null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is a date of the calendar THEN expect no violation")
+  void isoDate2() {
+    for (String value : new String[] {"2020-01-31", "2020-02-29", "2000-02-29", "0000-12-01"}) {
+      assertFalse(isoDateRule("field.path", value).isPresent(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is not a date of the calendar THEN expect violation")
+  void isoDate3() {
+    for (String value :
+            new String[] {
+              "",
+              "2021-02-29",
+              "1900-02-29",
+              "2020-04-31",
+              "2020-13-01",
+              "2020-00-10",
+              "2020-01-00",
+              "2020/01/01",
+              "2020-1-01",
+              "20200-01-01",
+              "2020-01-01T10:00:00Z"
+            }) {
+      Optional<Violation> violation = isoDateRule("field.path", value);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "iso-date");
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is a date-time having an offset THEN expect no violation")
+  void isoDate4() {
+    for (String value :
+            new String[] {
+              "2020-02-29T23:59:59Z",
+              "2020-02-29T00:00:00.1Z",
+              "2020-02-29T00:00:00.123456789+02:00",
+              "2020-02-29T10:15:30-23:59",
+              Instant.now().toString(),
+              OffsetDateTime.now(ZoneOffset.ofHours(3)).withNano(1000).toString()
+            }) {
+      assertFalse(isoDateTimeRule("field.path", value).isPresent(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is not a date-time having an offset THEN expect violation")
+  void isoDate5() {
+    for (String value :
+            new String[] {
+              "2020-02-29",
+              "2020-02-29T10:15:30",
+              "2020-02-29T10:15Z",
+              "2020-02-29 10:15:30Z",
+              "2020-02-30T10:15:30Z",
+              "2020-02-29T24:00:00Z",
+              "2020-02-29T10:60:00Z",
+              "2020-02-29T10:15:60Z",
+              "2020-02-29T10:15:30.Z",
+              "2020-02-29T10:15:30.1234567890Z",
+              "2020-02-29T10:15:30+2:00",
+              "2020-02-29T10:15:30+02:00Z",
+              "2020-02-29T10:15:30+24:00",
+              "2020-02-29T10:15:30Zx"
+            }) {
+      Optional<Violation> violation = isoDateTimeRule("field.path", value);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "iso-date-time");
+    }
+  }
+}
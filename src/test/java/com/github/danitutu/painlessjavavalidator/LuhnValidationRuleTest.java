@@ -0,0 +1,44 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.luhnRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LuhnValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void luhn1() {
+    assertFalse(luhnRule("field.path", null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN check digit is valid THEN expect no violation")
+  void luhn2() {
+    for (String value :
+            new String[] {
+              "4111111111111111", "5555555555554444", "378282246310005", "79927398713"
+            }) {
+      assertFalse(luhnRule("field.path", value).isPresent(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN check digit is not valid or value has other characters THEN expect violation")
+  void luhn3() {
+    for (String value :
+            new String[] {
+              "", "0", "4111111111111112", "79927398710", "4111 1111 1111 1111", "4a"
+            }) {
+      Optional<Violation> violation = luhnRule("field.path", value);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "luhn");
+    }
+  }
+}
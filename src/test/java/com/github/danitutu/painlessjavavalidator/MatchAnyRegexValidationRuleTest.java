@@ -0,0 +1,55 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithOneAttribute;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.matchAnyRegexRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchAnyRegexValidationRuleTest {
+
+  private static final RegexSet CODES = RegexSet.compile("[A-Z]{2}-\\d{4}", "(x)\\1\\d+");
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void matchAnyRegex1() {
+    assertFalse(matchAnyRegexRule("field.path", null, CODES).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value matches any of the patterns THEN expect no violation")
+  void matchAnyRegex2() {
+    assertFalse(matchAnyRegexRule("field.path", "AB-1234", CODES).isPresent());
+    assertFalse(matchAnyRegexRule("field.path", "xx12", CODES).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value matches none of the patterns THEN expect violation having the patterns")
+  void matchAnyRegex3() {
+    Optional<Violation> violation = matchAnyRegexRule("field.path", "AB-1234 ", CODES);
+
+    assertTrue(violation.isPresent());
+    assertViolationWithOneAttribute(
+            violation.get(),
+            "field.path",
+            "validation.error.string.value.regex.no.match",
+            "Value does not match any of the expected regexes.",
+            Arrays.asList("[A-Z]{2}-\\d{4}", "(x)\\1\\d+"),
+            "regexPatterns");
+  }
+
+  @Test
+  @DisplayName("WHEN patterns are missing THEN expect error")
+  void matchAnyRegex4() {
+    IllegalArgumentException ex =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> matchAnyRegexRule("field.path", "value", null));
+
+    assertEquals("regexes is required", ex.getMessage());
+  }
+}
@@ -0,0 +1,55 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithOneAttribute;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.matchNoRegexRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchNoRegexValidationRuleTest {
+
+  private static final RegexSet FORBIDDEN =
+          RegexSet.compile(".*<script.*", "(?i).*drop\\s+table.*", ".*\\d{16}.*");
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void matchNoRegex1() {
+    assertFalse(matchNoRegexRule("field.path", null, FORBIDDEN).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value matches none of the patterns THEN expect no violation")
+  void matchNoRegex2() {
+    assertFalse(matchNoRegexRule("field.path", "hello 1234", FORBIDDEN).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value matches a pattern THEN expect violation having the first one")
+  void matchNoRegex3() {
+    Optional<Violation> violation =
+            matchNoRegexRule("field.path", "4111111111111111 DROP  TABLE", FORBIDDEN);
+
+    assertTrue(violation.isPresent());
+    assertViolationWithOneAttribute(
+            violation.get(),
+            "field.path",
+            "validation.error.string.value.regex.match",
+            "Value matches a forbidden regex.",
+            "(?i).*drop\\s+table.*",
+            "regexPattern");
+  }
+
+  @Test
+  @DisplayName("WHEN patterns are missing THEN expect error")
+  void matchNoRegex4() {
+    IllegalArgumentException ex =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> matchNoRegexRule("field.path", "value", null));
+
+    assertEquals("regexes is required", ex.getMessage());
+  }
+}
@@ -0,0 +1,51 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationRegexNoMatch;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.matchPatternRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchPatternValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void matchPattern1() {
+    Optional<Violation> violation =
+            matchPatternRule("field.path", null, Pattern.compile("[A-Z0-9]+"));
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is not matching the pattern THEN expect violation")
+  void matchPattern2() {
+    Optional<Violation> violation =
+            matchPatternRule("field.path", "TEST1234", Pattern.compile("[A-Z]+"));
+
+    assertTrue(violation.isPresent());
+    assertViolationRegexNoMatch(violation.get(), "field.path", "[A-Z]+");
+  }
+
+  @Test
+  @DisplayName("WHEN value is matching the pattern THEN expect no violation")
+  void matchPattern3() {
+    Optional<Violation> violation =
+            matchPatternRule("field.path", "TEST1234", Pattern.compile("[A-Z0-9]+"));
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN pattern is null THEN expect error")
+  void matchPattern4() {
+    IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> matchPatternRule("field.path", "TEST1234", null));
+
+    assertEquals("pattern is required", ex.getMessage());
+  }
+}
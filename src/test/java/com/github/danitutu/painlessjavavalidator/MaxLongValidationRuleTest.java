@@ -0,0 +1,48 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationGreaterThanMax;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MaxLongValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void maxLong1() {
+    Optional<Violation> violation = ValidationRule.maxLongRule("field.path", null, 3);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is equal to max THEN expect no violation")
+  void maxLong2() {
+    Optional<Violation> violation =
+            ValidationRule.maxLongRule("field.path", 5_000_000_000L, 5_000_000_000L);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is greater than max THEN expect violation")
+  void maxLong3() {
+    Optional<Violation> violation =
+            ValidationRule.maxLongRule("field.path", 5_000_000_001L, 5_000_000_000L);
+
+    assertTrue(violation.isPresent());
+    assertViolationGreaterThanMax(violation.get(), "field.path", 5_000_000_000L);
+  }
+
+  @Test
+  @DisplayName("WHEN value is smaller than max THEN expect no violation")
+  void maxLong4() {
+    Optional<Violation> violation = ValidationRule.maxLongRule("field.path", Long.MIN_VALUE, 1);
+
+    assertFalse(violation.isPresent());
+  }
+}
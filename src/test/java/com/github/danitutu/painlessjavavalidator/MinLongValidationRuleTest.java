@@ -0,0 +1,48 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationSmallerThanMin;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinLongValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void minLong1() {
+    Optional<Violation> violation = ValidationRule.minLongRule("field.path", null, 3);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is equal to min THEN expect no violation")
+  void minLong2() {
+    Optional<Violation> violation =
+            ValidationRule.minLongRule("field.path", 5_000_000_000L, 5_000_000_000L);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is smaller than min THEN expect violation")
+  void minLong3() {
+    Optional<Violation> violation =
+            ValidationRule.minLongRule("field.path", 4_999_999_999L, 5_000_000_000L);
+
+    assertTrue(violation.isPresent());
+    assertViolationSmallerThanMin(violation.get(), "field.path", 5_000_000_000L);
+  }
+
+  @Test
+  @DisplayName("WHEN value is greater than min THEN expect no violation")
+  void minLong4() {
+    Optional<Violation> violation = ValidationRule.minLongRule("field.path", Long.MAX_VALUE, 1);
+
+    assertFalse(violation.isPresent());
+  }
+}
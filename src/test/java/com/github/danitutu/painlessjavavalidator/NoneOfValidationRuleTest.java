@@ -0,0 +1,76 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithOneAttribute;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.noneOfRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoneOfValidationRuleTest {
+
+  private static final StringSet RESERVED = StringSet.of("admin", "root");
+
+  private static void assertViolationOneOf(Violation violation, Object values) {
+    assertViolationWithOneAttribute(
+            violation,
+            "field.path",
+            "validation.error.value.is.one.of",
+            "The value is one of the forbidden values.",
+            values,
+            "values");
+  }
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void noneOf1() {
+    assertFalse(noneOfRule("field.path", (CharSequence) null, RESERVED).isPresent());
+    assertFalse(noneOfRule("field.path", (Integer) null, IntSet.of(1)).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is not one of the values THEN expect no violation")
+  void noneOf2() {
+    assertFalse(noneOfRule("field.path", "john", RESERVED).isPresent());
+    assertFalse(noneOfRule("field.path", 2, IntSet.of(1)).isPresent());
+    assertFalse(noneOfRule("field.path", 2L, LongSet.of(1L)).isPresent());
+    assertFalse(
+            noneOfRule("field.path", DayOfWeek.MONDAY, EnumSet.of(DayOfWeek.SUNDAY)).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is one of the values THEN expect violation having the values")
+  void noneOf3() {
+    Optional<Violation> violation = noneOfRule("field.path", "root", RESERVED);
+    assertTrue(violation.isPresent());
+    assertViolationOneOf(violation.get(), Arrays.asList("admin", "root"));
+
+    violation = noneOfRule("field.path", 0, IntSet.of(0));
+    assertTrue(violation.isPresent());
+    assertViolationOneOf(violation.get(), Arrays.asList(0));
+
+    violation = noneOfRule("field.path", -5L, LongSet.of(-5L));
+    assertTrue(violation.isPresent());
+    assertViolationOneOf(violation.get(), Arrays.asList(-5L));
+
+    violation = noneOfRule("field.path", DayOfWeek.SUNDAY, EnumSet.of(DayOfWeek.SUNDAY));
+    assertTrue(violation.isPresent());
+    assertViolationOneOf(violation.get(), Arrays.asList(DayOfWeek.SUNDAY));
+  }
+
+  @Test
+  @DisplayName("WHEN values are missing THEN expect error")
+  void noneOf4() {
+    IllegalArgumentException ex =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> noneOfRule("field.path", 1L, (LongSet) null));
+
+    assertEquals("values is required", ex.getMessage());
+  }
+}
@@ -0,0 +1,105 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithOneAttribute;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.notContainsAnyRule;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotContainsAnyValidationRuleTest {
+
+  private static final Blocklist BLOCKLIST = Blocklist.of("he", "she", "his", "hers");
+
+  private static void assertViolationBlockedTerm(Violation violation, List<String> terms) {
+    assertViolationWithOneAttribute(
+            violation,
+            "field.path",
+            "validation.error.string.value.contains.blocked.term",
+            "Value contains a blocked term.",
+            terms,
+            "terms");
+  }
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void notContainsAny1() {
+    assertFalse(notContainsAnyRule("field.path", null, BLOCKLIST).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value doesn't contain any term THEN expect no violation")
+  void notContainsAny2() {
+    for (String value : new String[] {"", "h", "HE", "hi s", "sh-e"}) {
+      assertFalse(notContainsAnyRule("field.path", value, BLOCKLIST).isPresent(), value);
+      assertTrue(BLOCKLIST.findAll(value).isEmpty(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value contains a term THEN expect violation having the first term")
+  void notContainsAny3() {
+    Optional<Violation> violation = notContainsAnyRule("field.path", "ushers", BLOCKLIST);
+
+    assertTrue(violation.isPresent());
+    assertViolationBlockedTerm(violation.get(), singletonList("she"));
+    assertEquals("his", BLOCKLIST.findFirst("this"));
+    assertEquals(Arrays.asList("she", "he", "hers"), BLOCKLIST.findAll("ushers"));
+  }
+
+  @Test
+  @DisplayName("WHEN all terms are reported THEN expect violation having the terms in order")
+  void notContainsAny4() {
+    Blocklist blocklist =
+            Blocklist.builder()
+                    .ignoreCase()
+                    .reportAll()
+                    .terms(Arrays.asList("spam", "Scam", "am", "\u00dfpam"))
+                    .build();
+
+    Optional<Violation> violation =
+            notContainsAnyRule("field.path", "SCAM or sPaM, scam again", blocklist);
+
+    assertTrue(violation.isPresent());
+    assertViolationBlockedTerm(violation.get(), Arrays.asList("Scam", "am", "spam"));
+    assertTrue(blocklist.containsAny("\u1e9ePAM"));
+  }
+
+  @Test
+  @DisplayName("WHEN blocklist has many terms THEN expect the same result as contains")
+  void notContainsAny5() {
+    List<String> terms = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      terms.add(Integer.toString(i * 7919, 36));
+    }
+    Blocklist blocklist = Blocklist.builder().terms(terms).build();
+
+    for (int i = 0; i < 500; i++) {
+      String value = "-" + Integer.toString(i * 104729, 36) + "-";
+      boolean expected = terms.stream().anyMatch(value::contains);
+      assertEquals(expected, blocklist.containsAny(value), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN blocklist or terms are missing THEN expect error")
+  void notContainsAny6() {
+    IllegalArgumentException ex =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> notContainsAnyRule("field.path", "value", null));
+
+    assertEquals("blocklist is required", ex.getMessage());
+    assertEquals(
+            "term cannot be empty",
+            assertThrows(IllegalArgumentException.class, () -> Blocklist.of("a", ""))
+                    .getMessage());
+    assertThrows(IllegalArgumentException.class, () -> Blocklist.of("a", null));
+  }
+}
@@ -0,0 +1,65 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithOneAttribute;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.notInFutureRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotInFutureValidationRuleTest {
+
+  private static final Instant NOW = Instant.parse("2020-03-01T23:30:00Z");
+  // already March 2nd in Paris
+  private static final ValidationTime TIME =
+          ValidationTime.of(Clock.fixed(NOW, ZoneId.of("Europe/Paris")));
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void notInFuture1() {
+    assertFalse(notInFutureRule("field.path", (Instant) null, TIME).isPresent());
+    assertFalse(notInFutureRule("field.path", (LocalDate) null, TIME).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is before or at the current time THEN expect no violation")
+  void notInFuture2() {
+    assertFalse(notInFutureRule("field.path", NOW, TIME).isPresent());
+    assertFalse(notInFutureRule("field.path", NOW.minusSeconds(1), TIME).isPresent());
+    assertFalse(notInFutureRule("field.path", LocalDate.parse("2020-03-02"), TIME).isPresent());
+    assertFalse(notInFutureRule("field.path", NOW.toEpochMilli(), TIME).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is after the current time THEN expect violation")
+  void notInFuture3() {
+    Optional<Violation> violation = notInFutureRule("field.path", NOW.plusNanos(1), TIME);
+
+    assertTrue(violation.isPresent());
+    assertViolationWithOneAttribute(
+            violation.get(),
+            "field.path",
+            "validation.error.value.is.in.the.future",
+            "The value is in the future.",
+            "2020-03-01T23:30:00Z",
+            "now");
+
+    violation = notInFutureRule("field.path", LocalDate.parse("2020-03-03"), TIME);
+
+    assertTrue(violation.isPresent());
+    assertEquals("2020-03-02", violation.get().getAttributes().get("now"));
+    assertTrue(notInFutureRule("field.path", NOW.toEpochMilli() + 1, TIME).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN time is null THEN expect exception")
+  void notInFuture4() {
+    assertThrows(IllegalArgumentException.class, () -> notInFutureRule("field.path", NOW, null));
+  }
+}
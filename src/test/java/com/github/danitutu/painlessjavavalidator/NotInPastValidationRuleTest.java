@@ -0,0 +1,53 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithOneAttribute;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.notInPastRule;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotInPastValidationRuleTest {
+
+  private static final Instant NOW = Instant.parse("2020-03-01T10:00:00Z");
+  private static final ValidationTime TIME = ValidationTime.of(Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void notInPast1() {
+    assertFalse(notInPastRule("field.path", (Instant) null, TIME).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is after or at the current time THEN expect no violation")
+  void notInPast2() {
+    assertFalse(notInPastRule("field.path", NOW, TIME).isPresent());
+    assertFalse(notInPastRule("field.path", NOW.plusSeconds(1), TIME).isPresent());
+    assertFalse(notInPastRule("field.path", LocalDate.parse("2020-03-01"), TIME).isPresent());
+    assertFalse(notInPastRule("field.path", NOW.toEpochMilli() + 1, TIME).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is before the current time THEN expect violation")
+  void notInPast3() {
+    Optional<Violation> violation = notInPastRule("field.path", NOW.minusMillis(1), TIME);
+
+    assertTrue(violation.isPresent());
+    assertViolationWithOneAttribute(
+            violation.get(),
+            "field.path",
+            "validation.error.value.is.in.the.past",
+            "The value is in the past.",
+            "2020-03-01T10:00:00Z",
+            "now");
+    assertTrue(notInPastRule("field.path", LocalDate.parse("2020-02-29"), TIME).isPresent());
+    assertTrue(notInPastRule("field.path", NOW.toEpochMilli() - 1, TIME).isPresent());
+  }
+}
@@ -0,0 +1,197 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithOneAttribute;
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithTwoAttributes;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.numericStringRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumericStringValidationRuleTest {
+
+  private static final NumericString AMOUNT =
+          NumericString.decimal().min("-100.5").max("99999.99").maxScale(2).build();
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void numericString1() {
+    assertFalse(numericStringRule("field.path", null, AMOUNT).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is a number within the limits THEN expect no violation")
+  void numericString2() {
+    for (String value :
+            new String[] {
+              "0", "-0", "+0.00", "-100.5", "-100.50", "-100.49", "99999.99", "99999.9", "00042.1"
+            }) {
+      assertFalse(numericStringRule("field.path", value, AMOUNT).isPresent(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is a number out of the limits THEN expect violation")
+  void numericString3() {
+    for (String value :
+            new String[] {
+              "-100.51", "-101", "100000", "99999.991", "123456789012345678901234567890"
+            }) {
+      Optional<Violation> violation =
+              numericStringRule(
+                      "field.path",
+                      value,
+                      NumericString.decimal().min("-100.5").max("99999.99").build());
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationWithTwoAttributes(
+              violation.get(),
+              "field.path",
+              "validation.error.number.value.not.in.range",
+              "Value is not in range.",
+              "-100.5",
+              "99999.99",
+              "min",
+              "max");
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is not a number THEN expect violation")
+  void numericString4() {
+    for (String value :
+            new String[] {"", "-", "+", ".5", "5.", "1.2.3", "1e3", "1,000", " 1", "0x10", "--1"}) {
+      Optional<Violation> violation = numericStringRule("field.path", value, AMOUNT);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "decimal");
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN an integer has a fractional part THEN expect violation")
+  void numericString5() {
+    NumericString number = NumericString.integer().min(1).max(10).build();
+
+    Optional<Violation> violation = numericStringRule("field.path", "5.0", number);
+
+    assertTrue(violation.isPresent());
+    assertViolationInvalidFormat(violation.get(), "field.path", "integer");
+    assertFalse(numericStringRule("field.path", "10", number).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value has more digits than the precision or the scale THEN expect violation")
+  void numericString6() {
+    NumericString number = NumericString.decimal().maxPrecision(5).maxScale(2).build();
+
+    assertFalse(numericStringRule("field.path", "123.45", number).isPresent());
+    assertFalse(numericStringRule("field.path", "000123.45", number).isPresent());
+    for (String value : new String[] {"1234.56", "1.234", "123456"}) {
+      Optional<Violation> violation = numericStringRule("field.path", value, number);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationWithTwoAttributes(
+              violation.get(),
+              "field.path",
+              "validation.error.number.value.too.many.digits",
+              "Value has too many digits.",
+              5,
+              2,
+              "precision",
+              "scale");
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN leading zeros are rejected THEN expect violation only for leading zeros")
+  void numericString7() {
+    NumericString number = NumericString.decimal().rejectLeadingZeros().build();
+
+    assertFalse(numericStringRule("field.path", "0", number).isPresent());
+    assertFalse(numericStringRule("field.path", "-0.5", number).isPresent());
+    assertFalse(numericStringRule("field.path", "10.05", number).isPresent());
+    for (String value : new String[] {"007", "00.5", "-01"}) {
+      Optional<Violation> violation = numericStringRule("field.path", value, number);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "decimal");
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN only one limit is set THEN expect the violation has only that limit")
+  void numericString8() {
+    NumericString number = NumericString.decimal().min("0.001").build();
+
+    Optional<Violation> violation = numericStringRule("field.path", "0.0009", number);
+
+    assertTrue(violation.isPresent());
+    assertViolationWithOneAttribute(
+            violation.get(),
+            "field.path",
+            "validation.error.number.value.not.in.range",
+            "Value is not in range.",
+            "0.001",
+            "min");
+    assertFalse(numericStringRule("field.path", "0.0010", number).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN the limits are not valid THEN expect exception")
+  void numericString9() {
+    assertThrows(IllegalArgumentException.class, () -> NumericString.decimal().min("1e3").build());
+    assertThrows(IllegalArgumentException.class, () -> NumericString.decimal().max("1.").build());
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> NumericString.decimal().min("0.11").max("0.1").build());
+    assertThrows(IllegalArgumentException.class, () -> numericStringRule("field.path", "1", null));
+  }
+
+  @Test
+  @DisplayName("WHEN value is a random number THEN expect the same result as BigDecimal")
+  void numericString10() {
+    Random random = new Random(44);
+    for (int i = 0; i < 20_000; i++) {
+      String min = randomNumber(random);
+      String max = randomNumber(random);
+      if (new BigDecimal(min).compareTo(new BigDecimal(max)) > 0) {
+        String swap = min;
+        min = max;
+        max = swap;
+      }
+      String value = randomNumber(random);
+      NumericString number = NumericString.decimal().min(min).max(max).build();
+      BigDecimal decimal = new BigDecimal(value);
+      boolean expected =
+              decimal.compareTo(new BigDecimal(min)) >= 0
+                      && decimal.compareTo(new BigDecimal(max)) <= 0;
+
+      assertEquals(expected, number.isValid(value), value + " in [" + min + ", " + max + "]");
+    }
+  }
+
+  private static String randomNumber(Random random) {
+    StringBuilder builder = new StringBuilder();
+    int sign = random.nextInt(3);
+    builder.append(sign == 0 ? "-" : sign == 1 ? "+" : "");
+    int integerDigits = 1 + random.nextInt(4);
+    for (int i = 0; i < integerDigits; i++) {
+      // mostly zeros and ones, so values are often equal or close
+      builder.append(random.nextInt(10) < 7 ? (char) ('0' + random.nextInt(2)) : '9');
+    }
+    if (random.nextBoolean()) {
+      builder.append('.');
+      int fractionDigits = 1 + random.nextInt(4);
+      for (int i = 0; i < fractionDigits; i++) {
+        builder.append(random.nextInt(10) < 7 ? (char) ('0' + random.nextInt(2)) : '9');
+      }
+    }
+    return builder.toString();
+  }
+}
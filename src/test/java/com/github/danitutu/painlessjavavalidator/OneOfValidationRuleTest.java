@@ -0,0 +1,111 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithOneAttribute;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.oneOfRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OneOfValidationRuleTest {
+
+  private static final StringSet STATUSES = StringSet.of("NEW", "ACTIVE", "CLOSED", "ACTIVE");
+  private static final IntSet CODES = IntSet.of(0, -1, 200, 404, Integer.MIN_VALUE, 200);
+  private static final LongSet IDS = LongSet.of(0L, 1L << 40, -7L, Long.MAX_VALUE);
+  private static final EnumSet<DayOfWeek> WEEKEND =
+          EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+  private static void assertViolationNotOneOf(Violation violation, Object values) {
+    assertViolationWithOneAttribute(
+            violation,
+            "field.path",
+            "validation.error.value.not.one.of",
+            "The value is not one of the allowed values.",
+            values,
+            "values");
+  }
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void oneOf1() {
+    assertFalse(oneOfRule("field.path", (CharSequence) null, STATUSES).isPresent());
+    assertFalse(oneOfRule("field.path", (Integer) null, CODES).isPresent());
+    assertFalse(oneOfRule("field.path", (Long) null, IDS).isPresent());
+    assertFalse(
+            oneOfRule("field.path", (DayOfWeek) null, EnumSet.of(DayOfWeek.MONDAY)).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is one of the values THEN expect no violation")
+  void oneOf2() {
+    assertFalse(oneOfRule("field.path", "ACTIVE", STATUSES).isPresent());
+    assertFalse(oneOfRule("field.path", new StringBuilder("CLOSED"), STATUSES).isPresent());
+    for (int code : new int[] {0, -1, 200, 404, Integer.MIN_VALUE}) {
+      assertFalse(oneOfRule("field.path", code, CODES).isPresent(), String.valueOf(code));
+    }
+    for (long id : new long[] {0L, 1L << 40, -7L, Long.MAX_VALUE}) {
+      assertFalse(oneOfRule("field.path", id, IDS).isPresent(), String.valueOf(id));
+    }
+    assertFalse(oneOfRule("field.path", DayOfWeek.SUNDAY, WEEKEND).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is not one of the values THEN expect violation having the values")
+  void oneOf3() {
+    Optional<Violation> violation = oneOfRule("field.path", "active", STATUSES);
+    assertTrue(violation.isPresent());
+    assertViolationNotOneOf(violation.get(), Arrays.asList("NEW", "ACTIVE", "CLOSED"));
+
+    violation = oneOfRule("field.path", new StringBuilder("NEWS"), STATUSES);
+    assertTrue(violation.isPresent());
+
+    violation = oneOfRule("field.path", 1, CODES);
+    assertTrue(violation.isPresent());
+    assertViolationNotOneOf(violation.get(), Arrays.asList(0, -1, 200, 404, Integer.MIN_VALUE));
+
+    violation = oneOfRule("field.path", 1L << 41, IDS);
+    assertTrue(violation.isPresent());
+    assertViolationNotOneOf(violation.get(), Arrays.asList(0L, 1L << 40, -7L, Long.MAX_VALUE));
+
+    violation = oneOfRule("field.path", DayOfWeek.MONDAY, WEEKEND);
+    assertTrue(violation.isPresent());
+    assertViolationNotOneOf(
+            violation.get(), Arrays.asList(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+  }
+
+  @Test
+  @DisplayName("WHEN set has many values THEN expect every value to be found")
+  void oneOf4() {
+    int[] values = new int[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i * 1024;
+    }
+    IntSet set = IntSet.of(values);
+
+    assertEquals(1000, set.size());
+    for (int i = 0; i < 1000 * 1024; i++) {
+      assertEquals(i % 1024 == 0, set.contains(i));
+    }
+    assertEquals(Arrays.asList("DAY", "WEEK"), StringSet.of("DAY", "WEEK", "DAY").values());
+    assertTrue(StringSet.ofNames(DayOfWeek.class).contains("FRIDAY"));
+    assertFalse(IntSet.of().contains(0));
+  }
+
+  @Test
+  @DisplayName("WHEN values are missing THEN expect error")
+  void oneOf5() {
+    IllegalArgumentException ex =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> oneOfRule("field.path", "value", (StringSet) null));
+
+    assertEquals("values is required", ex.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> StringSet.of("a", null));
+    assertThrows(IllegalArgumentException.class, () -> IntSet.of((int[]) null));
+  }
+}
@@ -0,0 +1,133 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegexSetTest {
+
+  private static final List<String> PATTERNS =
+          Arrays.asList(
+                  "^[A-Z]{2}-\\d{4}$",
+                  "X\\d{6}",
+                  "(EU|US)[0-9A-F]{8}",
+                  "a*b+c?",
+                  "(?:ab|a)*",
+                  "[^a-c]{1,3}",
+                  ".\\.[\\w-]+",
+                  "\\s*\\S+?",
+                  "[a\\-z]|[-x]|[y-]",
+                  "\\D\\W",
+                  "(a|b){2,}",
+                  "c{0}d{2,}|e{0,2}",
+                  "\\$\\(\\)\\[\\]\\{\\}\\|\\\\",
+                  "",
+                  "\uD83D\uDE00.",
+                  "(x)\\1",
+                  "(?i)abc",
+                  "a++",
+                  "\\bword\\b",
+                  "(?=a)a.");
+
+  private static final String ALPHABET =
+          "abcdexyzAZ09-_. \t\n$()[]{}|\\\uD83D\uDE00\u00e9\u2028";
+
+  @Test
+  @DisplayName("WHEN patterns are supported THEN expect them in an automaton")
+  void regexSet1() {
+    RegexSet set = RegexSet.compile(PATTERNS);
+
+    assertEquals(1, set.automatonCount());
+    assertEquals(5, set.fallbackCount());
+    assertEquals(PATTERNS, set.getPatterns());
+  }
+
+  @Test
+  @DisplayName("WHEN values are matched THEN expect the same result as Pattern")
+  void regexSet2() {
+    List<Pattern> compiled = new ArrayList<>();
+    PATTERNS.forEach(regex -> compiled.add(Pattern.compile(regex)));
+    RegexSet set = RegexSet.compile(PATTERNS);
+    List<RegexSet> single = new ArrayList<>();
+    PATTERNS.forEach(regex -> single.add(RegexSet.compile(regex)));
+    Random random = new Random(42);
+
+    for (int n = 0; n < 20000; n++) {
+      String value = randomValue(random, n);
+      int expected = -1;
+      for (int i = 0; i < compiled.size(); i++) {
+        boolean matches = compiled.get(i).matcher(value).matches();
+        assertEquals(
+                matches,
+                single.get(i).matchesAny(value),
+                () -> PATTERNS.get(compiled.size() - 1) + " " + value);
+        if (matches && expected < 0) {
+          expected = i;
+        }
+      }
+      assertEquals(expected, set.firstMatch(value), value);
+      assertEquals(expected >= 0, set.matchesAny(value), value);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN automaton would be too large THEN expect patterns split or matched one by one")
+  void regexSet3() {
+    // counting modulo 7, 11 and 13 needs 1001 states, adding 17 more than the limit
+    List<String> patterns =
+            Arrays.asList(
+                    "(?:a{7})*",
+                    "(?:a{11})*",
+                    "(?:a{13})*",
+                    "(?:a{17})*",
+                    "(?:a{19})*",
+                    // remembering the last 12 characters needs 4096 states
+                    "[ab]*a[ab]{11}");
+    RegexSet set = RegexSet.compile(patterns);
+
+    assertEquals(2, set.automatonCount());
+    assertEquals(1, set.fallbackCount());
+    assertEquals(0, set.firstMatch(repeat('a', 77)));
+    assertEquals(2, set.firstMatch(repeat('a', 26)));
+    assertEquals(3, set.firstMatch(repeat('a', 17 * 19)));
+    assertEquals(5, set.firstMatch("a" + repeat('b', 11)));
+    assertEquals(-1, set.firstMatch(repeat('a', 2)));
+  }
+
+  @Test
+  @DisplayName("WHEN patterns are invalid THEN expect error")
+  void regexSet4() {
+    assertThrows(PatternSyntaxException.class, () -> RegexSet.compile("a", "[a"));
+    assertThrows(IllegalArgumentException.class, () -> RegexSet.compile("a", null));
+    assertThrows(IllegalArgumentException.class, () -> RegexSet.compile((String[]) null));
+    assertEquals(-1, RegexSet.compile().firstMatch("a"));
+  }
+
+  private static String randomValue(Random random, int n) {
+    // short values made of the characters used by the patterns match them more often
+    int length = random.nextInt(n % 3 == 0 ? 12 : 6);
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      int c = ALPHABET.codePointAt(ALPHABET.offsetByCodePoints(0, random.nextInt(
+              ALPHABET.codePointCount(0, ALPHABET.length()))));
+      builder.appendCodePoint(c);
+    }
+    return builder.toString();
+  }
+
+  private static String repeat(char c, int count) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,84 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationSizeNotBetween;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SizeBetweenValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void sizeBetween1() {
+    Optional<Violation> violation = ValidationRule.sizeBetweenRule("field.path", null, 1, 3);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is empty and min is 0 THEN expect no violation")
+  void sizeBetween2() {
+    Optional<Violation> violation =
+            ValidationRule.sizeBetweenRule("field.path", Collections.emptyList(), 0, 3);
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is empty and min is 1 THEN expect violation")
+  void sizeBetween3() {
+    Optional<Violation> violation =
+            ValidationRule.sizeBetweenRule("field.path", Collections.emptyList(), 1, 3);
+
+    assertTrue(violation.isPresent());
+    assertViolationSizeNotBetween(violation.get(), "field.path", 1, 3);
+  }
+
+  @Test
+  @DisplayName("WHEN size is equal to min or max THEN expect no violation")
+  void sizeBetween4() {
+    assertFalse(
+            ValidationRule.sizeBetweenRule("field.path", Arrays.asList(1, 2), 2, 4).isPresent());
+    assertFalse(
+            ValidationRule.sizeBetweenRule("field.path", Arrays.asList(1, 2, 3, 4), 2, 4)
+                    .isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN size is greater than max THEN expect violation")
+  void sizeBetween5() {
+    Optional<Violation> violation =
+            ValidationRule.sizeBetweenRule(
+                    "field.path", new HashSet<>(Arrays.asList("a", "b", "c")), 1, 2);
+
+    assertTrue(violation.isPresent());
+    assertViolationSizeNotBetween(violation.get(), "field.path", 1, 2);
+  }
+
+  @Test
+  @DisplayName("WHEN min is greater than max THEN expect exception")
+  void sizeBetween6() {
+    IllegalArgumentException exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ValidationRule.sizeBetweenRule("field.path", null, 3, 2));
+
+    assertEquals("min is greater than max", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN using the provider THEN expect the same result as the rule")
+  void sizeBetween7() {
+    Optional<Violation> violation =
+            ValidationRule.sizeBetween("field.path", Arrays.asList(1, 2, 3), 1, 2).get();
+
+    assertTrue(violation.isPresent());
+    assertViolationSizeNotBetween(violation.get(), "field.path", 1, 2);
+  }
+}
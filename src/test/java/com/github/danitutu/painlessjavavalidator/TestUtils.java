@@ -1,5 +1,7 @@
 package com.github.danitutu.painlessjavavalidator;
 
+import java.math.BigDecimal;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -107,6 +109,17 @@ public class TestUtils {
             "other");
   }
 
+  public static void assertViolationInvalidFormat(
+          Violation violation, String field, String format) {
+    assertViolationWithOneAttribute(
+            violation,
+            field,
+            "validation.error.string.value.invalid.format",
+            "Value does not have the expected format.",
+            format,
+            "format");
+  }
+
   public static void assertViolationRegexNoMatch(Violation violation, String field, String regex) {
     assertViolationWithOneAttribute(
             violation,
@@ -127,6 +140,16 @@ public class TestUtils {
             "max");
   }
 
+  public static void assertViolationGreaterThanMax(Violation violation, String field, long max) {
+    assertViolationWithOneAttribute(
+            violation,
+            field,
+            "validation.error.integer.value.greater.than.max",
+            "Value is greater than max.",
+            max,
+            "max");
+  }
+
   public static void assertViolationSmallerThanMin(Violation violation, String field, int min) {
     assertViolationWithOneAttribute(
             violation,
@@ -137,6 +160,60 @@ public class TestUtils {
             "min");
   }
 
+  public static void assertViolationSmallerThanMin(Violation violation, String field, long min) {
+    assertViolationWithOneAttribute(
+            violation,
+            field,
+            "validation.error.integer.value.smaller.than.min",
+            "Value is smaller than min.",
+            min,
+            "min");
+  }
+
+  public static void assertViolationNumberSmallerThanMin(
+          Violation violation, String field, BigDecimal min) {
+    assertViolationWithOneAttribute(
+            violation,
+            field,
+            "validation.error.number.value.smaller.than.min",
+            "Value is smaller than min.",
+            min,
+            "min");
+  }
+
+  public static void assertViolationNumberNotGreaterThanMin(
+          Violation violation, String field, BigDecimal min) {
+    assertViolationWithOneAttribute(
+            violation,
+            field,
+            "validation.error.number.value.not.greater.than.min",
+            "Value is not greater than min.",
+            min,
+            "min");
+  }
+
+  public static void assertViolationNumberGreaterThanMax(
+          Violation violation, String field, BigDecimal max) {
+    assertViolationWithOneAttribute(
+            violation,
+            field,
+            "validation.error.number.value.greater.than.max",
+            "Value is greater than max.",
+            max,
+            "max");
+  }
+
+  public static void assertViolationNumberNotSmallerThanMax(
+          Violation violation, String field, BigDecimal max) {
+    assertViolationWithOneAttribute(
+            violation,
+            field,
+            "validation.error.number.value.not.smaller.than.max",
+            "Value is not smaller than max.",
+            max,
+            "max");
+  }
+
   public static void assertViolationIsNotEqual(Violation violation, String field, Object other) {
     assertViolationWithOneAttribute(
             violation,
@@ -218,4 +295,26 @@ public class TestUtils {
             "min",
             "max");
   }
+
+  public static void assertViolationSizeNotBetween(
+          Violation violation, String field, int min, int max) {
+    assertViolationWithTwoAttributes(
+            violation,
+            field,
+            "validation.error.collection.size.not.between",
+            "The collection size is not in range.",
+            min,
+            max,
+            "min",
+            "max");
+  }
+
+  public static void assertViolationIsDuplicate(Violation violation, String field) {
+    assertViolation(
+            violation,
+            field,
+            "validation.error.collection.element.is.duplicate",
+            "The element is equal to a previous element.");
+    assertNull(violation.getAttributes());
+  }
 }
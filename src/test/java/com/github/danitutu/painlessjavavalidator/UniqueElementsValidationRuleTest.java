@@ -0,0 +1,131 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationIsDuplicate;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueElementsValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void uniqueElements1() {
+    assertFalse(ValidationRule.uniqueElementsRule("field.path", (List<?>) null).isPresent());
+    assertFalse(ValidationRule.uniqueElementsRule("field.path", (int[]) null).isPresent());
+    assertFalse(ValidationRule.uniqueElementsRule("field.path", (long[]) null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN elements are distinct THEN expect no violation")
+  void uniqueElements2() {
+    assertFalse(
+            ValidationRule.uniqueElementsRule("field.path", Arrays.asList("a", "b", "c"))
+                    .isPresent());
+    assertFalse(ValidationRule.uniqueElementsRule("field.path", new int[] {0, 1, -1}).isPresent());
+    assertFalse(ValidationRule.uniqueElementsRule("field.path", new long[] {0, 1, -1}).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN an element is repeated THEN expect violation on the index of the repetition")
+  void uniqueElements3() {
+    Optional<Violation> violation =
+            ValidationRule.uniqueElementsRule("field.path", Arrays.asList("a", "b", "c", "b", "a"));
+
+    assertTrue(violation.isPresent());
+    assertViolationIsDuplicate(violation.get(), "field.path[3]");
+  }
+
+  @Test
+  @DisplayName("WHEN null elements are repeated THEN expect no violation")
+  void uniqueElements4() {
+    Optional<Violation> violation =
+            ValidationRule.uniqueElementsRule("field.path", Arrays.asList(null, "a", null));
+
+    assertFalse(violation.isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN zero is repeated in a primitive array THEN expect violation")
+  void uniqueElements5() {
+    Optional<Violation> ints = ValidationRule.uniqueElementsRule("field.path", new int[] {0, 5, 0});
+    Optional<Violation> longs =
+            ValidationRule.uniqueElementsRule("field.path", new long[] {0, 5, 0});
+
+    assertTrue(ints.isPresent());
+    assertViolationIsDuplicate(ints.get(), "field.path[2]");
+    assertTrue(longs.isPresent());
+    assertViolationIsDuplicate(longs.get(), "field.path[2]");
+  }
+
+  @Test
+  @DisplayName("WHEN large primitive arrays are checked THEN expect the same result as a HashSet")
+  void uniqueElements6() {
+    Random random = new Random(42);
+    for (int run = 0; run < 500; run++) {
+      int size = random.nextInt(200);
+      int bound = 1 + random.nextInt(400);
+      int[] ints = new int[size];
+      long[] longs = new long[size];
+      for (int i = 0; i < size; i++) {
+        ints[i] = random.nextInt(bound) - bound / 2;
+        longs[i] = ((long) ints[i]) << 33;
+      }
+      int expected = firstDuplicate(ints);
+      Optional<Violation> intViolation = ValidationRule.uniqueElementsRule("field", ints);
+      Optional<Violation> longViolation = ValidationRule.uniqueElementsRule("field", longs);
+
+      if (expected < 0) {
+        assertFalse(intViolation.isPresent());
+        assertFalse(longViolation.isPresent());
+      } else {
+        assertEquals("field[" + expected + "]", intViolation.get().getField());
+        assertEquals("field[" + expected + "]", longViolation.get().getField());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is a set THEN expect no violation")
+  void uniqueElements7() {
+    Set<Integer> value = new LinkedHashSet<>(Arrays.asList(3, 2, 1));
+
+    assertFalse(ValidationRule.uniqueElementsRule("field.path", value).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN using the provider THEN expect the same result as the rule")
+  void uniqueElements8() {
+    List<Integer> value = new ArrayList<>(Arrays.asList(1, 2, 1));
+
+    Optional<Violation> violation = ValidationRule.uniqueElements("field.path", value).get();
+
+    assertTrue(violation.isPresent());
+    assertViolationIsDuplicate(violation.get(), "field.path[2]");
+    assertViolationIsDuplicate(
+            ValidationRule.uniqueElements("field.path", new int[] {1, 1}).get().get(),
+            "field.path[1]");
+    assertViolationIsDuplicate(
+            ValidationRule.uniqueElements("field.path", new long[] {1, 1}).get().get(),
+            "field.path[1]");
+  }
+
+  private static int firstDuplicate(int[] values) {
+    Set<Integer> seen = new HashSet<>();
+    for (int i = 0; i < values.length; i++) {
+      if (!seen.add(values[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,85 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationLengthNotBetween;
+import static com.github.danitutu.painlessjavavalidator.ValidUtf8ValidationRuleTest.bytes;
+import static com.github.danitutu.painlessjavavalidator.ValidUtf8ValidationRuleTest.direct;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.utf8LengthBetweenRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8LengthBetweenValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void utf8LengthBetween1() {
+    assertFalse(utf8LengthBetweenRule("field.path", (byte[]) null, 1, 3).isPresent());
+    assertFalse(utf8LengthBetweenRule("field.path", (ByteBuffer) null, 1, 3).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value has multi byte code points THEN expect each counts once")
+  void utf8LengthBetween2() {
+    // 4 code points in 10 bytes
+    byte[] value = "a\u00e9\u20ac\ud83d\ude00".getBytes(StandardCharsets.UTF_8);
+
+    assertFalse(utf8LengthBetweenRule("field.path", value, 4, 4).isPresent());
+    assertFalse(utf8LengthBetweenRule("field.path", ByteBuffer.wrap(value), 1, 4).isPresent());
+    assertFalse(utf8LengthBetweenRule("field.path", direct(value), 4, 10).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value length is smaller than min THEN expect violation")
+  void utf8LengthBetween3() {
+    byte[] value = "\u20ac\u20ac".getBytes(StandardCharsets.UTF_8);
+
+    Optional<Violation> violation = utf8LengthBetweenRule("field.path", value, 3, 6);
+
+    assertTrue(violation.isPresent());
+    assertViolationLengthNotBetween(violation.get(), "field.path", 3, 6);
+  }
+
+  @Test
+  @DisplayName("WHEN value length is greater than max THEN expect violation")
+  void utf8LengthBetween4() {
+    byte[] value = "abc".getBytes(StandardCharsets.UTF_8);
+
+    Optional<Violation> violation = utf8LengthBetweenRule("field.path", direct(value), 0, 2);
+
+    assertTrue(violation.isPresent());
+    assertViolationLengthNotBetween(violation.get(), "field.path", 0, 2);
+  }
+
+  @Test
+  @DisplayName("WHEN value is not well-formed UTF-8 THEN expect invalid format violation")
+  void utf8LengthBetween5() {
+    Optional<Violation> violation =
+            utf8LengthBetweenRule("field.path", bytes('a', 0xc3), 0, 10);
+
+    assertTrue(violation.isPresent());
+    assertViolationInvalidFormat(violation.get(), "field.path", "utf-8");
+  }
+
+  @Test
+  @DisplayName("WHEN only a slice of the value is checked THEN expect its code points are counted")
+  void utf8LengthBetween6() {
+    byte[] value = bytes('a', 0xc3, 0xa9, 'b', 'c');
+
+    assertFalse(utf8LengthBetweenRule("field.path", value, 1, 3, 2, 2).isPresent());
+    assertTrue(utf8LengthBetweenRule("field.path", value, 0, 5, 2, 2).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN min is greater than max THEN expect exception")
+  void utf8LengthBetween7() {
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> utf8LengthBetweenRule("field.path", bytes('a'), 2, 1));
+  }
+}
@@ -0,0 +1,72 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationIsRequired;
+import static com.github.danitutu.painlessjavavalidator.ValidUtf8ValidationRuleTest.bytes;
+import static com.github.danitutu.painlessjavavalidator.ValidUtf8ValidationRuleTest.direct;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.utf8NotBlankRule;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Utf8NotBlankValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect violation")
+  void utf8NotBlank1() {
+    Optional<Violation> violation = utf8NotBlankRule("field.path", (byte[]) null);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsRequired(violation.get(), "field.path");
+    assertTrue(utf8NotBlankRule("field.path", (ByteBuffer) null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value has no bytes THEN expect violation")
+  void utf8NotBlank2() {
+    assertTrue(utf8NotBlankRule("field.path", new byte[0]).isPresent());
+    assertTrue(utf8NotBlankRule("field.path", ByteBuffer.allocate(0)).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value has only whitespace code points THEN expect violation")
+  void utf8NotBlank3() {
+    // U+2003 is a multi byte whitespace
+    byte[] value = " \t\n\u2003".getBytes(StandardCharsets.UTF_8);
+
+    Optional<Violation> violation = utf8NotBlankRule("field.path", value);
+
+    assertTrue(violation.isPresent());
+    assertViolationIsRequired(violation.get(), "field.path");
+    assertTrue(utf8NotBlankRule("field.path", direct(value)).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is filled in THEN expect no violation")
+  void utf8NotBlank4() {
+    byte[] value = "  \u00e9 ".getBytes(StandardCharsets.UTF_8);
+
+    assertFalse(utf8NotBlankRule("field.path", value).isPresent());
+    assertFalse(utf8NotBlankRule("field.path", ByteBuffer.wrap(value)).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is not well-formed UTF-8 THEN expect no violation")
+  void utf8NotBlank5() {
+    assertFalse(utf8NotBlankRule("field.path", bytes(' ', 0xc3)).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN only a slice of the value is checked THEN expect the other bytes are ignored")
+  void utf8NotBlank6() {
+    byte[] value = bytes('a', ' ', ' ', 'b');
+
+    assertTrue(utf8NotBlankRule("field.path", value, 1, 2).isPresent());
+    assertFalse(utf8NotBlankRule("field.path", value, 1, 3).isPresent());
+  }
+}
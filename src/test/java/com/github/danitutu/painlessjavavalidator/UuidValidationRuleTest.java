@@ -0,0 +1,50 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.uuidRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void uuid1() {
+    assertFalse(uuidRule("field.path", null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is a UUID THEN expect no violation")
+  void uuid2() {
+    String value = UUID.randomUUID().toString();
+
+    assertFalse(uuidRule("field.path", value).isPresent());
+    assertFalse(uuidRule("field.path", value.toUpperCase()).isPresent());
+    assertFalse(uuidRule("field.path", "00000000-0000-0000-0000-000000000000").isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is not a UUID THEN expect violation")
+  void uuid3() {
+    for (String value :
+            new String[] {
+              "",
+              "123e4567-e89b-12d3-a456-42661417400",
+              "123e4567-e89b-12d3-a456-4266141740000",
+              "123e4567e89b-12d3-a456-4266141740000",
+              "123e4567-e89b-12d3-a456_426614174000",
+              "123e4567-e89b-12d3-a456-42661417400g",
+              "{23e4567-e89b-12d3-a456-426614174000"
+            }) {
+      Optional<Violation> violation = uuidRule("field.path", value);
+
+      assertTrue(violation.isPresent(), value);
+      assertViolationInvalidFormat(violation.get(), "field.path", "uuid");
+    }
+  }
+}
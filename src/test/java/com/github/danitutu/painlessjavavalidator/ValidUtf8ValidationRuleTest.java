@@ -0,0 +1,143 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationInvalidFormat;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.validUtf8Rule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidUtf8ValidationRuleTest {
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void validUtf81() {
+    assertFalse(validUtf8Rule("field.path", (byte[]) null).isPresent());
+    assertFalse(validUtf8Rule("field.path", (ByteBuffer) null).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is well-formed UTF-8 THEN expect no violation")
+  void validUtf82() {
+    for (String text :
+            new String[] {"", "abc", "caf\u00e9", "\u20ac 10", "\ud83d\ude00", "\udbff\udfff"}) {
+      byte[] value = text.getBytes(StandardCharsets.UTF_8);
+
+      assertFalse(validUtf8Rule("field.path", value).isPresent(), text);
+      assertFalse(validUtf8Rule("field.path", ByteBuffer.wrap(value)).isPresent(), text);
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN value is not well-formed UTF-8 THEN expect violation")
+  void validUtf83() {
+    for (byte[] value :
+            new byte[][] {
+              bytes(0x80),
+              bytes(0xc3),
+              bytes(0xc0, 0x80),
+              bytes(0xe0, 0x80, 0xaf),
+              bytes(0xed, 0xa0, 0x80),
+              bytes(0xf4, 0x90, 0x80, 0x80),
+              bytes(0xf5, 0x80, 0x80, 0x80),
+              bytes('a', 0xe2, 0x82),
+              bytes(0xff)
+            }) {
+      Optional<Violation> violation = validUtf8Rule("field.path", value);
+
+      assertTrue(violation.isPresent());
+      assertViolationInvalidFormat(violation.get(), "field.path", "utf-8");
+      assertTrue(validUtf8Rule("field.path", ByteBuffer.wrap(value)).isPresent());
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN only a slice of the value is checked THEN expect the other bytes are ignored")
+  void validUtf84() {
+    byte[] value = bytes(0xff, 'a', 0xc3, 0xa9, 0xff);
+
+    assertFalse(validUtf8Rule("field.path", value, 1, 3).isPresent());
+    assertTrue(validUtf8Rule("field.path", value, 1, 2).isPresent());
+
+    ByteBuffer buffer = ByteBuffer.wrap(value);
+    buffer.position(1).limit(4);
+    assertFalse(validUtf8Rule("field.path", buffer.slice()).isPresent());
+    assertFalse(validUtf8Rule("field.path", buffer).isPresent());
+    assertEquals(1, buffer.position());
+  }
+
+  @Test
+  @DisplayName("WHEN the slice is out of the bounds of the value THEN expect exception")
+  void validUtf85() {
+    byte[] value = bytes('a', 'b');
+
+    assertThrows(IllegalArgumentException.class, () -> validUtf8Rule("field.path", value, -1, 1));
+    assertThrows(IllegalArgumentException.class, () -> validUtf8Rule("field.path", value, 1, 2));
+    assertThrows(IllegalArgumentException.class, () -> validUtf8Rule("field.path", value, 0, -1));
+  }
+
+  @Test
+  @DisplayName("WHEN value is in a direct or read only buffer THEN expect the same result")
+  void validUtf86() {
+    byte[] valid = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+    byte[] invalid = bytes('a', 0xed, 0xbf, 0xbf);
+
+    assertFalse(validUtf8Rule("field.path", direct(valid)).isPresent());
+    assertTrue(validUtf8Rule("field.path", direct(invalid)).isPresent());
+    assertFalse(validUtf8Rule("field.path", ByteBuffer.wrap(valid).asReadOnlyBuffer()).isPresent());
+    assertTrue(
+            validUtf8Rule("field.path", ByteBuffer.wrap(invalid).asReadOnlyBuffer()).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value has random bytes THEN expect the same result as a strict decoder")
+  void validUtf87() {
+    Random random = new Random(43);
+    for (int i = 0; i < 20_000; i++) {
+      byte[] value = new byte[random.nextInt(8)];
+      for (int j = 0; j < value.length; j++) {
+        // mostly bytes which can be part of a multi byte sequence
+        int b = random.nextInt(4) == 0 ? random.nextInt(128) : 128 + random.nextInt(128);
+        value[j] = (byte) b;
+      }
+
+      assertEquals(!decodes(value), validUtf8Rule("field.path", value).isPresent());
+      assertEquals(!decodes(value), validUtf8Rule("field.path", direct(value)).isPresent());
+    }
+  }
+
+  static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  static ByteBuffer direct(byte[] value) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(value.length);
+    buffer.put(value);
+    buffer.flip();
+    return buffer;
+  }
+
+  private static boolean decodes(byte[] value) {
+    try {
+      StandardCharsets.UTF_8
+              .newDecoder()
+              .onMalformedInput(CodingErrorAction.REPORT)
+              .onUnmappableCharacter(CodingErrorAction.REPORT)
+              .decode(ByteBuffer.wrap(value));
+      return true;
+    } catch (CharacterCodingException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationTimeTest {
+
+  @Test
+  @DisplayName("WHEN many rules use the time of a run THEN expect the clock is read once")
+  void validationTime1() {
+    CountingClock clock = new CountingClock(Instant.parse("2020-03-01T10:00:00Z"));
+    ValidationTime now = ValidationTime.of(clock);
+
+    assertEquals(0, clock.reads);
+
+    List<Violation> violations =
+            ValidationEngine.validateAll(
+                    notInFuture("a", Instant.parse("2020-03-01T09:00:00Z"), now),
+                    notInFuture("b", LocalDate.parse("2020-03-02"), now),
+                    notInPast("c", 0L, now));
+
+    assertEquals(2, violations.size());
+    assertEquals(1, clock.reads);
+  }
+
+  @Test
+  @DisplayName(
+          "WHEN the time is read THEN expect the instant and the date in the zone of the clock")
+  void validationTime2() {
+    Instant instant = Instant.parse("2020-03-01T23:30:00Z");
+    ValidationTime now = ValidationTime.of(Clock.fixed(instant, ZoneId.of("Asia/Tokyo")));
+
+    assertEquals(instant, now.instant());
+    assertEquals(instant.toEpochMilli(), now.epochMilli());
+    assertEquals(LocalDate.parse("2020-03-02"), now.date());
+    assertEquals(
+            LocalDate.parse("2020-03-01"),
+            ValidationTime.of(Clock.fixed(instant, ZoneOffset.UTC)).date());
+    assertThrows(IllegalArgumentException.class, () -> ValidationTime.of(null));
+  }
+
+  @Test
+  @DisplayName("WHEN the engine has a clock THEN expect the time of a run is read from it")
+  void validationTime3() {
+    Instant instant = Instant.parse("2020-03-01T10:00:00Z");
+    ConfiguredValidationEngine engine =
+            ConfiguredValidationEngine.builder()
+                    .clock(Clock.fixed(instant, ZoneOffset.UTC))
+                    .build();
+
+    assertEquals(instant, engine.time().instant());
+    assertThrows(
+            IllegalArgumentException.class, () -> ConfiguredValidationEngine.builder().clock(null));
+  }
+
+  private static final class CountingClock extends Clock {
+    private final Instant instant;
+    private int reads;
+
+    private CountingClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      reads++;
+      return instant;
+    }
+  }
+}
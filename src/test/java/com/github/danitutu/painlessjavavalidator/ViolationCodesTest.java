@@ -0,0 +1,106 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ViolationCodesTest {
+
+  @Test
+  @DisplayName("WHEN a built-in rule fails THEN expect the code of its message")
+  void getCode1() {
+    assertEquals(
+            ViolationCodes.VALUE_IS_REQUIRED,
+            ValidationRule.notNullRule("a", null).get().getCode());
+    assertEquals(
+            ViolationCodes.STRING_VALUE_NOT_BETWEEN,
+            ValidationRule.lengthBetweenRule("a", "", 1, 2).get().getCode());
+    assertEquals(
+            ViolationCodes.NUMBER_VALUE_TOO_MANY_DIGITS,
+            ValidationRule.numericStringRule(
+                    "a", "1.234", NumericString.decimal().maxScale(2).build())
+                    .get()
+                    .getCode());
+    assertEquals(1, ViolationCodes.VALUE_IS_REQUIRED);
+    assertEquals("validation.error.value.is.required", ViolationCodes.messageOf(1));
+  }
+
+  @Test
+  @DisplayName("WHEN a template of the built-in rules is checked THEN expect it to have a code")
+  void getCode2() throws IllegalAccessException {
+    int templates = 0;
+    for (Field field : ValidationRule.class.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers()) && field.getType() == ViolationTemplate.class) {
+        field.setAccessible(true);
+        ViolationTemplate template = (ViolationTemplate) field.get(null);
+        assertNotEquals(ViolationCodes.NONE, template.getCode(), template.getMessage());
+        assertEquals(template.getMessage(), ViolationCodes.messageOf(template.getCode()));
+        templates++;
+      }
+    }
+    assertNotEquals(0, templates);
+  }
+
+  @Test
+  @DisplayName("WHEN the message has no code THEN expect none")
+  void getCode3() {
+    assertEquals(ViolationCodes.NONE, Violation.of("a", "validation.error.unknown", "c").getCode());
+    assertEquals(ViolationCodes.NONE, Violation.of("a", null, "c").getCode());
+    assertNull(ViolationCodes.messageOf(999));
+  }
+
+  @Test
+  @DisplayName("WHEN a custom message is registered after its template THEN expect its code")
+  void register1() {
+    ViolationTemplate template = ViolationTemplate.of("validation.error.custom.late", "c");
+    assertEquals(ViolationCodes.NONE, template.getCode());
+
+    ViolationCodes.register("validation.error.custom.late", 1001);
+    ViolationCodes.register("validation.error.custom.late", 1001);
+
+    assertEquals(1001, template.violation("a").getCode());
+    assertEquals(1001, Violation.of("a", "validation.error.custom.late", "c").getCode());
+    assertEquals("validation.error.custom.late", ViolationCodes.messageOf(1001));
+  }
+
+  @Test
+  @DisplayName("WHEN the code is reserved or already used THEN throw exception")
+  void register2() {
+    ViolationCodes.register("validation.error.custom.taken", 1002);
+
+    IllegalArgumentException exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ViolationCodes.register("validation.error.custom", 31));
+    assertEquals("code must be at least 1000", exception.getMessage());
+    exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ViolationCodes.register("validation.error.custom.other", 1002));
+    assertEquals(
+            "code 1002 is already used by validation.error.custom.taken", exception.getMessage());
+    exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ViolationCodes.register("validation.error.custom.taken", 1003));
+    assertEquals(
+            "validation.error.custom.taken already has code 1002", exception.getMessage());
+    assertEquals(
+            ViolationCodes.NONE, ViolationCodes.codeOf("validation.error.custom.other"));
+  }
+
+  @Test
+  @DisplayName("WHEN the message is null THEN throw exception")
+  void register3() {
+    IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> ViolationCodes.register(null, 1004));
+    assertEquals("message is required", exception.getMessage());
+  }
+}
@@ -0,0 +1,55 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ViolationTemplateTest {
+
+  @Test
+  @DisplayName("WHEN violations are created THEN expect them to share the template")
+  void violation1() {
+    ViolationTemplate template = ViolationTemplate.of("b", "c", "1", "2");
+    Object[] values = {3, 4};
+
+    Violation violation = template.violation("a", values);
+    values[0] = 5;
+
+    assertSame(template, violation.template());
+    assertEquals("a", violation.getField());
+    assertEquals(3, violation.getAttributes().get("1"));
+    assertEquals(Arrays.asList("1", "2"), template.getAttributeNames());
+  }
+
+  @Test
+  @DisplayName("WHEN the number of values is not the number of attributes THEN throw exception")
+  void violation2() {
+    ViolationTemplate template = ViolationTemplate.of("b", "c", "1");
+
+    IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> template.violation("a"));
+    assertEquals("values must match the attribute names", exception.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> template.violation("a", 1, 2, 3));
+    assertThrows(
+            IllegalArgumentException.class, () -> template.violation("a", (Object[]) null));
+  }
+
+  @Test
+  @DisplayName("WHEN attribute names are null or duplicated THEN throw exception")
+  void of1() {
+    IllegalArgumentException exception =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> ViolationTemplate.of("b", "c", "1", null));
+    assertEquals("attributeNames cannot be null", exception.getMessage());
+    exception =
+            assertThrows(
+                    IllegalArgumentException.class, () -> ViolationTemplate.of("b", "c", "1", "1"));
+    assertEquals("attributeNames cannot contain duplicates", exception.getMessage());
+  }
+}
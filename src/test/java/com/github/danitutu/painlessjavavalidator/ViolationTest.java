@@ -9,6 +9,9 @@ import java.util.Map;
 import static java.util.Collections.singletonMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class ViolationTest {
 
@@ -143,4 +146,56 @@ class ViolationTest {
 
     assertEquals(violation1.hashCode(), violation2.hashCode());
   }
+
+  @Test
+  @DisplayName("WHEN same template and values THEN equal")
+  void equals8() {
+    ViolationTemplate template = ViolationTemplate.of("b", "c", "1");
+
+    assertEquals(template.violation("a", 2), template.violation("a", 2));
+    assertNotEquals(template.violation("a", 2), template.violation("a", 3));
+  }
+
+  @Test
+  @DisplayName("WHEN created from a template and from a map with the same content THEN equal")
+  void equals9() {
+    Violation violation1 = ViolationTemplate.of("b", "c", "1").violation("a", 2);
+    Violation violation2 = Violation.of("a", "b", "c", singletonMap("1", 2));
+
+    assertEquals(violation1, violation2);
+    assertEquals(violation2, violation1);
+    assertEquals(violation1.hashCode(), violation2.hashCode());
+  }
+
+  @Test
+  @DisplayName("WHEN created from a template THEN expect the attributes named by the template")
+  void getAttributes1() {
+    Violation violation = ViolationTemplate.of("b", "c", "1", "2").violation("a", 3, null);
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("1", 3);
+    expected.put("2", null);
+    assertEquals(expected, violation.getAttributes());
+    assertEquals("b", violation.getMessage());
+    assertEquals("c", violation.getDetails());
+  }
+
+  @Test
+  @DisplayName("WHEN there are no attributes THEN expect null attributes")
+  void getAttributes2() {
+    assertNull(Violation.of("a", "b", "c").getAttributes());
+    assertNull(ViolationTemplate.of("b", "c").violation("a").getAttributes());
+  }
+
+  @Test
+  @DisplayName("WHEN created without a template THEN expect the template shared by message")
+  void template1() {
+    String message = "validation.error.violation.test.shared.template";
+    ViolationTemplate template = Violation.of("a", message, "c").template();
+
+    assertSame(template, Violation.of("d", message, "c", singletonMap("1", 2)).template());
+    assertNotSame(template, Violation.of("a", message, "d").template());
+    assertEquals("d", Violation.of("a", message, "d").getDetails());
+    assertEquals(0, template.getAttributeNames().size());
+  }
 }
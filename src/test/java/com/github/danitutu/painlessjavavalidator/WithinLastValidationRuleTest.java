@@ -0,0 +1,119 @@
+package com.github.danitutu.painlessjavavalidator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationWithTwoAttributes;
+import static com.github.danitutu.painlessjavavalidator.ValidationRule.withinLastRule;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WithinLastValidationRuleTest {
+
+  private static final Instant NOW = Instant.parse("2020-03-01T10:00:00Z");
+  private static final ValidationTime TIME = ValidationTime.of(Clock.fixed(NOW, ZoneOffset.UTC));
+  private static final Duration DAYS_30 = Duration.ofDays(30);
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect no violation")
+  void withinLast1() {
+    assertFalse(withinLastRule("field.path", (Instant) null, DAYS_30, TIME).isPresent());
+    assertFalse(withinLastRule("field.path", (LocalDate) null, DAYS_30, TIME).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is within the period THEN expect no violation")
+  void withinLast2() {
+    Instant from = Instant.parse("2020-01-31T10:00:00Z");
+
+    assertFalse(withinLastRule("field.path", from, DAYS_30, TIME).isPresent());
+    assertFalse(withinLastRule("field.path", NOW, DAYS_30, TIME).isPresent());
+    assertFalse(
+            withinLastRule("field.path", NOW.minusNanos(1), Duration.ofNanos(1), TIME).isPresent());
+    assertFalse(
+            withinLastRule("field.path", LocalDate.parse("2020-01-31"), DAYS_30, TIME).isPresent());
+    assertFalse(withinLastRule("field.path", from.toEpochMilli(), DAYS_30, TIME).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN value is before the period THEN expect violation")
+  void withinLast3() {
+    Optional<Violation> violation =
+            withinLastRule("field.path", Instant.parse("2020-01-31T09:59:59Z"), DAYS_30, TIME);
+
+    assertTrue(violation.isPresent());
+    assertViolationWithTwoAttributes(
+            violation.get(),
+            "field.path",
+            "validation.error.value.not.within.period",
+            "The value is not within the period.",
+            "2020-01-31T10:00:00Z",
+            "2020-03-01T10:00:00Z",
+            "from",
+            "to");
+
+    violation = withinLastRule("field.path", LocalDate.parse("2020-01-30"), DAYS_30, TIME);
+
+    assertTrue(violation.isPresent());
+    assertEquals("2020-01-31", violation.get().getAttributes().get("from"));
+    assertEquals("2020-03-01", violation.get().getAttributes().get("to"));
+  }
+
+  @Test
+  @DisplayName("WHEN value is in the future THEN expect violation")
+  void withinLast4() {
+    assertTrue(withinLastRule("field.path", NOW.plusNanos(1), DAYS_30, TIME).isPresent());
+    assertTrue(
+            withinLastRule("field.path", LocalDate.parse("2020-03-02"), DAYS_30, TIME).isPresent());
+    assertTrue(withinLastRule("field.path", NOW.toEpochMilli() + 1, DAYS_30, TIME).isPresent());
+  }
+
+  @Test
+  @DisplayName("WHEN period is negative THEN expect exception")
+  void withinLast5() {
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> withinLastRule("field.path", NOW, Duration.ofDays(-1), TIME));
+  }
+
+  @Test
+  @DisplayName("WHEN period starts before the earliest value THEN expect the window to be clamped")
+  void withinLast6() {
+    Duration forever = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+
+    assertFalse(withinLastRule("field.path", Instant.MIN, forever, TIME).isPresent());
+    assertFalse(withinLastRule("field.path", LocalDate.MIN, forever, TIME).isPresent());
+    assertFalse(withinLastRule("field.path", Long.MIN_VALUE, forever, TIME).isPresent());
+    assertEquals(
+            Instant.MIN.toString(),
+            withinLastRule("field.path", NOW.plusNanos(1), forever, TIME)
+                    .get()
+                    .getAttributes()
+                    .get("from"));
+    assertEquals(
+            Instant.ofEpochMilli(Long.MIN_VALUE).toString(),
+            withinLastRule("field.path", NOW.toEpochMilli() + 1, forever, TIME)
+                    .get()
+                    .getAttributes()
+                    .get("from"));
+  }
+
+  @Test
+  @DisplayName("WHEN period starts at the earliest value THEN expect the exact window")
+  void withinLast7() {
+    Duration toMin = Duration.ofMillis(NOW.toEpochMilli()).minus(Duration.ofMillis(Long.MIN_VALUE));
+
+    assertFalse(withinLastRule("field.path", Long.MIN_VALUE, toMin, TIME).isPresent());
+    assertTrue(
+            withinLastRule("field.path", Long.MIN_VALUE, toMin.minusMillis(1), TIME).isPresent());
+    assertFalse(
+            withinLastRule("field.path", Long.MIN_VALUE + 1, toMin.minusMillis(1), TIME)
+                    .isPresent());
+  }
+}
@@ -0,0 +1,283 @@
+package com.github.danitutu.painlessjavavalidator.compiler;
+
+import com.github.danitutu.painlessjavavalidator.FieldRule;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrossFieldRuleSetTest {
+
+  private static final LocalDate DAY = LocalDate.of(2020, 3, 1);
+
+  private static final RuleSet<Booking> RULES =
+          RuleSet.<Booking>builder()
+                  .field("input.startDate", Booking::getStartDate, ValidationRule::notNullRule)
+                  .field("input.endDate", Booking::getEndDate, ValidationRule::notNullRule)
+                  .crossField(
+                          "input.startDate",
+                          "input.endDate",
+                          (LocalDate start, LocalDate end) ->
+                                  start == null || end == null || end.isAfter(start),
+                          () ->
+                                  Violation.of(
+                                          "input.endDate",
+                                          "validation.error.end.before.start",
+                                          "The end date must be after the start date."))
+                  .field("input.card", Booking::getCard)
+                  .field("input.voucher", Booking::getVoucher)
+                  .crossField(
+                          "input.card",
+                          "input.voucher",
+                          (String card, String voucher) -> (card == null) != (voucher == null),
+                          () ->
+                                  Violation.of(
+                                          "general",
+                                          "validation.error.one.payment.required",
+                                          "Exactly one of card or voucher is required."))
+                  .field("input.total", Booking::getTotal, ValidationRule::notNullRule)
+                  .field("input.room", Booking::getRoom)
+                  .field("input.fees", Booking::getFees)
+                  .crossField(
+                          Arrays.asList("input.room", "input.fees", "input.total"),
+                          values -> (int) values[0] + (int) values[1] == (int) values[2],
+                          () ->
+                                  Violation.of(
+                                          "input.total",
+                                          "validation.error.total.not.sum",
+                                          "The total is not the sum of its parts."))
+                  .build();
+
+  private static List<CompiledRuleSet<Booking>> compiled(RuleSet<Booking> ruleSet) {
+    return Arrays.asList(new MethodHandleRuleSet<>(ruleSet), RuleSetCompiler.interpret(ruleSet));
+  }
+
+  private static List<String> messages(List<Violation> violations) {
+    return violations.stream().map(Violation::getMessage).collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("WHEN all cross-field rules pass THEN expect no violations")
+  void crossField1() {
+    Booking booking = new Booking(DAY, DAY.plusDays(2), "4111", null, 100, 20, 120);
+
+    for (CompiledRuleSet<Booking> rules : compiled(RULES)) {
+      assertTrue(rules.validateAll(booking).isEmpty());
+      assertTrue(rules.validateFindFirst(booking).isEmpty());
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN cross-field rules fail THEN expect violations on the chosen fields in order")
+  void crossField2() {
+    Booking booking = new Booking(DAY, DAY, "4111", "SPRING", 100, 20, 100);
+
+    for (CompiledRuleSet<Booking> rules : compiled(RULES)) {
+      List<Violation> violations = rules.validateAll(booking);
+
+      assertEquals(
+              Arrays.asList(
+                      "validation.error.end.before.start",
+                      "validation.error.one.payment.required",
+                      "validation.error.total.not.sum"),
+              messages(violations));
+      assertEquals("input.endDate", violations.get(0).getField());
+      assertEquals("general", violations.get(1).getField());
+      assertEquals("input.total", violations.get(2).getField());
+      assertEquals(
+              Collections.singletonList("validation.error.end.before.start"),
+              messages(rules.validateFindFirst(booking)));
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN a field rule fails THEN expect its violation before the cross-field ones")
+  void crossField3() {
+    Booking booking = new Booking(DAY, null, null, null, 100, 20, 120);
+
+    for (CompiledRuleSet<Booking> rules : compiled(RULES)) {
+      assertEquals(
+              Arrays.asList(
+                      "validation.error.value.is.required",
+                      "validation.error.one.payment.required"),
+              messages(rules.validateAll(booking)));
+      assertEquals(
+              Collections.singletonList("validation.error.value.is.required"),
+              messages(rules.validateFindFirst(booking)));
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN several rules use a field THEN expect its getter called once per validation")
+  void crossField4() {
+    AtomicInteger reads = new AtomicInteger();
+    RuleSet<Booking> ruleSet =
+            RuleSet.<Booking>builder()
+                    .field(
+                            "input.total",
+                            booking -> {
+                              reads.incrementAndGet();
+                              return booking.getTotal();
+                            },
+                            ValidationRule::notNullRule)
+                    .field("input.room", Booking::getRoom)
+                    .crossField(
+                            "input.room",
+                            "input.total",
+                            (Integer room, Integer total) -> room <= total,
+                            () -> Violation.of("input.room", "room", "room"))
+                    .crossField(
+                            "input.total",
+                            "input.room",
+                            (Integer total, Integer room) -> total > 0,
+                            () -> Violation.of("input.total", "total", "total"))
+                    .build();
+    Booking booking = new Booking(DAY, DAY, null, null, 100, 0, 120);
+
+    for (CompiledRuleSet<Booking> rules : compiled(ruleSet)) {
+      reads.set(0);
+      assertTrue(rules.validateAll(booking).isEmpty());
+      assertEquals(1, reads.get());
+      assertTrue(rules.validateFindFirst(booking).isEmpty());
+      assertEquals(2, reads.get());
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN first violation is found THEN expect remaining cross-field rules skipped")
+  void crossField5() {
+    AtomicInteger calls = new AtomicInteger();
+    RuleSet<Booking> ruleSet =
+            RuleSet.<Booking>builder()
+                    .field("input.card", Booking::getCard)
+                    .field("input.voucher", Booking::getVoucher)
+                    .crossField(
+                            "input.card",
+                            "input.voucher",
+                            (String card, String voucher) -> card != null,
+                            () -> Violation.of("input.card", "card", "card"))
+                    .crossField(
+                            "input.card",
+                            "input.voucher",
+                            (String card, String voucher) -> calls.incrementAndGet() < 0,
+                            () -> Violation.of("input.voucher", "voucher", "voucher"))
+                    .build();
+
+    for (CompiledRuleSet<Booking> rules : compiled(ruleSet)) {
+      assertEquals(
+              Collections.singletonList("card"),
+              messages(rules.validateFindFirst(new Booking(DAY, DAY, null, null, 0, 0, 0))));
+    }
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  @DisplayName("WHEN a field is not declared or an argument is null THEN throw exception")
+  void crossField6() {
+    RuleSet.Builder<Booking> builder =
+            RuleSet.<Booking>builder().field("input.card", Booking::getCard);
+
+    IllegalArgumentException e1 =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () ->
+                            builder.crossField(
+                                    "input.card",
+                                    "input.voucher",
+                                    (Object a, Object b) -> true,
+                                    () -> Violation.of("general", "m", "d")));
+    assertEquals("field input.voucher is not declared", e1.getMessage());
+    IllegalArgumentException e2 =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () ->
+                            builder.crossField(
+                                    "input.card",
+                                    "input.card",
+                                    (Object a, Object b) -> true,
+                                    null));
+    assertEquals("violation is required", e2.getMessage());
+    IllegalArgumentException e3 =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () ->
+                            builder.crossField(
+                                    Collections.singletonList("input.card"),
+                                    null,
+                                    () -> Violation.of("general", "m", "d")));
+    assertEquals("condition is required", e3.getMessage());
+    IllegalArgumentException e4 =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () ->
+                            builder.crossField(
+                                    Collections.emptyList(),
+                                    values -> true,
+                                    () -> Violation.of("general", "m", "d")));
+    assertEquals("fields is required", e4.getMessage());
+  }
+
+  static class Booking {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String card;
+    private final String voucher;
+    private final Integer room;
+    private final Integer fees;
+    private final Integer total;
+
+    Booking(
+            LocalDate startDate,
+            LocalDate endDate,
+            String card,
+            String voucher,
+            Integer room,
+            Integer fees,
+            Integer total) {
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.card = card;
+      this.voucher = voucher;
+      this.room = room;
+      this.fees = fees;
+      this.total = total;
+    }
+
+    LocalDate getStartDate() {
+      return startDate;
+    }
+
+    LocalDate getEndDate() {
+      return endDate;
+    }
+
+    String getCard() {
+      return card;
+    }
+
+    String getVoucher() {
+      return voucher;
+    }
+
+    Integer getRoom() {
+      return room;
+    }
+
+    Integer getFees() {
+      return fees;
+    }
+
+    Integer getTotal() {
+      return total;
+    }
+  }
+}
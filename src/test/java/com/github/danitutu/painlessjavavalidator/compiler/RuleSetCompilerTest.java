@@ -0,0 +1,200 @@
+package com.github.danitutu.painlessjavavalidator.compiler;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleSetCompilerTest {
+
+  private static final RuleSet<User> RULES =
+          RuleSet.<User>builder()
+                  .field(
+                          "input.name",
+                          User::getName,
+                          ValidationRule::notBlankRule,
+                          (field, value) -> ValidationRule.lengthBetweenRule(field, value, 2, 5))
+                  .field(
+                          "input.age",
+                          User::getAge,
+                          ValidationRule::notNullRule,
+                          (field, value) -> ValidationRule.inRangeRule(field, value, 18, 120))
+                  .build();
+
+  private static List<CompiledRuleSet<User>> compiled(RuleSet<User> ruleSet) {
+    return Arrays.asList(new MethodHandleRuleSet<>(ruleSet), RuleSetCompiler.interpret(ruleSet));
+  }
+
+  private static List<String> fields(List<Violation> violations) {
+    return violations.stream().map(Violation::getField).collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("WHEN rule set is null THEN throw exception")
+  void compile1() {
+    IllegalArgumentException e1 =
+            assertThrows(IllegalArgumentException.class, () -> RuleSetCompiler.compile(null));
+    assertEquals("ruleSet is required", e1.getMessage());
+    IllegalArgumentException e2 =
+            assertThrows(IllegalArgumentException.class, () -> RuleSetCompiler.interpret(null));
+    assertEquals("ruleSet is required", e2.getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN value is null THEN throw exception")
+  void compile2() {
+    for (CompiledRuleSet<User> rules : compiled(RULES)) {
+      IllegalArgumentException e =
+              assertThrows(IllegalArgumentException.class, () -> rules.validateAll(null));
+      assertEquals("value is required", e.getMessage());
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN all rules pass THEN expect no violations")
+  void compile3() {
+    for (CompiledRuleSet<User> rules : compiled(RULES)) {
+      assertTrue(rules.validateAll(new User("Ana", 30)).isEmpty());
+      assertTrue(rules.validateFindFirst(new User("Ana", 30)).isEmpty());
+      rules.validateAllAndStopIfViolations(new User("Ana", 30));
+      rules.validateFindFirstAndStopIfViolation(new User("Ana", 30));
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN rules fail THEN expect violations in declaration order")
+  void compile4() {
+    for (CompiledRuleSet<User> rules : compiled(RULES)) {
+      assertEquals(
+              Arrays.asList("input.name", "input.age"),
+              fields(rules.validateAll(new User("Alexandra", 10))));
+      assertEquals(
+              Arrays.asList("input.name", "input.name", "input.age"),
+              fields(rules.validateAll(new User(" ", null))));
+      assertEquals(Arrays.asList("input.age"), fields(rules.validateAll(new User("Ana", 10))));
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN rules fail in find first mode THEN expect only the first violation")
+  void compile5() {
+    for (CompiledRuleSet<User> rules : compiled(RULES)) {
+      List<Violation> violations = rules.validateFindFirst(new User("Alexandra", 10));
+      assertEquals(1, violations.size());
+      assertEquals("validation.error.string.value.not.between", violations.get(0).getMessage());
+      assertEquals(
+              Arrays.asList("input.age"), fields(rules.validateFindFirst(new User("Ana", null))));
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN first violation is found THEN expect remaining rules are not evaluated")
+  void compile6() {
+    AtomicInteger calls = new AtomicInteger();
+    RuleSet<User> ruleSet =
+            RuleSet.<User>builder()
+                    .field("input.name", User::getName, ValidationRule::notBlankRule)
+                    .field(
+                            "input.age",
+                            User::getAge,
+                            (field, value) -> {
+                              calls.incrementAndGet();
+                              return ValidationRule.notNullRule(field, value);
+                            })
+                    .build();
+    for (CompiledRuleSet<User> rules : compiled(ruleSet)) {
+      rules.validateFindFirst(new User("", null));
+    }
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  @DisplayName("WHEN violations are found in stop modes THEN throw validation exception")
+  void compile7() {
+    for (CompiledRuleSet<User> rules : compiled(RULES)) {
+      ValidationException e1 =
+              assertThrows(
+                      ValidationException.class,
+                      () -> rules.validateAllAndStopIfViolations(new User("", 10)));
+      assertEquals(3, e1.getViolations().size());
+      ValidationException e2 =
+              assertThrows(
+                      ValidationException.class,
+                      () -> rules.validateFindFirstAndStopIfViolation(new User("", 10)));
+      assertEquals(1, e2.getViolations().size());
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN rule set is empty or large THEN expect same results for both implementations")
+  void compile8() {
+    RuleSet<User> empty = RuleSet.<User>builder().field("input.name", User::getName).build();
+    for (CompiledRuleSet<User> rules : compiled(empty)) {
+      assertTrue(rules.validateAll(new User(null, null)).isEmpty());
+      assertTrue(rules.validateFindFirst(new User(null, null)).isEmpty());
+    }
+
+    RuleSet.Builder<User> builder = RuleSet.builder();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      int min = i % 7;
+      builder.field(
+              "input.age" + i, User::getAge, (field, value) -> ValidationRule.minRule(field, value, min));
+      if (min > 3) {
+        expected.add("input.age" + i);
+      }
+    }
+    RuleSet<User> large = builder.build();
+    for (CompiledRuleSet<User> rules : compiled(large)) {
+      assertEquals(
+              expected, fields(rules.warmUp(new User("Ana", 3), 10).validateAll(new User("Ana", 3))));
+      assertEquals("input.age4", fields(rules.validateFindFirst(new User("Ana", 3))).get(0));
+    }
+  }
+
+  @Test
+  @DisplayName("WHEN a rule throws THEN expect exception to be propagated")
+  void compile9() {
+    RuleSet<User> ruleSet =
+            RuleSet.<User>builder()
+                    .field(
+                            "input.name",
+                            User::getName,
+                            (field, value) -> {
+                              throw new IllegalStateException("boom");
+                            })
+                    .build();
+    for (CompiledRuleSet<User> rules : compiled(ruleSet)) {
+      IllegalStateException e =
+              assertThrows(IllegalStateException.class, () -> rules.validateAll(new User("", 1)));
+      assertEquals("boom", e.getMessage());
+    }
+  }
+
+  static class User {
+    private final String name;
+    private final Integer age;
+
+    User(String name, Integer age) {
+      this.name = name;
+      this.age = age;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    Integer getAge() {
+      return age;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleExpressionCacheTest {
+
+  @Test
+  @DisplayName("WHEN the same expression is requested twice THEN expect the cached instance")
+  void ruleExpressionCache1() {
+    RuleExpressionCache cache = new RuleExpressionCache(10);
+
+    RuleExpression expression = cache.get("age >= 18");
+
+    assertSame(expression, cache.get("age >= 18"));
+    assertNotSame(expression, cache.get("age >= 21"));
+    assertEquals(2, cache.size());
+    assertEquals("age >= 18", expression.getExpression());
+  }
+
+  @Test
+  @DisplayName("WHEN cache is full THEN expect least recently used expression to be evicted")
+  void ruleExpressionCache2() {
+    RuleExpressionCache cache = new RuleExpressionCache(2);
+    RuleExpression first = cache.get("a == 1");
+    RuleExpression second = cache.get("a == 2");
+
+    cache.get("a == 1");
+    cache.get("a == 3");
+
+    assertEquals(2, cache.size());
+    assertSame(first, cache.get("a == 1"));
+    assertNotSame(second, cache.get("a == 2"));
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  @DisplayName("WHEN arguments are invalid THEN throw exception")
+  void ruleExpressionCache3() {
+    assertThrows(IllegalArgumentException.class, () -> new RuleExpressionCache(0));
+    RuleExpressionCache cache = new RuleExpressionCache(1);
+    assertEquals(
+            "expression is required",
+            assertThrows(IllegalArgumentException.class, () -> cache.get(null)).getMessage());
+    assertThrows(IllegalArgumentException.class, () -> cache.get("a =="));
+    assertEquals(0, cache.size());
+  }
+}
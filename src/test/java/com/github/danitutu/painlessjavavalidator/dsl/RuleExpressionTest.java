@@ -0,0 +1,258 @@
+package com.github.danitutu.painlessjavavalidator.dsl;
+
+import com.github.danitutu.painlessjavavalidator.ValidationException;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.*;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RuleExpressionTest {
+
+  private static Map<String, Object> user(String name, Object age) {
+    Map<String, Object> user = new HashMap<>();
+    user.put("name", name);
+    user.put("age", age);
+    return user;
+  }
+
+  private static List<String> fields(List<Violation> violations) {
+    return violations.stream().map(Violation::getField).collect(toList());
+  }
+
+  @Test
+  @DisplayName("WHEN all conditions pass THEN expect no violations")
+  void ruleExpression1() {
+    RuleExpression expression = RuleExpression.parse("age >= 18 && name ~ /^[A-Z]/");
+
+    assertTrue(expression.validateAll(user("Ana", 30)).isEmpty());
+    assertTrue(expression.validateFindFirst(user("Ana", 30)).isEmpty());
+    expression.validateAllAndStopIfViolations(user("Ana", 30));
+  }
+
+  @Test
+  @DisplayName("WHEN conditions fail THEN expect violations of the matching rules")
+  void ruleExpression2() {
+    RuleExpression expression = RuleExpression.parse("age >= 18 && age <= 65 && name ~ /^[A-Z]/");
+
+    List<Violation> violations = expression.validateAll(user("ana", 10));
+
+    assertEquals(2, violations.size());
+    assertViolationSmallerThanMin(violations.get(0), "age", 18);
+    assertViolationRegexNoMatch(violations.get(1), "name", "^[A-Z]");
+    assertViolationGreaterThanMax(expression.validateAll(user("Ana", 70)).get(0), "age", 65);
+    RuleExpression strict = RuleExpression.parse("age > 17 && age < 66");
+    assertViolationSmallerThanMin(strict.validateAll(user("Ana", 17)).get(0), "age", 18);
+    assertViolationGreaterThanMax(strict.validateAll(user("Ana", 66)).get(0), "age", 65);
+    assertThrows(
+            ValidationException.class,
+            () -> expression.validateAllAndStopIfViolations(user("ana", 10)));
+  }
+
+  @Test
+  @DisplayName("WHEN find first is used THEN expect only the first violation")
+  void ruleExpression3() {
+    RuleExpression expression = RuleExpression.parse("age >= 18 && name ~ /^[A-Z]/");
+
+    assertEquals(Arrays.asList("age"), fields(expression.validateFindFirst(user("ana", 10))));
+    assertEquals(Arrays.asList("name"), fields(expression.validateFindFirst(user("ana", 20))));
+  }
+
+  @Test
+  @DisplayName("WHEN or is used THEN expect violations only if all alternatives fail")
+  void ruleExpression4() {
+    RuleExpression expression =
+            RuleExpression.parse("(notBlank(name) || notNull(age)) && age != 13");
+
+    assertTrue(expression.validateAll(user("Ana", null)).isEmpty());
+    assertTrue(expression.validateAll(user(" ", 20)).isEmpty());
+    assertEquals(Arrays.asList("name", "age"), fields(expression.validateAll(user(" ", null))));
+    assertEquals(Arrays.asList("name"), fields(expression.validateFindFirst(user(" ", null))));
+    assertViolationIsEqual(expression.validateAll(user("Ana", 13)).get(0), "age", "13");
+  }
+
+  @Test
+  @DisplayName("WHEN other comparisons fail THEN expect comparable violations")
+  void ruleExpression5() {
+    Map<String, Object> value = new HashMap<>();
+    value.put("price", new BigDecimal("10.50"));
+    value.put("count", 5L);
+    value.put("ratio", 0.5d);
+    value.put("code", "B");
+    value.put("active", false);
+
+    assertViolationNumberNotGreaterThanMin(
+            RuleExpression.parse("price > 10.5").validateAll(value).get(0),
+            "price",
+            new BigDecimal("10.5"));
+    assertViolationNumberGreaterThanMax(
+            RuleExpression.parse("price <= 10.4").validateAll(value).get(0),
+            "price",
+            new BigDecimal("10.4"));
+    assertViolationGreaterThanMax(
+            RuleExpression.parse("count <= 4").validateAll(value).get(0), "count", 4L);
+    assertViolationGreaterThanMax(
+            RuleExpression.parse("count < 5").validateAll(value).get(0), "count", 4L);
+    assertViolationSmallerThanMin(
+            RuleExpression.parse("count > 5").validateAll(value).get(0), "count", 6L);
+    assertViolationNumberNotSmallerThanMax(
+            RuleExpression.parse("ratio < 0.25").validateAll(value).get(0),
+            "ratio",
+            new BigDecimal("0.25"));
+    assertViolationNumberSmallerThanMin(
+            RuleExpression.parse("ratio >= 0.75").validateAll(value).get(0),
+            "ratio",
+            new BigDecimal("0.75"));
+    assertViolationIsBefore(
+            RuleExpression.parse("code >= 'C'").validateAll(value).get(0), "code", "C");
+    assertViolationIsNotEqual(
+            RuleExpression.parse("code == \"A\"").validateAll(value).get(0), "code", "A");
+    assertViolationIsNotEqual(
+            RuleExpression.parse("active == true").validateAll(value).get(0), "active", "true");
+    assertTrue(
+            RuleExpression.parse("price == 10.5 && count > 4.5 && ratio >= 0.5 && code < 'C'"
+                    + " && active != true && count != 5.5")
+                    .validateAll(value)
+                    .isEmpty());
+  }
+
+  @Test
+  @DisplayName("WHEN functions and null checks fail THEN expect violations of the rules")
+  void ruleExpression6() {
+    Map<String, Object> value = user("", 200);
+    value.put("address", new HashMap<>());
+
+    List<Violation> violations =
+            RuleExpression.parse(
+                    "notNull(address.street) && notEmpty(name) && lengthBetween(name, 2, 5)"
+                            + " && inRange(age, 18, 120) && address == null && name != null")
+                    .validateAll(value);
+
+    assertEquals(5, violations.size());
+    assertViolationIsRequired(violations.get(0), "address.street");
+    assertViolationIsNotEmpty(violations.get(1), "name");
+    assertViolationLengthNotBetween(violations.get(2), "name", 2, 5);
+    assertViolationIntegerNotInRange(violations.get(3), "age", 18, 120);
+    assertViolationIsNotNull(violations.get(4), "address");
+    assertTrue(
+            RuleExpression.parse("isNull(address.street) && empty(name) && blank(name)")
+                    .validateAll(value)
+                    .isEmpty());
+    assertViolationLengthNotBetween(
+            RuleExpression.parse("lengthBetween(name, 2, 5)")
+                    .validateAll(user("Alexandra", 1))
+                    .get(0),
+            "name",
+            2,
+            5);
+  }
+
+  @Test
+  @DisplayName("WHEN value is null THEN expect conditions except null checks to pass")
+  void ruleExpression7() {
+    RuleExpression expression =
+            RuleExpression.parse(
+                    "age >= 18 && name ~ /x/ && lengthBetween(name, 1, 2) && name == 'a'");
+
+    assertTrue(expression.validateAll(user(null, null)).isEmpty());
+    IllegalArgumentException e =
+            assertThrows(IllegalArgumentException.class, () -> expression.validateAll(null));
+    assertEquals("value is required", e.getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN expression is invalid THEN throw exception with position")
+  void ruleExpression8() {
+    assertEquals(
+            "expression is required",
+            assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse(null))
+                    .getMessage());
+    assertEquals(
+            "operator expected at position 4 in expression 'age 18'",
+            assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("age 18"))
+                    .getMessage());
+    assertEquals(
+            "unknown function 'foo' at position 0 in expression 'foo(name)'",
+            assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("foo(name)"))
+                    .getMessage());
+    assertEquals(
+            "operator '>' cannot be used with true at position 7 in expression 'active > true'",
+            assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("active > true"))
+                    .getMessage());
+    assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse(""));
+    assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("age >= 18 &&"));
+    assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("(age >= 18"));
+    assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("age >= 18)"));
+    assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("name ~ /[/"));
+    assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("name ~ /abc"));
+    assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("name == 'abc"));
+    assertThrows(IllegalArgumentException.class, () -> RuleExpression.parse("a..b == 1"));
+    assertThrows(
+            IllegalArgumentException.class, () -> RuleExpression.parse("inRange(age, 5, 1)"));
+    assertThrows(
+            IllegalArgumentException.class, () -> RuleExpression.parse("inRange(age, 5.5, 6)"));
+  }
+
+  @Test
+  @DisplayName("WHEN property type does not match the condition THEN throw exception")
+  void ruleExpression9() {
+    IllegalArgumentException e =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> RuleExpression.parse("name > 5").validateAll(user("Ana", 1)));
+    assertEquals(
+            "property 'name' of type java.lang.String cannot be compared with 5", e.getMessage());
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> RuleExpression.parse("notBlank(age)").validateAll(user("Ana", 1)));
+    assertThrows(
+            IllegalArgumentException.class,
+            () -> RuleExpression.parse("age ~ /1/").validateAll(user("Ana", 1)));
+  }
+
+  @Test
+  @DisplayName("WHEN regex and texts contain escapes THEN expect them to be unescaped")
+  void ruleExpression10() {
+    assertTrue(
+            RuleExpression.parse("name ~ /^a\\/b\\.c$/ && name == 'a/b.c' && name != 'it\\'s'")
+                    .validateAll(user("a/b.c", 1))
+                    .isEmpty());
+    assertEquals(
+            1,
+            RuleExpression.parse("name ~ /^a\\/b\\.c$/").validateAll(user("a/bxc", 1)).size());
+  }
+
+  @Test
+  @DisplayName("WHEN conditions pass THEN expect no allocation")
+  void ruleExpression11() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+    RuleExpression expression =
+            RuleExpression.parse(
+                    "age >= 18 && age < 100.5 && name ~ /^[A-Z]/ && notBlank(name)"
+                            + " && (lengthBetween(name, 1, 2) || name == 'Ana') && name != null");
+    Map<String, Object> value = user("Ana", 30);
+    for (int i = 0; i < 20_000; i++) {
+      expression.validateAll(value);
+    }
+
+    long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    for (int i = 0; i < 10_000; i++) {
+      expression.validateAll(value);
+    }
+    long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+
+    assertTrue(allocated < 10_000, "allocated " + allocated + " bytes");
+  }
+}
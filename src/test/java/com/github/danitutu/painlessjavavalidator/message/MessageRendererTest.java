@@ -0,0 +1,145 @@
+package com.github.danitutu.painlessjavavalidator.message;
+
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageRendererTest {
+
+  private static final String BASE_NAME = TestMessages.class.getName();
+  private static final Locale RO = new Locale("ro");
+
+  private final MessageRenderer renderer = MessageRenderer.fromBundle(BASE_NAME);
+
+  private static Violation lengthNotBetween() {
+    return ValidationRule.lengthBetweenRule("input.name", "a", 2, 50).get();
+  }
+
+  @Test
+  @DisplayName("WHEN template has attributes THEN expect them replaced")
+  void render1() {
+    String rendered = renderer.render(lengthNotBetween(), Locale.ENGLISH);
+
+    assertEquals("Length must be between 2 and 50.", rendered);
+  }
+
+  @Test
+  @DisplayName("WHEN locale has its own bundle THEN expect its template")
+  void render2() {
+    assertEquals(
+            "Lungimea trebuie s\u0103 fie \u00eentre 2 \u0219i 50.",
+            renderer.render(lengthNotBetween(), RO));
+  }
+
+  @Test
+  @DisplayName("WHEN locale bundle has no template for the key THEN expect the base bundle one")
+  void render3() {
+    Violation violation = ValidationRule.notBlankRule("input.name", " ").get();
+
+    assertEquals("The value is required.", renderer.render(violation, RO));
+  }
+
+  @Test
+  @DisplayName("WHEN there is no template for the message THEN expect the details")
+  void render4() {
+    Violation violation = Violation.of("input.name", "validation.error.unknown", "Unknown.");
+
+    assertEquals("Unknown.", renderer.render(violation, Locale.ENGLISH));
+    assertFalse(renderer.contains("validation.error.unknown", Locale.ENGLISH));
+    assertEquals(
+            "validation.error.unknown",
+            renderer.render("validation.error.unknown", null, Locale.ENGLISH, new StringBuilder())
+                    .toString());
+  }
+
+  @Test
+  @DisplayName("WHEN template has quotes THEN expect quoted text kept as it is")
+  void render5() {
+    Map<String, Object> attributes = Collections.singletonMap("regexPattern", "[a-z]+");
+
+    String rendered =
+            renderer.render(
+                            "validation.error.pattern",
+                            attributes,
+                            Locale.ENGLISH,
+                            new StringBuilder())
+                    .toString();
+
+    assertEquals("Value doesn't match {regexPattern}: [a-z]+", rendered);
+  }
+
+  @Test
+  @DisplayName("WHEN an attribute is missing THEN expect the placeholder kept")
+  void render6() {
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put("min", 2);
+
+    assertEquals(
+            "Length must be between 2 and {max}.",
+            renderer.render(
+                            "validation.error.string.value.not.between",
+                            attributes,
+                            Locale.ENGLISH,
+                            new StringBuilder())
+                    .toString());
+  }
+
+  @Test
+  @DisplayName("WHEN rendering into a builder THEN expect the message appended")
+  void render7() {
+    StringBuilder target = new StringBuilder("input.name: ");
+
+    renderer.render(lengthNotBetween(), Locale.ENGLISH, target);
+
+    assertEquals("input.name: Length must be between 2 and 50.", target.toString());
+  }
+
+  @Test
+  @DisplayName("WHEN a locale is used several times THEN expect its bundle loaded once")
+  void render8() {
+    AtomicInteger loads = new AtomicInteger();
+    MessageRenderer counting =
+            MessageRenderer.of(
+                    locale -> {
+                      loads.incrementAndGet();
+                      return ResourceBundle.getBundle(BASE_NAME, locale);
+                    });
+
+    for (int i = 0; i < 10; i++) {
+      counting.render(lengthNotBetween(), Locale.ENGLISH);
+    }
+    counting.render(lengthNotBetween(), RO);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  @DisplayName("WHEN arguments are invalid THEN throw exception")
+  void render9() {
+    IllegalArgumentException e1 =
+            assertThrows(IllegalArgumentException.class, () -> MessageRenderer.fromBundle(null));
+    assertEquals("baseName is required", e1.getMessage());
+    IllegalArgumentException e2 =
+            assertThrows(IllegalArgumentException.class, () -> MessageRenderer.of(null));
+    assertEquals("loader is required", e2.getMessage());
+    IllegalArgumentException e3 =
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> renderer.render(lengthNotBetween(), null));
+    assertEquals("locale is required", e3.getMessage());
+    IllegalArgumentException e4 =
+            assertThrows(
+                    IllegalArgumentException.class, () -> MessageTemplate.compile("Between {min"));
+    assertEquals("unclosed placeholder in Between {min", e4.getMessage());
+  }
+}
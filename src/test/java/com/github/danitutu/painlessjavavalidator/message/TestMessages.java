@@ -0,0 +1,15 @@
+package com.github.danitutu.painlessjavavalidator.message;
+
+import java.util.ListResourceBundle;
+
+public class TestMessages extends ListResourceBundle {
+
+  @Override
+  protected Object[][] getContents() {
+    return new Object[][] {
+      {"validation.error.string.value.not.between", "Length must be between {min} and {max}."},
+      {"validation.error.value.is.required", "The value is required."},
+      {"validation.error.pattern", "Value doesn''t match '{regexPattern}': {regexPattern}"}
+    };
+  }
+}
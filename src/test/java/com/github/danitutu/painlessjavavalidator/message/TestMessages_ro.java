@@ -0,0 +1,16 @@
+package com.github.danitutu.painlessjavavalidator.message;
+
+import java.util.ListResourceBundle;
+
+public class TestMessages_ro extends ListResourceBundle {
+
+  @Override
+  protected Object[][] getContents() {
+    return new Object[][] {
+      {
+        "validation.error.string.value.not.between",
+        "Lungimea trebuie s\u0103 fie \u00eentre {min} \u0219i {max}."
+      }
+    };
+  }
+}
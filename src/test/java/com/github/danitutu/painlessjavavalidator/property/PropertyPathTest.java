@@ -0,0 +1,162 @@
+package com.github.danitutu.painlessjavavalidator.property;
+
+import com.github.danitutu.painlessjavavalidator.ValidationEngine;
+import com.github.danitutu.painlessjavavalidator.ValidationRule;
+import com.github.danitutu.painlessjavavalidator.Violation;
+import com.github.danitutu.painlessjavavalidator.compiler.CompiledRuleSet;
+import com.github.danitutu.painlessjavavalidator.compiler.RuleSet;
+import com.github.danitutu.painlessjavavalidator.compiler.RuleSetCompiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.danitutu.painlessjavavalidator.TestUtils.assertViolationIsRequired;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyPathTest {
+
+  @Test
+  @DisplayName("WHEN path is null or has empty segments THEN throw exception")
+  void propertyPath1() {
+    IllegalArgumentException e1 =
+            assertThrows(IllegalArgumentException.class, () -> PropertyPath.of(null));
+    assertEquals("path is required", e1.getMessage());
+    IllegalArgumentException e2 =
+            assertThrows(IllegalArgumentException.class, () -> PropertyPath.of("address..street"));
+    assertEquals("path 'address..street' is not valid", e2.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> PropertyPath.of(""));
+    assertThrows(IllegalArgumentException.class, () -> PropertyPath.of("address."));
+  }
+
+  @Test
+  @DisplayName("WHEN path points to nested getters THEN expect property value")
+  void propertyPath2() {
+    User user = new User("Ana", true, new Address("Main street"));
+
+    assertEquals("Ana", PropertyPath.of("name").resolve(user));
+    assertEquals(Boolean.TRUE, PropertyPath.of("active").resolve(user));
+    assertEquals("Main street", PropertyPath.of("address.street").resolve(user));
+    assertEquals(11, (int) PropertyPath.of("address.street.length").resolve(user));
+    assertEquals(42, (int) PropertyPath.of("address.number").resolve(user));
+  }
+
+  @Test
+  @DisplayName("WHEN path goes through maps THEN expect map values")
+  void propertyPath3() {
+    Map<String, Object> address = new HashMap<>();
+    address.put("street", "Main street");
+    Map<String, Object> root = new HashMap<>();
+    root.put("address", address);
+    root.put("user", new User("Ana", false, null));
+
+    assertEquals("Main street", PropertyPath.of("address.street").resolve(root));
+    assertEquals("Ana", PropertyPath.of("user.name").resolve(root));
+    assertNull(PropertyPath.of("address.city").resolve(root));
+  }
+
+  @Test
+  @DisplayName("WHEN an intermediate value is null THEN expect null")
+  void propertyPath4() {
+    User user = new User("Ana", true, null);
+
+    assertNull(PropertyPath.of("address.street").resolve(user));
+    assertNull(PropertyPath.of("name").resolve(null));
+  }
+
+  @Test
+  @DisplayName("WHEN property does not exist THEN throw exception")
+  void propertyPath5() {
+    User user = new User("Ana", true, new Address("Main street"));
+
+    IllegalArgumentException e =
+            assertThrows(
+                    IllegalArgumentException.class, () -> PropertyPath.of("address.city").resolve(user));
+    assertEquals("property 'city' not found on " + Address.class.getName(), e.getMessage());
+  }
+
+  @Test
+  @DisplayName("WHEN rule is applied on path THEN expect violation with path as field")
+  void propertyPath6() {
+    User user = new User(" ", true, new Address(""));
+
+    List<Violation> violations =
+            ValidationEngine.validateAll(
+                    PropertyPath.of("name").rule(user, ValidationRule::notBlankRule),
+                    PropertyPath.of("address.street")
+                            .rule("input.street", user, ValidationRule::notBlankRule),
+                    PropertyPath.of("address.number")
+                            .<Integer>rule(
+                                    user, (field, value) -> ValidationRule.minRule(field, value, 1)));
+
+    assertEquals(2, violations.size());
+    assertViolationIsRequired(violations.get(0), "name");
+    assertViolationIsRequired(violations.get(1), "input.street");
+    assertThrows(
+            IllegalArgumentException.class, () -> PropertyPath.of("name").rule(user, null));
+  }
+
+  @Test
+  @DisplayName("WHEN path is used as getter of a rule set THEN expect property value to be validated")
+  void propertyPath7() {
+    PropertyPath street = PropertyPath.of("address.street");
+    CompiledRuleSet<User> rules =
+            RuleSetCompiler.compile(
+                    RuleSet.<User>builder()
+                            .field(
+                                    "input.street", street::<String>resolve, ValidationRule::notBlankRule)
+                            .build());
+
+    assertTrue(rules.validateAll(new User("Ana", true, new Address("Main street"))).isEmpty());
+    assertViolationIsRequired(
+            rules.validateAll(new User("Ana", true, new Address(" "))).get(0), "input.street");
+  }
+
+  @Test
+  @DisplayName("WHEN paths are equal THEN expect equal objects")
+  void propertyPath8() {
+    assertEquals(PropertyPath.of("address.street"), PropertyPath.of("address.street"));
+    assertEquals(PropertyPath.of("a").hashCode(), PropertyPath.of("a").hashCode());
+    assertNotEquals(PropertyPath.of("address"), PropertyPath.of("address.street"));
+    assertEquals("address.street", PropertyPath.of("address.street").getPath());
+  }
+
+  public static class User {
+    private final String name;
+    private final boolean active;
+    private final Address address;
+
+    User(String name, boolean active, Address address) {
+      this.name = name;
+      this.active = active;
+      this.address = address;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+  }
+
+  public static class Address {
+    public final int number = 42;
+    private final String street;
+
+    Address(String street) {
+      this.street = street;
+    }
+
+    public String street() {
+      return street;
+    }
+  }
+}